@@ -9,6 +9,7 @@ package modelengine.fitframework.aop.proxy.bytebuddy;
 import static modelengine.fitframework.annotation.Order.HIGH;
 
 import modelengine.fitframework.annotation.Order;
+import modelengine.fitframework.aop.interceptor.MethodInterceptor;
 import modelengine.fitframework.aop.proxy.AopProxyFactory;
 import modelengine.fitframework.aop.proxy.FitProxy;
 import modelengine.fitframework.aop.proxy.InterceptSupport;
@@ -17,16 +18,36 @@ import modelengine.fitframework.aop.util.ClassLoaderUtils;
 import modelengine.fitframework.beans.support.ReflectionFactoryInstantiator;
 
 import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy.Default;
 import net.bytebuddy.implementation.InvocationHandlerAdapter;
+import net.bytebuddy.implementation.MethodCall;
 import net.bytebuddy.matcher.ElementMatchers;
 import net.bytebuddy.utility.RandomString;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * 表示使用 ByteBuddy 技术实现的 {@link AopProxyFactory}。
+ * <p>生成的代理类是被代理类的子类，每个代理对象通过自身的字段持有调用处理器和被代理对象：</p>
+ * <ul>
+ *     <li>没有被任何方法拦截器拦截的公共方法，直接在生成的代码中调用被代理对象的同一方法，不经过反射，也不装箱调用参数；</li>
+ *     <li>其他方法通过 {@link JdkDynamicProxy} 处理，与 JDK 动态代理的调用过程保持一致。</li>
+ * </ul>
+ * <p>将系统属性 {@value #DIRECT_INVOCATION_KEY} 设置为 {@code false} 时，所有方法都通过 {@link JdkDynamicProxy} 处理。</p>
  *
  * @author 詹高扬
  * @author 季聿阶
@@ -34,10 +55,33 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 @Order(HIGH)
 public class ByteBuddyAopProxyFactory implements AopProxyFactory {
+    /** 表示是否在生成的代理类中直接调用被代理对象的系统属性的键。 */
+    public static final String DIRECT_INVOCATION_KEY = "fit.aop.bytebuddy.direct-invocation";
+
+    private static final String HANDLER_FIELD_NAME = "$fit$handler";
+    private static final String TARGET_FIELD_NAME = "$fit$target";
+
+    /**
+     * 缓存已经生成的代理类，键表示被代理的类对象和被拦截的方法，值表示对应代理类
+     */
+    private final Map<ProxyKey, ProxyClass> cache = new ConcurrentHashMap<>();
+    private final boolean isDirectInvocationEnabled;
+
+    /**
+     * 使用系统属性 {@value #DIRECT_INVOCATION_KEY} 的配置初始化 {@link ByteBuddyAopProxyFactory} 的新实例。
+     */
+    public ByteBuddyAopProxyFactory() {
+        this(!Boolean.FALSE.toString().equalsIgnoreCase(System.getProperty(DIRECT_INVOCATION_KEY)));
+    }
+
     /**
-     * 缓存已经代理过的类对象，键表示被代理的类对象，值表示对应代理类对象
+     * 使用是否直接调用被代理对象初始化 {@link ByteBuddyAopProxyFactory} 的新实例。
+     *
+     * @param isDirectInvocationEnabled 表示是否在生成的代理类中直接调用被代理对象的 {@code boolean}。
      */
-    private final Map<Class<?>, Class<?>> cache = new ConcurrentHashMap<>();
+    ByteBuddyAopProxyFactory(boolean isDirectInvocationEnabled) {
+        this.isDirectInvocationEnabled = isDirectInvocationEnabled;
+    }
 
     @Override
     public boolean support(Class<?> targetClass) {
@@ -46,23 +90,130 @@ public class ByteBuddyAopProxyFactory implements AopProxyFactory {
 
     @Override
     public Object createProxy(InterceptSupport support) {
-        Class<?> proxiedClass =
-                this.cache.computeIfAbsent(support.getTargetClass(), key -> this.generateProxiedClass(support));
-        ReflectionFactoryInstantiator<?> instantiator = new ReflectionFactoryInstantiator<>(proxiedClass);
-        return instantiator.newInstance();
+        Object target = support.getTarget();
+        // 没有被代理对象时，所有方法都由调用处理器处理。
+        boolean isDirectInvocationEnabled = this.isDirectInvocationEnabled && target != null;
+        ProxyKey key = new ProxyKey(support.getTargetClass(),
+                isDirectInvocationEnabled,
+                isDirectInvocationEnabled ? interceptedMethodsOf(support) : Collections.emptySet());
+        ProxyClass proxyClass = this.cache.computeIfAbsent(key, ByteBuddyAopProxyFactory::generateProxyClass);
+        ReflectionFactoryInstantiator<?> instantiator = new ReflectionFactoryInstantiator<>(proxyClass.type);
+        Object proxy = instantiator.newInstance();
+        proxyClass.initialize(proxy, new JdkDynamicProxy(support), target);
+        return proxy;
+    }
+
+    /**
+     * 获取被代理类中被拦截的方法。
+     * <p>切点被方法拦截器拦截的所有类共享，并且在其他 Bean 注册时可能被并发修改，因此不遍历切点中的方法，而是与
+     * {@link modelengine.fitframework.aop.proxy.support.AbstractAopProxy} 一样，逐个判断被代理类的公共方法是否包含在切点中。
+     * 只有公共方法可能被直接调用，其余方法始终由调用处理器处理。</p>
+     *
+     * @param support 表示拦截支持信息的 {@link InterceptSupport}。
+     * @return 表示被拦截的方法的签名的 {@link Set}{@code <}{@link MethodDescription.SignatureToken}{@code >}。
+     */
+    private static Set<MethodDescription.SignatureToken> interceptedMethodsOf(InterceptSupport support) {
+        List<MethodInterceptor> interceptors = support.getMethodInterceptors()
+                .stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        Set<MethodDescription.SignatureToken> methods = new HashSet<>();
+        for (Method method : support.getTargetClass().getMethods()) {
+            if (interceptors.stream().anyMatch(interceptor -> interceptor.getPointCut().methods().contains(method))) {
+                methods.add(new MethodDescription.ForLoadedMethod(method).asSignatureToken());
+            }
+        }
+        return methods;
     }
 
-    private Class<?> generateProxiedClass(InterceptSupport support) {
-        ClassLoader classLoader = ClassLoaderUtils.getCommonChildClassLoader(support.getTargetClass(), FitProxy.class)
+    private static ProxyClass generateProxyClass(ProxyKey key) {
+        ClassLoader classLoader = ClassLoaderUtils.getCommonChildClassLoader(key.targetClass, FitProxy.class)
                 .orElseThrow(() -> new IllegalStateException(
                         "Failed to get common child class loader when generate proxied class by bytebuddy."));
-        return new ByteBuddy().subclass(support.getTargetClass())
+        DynamicType.Builder<?> builder = new ByteBuddy().subclass(key.targetClass)
                 .implement(FitProxy.class)
-                .name(support.getTargetClass().getName() + "$$Fit$ByteBuddy$$" + RandomString.make(8))
+                .name(key.targetClass.getName() + "$$Fit$ByteBuddy$$" + RandomString.make(8))
+                .defineField(HANDLER_FIELD_NAME, InvocationHandler.class, Visibility.PRIVATE)
                 .method(ElementMatchers.isMethod())
-                .intercept(InvocationHandlerAdapter.of(new JdkDynamicProxy(support)))
-                .make()
-                .load(classLoader, Default.INJECTION)
-                .getLoaded();
+                .intercept(InvocationHandlerAdapter.toField(HANDLER_FIELD_NAME));
+        boolean isDirectInvocationSupported = key.isDirectInvocationEnabled
+                && Modifier.isPublic(key.targetClass.getModifiers()) && key.targetClass.getClassLoader() == classLoader;
+        if (isDirectInvocationSupported) {
+            // 后声明的方法匹配优先，因此未被拦截的公共方法直接调用被代理对象，其余方法仍然由调用处理器处理。
+            builder = builder.defineField(TARGET_FIELD_NAME, key.targetClass, Visibility.PRIVATE)
+                    .method(ElementMatchers.isPublic()
+                            .and(ElementMatchers.not(ElementMatchers.isDeclaredBy(Object.class)))
+                            .and(ElementMatchers.not(ElementMatchers.isDeclaredBy(FitProxy.class)))
+                            .and(method -> !key.interceptedMethods.contains(method.asSignatureToken())))
+                    .intercept(MethodCall.invokeSelf().onField(TARGET_FIELD_NAME).withAllArguments());
+        }
+        Class<?> type = builder.make().load(classLoader, Default.INJECTION).getLoaded();
+        return new ProxyClass(type, isDirectInvocationSupported);
+    }
+
+    private static class ProxyKey {
+        private final Class<?> targetClass;
+        private final boolean isDirectInvocationEnabled;
+        private final Set<MethodDescription.SignatureToken> interceptedMethods;
+
+        private ProxyKey(Class<?> targetClass, boolean isDirectInvocationEnabled,
+                Set<MethodDescription.SignatureToken> interceptedMethods) {
+            this.targetClass = targetClass;
+            this.isDirectInvocationEnabled = isDirectInvocationEnabled;
+            this.interceptedMethods = interceptedMethods;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || this.getClass() != obj.getClass()) {
+                return false;
+            }
+            ProxyKey another = (ProxyKey) obj;
+            return this.targetClass == another.targetClass
+                    && this.isDirectInvocationEnabled == another.isDirectInvocationEnabled
+                    && Objects.equals(this.interceptedMethods, another.interceptedMethods);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.targetClass, this.isDirectInvocationEnabled, this.interceptedMethods);
+        }
+    }
+
+    private static class ProxyClass {
+        private final Class<?> type;
+        private final Field handlerField;
+        private final Field targetField;
+
+        private ProxyClass(Class<?> type, boolean isDirectInvocationSupported) {
+            this.type = type;
+            this.handlerField = field(type, HANDLER_FIELD_NAME);
+            this.targetField = isDirectInvocationSupported ? field(type, TARGET_FIELD_NAME) : null;
+        }
+
+        private void initialize(Object proxy, InvocationHandler handler, Object target) {
+            try {
+                this.handlerField.set(proxy, handler);
+                if (this.targetField != null) {
+                    this.targetField.set(proxy, target);
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Failed to initialize proxy generated by bytebuddy.", e);
+            }
+        }
+
+        private static Field field(Class<?> type, String name) {
+            try {
+                Field field = type.getDeclaredField(name);
+                field.setAccessible(true);
+                return field;
+            } catch (NoSuchFieldException e) {
+                // 生成的代理类中必然存在指定字段，因此该分支不会走到。
+                throw new IllegalStateException(e);
+            }
+        }
     }
 }
@@ -19,6 +19,7 @@ import modelengine.fitframework.aop.interceptor.support.BeforeInterceptor;
 import modelengine.fitframework.aop.proxy.AopProxyFactory;
 import modelengine.fitframework.aop.proxy.InterceptSupport;
 import modelengine.fitframework.aop.proxy.support.DefaultInterceptSupport;
+import modelengine.fitframework.aop.proxy.support.JdkDynamicProxy;
 import modelengine.fitframework.inspection.Nonnull;
 import modelengine.fitframework.ioc.BeanFactory;
 import modelengine.fitframework.util.ObjectUtils;
@@ -31,6 +32,8 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 /**
  * {@link ByteBuddyAopProxyFactory} 的单元测试。
@@ -126,6 +129,54 @@ public class ByteBuddyAopProxyFactoryTest {
         verify(aspect, times(2)).after1();
     }
 
+    @Test
+    @DisplayName("相同类的两个代理分别调用各自的被代理对象")
+    void shouldInvokeOwnTargetWhenProxiesShareSameClass() {
+        AopProxyFactory aopProxyFactory = new ByteBuddyAopProxyFactory();
+        TestTargetClass target1 = new TestTargetClass();
+        TestTargetClass target2 = new TestTargetClass();
+        TestTargetClass proxy1 = ObjectUtils.cast(aopProxyFactory.createProxy(
+                new DefaultInterceptSupport(TestTargetClass.class, () -> target1, Collections.emptyList())));
+        TestTargetClass proxy2 = ObjectUtils.cast(aopProxyFactory.createProxy(
+                new DefaultInterceptSupport(TestTargetClass.class, () -> target2, Collections.emptyList())));
+        proxy1.hello1("Tom");
+        proxy1.hello1("Tom");
+        assertThat(proxy2.hello1("Jerry")).isEqualTo("Hello, Jerry! This is the 1 times.");
+        assertThat(proxy1.getClass()).isEqualTo(proxy2.getClass());
+    }
+
+    @Test
+    @DisplayName("未被拦截的方法直接调用被代理对象，不经过调用处理器")
+    void shouldInvokeTargetDirectlyWhenMethodIsNotIntercepted() {
+        TestTargetClass target = new TestTargetClass();
+        InterceptSupport support =
+                new DefaultInterceptSupport(TestTargetClass.class, () -> target, Collections.emptyList());
+        TestTargetClass direct = ObjectUtils.cast(new ByteBuddyAopProxyFactory(true).createProxy(support));
+        TestTargetClass reflective = ObjectUtils.cast(new ByteBuddyAopProxyFactory(false).createProxy(support));
+        assertThat(direct.isInvokedByHandler()).isFalse();
+        assertThat(reflective.isInvokedByHandler()).isTrue();
+    }
+
+    @Test
+    @DisplayName("切点中包含其他类的方法时，相同类的代理仍然复用同一个代理类")
+    void shouldReuseProxyClassWhenPointcutContainsMethodsOfOtherClasses() throws NoSuchMethodException {
+        BeanFactory aspectFactory = mock(BeanFactory.class);
+        when(aspectFactory.get()).thenReturn(mock(TestAspect.class));
+        MethodInterceptor interceptor =
+                new BeforeInterceptor(aspectFactory, TestAspect.class.getDeclaredMethod("before1"));
+        interceptor.getPointCut().matchers().add(new Hello1MethodMatcher());
+        interceptor.getPointCut().add(TestTargetClass.class);
+        AopProxyFactory aopProxyFactory = new ByteBuddyAopProxyFactory(true);
+        Object proxy1 = aopProxyFactory.createProxy(new DefaultInterceptSupport(TestTargetClass.class,
+                TestTargetClass::new,
+                Collections.singletonList(interceptor)));
+        interceptor.getPointCut().add(AnotherTargetClass.class);
+        Object proxy2 = aopProxyFactory.createProxy(new DefaultInterceptSupport(TestTargetClass.class,
+                TestTargetClass::new,
+                Collections.singletonList(interceptor)));
+        assertThat(proxy1.getClass()).isEqualTo(proxy2.getClass());
+    }
+
     /**
      * 测试代理的目标类。
      * <p>该测试类中携带状态信息，即每次都用都会对下一次调用产生影响。</p>
@@ -154,6 +205,16 @@ public class ByteBuddyAopProxyFactoryTest {
             this.count++;
             return "Hello, " + name + "! This is the " + this.count + " times.";
         }
+
+        /**
+         * 判断当前调用是否经过了 {@link JdkDynamicProxy}。
+         *
+         * @return 如果当前调用经过了 {@link JdkDynamicProxy}，则返回 {@code true}，否则，返回 {@code false}。
+         */
+        public boolean isInvokedByHandler() {
+            return Stream.of(Thread.currentThread().getStackTrace())
+                    .anyMatch(element -> Objects.equals(element.getClassName(), JdkDynamicProxy.class.getName()));
+        }
     }
 
     /**
@@ -194,6 +255,21 @@ public class ByteBuddyAopProxyFactoryTest {
         public void choose(Method method, MatchResult result) {}
     }
 
+    /**
+     * 表示与 {@link TestTargetClass} 共享切点的其他类。
+     */
+    public static class AnotherTargetClass {
+        /**
+         * 与 {@link TestTargetClass#hello1(String)} 同名但签名不同的方法。
+         *
+         * @param times 表示测试参数的 {@code int}。
+         * @return 表示测试返回值的 {@link String}。
+         */
+        public String hello1(int times) {
+            return "Hello, " + times + " times.";
+        }
+    }
+
     /**
      * 匹配方法 {@link TestTargetClass#hello2(String)} 的方法匹配器。
      */
@@ -8,19 +8,18 @@ package modelengine.fitframework.aop.proxy.support;
 
 import modelengine.fitframework.aop.interceptor.MethodInterceptor;
 import modelengine.fitframework.aop.interceptor.MethodInvocation;
-import modelengine.fitframework.aop.interceptor.MethodJoinPoint;
 import modelengine.fitframework.aop.interceptor.support.DefaultMethodInvocation;
-import modelengine.fitframework.aop.interceptor.support.DefaultMethodJoinPoint;
 import modelengine.fitframework.aop.proxy.FitProxy;
 import modelengine.fitframework.aop.proxy.InterceptSupport;
 import modelengine.fitframework.inspection.Nullable;
-import modelengine.fitframework.util.CollectionUtils;
 import modelengine.fitframework.util.LazyLoader;
 
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -30,23 +29,30 @@ import java.util.stream.Collectors;
  * @since 2022-05-25
  */
 public abstract class AbstractAopProxy implements FitProxy {
+    private static final MethodInterceptor[] EMPTY_CHAIN = new MethodInterceptor[0];
+
     private final LazyLoader<Object> targetSupplier;
     private final List<MethodInterceptor> methodInterceptors;
+    private final Map<Method, MethodInterceptor[]> interceptorChains;
     private final Class<?> targetClass;
-    private final Method interceptMethod;
     private final Method getActualClassMethod;
 
     /**
      * 使用拦截支持信息实例化 {@link AbstractAopProxy}。
+     * <p>每个方法第一次被调用时，按照方法拦截器的顺序计算该方法的方法拦截器链并缓存，之后的调用不再过滤方法拦截器。切点可能被多个
+     * 代理共享并包含其他类型的方法，因此只为实际被调用的方法计算方法拦截器链。</p>
      *
      * @param support 表示拦截支持信息的 {@link InterceptSupport}。
      */
     protected AbstractAopProxy(InterceptSupport support) {
         this.targetSupplier = new LazyLoader<>(support::getTarget);
-        this.methodInterceptors = support.getMethodInterceptors();
+        this.methodInterceptors = support.getMethodInterceptors()
+                .stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        this.interceptorChains = new ConcurrentHashMap<>();
         this.targetClass = support.getTargetClass();
         try {
-            this.interceptMethod = MethodInterceptor.class.getDeclaredMethod("intercept", MethodJoinPoint.class);
             this.getActualClassMethod = FitProxy.class.getDeclaredMethod("$fit$getActualClass");
         } catch (NoSuchMethodException e) {
             // 必然存在指定方法，因此该分支不会走到。
@@ -54,6 +60,13 @@ public abstract class AbstractAopProxy implements FitProxy {
         }
     }
 
+    private MethodInterceptor[] buildInterceptorChain(Method method) {
+        MethodInterceptor[] chain = this.methodInterceptors.stream()
+                .filter(interceptor -> interceptor.getPointCut().methods().contains(method))
+                .toArray(MethodInterceptor[]::new);
+        return chain.length == 0 ? EMPTY_CHAIN : chain;
+    }
+
     @Override
     public Class<?> $fit$getActualClass() {
         return Optional.ofNullable(this.getTarget()).map(Object::getClass).orElse(null);
@@ -63,10 +76,9 @@ public abstract class AbstractAopProxy implements FitProxy {
      * AOP 调用核心逻辑。
      * <p>调用过程如下：</p>
      * <ol>
-     *     <li>根据调用方法，过滤被代理对象的所有方法拦截器，如果没有合适的方法拦截器，则直接调用被代理对象。</li>
-     *     <li>在过滤后的方法拦截器列表最后，添加一个 {@link ProxiedInterceptor}，用于调用被代理对象。</li>
-     *     <li>从最后一个方法拦截器开始，依次向前构造当前方法拦截器的参数。</li>
-     *     <li>构造完所有方法拦截器的参数后，调用第一个方法拦截器。</li>
+     *     <li>根据调用方法，获取缓存的方法拦截器链，如果没有合适的方法拦截器，则直接调用被代理对象。</li>
+     *     <li>使用方法拦截器链构造第一个方法拦截器的参数，每个方法拦截器的参数在前一个方法拦截器继续调用时才构造。</li>
+     *     <li>调用第一个方法拦截器，最后一个方法拦截器继续调用时，调用被代理对象。</li>
      * </ol>
      *
      * @param proxy 表示代理对象的 {@link Object}。
@@ -81,38 +93,16 @@ public abstract class AbstractAopProxy implements FitProxy {
         if (Objects.equals(method.getName(), this.getActualClassMethod.getName())) {
             return this.$fit$getActualClass();
         }
-        List<MethodInterceptor> actualMethodInterceptors = this.filterMethodInterceptors(method);
-        if (CollectionUtils.isEmpty(actualMethodInterceptors)) {
-            return proxiedInvoker.invoke(new DefaultMethodInvocation(this.getTarget(), method, args));
-        }
-        MethodJoinPoint joinPoint = this.getJoinPoint(proxy, method, args, proxiedInvoker, actualMethodInterceptors);
-        return actualMethodInterceptors.get(0).intercept(joinPoint);
-    }
-
-    private List<MethodInterceptor> filterMethodInterceptors(Method method) {
-        return this.methodInterceptors.stream()
-                .filter(Objects::nonNull)
-                .filter(methodInterceptor -> methodInterceptor.getPointCut().methods().contains(method))
-                .collect(Collectors.toList());
-    }
-
-    private MethodJoinPoint getJoinPoint(Object proxy, Method method, Object[] args, ProxiedInvoker proxiedInvoker,
-            List<MethodInterceptor> actualMethodInterceptors) {
+        MethodInterceptor[] interceptors = this.interceptorChains.computeIfAbsent(method, this::buildInterceptorChain);
         MethodInvocation proxiedInvocation = new DefaultMethodInvocation(this.getTarget(), method, args);
-        MethodInvocation proxyInvocation = new DefaultMethodInvocation(proxy, method, args);
-        MethodJoinPoint lastJoinPoint =
-                new DefaultMethodJoinPoint(proxiedInvocation, proxiedInvocation, proxyInvocation);
-        MethodInterceptor lastInterceptor = new ProxiedInterceptor(proxiedInvoker);
-        MethodInvocation nextInvocation =
-                new DefaultMethodInvocation(lastInterceptor, this.interceptMethod, new Object[] {lastJoinPoint});
-        lastJoinPoint = new DefaultMethodJoinPoint(nextInvocation, proxiedInvocation, proxyInvocation);
-        for (int i = actualMethodInterceptors.size() - 1; i >= 1; i--) {
-            MethodInterceptor currentInterceptor = actualMethodInterceptors.get(i);
-            Object[] currentArgs = new Object[] {lastJoinPoint};
-            nextInvocation = new DefaultMethodInvocation(currentInterceptor, this.interceptMethod, currentArgs);
-            lastJoinPoint = new DefaultMethodJoinPoint(nextInvocation, proxiedInvocation, proxyInvocation);
+        if (interceptors.length == 0) {
+            return proxiedInvoker.invoke(proxiedInvocation);
         }
-        return lastJoinPoint;
+        MethodInvocation proxyInvocation = new DefaultMethodInvocation(proxy, method, args);
+        return interceptors[0].intercept(new ChainedMethodJoinPoint(interceptors,
+                proxiedInvoker,
+                proxiedInvocation,
+                proxyInvocation));
     }
 
     @Nullable
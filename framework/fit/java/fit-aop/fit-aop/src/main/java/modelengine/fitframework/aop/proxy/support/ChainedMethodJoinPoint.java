@@ -0,0 +1,114 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.aop.proxy.support;
+
+import modelengine.fitframework.aop.interceptor.MethodInterceptor;
+import modelengine.fitframework.aop.interceptor.MethodInvocation;
+import modelengine.fitframework.aop.interceptor.MethodJoinPoint;
+import modelengine.fitframework.aop.interceptor.support.DefaultMethodInvocation;
+import modelengine.fitframework.inspection.Nonnull;
+import modelengine.fitframework.inspection.Nullable;
+
+import java.lang.reflect.Method;
+
+/**
+ * 表示按照预先计算的方法拦截器链依次调用的 {@link MethodJoinPoint}。
+ * <p>同一次调用中的所有连接点共享调用信息，每个连接点只记录下一个方法拦截器在拦截器链中的位置，并直接调用该方法拦截器，而不是
+ * 通过反射调用。下一个连接点在继续调用时才创建，因此方法拦截器可以多次继续调用，也可以在其他线程中继续调用。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+final class ChainedMethodJoinPoint implements MethodJoinPoint {
+    private static final Method INTERCEPT_METHOD;
+
+    static {
+        try {
+            INTERCEPT_METHOD = MethodInterceptor.class.getDeclaredMethod("intercept", MethodJoinPoint.class);
+        } catch (NoSuchMethodException e) {
+            // 必然存在指定方法，因此该分支不会走到。
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private final Chain chain;
+    private final int index;
+
+    /**
+     * 使用方法拦截器链和调用信息实例化 {@link ChainedMethodJoinPoint}，实例化的连接点作为第一个方法拦截器的参数。
+     *
+     * @param interceptors 表示方法拦截器链的 {@link MethodInterceptor}{@code []}。
+     * @param proxiedInvoker 表示调用被代理对象的方法的 {@link ProxiedInvoker}。
+     * @param proxiedInvocation 表示被代理的方法调用的 {@link MethodInvocation}。
+     * @param proxyInvocation 表示代理的方法调用的 {@link MethodInvocation}。
+     */
+    ChainedMethodJoinPoint(MethodInterceptor[] interceptors, ProxiedInvoker proxiedInvoker,
+            MethodInvocation proxiedInvocation, MethodInvocation proxyInvocation) {
+        this(new Chain(interceptors, proxiedInvoker, proxiedInvocation, proxyInvocation), 1);
+    }
+
+    private ChainedMethodJoinPoint(Chain chain, int index) {
+        this.chain = chain;
+        this.index = index;
+    }
+
+    @Nullable
+    @Override
+    public Object proceed() throws Throwable {
+        if (this.index >= this.chain.interceptors.length) {
+            return this.chain.proxiedInvoker.invoke(this.chain.proxiedInvocation);
+        }
+        return this.chain.interceptors[this.index].intercept(this.next());
+    }
+
+    @Nullable
+    @Override
+    public Object proceed(@Nonnull Object[] args) throws Throwable {
+        this.chain.proxiedInvocation.setArguments(args);
+        return this.proceed();
+    }
+
+    @Nonnull
+    @Override
+    public MethodInvocation getNextInvocation() {
+        MethodInterceptor next = this.index < this.chain.interceptors.length
+                ? this.chain.interceptors[this.index]
+                : new ProxiedInterceptor(this.chain.proxiedInvoker);
+        return new DefaultMethodInvocation(next, INTERCEPT_METHOD, new Object[] {this.next()});
+    }
+
+    @Nonnull
+    @Override
+    public MethodInvocation getProxiedInvocation() {
+        return this.chain.proxiedInvocation;
+    }
+
+    @Nonnull
+    @Override
+    public MethodInvocation getProxyInvocation() {
+        return this.chain.proxyInvocation;
+    }
+
+    private ChainedMethodJoinPoint next() {
+        return new ChainedMethodJoinPoint(this.chain, this.index + 1);
+    }
+
+    private static class Chain {
+        private final MethodInterceptor[] interceptors;
+        private final ProxiedInvoker proxiedInvoker;
+        private final MethodInvocation proxiedInvocation;
+        private final MethodInvocation proxyInvocation;
+
+        private Chain(MethodInterceptor[] interceptors, ProxiedInvoker proxiedInvoker,
+                MethodInvocation proxiedInvocation, MethodInvocation proxyInvocation) {
+            this.interceptors = interceptors;
+            this.proxiedInvoker = proxiedInvoker;
+            this.proxiedInvocation = proxiedInvocation;
+            this.proxyInvocation = proxyInvocation;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.aop.proxy.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fitframework.aop.interceptor.MethodInterceptor;
+import modelengine.fitframework.aop.interceptor.MethodJoinPoint;
+import modelengine.fitframework.aop.interceptor.MethodMatcher;
+import modelengine.fitframework.aop.interceptor.support.AbstractMethodInterceptor;
+import modelengine.fitframework.aop.proxy.InterceptSupport;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 为 {@link JdkDynamicProxy} 提供单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 JdkDynamicProxy")
+class JdkDynamicProxyTest {
+    private List<String> records;
+
+    @BeforeEach
+    void setup() {
+        this.records = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("按照方法拦截器的顺序依次调用，最后调用被代理对象")
+    void shouldInvokeInterceptorsInOrder() throws NoSuchMethodException {
+        Method greet = Greeting.class.getMethod("greet", String.class);
+        Greeting proxy =
+                this.createProxy(new RecordingInterceptor("first", greet), new RecordingInterceptor("second", greet));
+        String result = proxy.greet("FIT");
+        assertThat(result).isEqualTo("Hello, FIT");
+        assertThat(this.records).containsExactly("first", "second", "greet");
+    }
+
+    @Test
+    @DisplayName("方法没有匹配的方法拦截器时，直接调用被代理对象")
+    void shouldInvokeTargetDirectlyWhenNoInterceptorMatches() throws NoSuchMethodException {
+        Greeting proxy =
+                this.createProxy(new RecordingInterceptor("first", Greeting.class.getMethod("greet", String.class)));
+        assertThat(proxy.count()).isEqualTo(1);
+        assertThat(this.records).containsExactly("count");
+    }
+
+    @Test
+    @DisplayName("方法拦截器可以修改参数后多次继续调用")
+    void shouldProceedMultipleTimesWithArguments() throws NoSuchMethodException {
+        Method greet = Greeting.class.getMethod("greet", String.class);
+        List<MethodMatcher> matchers = Collections.singletonList(MethodMatcher.specified(greet));
+        MethodInterceptor retrying = new AbstractMethodInterceptor(matchers) {
+            @Override
+            public Object intercept(MethodJoinPoint joinPoint) throws Throwable {
+                joinPoint.proceed(new Object[] {"first"});
+                return joinPoint.proceed(new Object[] {"second"});
+            }
+        };
+        Greeting proxy = this.createProxy(retrying, new RecordingInterceptor("inner", greet));
+        assertThat(proxy.greet("FIT")).isEqualTo("Hello, second");
+        assertThat(this.records).containsExactly("inner", "greet", "inner", "greet");
+    }
+
+    @Test
+    @DisplayName("方法拦截器链在方法第一次调用时按照切点计算")
+    void shouldBuildInterceptorChainOnFirstInvocation() throws NoSuchMethodException {
+        MethodInterceptor interceptor =
+                new RecordingInterceptor("first", Greeting.class.getMethod("greet", String.class));
+        Greeting proxy = this.createProxyWithoutPointcut(interceptor);
+        interceptor.getPointCut().add(Greeting.class);
+        assertThat(proxy.greet("FIT")).isEqualTo("Hello, FIT");
+        assertThat(proxy.greet("FIT")).isEqualTo("Hello, FIT");
+        assertThat(this.records).containsExactly("first", "greet", "first", "greet");
+    }
+
+    private Greeting createProxy(MethodInterceptor... interceptors) {
+        Arrays.stream(interceptors).forEach(interceptor -> interceptor.getPointCut().add(Greeting.class));
+        return this.createProxyWithoutPointcut(interceptors);
+    }
+
+    private Greeting createProxyWithoutPointcut(MethodInterceptor... interceptors) {
+        Greeting target = new DefaultGreeting(this.records);
+        InterceptSupport support =
+                new DefaultInterceptSupport(Greeting.class, () -> target, Arrays.asList(interceptors));
+        return (Greeting) new JdkDynamicAopProxyFactory().createProxy(support);
+    }
+
+    /**
+     * 表示测试使用的被代理接口。
+     */
+    public interface Greeting {
+        /**
+         * 问候指定的对象。
+         *
+         * @param name 表示问候对象的 {@link String}。
+         * @return 表示问候语的 {@link String}。
+         */
+        String greet(String name);
+
+        /**
+         * 获取计数。
+         *
+         * @return 表示计数的 {@code int}。
+         */
+        int count();
+    }
+
+    private static class DefaultGreeting implements Greeting {
+        private final List<String> records;
+
+        private DefaultGreeting(List<String> records) {
+            this.records = records;
+        }
+
+        @Override
+        public String greet(String name) {
+            this.records.add("greet");
+            return "Hello, " + name;
+        }
+
+        @Override
+        public int count() {
+            this.records.add("count");
+            return 1;
+        }
+    }
+
+    private class RecordingInterceptor extends AbstractMethodInterceptor {
+        private final String name;
+
+        private RecordingInterceptor(String name, Method method) {
+            super(Collections.singletonList(MethodMatcher.specified(method)));
+            this.name = name;
+        }
+
+        @Override
+        public Object intercept(MethodJoinPoint joinPoint) throws Throwable {
+            JdkDynamicProxyTest.this.records.add(this.name);
+            return joinPoint.proceed();
+        }
+    }
+}
@@ -22,6 +22,16 @@ public interface ClientConfig {
      */
     Optional<Secure> secure();
 
+    /**
+     * 获取是否通过多路复用的长连接发送非流式的同步调用。
+     * <p>如果显式地配置了 {@code 'client.*.multiplex'}，则以配置内容为准，如果没有配置表示关闭。</p>
+     *
+     * @return 如果通过多路复用的长连接发送调用，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    default boolean multiplex() {
+        return false;
+    }
+
     /**
      * 表示运行时 {@code 'client.*.secure.'} 前缀的配置项。
      */
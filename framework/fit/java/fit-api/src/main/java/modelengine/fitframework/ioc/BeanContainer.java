@@ -133,6 +133,13 @@ public interface BeanContainer extends Disposable {
      */
     void start();
 
+    /**
+     * 激活容器。
+     * <p>当容器所属的插件延迟激活时，启动容器的过程中不会初始化单例非懒加载的 Bean，而是在激活容器时进行初始化。重复激活容器，
+     * 或在激活过程中再次激活容器时，不做任何操作。</p>
+     */
+    default void activate() {}
+
     /**
      * 停止容器。
      */
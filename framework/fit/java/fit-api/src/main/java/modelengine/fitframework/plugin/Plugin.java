@@ -125,6 +125,34 @@ public interface Plugin extends Disposable {
      */
     void start();
 
+    /**
+     * 获取当前插件是否延迟激活的标志。
+     * <p>延迟激活的插件在启动时只注册其中的 Bean 以及其提供的服务实现和 Http 路由，非懒加载的单例 Bean 在插件首次被调用时才被
+     * 实例化。</p>
+     *
+     * @return 若插件延迟激活，则返回 {@code true}，否则返回 {@code false}。
+     */
+    default boolean lazy() {
+        return false;
+    }
+
+    /**
+     * 获取当前插件是否已经被激活的标志。
+     * <p>非延迟激活的插件在启动完成时即被激活。</p>
+     *
+     * @return 若插件已经被激活，则返回 {@code true}，否则返回 {@code false}。
+     */
+    default boolean activated() {
+        return this.started();
+    }
+
+    /**
+     * 激活插件。
+     * <p>实例化插件中所有非懒加载的单例 Bean，并通知 {@link PluginActivatedObserver}。当插件尚未启动、已经被激活或正在被激活时，
+     * 不做任何操作，正在被激活时不等待激活完成，所需的 Bean 在被使用时按需创建。</p>
+     */
+    default void activate() {}
+
     /**
      * 获取当前插件是否已经被停止的标志。
      *
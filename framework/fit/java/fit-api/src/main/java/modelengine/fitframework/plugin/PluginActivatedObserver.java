@@ -0,0 +1,45 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.plugin;
+
+import modelengine.fitframework.ioc.BeanFactory;
+import modelengine.fitframework.ioc.BeanFactoryOrderComparator;
+
+/**
+ * 表示插件激活完成的观察者。
+ * <p>非延迟激活的插件在启动完成之后被激活，延迟激活的插件在首次被调用时被激活，可以通过该观察者对插件进行预热，例如加载缓存或者
+ * 建立连接。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@FunctionalInterface
+public interface PluginActivatedObserver {
+    /**
+     * 当指定插件激活完成之后调用的方法。
+     *
+     * @param plugin 表示指定插件的 {@link Plugin}。
+     */
+    void onPluginActivated(Plugin plugin);
+
+    /**
+     * 通知所有容器中所有实现了 {@link PluginActivatedObserver} 接口的 Bean。
+     *
+     * @param plugin 表示已经激活完毕的插件的 {@link Plugin}。
+     */
+    static void notify(Plugin plugin) {
+        if (plugin == null) {
+            return;
+        }
+        plugin.container()
+                .all(PluginActivatedObserver.class)
+                .stream()
+                .sorted(BeanFactoryOrderComparator.INSTANCE)
+                .map(BeanFactory::<PluginActivatedObserver>get)
+                .forEach(observer -> observer.onPluginActivated(plugin));
+    }
+}
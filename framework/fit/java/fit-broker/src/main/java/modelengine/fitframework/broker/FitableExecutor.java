@@ -7,6 +7,7 @@
 package modelengine.fitframework.broker;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 表示泛服务的实现的执行器。
@@ -25,4 +26,24 @@ public interface FitableExecutor {
      * @return 表示调用结果的 {@link Object}。
      */
     Object execute(Fitable fitable, List<Target> targets, InvocationContext context, Object[] args);
+
+    /**
+     * 异步执行指定的泛服务实现。
+     * <p>默认实现在当前线程中调用 {@link #execute(Fitable, List, InvocationContext, Object[])}，远程调用的实现可以选择
+     * 不占用调用线程，在调用结果到达时再完成返回的异步结果。</p>
+     *
+     * @param fitable 表示指定的泛服务实现的 {@link Fitable}。
+     * @param targets 表示泛服务实现的地址列表的 {@link List}{@code <}{@link Target}{@code >}。
+     * @param context 表示调用上下文的 {@link InvocationContext}。
+     * @param args 表示调用参数列表的 {@link Object}{@code []}。
+     * @return 表示调用结果的异步结果的 {@link CompletableFuture}{@code <}{@link Object}{@code >}。
+     */
+    default CompletableFuture<Object> executeAsync(Fitable fitable, List<Target> targets, InvocationContext context,
+            Object[] args) {
+        try {
+            return CompletableFuture.completedFuture(this.execute(fitable, targets, context, args));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
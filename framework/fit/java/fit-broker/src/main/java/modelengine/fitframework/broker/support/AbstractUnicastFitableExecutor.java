@@ -13,6 +13,7 @@ import modelengine.fitframework.broker.Target;
 import modelengine.fitframework.inspection.Validation;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 表示 {@link FitableExecutor} 的抽象单播调用父类。
@@ -28,6 +29,18 @@ public abstract class AbstractUnicastFitableExecutor implements FitableExecutor
         return this.execute(fitable, targets.get(0), context, args);
     }
 
+    @Override
+    public final CompletableFuture<Object> executeAsync(Fitable fitable, List<Target> targets,
+            InvocationContext context, Object[] args) {
+        Validation.notNull(targets, "The targets cannot be null.");
+        Validation.equals(targets.size(), 1, "Too more targets.");
+        try {
+            return this.executeAsync(fitable, targets.get(0), context, args);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * 执行指定的服务的指定地址。
      *
@@ -38,4 +51,19 @@ public abstract class AbstractUnicastFitableExecutor implements FitableExecutor
      * @return 表示调用结果的 {@link Object}。
      */
     protected abstract Object execute(Fitable fitable, Target target, InvocationContext context, Object[] args);
+
+    /**
+     * 异步执行指定的服务的指定地址。
+     * <p>默认实现在当前线程中调用 {@link #execute(Fitable, Target, InvocationContext, Object[])}。</p>
+     *
+     * @param fitable 表示指定服务实现的 {@link Fitable}。
+     * @param target 表示指定地址的 {@link Target}。
+     * @param context 表示调用上下文的 {@link InvocationContext}。
+     * @param args 表示调用参数列表的 {@link Object}{@code []}。
+     * @return 表示调用结果的异步结果的 {@link CompletableFuture}{@code <}{@link Object}{@code >}。
+     */
+    protected CompletableFuture<Object> executeAsync(Fitable fitable, Target target, InvocationContext context,
+            Object[] args) {
+        return CompletableFuture.completedFuture(this.execute(fitable, target, context, args));
+    }
 }
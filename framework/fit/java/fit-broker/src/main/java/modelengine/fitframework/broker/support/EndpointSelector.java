@@ -0,0 +1,307 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.support;
+
+import static modelengine.fitframework.inspection.Validation.notBlank;
+import static modelengine.fitframework.inspection.Validation.notEmpty;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.broker.Endpoint;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.thread.DefaultThreadFactory;
+import modelengine.fitframework.util.StringUtils;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 表示远程调用时服务端点的选择器。
+ * <p>服务端点的顺序表示协议的优先级，选择器只在当前可用的、优先级最高的协议的服务端点之间进行选择，并记录每一个服务端点最近的连接
+ * 情况：</p>
+ * <ul>
+ *     <li>优先选择最近连接成功过的服务端点；</li>
+ *     <li>连接失败的服务端点在一段逐渐增长的时间内被视为不可用，选择时直接跳过，同一协议的服务端点都不可用时才选择下一个协议；</li>
+ *     <li>没有可以确定的服务端点时，参考 Happy Eyeballs 的方式，对每一个服务端点错开一小段时间依次发起连接，选择最先连接成功的
+ *     服务端点，前一个连接失败时立即发起下一个连接。</li>
+ * </ul>
+ * <p>选择只在服务端点之间进行，不选择主机的解析地址：实际的调用由客户端自行解析和排列主机的地址，因此竞争时每个服务端点只连接
+ * 主机的第一个解析地址。同一主机的同一组服务端点同时只有一个进行中的连接竞争，竞争期间的选择共享其结果。</p>
+ * <p>连接竞争只建立并立即关闭传输层连接，不会重复发送调用请求。竞争使用的线程在空闲时会自动退出，因此选择器不需要关闭；长时间没有
+ * 更新的连接记录会被定期清理。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+class EndpointSelector {
+    private static final Logger log = Logger.get(EndpointSelector.class);
+
+    /** 表示相邻两个连接之间错开的时间，单位为毫秒。 */
+    static final long CONNECTION_ATTEMPT_DELAY = 250;
+
+    /** 表示连接成功的记录被视为最近的时间范围，单位为毫秒。 */
+    static final long RECENT_SUCCESS_DURATION = TimeUnit.SECONDS.toMillis(60);
+
+    private static final int CONNECT_TIMEOUT = 2000;
+    private static final long MIN_DEAD_DURATION = TimeUnit.SECONDS.toMillis(1);
+    private static final long MAX_DEAD_DURATION = TimeUnit.SECONDS.toMillis(60);
+    private static final int MAX_BACKOFF_SHIFT = 6;
+    private static final long STALE_DURATION = TimeUnit.MINUTES.toMillis(5);
+    private static final int MAX_RACING_THREADS = 16;
+    private static final Health UNKNOWN = new Health();
+
+    private final Map<String, Health> healths = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Endpoint>> races = new ConcurrentHashMap<>();
+    private final Executor executor;
+    private volatile long lastPruneTime = System.currentTimeMillis();
+
+    EndpointSelector() {
+        this(createExecutor());
+    }
+
+    /**
+     * 使用指定的执行器初始化 {@link EndpointSelector} 的新实例。
+     *
+     * @param executor 表示执行连接竞争的 {@link Executor}。
+     * @throws IllegalArgumentException 当 {@code executor} 为 {@code null} 时。
+     */
+    EndpointSelector(Executor executor) {
+        this.executor = notNull(executor, "The executor cannot be null.");
+    }
+
+    private static Executor createExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_RACING_THREADS,
+                MAX_RACING_THREADS,
+                60,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new DefaultThreadFactory("endpoint-selector",
+                        true,
+                        (thread, cause) -> log.warn("Failed to race endpoint connection.", cause)));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * 从指定主机的服务端点列表中选择一个服务端点，需要竞争连接时，在竞争结束后返回选择的结果。
+     *
+     * @param host 表示服务端点所在主机的 {@link String}。
+     * @param endpoints 表示按照优先级排列的服务端点列表的 {@link List}{@code <}{@link Endpoint}{@code >}。
+     * @return 表示选择的服务端点的异步结果的 {@link CompletableFuture}{@code <}{@link Endpoint}{@code >}。
+     * @throws IllegalArgumentException 当 {@code host} 为空白字符串或 {@code endpoints} 为空时。
+     */
+    CompletableFuture<Endpoint> select(String host, List<Endpoint> endpoints) {
+        List<Endpoint> candidates = this.candidates(host, endpoints);
+        Endpoint known = this.known(host, candidates);
+        if (known != null) {
+            return CompletableFuture.completedFuture(known);
+        }
+        return this.race(host, candidates);
+    }
+
+    /**
+     * 从指定主机的服务端点列表中立即选择一个服务端点，不等待连接竞争。
+     * <p>没有可以确定的服务端点时，返回优先级最高的服务端点，同时在后台发起连接竞争，竞争的结果用于之后的选择。</p>
+     *
+     * @param host 表示服务端点所在主机的 {@link String}。
+     * @param endpoints 表示按照优先级排列的服务端点列表的 {@link List}{@code <}{@link Endpoint}{@code >}。
+     * @return 表示选择的服务端点的 {@link Endpoint}。
+     * @throws IllegalArgumentException 当 {@code host} 为空白字符串或 {@code endpoints} 为空时。
+     */
+    Endpoint selectNow(String host, List<Endpoint> endpoints) {
+        List<Endpoint> candidates = this.candidates(host, endpoints);
+        Endpoint known = this.known(host, candidates);
+        if (known != null) {
+            return known;
+        }
+        return this.race(host, candidates).getNow(candidates.get(0));
+    }
+
+    /**
+     * 记录一次与指定服务端点的成功通信。
+     *
+     * @param host 表示服务端点所在主机的 {@link String}。
+     * @param endpoint 表示服务端点的 {@link Endpoint}。
+     */
+    void onSuccess(String host, Endpoint endpoint) {
+        this.health(host, endpoint).success(System.currentTimeMillis());
+    }
+
+    /**
+     * 记录一次与指定服务端点的失败通信。
+     *
+     * @param host 表示服务端点所在主机的 {@link String}。
+     * @param endpoint 表示服务端点的 {@link Endpoint}。
+     */
+    void onFailure(String host, Endpoint endpoint) {
+        this.health(host, endpoint).failure(System.currentTimeMillis());
+    }
+
+    private List<Endpoint> candidates(String host, List<Endpoint> endpoints) {
+        notBlank(host, "The host cannot be blank.");
+        notEmpty(endpoints, "The endpoints cannot be empty.");
+        long now = System.currentTimeMillis();
+        this.prune(now);
+        if (endpoints.size() == 1) {
+            return endpoints;
+        }
+        List<Endpoint> alive = endpoints.stream().filter(endpoint -> !this.peek(host, endpoint).isDead(now)).toList();
+        if (alive.isEmpty()) {
+            // 所有服务端点都不可用时，选择最早恢复的服务端点。
+            return Collections.singletonList(endpoints.stream()
+                    .min(Comparator.comparingLong(endpoint -> this.peek(host, endpoint).deadUntil()))
+                    .orElse(endpoints.get(0)));
+        }
+        String protocol = alive.get(0).protocol();
+        return alive.stream().filter(endpoint -> Objects.equals(endpoint.protocol(), protocol)).toList();
+    }
+
+    private Endpoint known(String host, List<Endpoint> candidates) {
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        long now = System.currentTimeMillis();
+        return candidates.stream()
+                .filter(endpoint -> now - this.peek(host, endpoint).lastSuccessTime() <= RECENT_SUCCESS_DURATION)
+                .max(Comparator.comparingLong(endpoint -> this.peek(host, endpoint).lastSuccessTime()))
+                .orElse(null);
+    }
+
+    private CompletableFuture<Endpoint> race(String host, List<Endpoint> candidates) {
+        String key = candidates.stream().map(endpoint -> key(host, endpoint)).collect(Collectors.joining(","));
+        CompletableFuture<Endpoint> winner = this.races.computeIfAbsent(key, ignored -> {
+            Race race = new Race(host, candidates);
+            this.attempt(race, 0);
+            return race.winner;
+        });
+        winner.whenComplete((endpoint, cause) -> this.races.remove(key, winner));
+        return winner;
+    }
+
+    private void attempt(Race race, int index) {
+        if (index >= race.candidates.size() || race.winner.isDone() || !race.next.compareAndSet(index, index + 1)) {
+            return;
+        }
+        CompletableFuture.delayedExecutor(CONNECTION_ATTEMPT_DELAY, TimeUnit.MILLISECONDS, this.executor)
+                .execute(() -> this.attempt(race, index + 1));
+        this.executor.execute(() -> {
+            Endpoint endpoint = race.candidates.get(index);
+            InetSocketAddress address = new InetSocketAddress(race.host, endpoint.port());
+            if (address.isUnresolved()) {
+                // 主机无法解析时，仍然选择第一个服务端点，由实际的调用报告错误。
+                log.debug("Failed to resolve endpoint host. [host={}]", race.host);
+                race.winner.complete(race.candidates.get(0));
+                return;
+            }
+            if (connect(address)) {
+                this.onSuccess(race.host, endpoint);
+                race.winner.complete(endpoint);
+                return;
+            }
+            this.onFailure(race.host, endpoint);
+            if (race.failures.incrementAndGet() == race.candidates.size()) {
+                // 所有服务端点都连接失败时，仍然选择第一个服务端点，由实际的调用报告错误。
+                race.winner.complete(race.candidates.get(0));
+                return;
+            }
+            this.attempt(race, index + 1);
+        });
+    }
+
+    private static boolean connect(InetSocketAddress address) {
+        try (Socket socket = new Socket()) {
+            socket.connect(address, CONNECT_TIMEOUT);
+            return true;
+        } catch (IOException e) {
+            log.debug("Failed to connect endpoint. [address={}]", address);
+            return false;
+        }
+    }
+
+    private void prune(long now) {
+        if (now - this.lastPruneTime < STALE_DURATION) {
+            return;
+        }
+        this.lastPruneTime = now;
+        this.healths.values().removeIf(health -> health.isStale(now));
+    }
+
+    private Health peek(String host, Endpoint endpoint) {
+        return this.healths.getOrDefault(key(host, endpoint), UNKNOWN);
+    }
+
+    private Health health(String host, Endpoint endpoint) {
+        return this.healths.computeIfAbsent(key(host, endpoint), ignored -> new Health());
+    }
+
+    private static String key(String host, Endpoint endpoint) {
+        return StringUtils.format("{0}://{1}:{2}", endpoint.protocol(), host, endpoint.port());
+    }
+
+    private static class Race {
+        private final String host;
+        private final List<Endpoint> candidates;
+        private final CompletableFuture<Endpoint> winner = new CompletableFuture<>();
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+
+        private Race(String host, List<Endpoint> candidates) {
+            this.host = host;
+            this.candidates = candidates;
+        }
+    }
+
+    private static class Health {
+        private long lastSuccessTime = Long.MIN_VALUE / 2;
+        private long lastUpdateTime;
+        private long deadUntil;
+        private int failures;
+
+        private synchronized long lastSuccessTime() {
+            return this.lastSuccessTime;
+        }
+
+        private synchronized long deadUntil() {
+            return this.deadUntil;
+        }
+
+        private synchronized boolean isDead(long now) {
+            return now < this.deadUntil;
+        }
+
+        private synchronized boolean isStale(long now) {
+            return now - this.lastUpdateTime > STALE_DURATION;
+        }
+
+        private synchronized void success(long now) {
+            this.lastSuccessTime = now;
+            this.lastUpdateTime = now;
+            this.deadUntil = 0;
+            this.failures = 0;
+        }
+
+        private synchronized void failure(long now) {
+            this.failures++;
+            this.lastUpdateTime = now;
+            long duration = MIN_DEAD_DURATION << Math.min(this.failures - 1, MAX_BACKOFF_SHIFT);
+            this.deadUntil = now + Math.min(duration, MAX_DEAD_DURATION);
+        }
+    }
+}
@@ -20,6 +20,7 @@ import modelengine.fitframework.inspection.Validation;
 import modelengine.fitframework.ioc.BeanMetadata;
 import modelengine.fitframework.ioc.annotation.AnnotationMetadata;
 import modelengine.fitframework.ioc.support.BeanFactoryResolver;
+import modelengine.fitframework.plugin.Plugin;
 import modelengine.fitframework.util.LazyLoader;
 import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.ReflectionUtils;
@@ -107,7 +108,11 @@ public class LocalFitableExecutor extends AbstractUnicastFitableExecutor impleme
         ClassLoader currentClassLoader = Thread.currentThread().getContextClassLoader();
         Object result;
         try {
-            Thread.currentThread().setContextClassLoader(this.metadata.container().plugin().pluginClassLoader());
+            Plugin plugin = this.metadata.container().plugin();
+            Thread.currentThread().setContextClassLoader(plugin.pluginClassLoader());
+            if (!plugin.activated()) {
+                plugin.activate();
+            }
             result = ReflectionUtils.invoke(this.targetLoader.get(), this.method, args);
         } catch (MethodInvocationException e) {
             Throwable cause = e.getCause();
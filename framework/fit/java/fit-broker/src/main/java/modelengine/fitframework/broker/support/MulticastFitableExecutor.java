@@ -18,12 +18,17 @@ import modelengine.fitframework.log.Logger;
 import modelengine.fitframework.util.LazyLoader;
 import modelengine.fitframework.util.StringUtils;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 表示 {@link FitableExecutor} 的多播调用实现。
+ * <p>对远程地址的调用通过 {@link FitableExecutor#executeAsync(Fitable, List, InvocationContext, Object[])} 同时发起，
+ * 调用线程不需要逐个等待每一个远程地址的响应。每一个远程调用按照调用上下文中的超时时间等待，超时或者失败的远程调用的结果为
+ * {@code null}。</p>
  *
  * @author 季聿阶
  * @since 2023-03-28
@@ -45,27 +50,47 @@ public class MulticastFitableExecutor implements FitableExecutor {
 
     @Override
     public Object execute(Fitable fitable, List<Target> targets, InvocationContext context, Object[] args) {
-        return targets.stream().map(target -> {
-            try {
-                return this.execute(fitable, target, context, args);
-            } catch (Throwable e) {
-                log.warn("Failed to execute fitable executor while multicast, return null instead. [id={}]",
-                        fitable.toUniqueId());
-                return null;
+        // 先发起所有的远程调用，再在当前线程中执行本地调用，使得各个远程调用以及本地调用之间可以并行进行。
+        List<CompletableFuture<Object>> results = new ArrayList<>(targets.size());
+        for (Target target : targets) {
+            results.add(this.isLocal(target, context) ? null : this.executeRemotely(fitable, target, context, args));
+        }
+        for (int i = 0; i < targets.size(); i++) {
+            if (results.get(i) == null) {
+                results.set(i, CompletableFuture.completedFuture(this.executeLocally(fitable, context, args)));
             }
-        }).reduce(context.accumulator()).orElse(null);
+        }
+        return results.stream().map(CompletableFuture::join).reduce(context.accumulator()).orElse(null);
+    }
+
+    private CompletableFuture<Object> executeRemotely(Fitable fitable, Target target, InvocationContext context,
+            Object[] args) {
+        CompletableFuture<Object> future =
+                this.remoteFitableExecutor.executeAsync(fitable, Collections.singletonList(target), context, args);
+        if (context.timeout() > 0 && context.timeoutUnit() != null) {
+            // 单个远程地址响应过慢时不能让整个多播调用无限等待，超时的地址与失败的地址一样以 null 作为结果。
+            future = future.orTimeout(context.timeout(), context.timeoutUnit());
+        }
+        return future.exceptionally(cause -> {
+            log.warn("Failed to execute fitable executor while multicast, return null instead. [id={}]",
+                    fitable.toUniqueId());
+            return null;
+        });
     }
 
-    private Object execute(Fitable fitable, Target target, InvocationContext context, Object[] args) {
-        if (this.isLocal(target, context)) {
+    private Object executeLocally(Fitable fitable, InvocationContext context, Object[] args) {
+        try {
             LocalExecutor localExecutor = this.localExecutorFactoryLoader.get()
                     .get(fitable.toUniqueId())
                     .orElseThrow(() -> new IllegalStateException(StringUtils.format(
                             "No local fitable executor. [id={0}]",
                             fitable.toUniqueId())));
             return localExecutor.execute(args);
+        } catch (Throwable e) {
+            log.warn("Failed to execute fitable executor while multicast, return null instead. [id={}]",
+                    fitable.toUniqueId());
+            return null;
         }
-        return this.remoteFitableExecutor.execute(fitable, Collections.singletonList(target), context, args);
     }
 
     private boolean isLocal(Target target, InvocationContext context) {
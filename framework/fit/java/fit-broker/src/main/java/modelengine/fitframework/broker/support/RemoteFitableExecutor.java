@@ -25,6 +25,7 @@ import modelengine.fitframework.broker.Format;
 import modelengine.fitframework.broker.InvocationContext;
 import modelengine.fitframework.broker.Target;
 import modelengine.fitframework.conf.runtime.MatataConfig;
+import modelengine.fitframework.exception.ClientException;
 import modelengine.fitframework.exception.FitException;
 import modelengine.fitframework.ioc.BeanContainer;
 import modelengine.fitframework.ioc.BeanFactory;
@@ -33,6 +34,7 @@ import modelengine.fitframework.serialization.RequestMetadata;
 import modelengine.fitframework.serialization.ResponseMetadata;
 import modelengine.fitframework.serialization.TagLengthValues;
 import modelengine.fitframework.serialization.Version;
+import modelengine.fitframework.thread.DefaultThreadFactory;
 import modelengine.fitframework.util.LazyLoader;
 import modelengine.fitframework.util.StringUtils;
 
@@ -41,19 +43,41 @@ import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * 表示 {@link FitableExecutor} 的远程调用实现。
+ * <p>当目标地址提供了多个服务端点时，通过 {@link EndpointSelector} 选择服务端点，并记录每一次调用的连接情况，使得不可用的
+ * 服务端点在后续的调用中被跳过。同步调用不等待连接竞争，竞争尚未得出结果时直接使用优先级最高的服务端点。</p>
  *
  * @author 季聿阶
  * @since 2023-03-28
  */
 public class RemoteFitableExecutor extends AbstractUnicastFitableExecutor {
     private static final Logger log = Logger.get(RemoteFitableExecutor.class);
+    private static final EndpointSelector ENDPOINT_SELECTOR = new EndpointSelector();
+
+    /**
+     * 表示异步调用中刷新访问令牌的线程池。
+     * <p>刷新访问令牌是阻塞的操作，不能在完成异步调用的客户端线程上执行。刷新操作很少发生，因此只使用一个线程串行执行，线程空闲时
+     * 自动回收。</p>
+     */
+    private static final ExecutorService TOKEN_REFRESH_EXECUTOR = new ThreadPoolExecutor(0,
+            1,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new DefaultThreadFactory("fit-token-refresh", true, null));
 
     private final BeanContainer container;
     private final LazyLoader<FitExceptionCreator> exceptionCreatorLoader = new LazyLoader<>(this::getExceptionCreator);
@@ -73,14 +97,59 @@ public class RemoteFitableExecutor extends AbstractUnicastFitableExecutor {
         Format format = this.chooseFormat(target);
         RequestMetadata requestMetadataBytes = this.getRequestMetadataBytes(format, fitable);
         Method method = fitable.genericable().method().method();
-        Response response = this.requestResponse(target, context, requestMetadataBytes, args, method);
+        Endpoint endpoint = ENDPOINT_SELECTOR.selectNow(target.host(), this.supportedEndpoints(target));
+        Response response = this.requestResponse(target, endpoint, context, requestMetadataBytes, args, method);
         if (this.isTokenValid(response.metadata())) {
-            this.requireRegisterAuthService.get().refreshToken(Instant.now());
-            requestMetadataBytes = requestMetadataBytes.copy()
-                    .accessToken(this.requireRegisterAuthService.get().getToken().getAccessToken().getToken())
-                    .build();
-            response = this.requestResponse(target, context, requestMetadataBytes, args, method);
+            RequestMetadata refreshed = this.refreshToken(requestMetadataBytes);
+            response = this.requestResponse(target, endpoint, context, refreshed, args, method);
         }
+        return this.handleResponse(fitable, target, response);
+    }
+
+    @Override
+    protected CompletableFuture<Object> executeAsync(Fitable fitable, Target target, InvocationContext context,
+            Object[] args) {
+        this.validateTarget(fitable, target);
+        log.debug("Prepare to invoke remote fitable asynchronously. [id={}, target={}]", fitable.toUniqueId(), target);
+        Format format = this.chooseFormat(target);
+        RequestMetadata requestMetadataBytes = this.getRequestMetadataBytes(format, fitable);
+        Method method = fitable.genericable().method().method();
+        return ENDPOINT_SELECTOR.select(target.host(), this.supportedEndpoints(target))
+                .thenCompose(endpoint -> this.requestResponseAsync(target,
+                        endpoint,
+                        context,
+                        requestMetadataBytes,
+                        args,
+                        method))
+                .thenApply(response -> this.handleResponse(fitable, target, response));
+    }
+
+    private CompletableFuture<Response> requestResponseAsync(Target target, Endpoint endpoint,
+            InvocationContext context, RequestMetadata requestMetadataBytes, Object[] args, Method method) {
+        return this.sendAsync(target, endpoint, context, requestMetadataBytes, args, method)
+                .thenCompose(response -> {
+                    if (!this.isTokenValid(response.metadata())) {
+                        return CompletableFuture.completedFuture(response);
+                    }
+                    return CompletableFuture.supplyAsync(() -> this.refreshToken(requestMetadataBytes),
+                                    TOKEN_REFRESH_EXECUTOR)
+                            .thenCompose(refreshed -> this.sendAsync(target,
+                                    endpoint,
+                                    context,
+                                    refreshed,
+                                    args,
+                                    method));
+                });
+    }
+
+    private RequestMetadata refreshToken(RequestMetadata requestMetadataBytes) {
+        this.requireRegisterAuthService.get().refreshToken(Instant.now());
+        return requestMetadataBytes.copy()
+                .accessToken(this.requireRegisterAuthService.get().getToken().getAccessToken().getToken())
+                .build();
+    }
+
+    private Object handleResponse(Fitable fitable, Target target, Response response) {
         if (this.isSuccess(response.metadata())) {
             log.debug("Invoke remote fitable successfully. [id={}, target={}]", fitable.toUniqueId(), target);
             return response.data();
@@ -145,6 +214,21 @@ public class RemoteFitableExecutor extends AbstractUnicastFitableExecutor {
         return (byte) (format & 0xFF);
     }
 
+    private List<Endpoint> supportedEndpoints(Target target) {
+        Set<String> protocols = this.container.all(Client.class)
+                .stream()
+                .map(BeanFactory::<Client>get)
+                .flatMap(client -> client.getSupportedProtocols().stream())
+                .collect(Collectors.toSet());
+        List<Endpoint> endpoints =
+                target.endpoints().stream().filter(endpoint -> protocols.contains(endpoint.protocol())).toList();
+        if (endpoints.isEmpty()) {
+            // 本地没有支持任何服务端点协议的客户端时，保持原有的选择，由调用报告缺少客户端的错误。
+            endpoints = Collections.singletonList(target.endpoints().iterator().next());
+        }
+        return endpoints;
+    }
+
     private Client requireClient(String protocol) {
         return this.container.all(Client.class)
                 .stream()
@@ -206,16 +290,46 @@ public class RemoteFitableExecutor extends AbstractUnicastFitableExecutor {
         return responseMetadata.code() == AuthenticationException.CODE;
     }
 
-    private Response requestResponse(Target target, InvocationContext context, RequestMetadata metadata, Object[] args,
-            Method method) {
-        Endpoint endpoint = target.endpoints().iterator().next();
+    private Response requestResponse(Target target, Endpoint endpoint, InvocationContext context,
+            RequestMetadata metadata, Object[] args, Method method) {
+        Request request = this.buildRequest(target, endpoint, context, metadata, args, method);
+        Client client = this.requireClient(request.protocol());
+        try {
+            Response response = client.requestResponse(request);
+            ENDPOINT_SELECTOR.onSuccess(target.host(), endpoint);
+            return response;
+        } catch (ClientException e) {
+            ENDPOINT_SELECTOR.onFailure(target.host(), endpoint);
+            throw e;
+        }
+    }
+
+    private CompletableFuture<Response> sendAsync(Target target, Endpoint endpoint, InvocationContext context,
+            RequestMetadata metadata, Object[] args, Method method) {
+        Request request = this.buildRequest(target, endpoint, context, metadata, args, method);
+        return this.requireClient(request.protocol()).requestResponseAsync(request).whenComplete((response, cause) -> {
+            if (cause == null) {
+                ENDPOINT_SELECTOR.onSuccess(target.host(), endpoint);
+                return;
+            }
+            Throwable actual = cause instanceof CompletionException && cause.getCause() != null
+                    ? cause.getCause()
+                    : cause;
+            if (actual instanceof ClientException) {
+                ENDPOINT_SELECTOR.onFailure(target.host(), endpoint);
+            }
+        });
+    }
+
+    private Request buildRequest(Target target, Endpoint endpoint, InvocationContext context,
+            RequestMetadata metadata, Object[] args, Method method) {
         Address address = Address.create(target.host(), endpoint.port());
         RequestContext requestContext = RequestContext.create(context.timeout(),
                 context.timeoutUnit(),
                 context.communicationType(),
                 target.extensions());
         Type[] argumentTypes = this.getGenericParameterTypes(method, args);
-        Request request = Request.custom()
+        return Request.custom()
                 .protocol(endpoint.protocol())
                 .address(address)
                 .metadata(metadata)
@@ -224,7 +338,6 @@ public class RemoteFitableExecutor extends AbstractUnicastFitableExecutor {
                 .returnType(this.getGenericReturnType(method))
                 .context(requestContext)
                 .build();
-        return this.requireClient(endpoint.protocol()).requestResponse(request);
     }
 
     /**
@@ -0,0 +1,118 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fitframework.broker.Endpoint;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 为 {@link EndpointSelector} 提供单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 EndpointSelector")
+class EndpointSelectorTest {
+    private static final String HOST = "127.0.0.1";
+
+    private ServerSocket server;
+    private Endpoint alive;
+    private Endpoint dead;
+    private EndpointSelector selector;
+
+    @BeforeEach
+    void setup() throws IOException {
+        this.server = new ServerSocket(0, 50, InetAddress.getByName(HOST));
+        this.alive = Endpoint.custom().protocol("http", 2).port(this.server.getLocalPort()).build();
+        int deadPort;
+        try (ServerSocket closed = new ServerSocket(0, 50, InetAddress.getByName(HOST))) {
+            deadPort = closed.getLocalPort();
+        }
+        this.dead = Endpoint.custom().protocol("http", 2).port(deadPort).build();
+        this.selector = new EndpointSelector();
+    }
+
+    @AfterEach
+    void teardown() throws IOException {
+        this.server.close();
+    }
+
+    @Test
+    @DisplayName("没有连接记录时，竞争连接选择可以连接的服务端点，并跳过连接失败的服务端点")
+    void shouldRaceToAliveEndpointAndSkipDeadEndpoint() throws Exception {
+        Endpoint selected = this.selector.select(HOST, Arrays.asList(this.dead, this.alive)).get(5, TimeUnit.SECONDS);
+        assertThat(selected).isEqualTo(this.alive);
+        this.selector.onFailure(HOST, this.alive);
+        Endpoint fallback = this.selector.select(HOST, Arrays.asList(this.dead, this.alive)).get(5, TimeUnit.SECONDS);
+        assertThat(fallback).isEqualTo(this.dead);
+    }
+
+    @Test
+    @DisplayName("同一协议中优先选择最近连接成功的服务端点")
+    void shouldPreferRecentlySucceededEndpoint() {
+        this.selector.onSuccess(HOST, this.dead);
+        Endpoint selected = this.selector.select(HOST, Arrays.asList(this.alive, this.dead)).join();
+        assertThat(selected).isEqualTo(this.dead);
+    }
+
+    @Test
+    @DisplayName("保持协议的优先级，只在优先级最高的可用协议中选择")
+    void shouldKeepProtocolPreference() {
+        Endpoint other = Endpoint.custom().protocol("grpc", 3).port(this.server.getLocalPort()).build();
+        this.selector.onSuccess(HOST, other);
+        Endpoint selected = this.selector.select(HOST, Arrays.asList(this.alive, other)).join();
+        assertThat(selected).isEqualTo(this.alive);
+        this.selector.onFailure(HOST, this.alive);
+        assertThat(this.selector.select(HOST, Arrays.asList(this.alive, other)).join()).isEqualTo(other);
+    }
+
+    @Test
+    @DisplayName("立即选择时不等待连接竞争，返回优先级最高的服务端点")
+    void shouldNotWaitRaceWhenSelectNow() {
+        // 不可路由的地址上的连接会一直等待到连接超时。
+        String unreachable = "10.255.255.1";
+        long start = System.currentTimeMillis();
+        Endpoint selected = this.selector.selectNow(unreachable, Arrays.asList(this.dead, this.alive));
+        assertThat(selected).isEqualTo(this.dead);
+        assertThat(System.currentTimeMillis() - start).isLessThan(EndpointSelector.CONNECTION_ATTEMPT_DELAY);
+    }
+
+    @Test
+    @DisplayName("同一主机的同一组服务端点同时只进行一次连接竞争")
+    void shouldShareInFlightRace() {
+        // 竞争任务只被记录而不被执行，因此竞争一直处于进行中。
+        List<Runnable> tasks = new CopyOnWriteArrayList<>();
+        EndpointSelector pending = new EndpointSelector(tasks::add);
+        CompletableFuture<Endpoint> first = pending.select(HOST, Arrays.asList(this.dead, this.alive));
+        assertThat(pending.select(HOST, Arrays.asList(this.dead, this.alive))).isSameAs(first);
+        assertThat(pending.selectNow(HOST, Arrays.asList(this.dead, this.alive))).isEqualTo(this.dead);
+        assertThat(pending.select(HOST, Arrays.asList(this.alive, this.dead))).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("连接失败的服务端点在一段时间内被跳过")
+    void shouldSkipEndpointMarkedDead() {
+        this.selector.onFailure(HOST, this.dead);
+        Endpoint selected = this.selector.select(HOST, Arrays.asList(this.dead, this.alive)).join();
+        assertThat(selected).isEqualTo(this.alive);
+    }
+}
@@ -0,0 +1,59 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import modelengine.fitframework.broker.Fitable;
+import modelengine.fitframework.broker.FitableExecutor;
+import modelengine.fitframework.broker.InvocationContext;
+import modelengine.fitframework.broker.Target;
+import modelengine.fitframework.ioc.BeanContainer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 表示 {@link MulticastFitableExecutor} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 MulticastFitableExecutor 类")
+class MulticastFitableExecutorTest {
+    @Test
+    @DisplayName("远程调用超时时，以 null 作为该地址的结果，不阻塞整个多播调用")
+    void shouldIgnoreRemoteResultWhenTimeout() {
+        Fitable fitable = mock(Fitable.class);
+        Target slow = mock(Target.class);
+        when(slow.workerId()).thenReturn("slow");
+        Target fast = mock(Target.class);
+        when(fast.workerId()).thenReturn("fast");
+        InvocationContext context = mock(InvocationContext.class);
+        when(context.localWorkerId()).thenReturn("local");
+        when(context.timeout()).thenReturn(50L);
+        when(context.timeoutUnit()).thenReturn(TimeUnit.MILLISECONDS);
+        when(context.accumulator()).thenReturn((previous, current) -> current == null ? previous : current);
+        FitableExecutor remote = mock(FitableExecutor.class);
+        when(remote.executeAsync(eq(fitable), eq(Collections.singletonList(slow)), eq(context), any()))
+                .thenReturn(new CompletableFuture<>());
+        when(remote.executeAsync(eq(fitable), eq(Collections.singletonList(fast)), eq(context), any()))
+                .thenReturn(CompletableFuture.completedFuture("fast"));
+        MulticastFitableExecutor executor = new MulticastFitableExecutor(mock(BeanContainer.class), remote);
+        Object result = executor.execute(fitable, Arrays.asList(fast, slow), context, new Object[0]);
+        assertThat(result).isEqualTo("fast");
+    }
+}
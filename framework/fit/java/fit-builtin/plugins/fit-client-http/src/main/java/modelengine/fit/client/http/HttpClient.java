@@ -19,11 +19,14 @@ import modelengine.fitframework.conf.runtime.ClientConfig;
 import modelengine.fitframework.conf.runtime.WorkerConfig;
 import modelengine.fitframework.inspection.Nonnull;
 import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.plugin.Plugin;
+import modelengine.fitframework.plugin.PluginStoppingObserver;
 import modelengine.fitframework.util.MapBuilder;
 
 import java.lang.reflect.Type;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -36,7 +39,7 @@ import java.util.stream.Stream;
  * @since 2020-10-05
  */
 @Component
-public class HttpClient implements Client {
+public class HttpClient implements Client, PluginStoppingObserver {
     private final Map<CommunicationType, InvokeClient> clients;
     private final InvokeClient fluentClient;
 
@@ -50,7 +53,10 @@ public class HttpClient implements Client {
     public HttpClient(BeanContainer container, WorkerConfig workerConfig, ClientConfig clientConfig) {
         notNull(container, "The bean container cannot be null.");
         notNull(workerConfig, "The worker config cannot be null.");
-        InvokeClient syncInvokeClient = InvokeClient.sync(container, workerConfig, clientConfig);
+        notNull(clientConfig, "The http config cannot be null.");
+        InvokeClient syncInvokeClient = clientConfig.multiplex()
+                ? InvokeClient.multiplex(container, workerConfig, clientConfig)
+                : InvokeClient.sync(container, workerConfig, clientConfig);
         InvokeClient asyncInvokeClient = InvokeClient.async(container, workerConfig, clientConfig);
         this.clients = MapBuilder.<CommunicationType, InvokeClient>get()
                 .put(syncInvokeClient.support(), syncInvokeClient)
@@ -67,6 +73,14 @@ public class HttpClient implements Client {
         return this.clients.get(request.context().communicationType()).requestResponse(request);
     }
 
+    @Override
+    public CompletableFuture<Response> requestResponseAsync(@Nonnull Request request) {
+        if (this.isFluent(request)) {
+            return this.fluentClient.requestResponseAsync(request);
+        }
+        return this.clients.get(request.context().communicationType()).requestResponseAsync(request);
+    }
+
     private boolean isFluent(Request request) {
         for (Type type : request.dataTypes()) {
             if (HttpClientUtils.isReactor(type)) {
@@ -80,4 +94,12 @@ public class HttpClient implements Client {
     public Set<String> getSupportedProtocols() {
         return Stream.of(Protocol.values()).map(Protocol::protocol).collect(Collectors.toSet());
     }
+
+    @Override
+    public void onPluginStopping(Plugin plugin) {
+        Stream.concat(this.clients.values().stream(), Stream.of(this.fluentClient))
+                .filter(client -> client instanceof PluginStoppingObserver)
+                .map(PluginStoppingObserver.class::cast)
+                .forEach(observer -> observer.onPluginStopping(plugin));
+    }
 }
@@ -10,6 +10,7 @@ import modelengine.fit.client.Request;
 import modelengine.fit.client.Response;
 import modelengine.fit.client.http.async.AsyncInvokeClient;
 import modelengine.fit.client.http.support.SyncInvokeClient;
+import modelengine.fit.client.http.websocket.MultiplexInvokeClient;
 import modelengine.fit.client.http.websocket.WebSocketInvokeClient;
 import modelengine.fitframework.broker.CommunicationType;
 import modelengine.fitframework.conf.runtime.ClientConfig;
@@ -17,6 +18,8 @@ import modelengine.fitframework.conf.runtime.WorkerConfig;
 import modelengine.fitframework.inspection.Nonnull;
 import modelengine.fitframework.ioc.BeanContainer;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 表示真实调用的客户端。
  *
@@ -32,6 +35,21 @@ public interface InvokeClient {
      */
     Response requestResponse(@Nonnull Request request);
 
+    /**
+     * 异步请求一个响应。
+     * <p>默认实现在当前线程中调用 {@link #requestResponse(Request)}。</p>
+     *
+     * @param request 表示请求的 {@link Request}。调用保证请求一定不为 {@code null}。
+     * @return 表示响应的异步结果的 {@link CompletableFuture}{@code <}{@link Response}{@code >}。
+     */
+    default CompletableFuture<Response> requestResponseAsync(@Nonnull Request request) {
+        try {
+            return CompletableFuture.completedFuture(this.requestResponse(request));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * 获取调用客户端支持的通信类型。
      *
@@ -63,6 +81,18 @@ public interface InvokeClient {
         return new AsyncInvokeClient(container, workerConfig, clientConfig);
     }
 
+    /**
+     * 创建一个通过多路复用的长连接进行同步调用的客户端。
+     *
+     * @param container 表示 Bean 容器的 {@link BeanContainer}。
+     * @param workerConfig 表示进程配置信息的 {@link WorkerConfig}。
+     * @param clientConfig 表示 Http 客户端配置的 {@link ClientConfig}。
+     * @return 表示创建出来的多路复用的客户端的 {@link InvokeClient}。
+     */
+    static InvokeClient multiplex(BeanContainer container, WorkerConfig workerConfig, ClientConfig clientConfig) {
+        return new MultiplexInvokeClient(container, workerConfig, clientConfig);
+    }
+
     /**
      * 创建一个流式调用的客户端。
      *
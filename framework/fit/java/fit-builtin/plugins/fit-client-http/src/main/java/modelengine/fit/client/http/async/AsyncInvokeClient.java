@@ -80,7 +80,8 @@ public class AsyncInvokeClient extends AbstractInvokeClient {
                 .targetWorkerId(targetWorkerId)
                 .targetWorkerInstanceId(targetWorkerInstanceId)
                 .build();
-        return AsyncTaskCoordinator.INSTANCE.getTaskResult(getTaskResultRequest).getResponse();
+        return AsyncTaskCoordinator.INSTANCE.getTaskResult(getTaskResultRequest, this.getTimeout(request))
+                .getResponse();
     }
 
     @Override
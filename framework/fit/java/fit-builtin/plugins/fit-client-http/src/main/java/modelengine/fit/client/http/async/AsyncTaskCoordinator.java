@@ -40,28 +40,36 @@ class AsyncTaskCoordinator {
      * 阻塞调用，获取任务执行结果。
      *
      * @param getTaskResultRequest 表示方法请求参数的 {@link GetAsyncTaskResultRequest}。
+     * @param timeoutMillis 表示等待结果的最长毫秒数的 {@code long}。
      * @return 表示异步任务执行结果的 {@link AsyncTaskResult}。
      */
-    AsyncTaskResult getTaskResult(GetAsyncTaskResultRequest getTaskResultRequest) {
-        AsyncTaskServer server;
-        // 对哈希表的组合调用，需要对整个表加锁。
-        synchronized (this.servers) {
-            server = this.servers.get(getTaskResultRequest.targetWorkerId());
-            // 如果这是向此服务器的第一次调用，则应创建新服务器对象。
-            // 如果旧服务器对象的 instanceId 出现变化、或者已经被关闭，则应该使用新服务器对象替换。
-            if (server == null || server.shouldBeReplaced(getTaskResultRequest.targetWorkerInstanceId())) {
-                server = new AsyncTaskServer(getTaskResultRequest.container(),
-                        getTaskResultRequest.workerConfig(),
-                        getTaskResultRequest.client(),
-                        this.createLongPollingRequest(getTaskResultRequest.request()),
-                        getTaskResultRequest.targetWorkerInstanceId());
-                AsyncTaskServer obsoleteServer = this.servers.put(getTaskResultRequest.targetWorkerId(), server);
-                if (obsoleteServer != null) {
-                    obsoleteServer.close();
-                }
-            }
+    AsyncTaskResult getTaskResult(GetAsyncTaskResultRequest getTaskResultRequest, long timeoutMillis) {
+        AsyncTaskServer server = this.servers.get(getTaskResultRequest.targetWorkerId());
+        if (server == null || server.shouldBeReplaced(getTaskResultRequest.targetWorkerInstanceId())) {
+            server = this.replaceServer(getTaskResultRequest);
         }
-        return server.get(getTaskResultRequest.asyncTaskId());
+        return server.get(getTaskResultRequest.asyncTaskId(),
+                getTaskResultRequest.request().returnType(),
+                timeoutMillis);
+    }
+
+    private AsyncTaskServer replaceServer(GetAsyncTaskResultRequest getTaskResultRequest) {
+        // 如果这是向此服务器的第一次调用，则应创建新服务器对象。
+        // 如果旧服务器对象的 instanceId 出现变化、或者已经被关闭，则应该使用新服务器对象替换。
+        // 替换在哈希表的单个键上原子地完成，不需要对整个表加锁。
+        return this.servers.compute(getTaskResultRequest.targetWorkerId(), (workerId, previous) -> {
+            if (previous != null && !previous.shouldBeReplaced(getTaskResultRequest.targetWorkerInstanceId())) {
+                return previous;
+            }
+            if (previous != null) {
+                previous.close();
+            }
+            return new AsyncTaskServer(getTaskResultRequest.container(),
+                    getTaskResultRequest.workerConfig(),
+                    getTaskResultRequest.client(),
+                    this.createLongPollingRequest(getTaskResultRequest.request()),
+                    getTaskResultRequest.targetWorkerInstanceId());
+        });
     }
 
     private Request createLongPollingRequest(Request request) {
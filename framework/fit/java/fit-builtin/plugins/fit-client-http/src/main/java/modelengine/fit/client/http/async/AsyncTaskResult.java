@@ -8,11 +8,22 @@ package modelengine.fit.client.http.async;
 
 import modelengine.fit.client.Response;
 import modelengine.fit.http.exception.AsyncTaskExecutionException;
+import modelengine.fit.serialization.MessageSerializer;
+import modelengine.fit.serialization.http.websocket.ResponseMessageContentUtils;
+import modelengine.fit.serialization.util.MessageSerializerUtils;
+import modelengine.fitframework.exception.TimeoutException;
+import modelengine.fitframework.ioc.BeanContainer;
 import modelengine.fitframework.serialization.ResponseMetadata;
+import modelengine.fitframework.serialization.TagLengthValues;
+import modelengine.fitframework.util.StringUtils;
+
+import java.lang.reflect.Type;
 
 /**
  * FIT 异步任务执行结果，封装 {@link modelengine.fit.http.client.HttpClassicClientResponse} 和 {@link ResponseMetadata}。
  * <p>任务执行完毕后，长轮询线程会读取 HTTP 头部并进行解析，而消息体的读取会在客户端调用线程处完成。</p>
+ * <p>通过推送获取的结果在到达时只保存原始内容，由于推送线程不知道每一个任务的返回值类型，消息体的反序列化会在客户端调用线程
+ * 通过 {@link #decode(BeanContainer, Type)} 完成。</p>
  *
  * @author 王成
  * @author 季聿阶
@@ -20,9 +31,59 @@ import modelengine.fitframework.serialization.ResponseMetadata;
  */
 class AsyncTaskResult {
     private final Response response;
+    private final TagLengthValues content;
 
     AsyncTaskResult(Response response) {
         this.response = response;
+        this.content = null;
+    }
+
+    private AsyncTaskResult(TagLengthValues content) {
+        this.response = null;
+        this.content = content;
+    }
+
+    /**
+     * 通过推送的调用结果的原始内容创建一个尚未反序列化的异步任务执行结果。
+     *
+     * @param content 表示推送的调用结果的原始内容的 {@link TagLengthValues}。
+     * @return 表示尚未反序列化的异步任务执行结果的 {@link AsyncTaskResult}。
+     */
+    static AsyncTaskResult pushed(TagLengthValues content) {
+        return new AsyncTaskResult(content);
+    }
+
+    /**
+     * 使用调用的返回值类型反序列化推送的调用结果。
+     * <p>如果当前结果不是推送的结果，则直接返回当前结果。</p>
+     *
+     * @param container 表示 Bean 容器的 {@link BeanContainer}。
+     * @param returnType 表示调用的返回值类型的 {@link Type}。
+     * @return 表示反序列化之后的异步任务执行结果的 {@link AsyncTaskResult}。
+     * @throws IllegalStateException 当找不到调用结果的序列化方式对应的消息序列化器时。
+     */
+    AsyncTaskResult decode(BeanContainer container, Type returnType) {
+        if (this.content == null) {
+            return this;
+        }
+        int format = ResponseMessageContentUtils.getDataFormat(this.content);
+        int code = ResponseMessageContentUtils.getCode(this.content);
+        ResponseMetadata metadata = ResponseMetadata.custom()
+                .dataFormat(format)
+                .code(code)
+                .message(ResponseMessageContentUtils.getMessage(this.content))
+                .tagValues(ResponseMessageContentUtils.getExtensions(this.content))
+                .build();
+        Object data = null;
+        if (code == ResponseMetadata.CODE_OK) {
+            MessageSerializer messageSerializer = MessageSerializerUtils.getMessageSerializer(container, format)
+                    .orElseThrow(() -> new IllegalStateException(StringUtils.format(
+                            "MessageSerializer required but not found. [format={0}]",
+                            format)));
+            data = messageSerializer.deserializeResponse(returnType,
+                    ResponseMessageContentUtils.getEntity(this.content));
+        }
+        return new AsyncTaskResult(Response.create(metadata, data));
     }
 
     /**
@@ -34,6 +95,18 @@ class AsyncTaskResult {
         return this.response;
     }
 
+    /**
+     * 当等待结果超过超时时间时，返回超时结果，提示客户端异步任务的结果没有及时到达。
+     *
+     * @return 表示超时结果的 {@link AsyncTaskResult}。
+     */
+    public static AsyncTaskResult getTimeoutResult() {
+        return new AsyncTaskResult(Response.create(ResponseMetadata.custom()
+                .code(TimeoutException.CODE)
+                .message("Timeout to wait async task result.")
+                .build(), null));
+    }
+
     /**
      * 当长轮询线程因为自身异常或者其他原因退出时，会清空所有未完成任务，并返回空结果，提示客户端应重新提交任务。
      *
@@ -9,12 +9,14 @@ package modelengine.fit.client.http.async;
 import static modelengine.fit.http.header.HttpHeaderKey.FIT_DATA_FORMAT;
 import static modelengine.fit.http.header.HttpHeaderKey.FIT_TLV;
 import static modelengine.fit.serialization.http.Constants.FIT_ASYNC_LONG_POLLING_DURATION_MILLIS;
+import static modelengine.fit.serialization.http.Constants.FIT_ASYNC_TASK_PUSH_PATH;
 import static modelengine.fitframework.inspection.Validation.notBlank;
 import static modelengine.fitframework.inspection.Validation.notNull;
 import static modelengine.fitframework.util.ObjectUtils.cast;
 
 import modelengine.fit.client.Request;
 import modelengine.fit.client.Response;
+import modelengine.fit.client.http.support.ConnectionBuilder;
 import modelengine.fit.client.http.support.ConnectionBuilderFactory;
 import modelengine.fit.client.http.support.HttpConnectionBuilder;
 import modelengine.fit.client.http.util.HttpClientUtils;
@@ -27,7 +29,15 @@ import modelengine.fit.http.protocol.HttpRequestMethod;
 import modelengine.fit.http.protocol.MessageHeaderNames;
 import modelengine.fit.http.protocol.MimeType;
 import modelengine.fit.http.protocol.Protocol;
+import modelengine.fit.http.websocket.CloseReason;
+import modelengine.fit.http.websocket.Session;
+import modelengine.fit.http.websocket.client.WebSocketClassicListener;
 import modelengine.fit.serialization.http.HttpUtils;
+import modelengine.fit.serialization.http.websocket.BatchMessageContentUtils;
+import modelengine.fit.serialization.http.websocket.RequestMessageContentUtils;
+import modelengine.fit.serialization.http.websocket.ResponseMessageContentUtils;
+import modelengine.fit.serialization.http.websocket.StreamMessageType;
+import modelengine.fit.serialization.http.websocket.WebSocketUtils;
 import modelengine.fitframework.conf.runtime.WorkerConfig;
 import modelengine.fitframework.ioc.BeanContainer;
 import modelengine.fitframework.log.Logger;
@@ -35,17 +45,25 @@ import modelengine.fitframework.serialization.TagLengthValues;
 import modelengine.fitframework.serialization.tlv.TlvUtils;
 import modelengine.fitframework.thread.DefaultThreadFactory;
 
+import java.lang.reflect.Type;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
-import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * 通信服务器端抽象，封装了长轮询线程的实现细节。
+ * 通信服务器端抽象，封装了获取异步任务结果的实现细节。
  * <p>客户端对相同服务器端（相同的 workerId 和 workerInstanceId 的二元组）的调用都会使用同一服务器对象查询结果。</p>
+ * <p>服务器对象优先与服务器端建立一个推送结果的 WebSocket 长连接，服务器端在任务完成时主动推送结果，并将同一时刻完成的多个结果合并
+ * 在一个消息中；当服务器端不支持推送时，退化为使用长轮询线程获取结果。每一个任务的结果都保存在以任务唯一标识为键的
+ * {@link CompletableFuture} 中，结果先于查询到达或查询先于结果到达时，都通过同一个 {@link CompletableFuture} 完成传递。</p>
+ * <p>查询最多等待指定的超时时间。先于查询到达的结果如果在一定时间内都没有被查询，例如查询已经超时放弃，会被清理掉。</p>
  *
  * @author 王成
  * @author 季聿阶
@@ -54,6 +72,7 @@ import java.util.concurrent.TimeUnit;
 class AsyncTaskServer {
     private static final Logger log = Logger.get(AsyncTaskServer.class);
     private static final long TASK_WAITING_MILLIS = FIT_ASYNC_LONG_POLLING_DURATION_MILLIS / 2;
+    private static final long UNCLAIMED_RESULT_TTL_MILLIS = FIT_ASYNC_LONG_POLLING_DURATION_MILLIS;
 
     private final BeanContainer container;
 
@@ -62,8 +81,14 @@ class AsyncTaskServer {
             "async-task-server",
             true,
             (thread, cause) -> {}));
-    private final Map<String, SynchronousQueue<AsyncTaskResult>> pendingTasks = new ConcurrentHashMap<>();
-    private final Map<String, AsyncTaskResult> completedTasks = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<AsyncTaskResult>> results = new ConcurrentHashMap<>();
+
+    /** 表示先于查询到达、尚未被查询的结果的到达时间，用于清理没有查询者等待的结果。 */
+    private final Map<String, Long> unclaimedResults = new ConcurrentHashMap<>();
+    private volatile long lastEvictionTime = System.currentTimeMillis();
+
+    /** 表示正在等待结果的客户端请求线程的数量，长轮询线程只在存在等待的线程时进行长轮询。 */
+    private final AtomicInteger waitingCount = new AtomicInteger();
 
     /** 没有任务提交时，长轮询线程会在此信号量上挂起。提交任务时，每个任务会释放 1 信号量，用来解除长轮询线程的阻塞。 */
     private final Semaphore taskSemaphore = new Semaphore(0);
@@ -71,6 +96,7 @@ class AsyncTaskServer {
 
     /** 使用 volatile 标志位决定服务器是否应该清理并退出。 */
     private volatile boolean shouldStop = false;
+    private volatile Session pushSession;
 
     AsyncTaskServer(BeanContainer container, WorkerConfig workerConfig, HttpClassicClient client,
             Request longPollingRequest, String targetWorkerInstanceId) {
@@ -80,14 +106,47 @@ class AsyncTaskServer {
         notNull(longPollingRequest, "The long pulling request cannot be null.");
         this.instanceId = notBlank(targetWorkerInstanceId, "The target worker instance id cannot be blank.");
 
+        try {
+            Protocol protocol = Protocol.from(longPollingRequest.protocol());
+            ConnectionBuilder builder = ConnectionBuilderFactory.getWebSocketConnectionBuilder(protocol);
+            String pushUrl = builder.buildUrl(longPollingRequest, FIT_ASYNC_TASK_PUSH_PATH);
+            PushListener listener =
+                    new PushListener(() -> this.fallbackToLongPolling(longPollingRequest, client, workerConfig));
+            Session session = client.createWebSocketSession(pushUrl, listener);
+            if (session == null) {
+                this.fallbackToLongPolling(longPollingRequest, client, workerConfig);
+                return;
+            }
+            this.pushSession = session;
+            session.send(this.buildSubscribeMessage(workerConfig));
+        } catch (RuntimeException e) {
+            log.debug("Async task push is not available, use long polling instead. [id={}]", this.instanceId, e);
+            this.fallbackToLongPolling(longPollingRequest, client, workerConfig);
+        }
+    }
+
+    private void fallbackToLongPolling(Request request, HttpClassicClient client, WorkerConfig workerConfig) {
+        this.pushSession = null;
         // 启动长轮询线程。
-        this.asyncTaskExecutorService.submit(() -> this.longPolling(longPollingRequest, client, workerConfig));
+        this.asyncTaskExecutorService.submit(() -> this.longPolling(request, client, workerConfig));
+    }
+
+    private byte[] buildSubscribeMessage(WorkerConfig workerConfig) {
+        TagLengthValues extensions = TagLengthValues.create();
+        TlvUtils.setWorkerId(extensions, workerConfig.id());
+        TlvUtils.setWorkerInstanceId(extensions, workerConfig.instanceId());
+        TagLengthValues content = TagLengthValues.create();
+        RequestMessageContentUtils.setExtensions(content, extensions);
+        TagLengthValues message = TagLengthValues.create();
+        WebSocketUtils.setType(message, StreamMessageType.REQUEST.code());
+        WebSocketUtils.setContent(message, content.serialize());
+        return message.serialize();
     }
 
     private void longPolling(Request request, HttpClassicClient client, WorkerConfig workerConfig) {
         while (true) {
-            // 任务数量为空且服务器未被停止时，长轮询线程挂起等待。
-            while (this.pendingTasks.isEmpty() && !this.shouldStop) {
+            // 没有等待结果的线程且服务器未被停止时，长轮询线程挂起等待。
+            while (this.waitingCount.get() == 0 && !this.shouldStop) {
                 try {
                     // 长轮询线程每隔长轮询一半的时间会解除阻塞并检查服务器状态，服务器退出时会设置退出标志位，线程池会中断长轮询线程。
                     this.taskSemaphore.tryAcquire(TASK_WAITING_MILLIS, TimeUnit.MILLISECONDS);
@@ -125,15 +184,7 @@ class AsyncTaskServer {
             } else {
                 // 如果返回值为 OK 或者其他情况，则将结果传递给客户端请求线程。
                 Response response = HttpClientUtils.getResponse(this.container, request, clientResponse);
-                AsyncTaskResult result = new AsyncTaskResult(response);
-                String asyncTaskId = HttpUtils.getAsyncTaskId(response.metadata().tagValues());
-                SynchronousQueue<AsyncTaskResult> queue = this.pendingTasks.get(asyncTaskId);
-                if (queue == null || !queue.offer(result)) {
-                    // queue 不存在或者投送失败时，把任务存入暂存区。offer() 方法不阻塞。
-                    this.completedTasks.put(asyncTaskId, result);
-                }
-                // 无论是否有线程阻塞在执行结果上，都清除已完成的任务。
-                this.pendingTasks.remove(asyncTaskId);
+                this.complete(HttpUtils.getAsyncTaskId(response.metadata().tagValues()), new AsyncTaskResult(response));
             }
         } catch (Exception e) {
             // 捕获全部异常。任何异常抛出，都会触发长轮询线程退出并清理所有已有任务。
@@ -144,48 +195,63 @@ class AsyncTaskServer {
         return false;
     }
 
+    private void complete(String taskId, AsyncTaskResult result) {
+        // 结果可能先于查询到达，此时由结果一方创建 CompletableFuture，查询时直接获取。
+        this.results.computeIfAbsent(taskId, key -> {
+            this.unclaimedResults.put(key, System.currentTimeMillis());
+            return new CompletableFuture<>();
+        }).complete(result);
+        this.evictUnclaimedResults();
+    }
+
+    private void evictUnclaimedResults() {
+        long now = System.currentTimeMillis();
+        if (now - this.lastEvictionTime < TASK_WAITING_MILLIS) {
+            return;
+        }
+        this.lastEvictionTime = now;
+        this.unclaimedResults.entrySet().removeIf(entry -> {
+            if (now - entry.getValue() < UNCLAIMED_RESULT_TTL_MILLIS) {
+                return false;
+            }
+            this.results.remove(entry.getKey());
+            return true;
+        });
+    }
+
     /**
      * 阻塞调用。获取异步执行结果。
      *
      * @param taskId 表示任务 ID 的 {@code String}
+     * @param returnType 表示任务返回值类型的 {@link Type}，用于反序列化推送的结果。
+     * @param timeoutMillis 表示等待结果的最长毫秒数的 {@code long}。
      * @return 表示异步任务执行结果的 {@link AsyncTaskResult}。
      */
-    AsyncTaskResult get(String taskId) {
-        // 如果暂存组有已完成的匹配任务，直接从暂存区获取
-        if (this.completedTasks.containsKey(taskId)) {
-            return this.completedTasks.remove(taskId);
-        }
-        if (this.shouldStop) {
-            return AsyncTaskResult.getEmptyResult();
-        }
-        SynchronousQueue<AsyncTaskResult> queue = new SynchronousQueue<>();
-        this.pendingTasks.put(taskId, queue);
-        // 解除长轮询线程的阻塞
-        this.taskSemaphore.release();
-
-        // 等待任务完成
-        while (this.pendingTasks.containsKey(taskId) && !this.shouldStop) {
-            try {
-                // 兜底处理，当高并发时，可能存在前序检查已完成任务列表之后，又向其中设置的情况，因此，需要周期性的进行检查。
-                AsyncTaskResult asyncResult = queue.poll(5000, TimeUnit.MILLISECONDS);
-                if (asyncResult != null) {
-                    return asyncResult;
-                }
-                if (this.completedTasks.containsKey(taskId)) {
-                    return this.completedTasks.remove(taskId);
-                }
-            } catch (InterruptedException ignored) {
-                // 线程被中断时，手动移除当前任务并返回空结果
-                this.pendingTasks.remove(taskId);
+    AsyncTaskResult get(String taskId, Type returnType, long timeoutMillis) {
+        CompletableFuture<AsyncTaskResult> future =
+                this.results.computeIfAbsent(taskId, key -> new CompletableFuture<>());
+        this.unclaimedResults.remove(taskId);
+        this.waitingCount.incrementAndGet();
+        try {
+            if (this.shouldStop && !future.isDone()) {
                 return AsyncTaskResult.getEmptyResult();
             }
+            // 解除长轮询线程的阻塞
+            this.taskSemaphore.release();
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS).decode(this.container, returnType);
+        } catch (InterruptedException | ExecutionException e) {
+            // 线程被中断时，返回空结果
+            return AsyncTaskResult.getEmptyResult();
+        } catch (TimeoutException e) {
+            log.warn("Timeout to wait async task result. [id={}, taskId={}, timeout={}ms]",
+                    this.instanceId,
+                    taskId,
+                    timeoutMillis);
+            return AsyncTaskResult.getTimeoutResult();
+        } finally {
+            this.waitingCount.decrementAndGet();
+            this.results.remove(taskId);
         }
-        // 在等待任务队列被删除指定任务后，异步结果可能存在已完成的队列中。
-        if (this.completedTasks.containsKey(taskId)) {
-            return this.completedTasks.remove(taskId);
-        }
-        // 任务被移除，应该返回空结果
-        return AsyncTaskResult.getEmptyResult();
     }
 
     /**
@@ -194,15 +260,18 @@ class AsyncTaskServer {
     void close() {
         this.shouldStop = true;
         this.asyncTaskExecutorService.shutdownNow();
+        Session session = this.pushSession;
+        if (session != null) {
+            session.close(CloseReason.NORMAL_CLOSURE);
+        }
     }
 
     private void cleanUp() {
         this.shouldStop = true;
-        // 加锁并清理所有现有任务
-        for (SynchronousQueue<AsyncTaskResult> result : this.pendingTasks.values()) {
-            result.offer(AsyncTaskResult.getEmptyResult());
+        // 所有未完成的任务都以空结果结束
+        for (CompletableFuture<AsyncTaskResult> result : this.results.values()) {
+            result.complete(AsyncTaskResult.getEmptyResult());
         }
-        this.pendingTasks.clear();
     }
 
     /**
@@ -230,4 +299,52 @@ class AsyncTaskServer {
                 .add(MessageHeaderNames.ACCEPT, MimeType.APPLICATION_OCTET_STREAM.value());
         return clientRequest;
     }
+
+    private class PushListener implements WebSocketClassicListener {
+        private final Runnable fallback;
+        private volatile boolean isOpened;
+
+        private PushListener(Runnable fallback) {
+            this.fallback = fallback;
+        }
+
+        @Override
+        public void onOpen(Session session) {
+            this.isOpened = true;
+        }
+
+        @Override
+        public void onMessage(Session session, String message) {}
+
+        @Override
+        public void onMessage(Session session, byte[] message) {
+            TagLengthValues tlvs = TagLengthValues.deserialize(message);
+            if (WebSocketUtils.getType(tlvs) != StreamMessageType.RESPONSE.code()) {
+                return;
+            }
+            TagLengthValues batch = TagLengthValues.deserialize(WebSocketUtils.getContent(tlvs));
+            for (TagLengthValues content : BatchMessageContentUtils.getContents(batch)) {
+                String taskId = HttpUtils.getAsyncTaskId(ResponseMessageContentUtils.getExtensions(content));
+                AsyncTaskServer.this.complete(taskId, AsyncTaskResult.pushed(content));
+            }
+        }
+
+        @Override
+        public void onClose(Session session, int code, String reason) {
+            AsyncTaskServer.this.cleanUp();
+        }
+
+        @Override
+        public void onError(Session session, Throwable cause) {
+            if (!this.isOpened && !AsyncTaskServer.this.shouldStop) {
+                // 服务器端不支持推送时，连接在建立阶段即失败，此时退化为长轮询。
+                log.debug("Async task push is not supported, use long polling instead. [id={}]",
+                        AsyncTaskServer.this.instanceId);
+                this.fallback.run();
+                return;
+            }
+            log.warn("Async task server will stop due to push error. [id={}]", AsyncTaskServer.this.instanceId, cause);
+            AsyncTaskServer.this.cleanUp();
+        }
+    }
 }
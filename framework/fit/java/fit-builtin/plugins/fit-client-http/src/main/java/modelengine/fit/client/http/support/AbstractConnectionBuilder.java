@@ -32,6 +32,11 @@ public abstract class AbstractConnectionBuilder implements ConnectionBuilder {
         return sb.toString();
     }
 
+    @Override
+    public String buildUrl(Request request, String path) {
+        return this.buildBaseUrl(request).append(path).toString();
+    }
+
     /**
      * 构建基础的访问 URL。
      *
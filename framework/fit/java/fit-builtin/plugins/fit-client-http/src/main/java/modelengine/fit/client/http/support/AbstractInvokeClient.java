@@ -29,26 +29,38 @@ import modelengine.fitframework.conf.runtime.SerializationFormat;
 import modelengine.fitframework.conf.runtime.WorkerConfig;
 import modelengine.fitframework.ioc.BeanContainer;
 import modelengine.fitframework.ioc.BeanFactory;
+import modelengine.fitframework.plugin.Plugin;
+import modelengine.fitframework.plugin.PluginStoppingObserver;
+import modelengine.fitframework.util.LazyLoader;
 import modelengine.fitframework.util.StringUtils;
 
 import java.io.ByteArrayInputStream;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 表示 {@link InvokeClient} 的抽象实现类。
+ * <p>客户端的安全配置只在第一次使用时解析一次，其中加密的密码也只解密一次；相同超时时间的 Http 客户端和相同格式的消息序列化器
+ * 在首次构建或查找之后被缓存，每次调用不再重复构建。Http 客户端的缓存数量有上限，超过上限时整体清空；消息序列化器所在的插件
+ * 停止时，对应的缓存会被移除，避免继续持有已卸载插件中的实例。</p>
  *
  * @author 季聿阶
  * @since 2024-02-17
  */
-public abstract class AbstractInvokeClient implements InvokeClient {
+public abstract class AbstractInvokeClient implements InvokeClient, PluginStoppingObserver {
     private static final String APPLICATION_JSON = "application/json;charset=UTF-8";
+    private static final int MAX_CACHED_HTTP_CLIENTS = 64;
 
     private final BeanContainer container;
     private final HttpClassicClientFactory factory;
     private final WorkerConfig workerConfig;
     private final ClientConfig clientConfig;
+    private final LazyLoader<Map<String, Object>> secureConfig;
+    private final Map<Integer, HttpClassicClient> httpClients = new ConcurrentHashMap<>();
+    private final Map<Integer, MessageSerializer> messageSerializers = new ConcurrentHashMap<>();
 
     protected AbstractInvokeClient(BeanContainer container, WorkerConfig workerConfig, ClientConfig clientConfig) {
         this.container = notNull(container, "The bean container cannot be null.");
@@ -59,6 +71,7 @@ public abstract class AbstractInvokeClient implements InvokeClient {
                 .orElseThrow(() -> new IllegalStateException("The http classic client factory cannot be null."));
         this.workerConfig = notNull(workerConfig, "The worker config cannot be null.");
         this.clientConfig = notNull(clientConfig, "The http config cannot be null.");
+        this.secureConfig = new LazyLoader<>(this::buildSecureConfig);
     }
 
     /**
@@ -81,11 +94,30 @@ public abstract class AbstractInvokeClient implements InvokeClient {
 
     /**
      * 构建 Http 客户端。
+     * <p>同一个超时时间对应的 Http 客户端只会构建一次，之后的调用直接复用。</p>
      *
      * @param request 表示 Http 请求的 {@link Request}。
      * @return 表示构建出来的 Http 客户端的 {@link HttpClassicClient}。
      */
     protected HttpClassicClient buildHttpClient(Request request) {
+        int timeout = this.getTimeout(request);
+        HttpClassicClient client = this.httpClients.get(timeout);
+        if (client != null) {
+            return client;
+        }
+        if (this.httpClients.size() >= MAX_CACHED_HTTP_CLIENTS) {
+            this.httpClients.clear();
+        }
+        return this.httpClients.computeIfAbsent(timeout,
+                key -> this.factory.create(HttpClassicClientFactory.Config.builder()
+                        .connectTimeout(key)
+                        .connectionRequestTimeout(key)
+                        .socketTimeout(key)
+                        .custom(this.secureConfig.get())
+                        .build()));
+    }
+
+    private Map<String, Object> buildSecureConfig() {
         Optional<ClientConfig.Secure> secureInfo = this.clientConfig.secure();
         Map<String, Object> config = new HashMap<>();
         if (secureInfo.isPresent()) {
@@ -115,13 +147,7 @@ public abstract class AbstractInvokeClient implements InvokeClient {
             config.put(HttpsConstants.CLIENT_SECURE_TRUST_STORE_PASSWORD, trustStorePassword);
             config.put(HttpsConstants.CLIENT_SECURE_STRONG_RANDOM, String.valueOf(secure.secureRandomEnabled()));
         }
-        int timeout = this.getTimeout(request);
-        return this.factory.create(HttpClassicClientFactory.Config.builder()
-                .connectTimeout(timeout)
-                .connectionRequestTimeout(timeout)
-                .socketTimeout(timeout)
-                .custom(config)
-                .build());
+        return Collections.unmodifiableMap(config);
     }
 
     /**
@@ -164,12 +190,37 @@ public abstract class AbstractInvokeClient implements InvokeClient {
         } else {
             clientRequest.headers().add(MessageHeaderNames.CONTENT_TYPE, MimeType.APPLICATION_OCTET_STREAM.value());
         }
-        MessageSerializer messageSerializer = MessageSerializerUtils.getMessageSerializer(this.container, format)
-                .orElseThrow(() -> new IllegalStateException(StringUtils.format(
-                        "MessageSerializer required but not found. [format={0}]",
-                        format)));
+        MessageSerializer messageSerializer = this.getMessageSerializer(format);
         byte[] bytes = messageSerializer.serializeRequest(request.dataTypes(), request.data());
         clientRequest.headers().add(MessageHeaderNames.CONTENT_LENGTH, Integer.toString(bytes.length));
         return new DefaultReadableBinaryEntity(clientRequest, new ByteArrayInputStream(bytes));
     }
+
+    /**
+     * 获取指定格式的消息序列化器。
+     *
+     * @param format 表示消息序列化格式的 {@code int}。
+     * @return 表示指定格式的消息序列化器的 {@link MessageSerializer}。
+     * @throws IllegalStateException 当找不到指定格式的消息序列化器时。
+     */
+    protected MessageSerializer getMessageSerializer(int format) {
+        MessageSerializer messageSerializer = this.messageSerializers.get(format);
+        if (messageSerializer != null) {
+            return messageSerializer;
+        }
+        // 只缓存找到的序列化器，找不到时下一次调用仍然会重新查找，以便感知后续加载的插件。
+        messageSerializer = MessageSerializerUtils.getMessageSerializer(this.container, format)
+                .orElseThrow(() -> new IllegalStateException(StringUtils.format(
+                        "MessageSerializer required but not found. [format={0}]",
+                        format)));
+        this.messageSerializers.putIfAbsent(format, messageSerializer);
+        return messageSerializer;
+    }
+
+    @Override
+    public void onPluginStopping(Plugin plugin) {
+        ClassLoader classLoader = plugin.pluginClassLoader();
+        this.messageSerializers.values()
+                .removeIf(serializer -> serializer.getClass().getClassLoader() == classLoader);
+    }
 }
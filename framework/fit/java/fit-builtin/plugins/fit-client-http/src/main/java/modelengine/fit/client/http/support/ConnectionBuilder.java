@@ -24,6 +24,15 @@ public interface ConnectionBuilder {
      */
     String buildUrl(Request request);
 
+    /**
+     * 构建一个访问指定路径的链接。
+     *
+     * @param request 表示请求的 {@link Request}。
+     * @param path 表示访问路径的 {@link String}。
+     * @return 表示构建出来的链接的 {@link String}。
+     */
+    String buildUrl(Request request, String path);
+
     /**
      * 获取构建器的类型。
      *
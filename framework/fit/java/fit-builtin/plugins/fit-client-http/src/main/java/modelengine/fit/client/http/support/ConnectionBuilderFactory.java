@@ -41,4 +41,19 @@ public class ConnectionBuilderFactory {
         ConnectionBuilder connectionBuilder = CONNECTION_BUILDERS.get(protocol);
         return notNull(connectionBuilder, "Not supported protocol. [protocol={0}]", protocol);
     }
+
+    /**
+     * 获取与指定协议安全性一致的 WebSocket 协议的 {@link ConnectionBuilder}。
+     * <p>{@link Protocol#HTTPS} 和 {@link Protocol#SECURE_WEB_SOCKET} 对应安全的 WebSocket 协议，其他协议对应普通的 WebSocket
+     * 协议。</p>
+     *
+     * @param protocol 表示请求协议的 {@link Protocol}。
+     * @return 表示 WebSocket 协议的 {@link ConnectionBuilder}。
+     */
+    public static ConnectionBuilder getWebSocketConnectionBuilder(Protocol protocol) {
+        if (protocol == Protocol.HTTPS || protocol == Protocol.SECURE_WEB_SOCKET) {
+            return getConnectionBuilder(Protocol.SECURE_WEB_SOCKET);
+        }
+        return getConnectionBuilder(Protocol.WEB_SOCKET);
+    }
 }
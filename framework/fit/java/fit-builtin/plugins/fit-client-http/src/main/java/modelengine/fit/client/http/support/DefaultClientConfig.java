@@ -27,6 +27,11 @@ public class DefaultClientConfig implements ClientConfig {
      */
     private DefaultClientSecure secure;
 
+    /**
+     * 配置项：{@code 'multiplex'}。
+     */
+    private boolean multiplex;
+
     @Override
     public Optional<Secure> secure() {
         return Optional.ofNullable(this.secure);
@@ -40,4 +45,18 @@ public class DefaultClientConfig implements ClientConfig {
     public void setSecure(DefaultClientSecure secure) {
         this.secure = secure;
     }
+
+    @Override
+    public boolean multiplex() {
+        return this.multiplex;
+    }
+
+    /**
+     * 设置是否通过多路复用的长连接发送非流式的同步调用。
+     *
+     * @param multiplex 表示是否通过多路复用的长连接发送调用的 {@code boolean}。
+     */
+    public void setMultiplex(boolean multiplex) {
+        this.multiplex = multiplex;
+    }
 }
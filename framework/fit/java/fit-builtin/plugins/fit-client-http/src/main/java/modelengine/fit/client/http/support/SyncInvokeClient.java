@@ -21,6 +21,7 @@ import modelengine.fitframework.inspection.Nonnull;
 import modelengine.fitframework.ioc.BeanContainer;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 表示 {@link InvokeClient} 的同步实现。
@@ -45,6 +46,26 @@ public class SyncInvokeClient extends AbstractInvokeClient {
         }
     }
 
+    @Override
+    public CompletableFuture<Response> requestResponseAsync(@Nonnull Request request) {
+        CompletableFuture<HttpClassicClientResponse<Object>> future;
+        try {
+            HttpClassicClient client = this.buildHttpClient(request);
+            HttpClassicClientRequest clientRequest = this.buildClientRequest(client, request);
+            clientRequest.entity(this.buildHttpEntity(clientRequest, request));
+            future = client.exchangeAsync(clientRequest, request.returnType());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return future.thenApply(clientResponse -> {
+            try (clientResponse) {
+                return HttpClientUtils.getResponse(this.getContainer(), request, clientResponse);
+            } catch (IOException e) {
+                throw new ClientException("Failed to close http classic client.", e);
+            }
+        });
+    }
+
     @Override
     public CommunicationType support() {
         return CommunicationType.SYNC;
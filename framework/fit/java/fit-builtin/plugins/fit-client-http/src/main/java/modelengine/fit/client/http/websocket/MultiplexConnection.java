@@ -0,0 +1,195 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.client.http.websocket;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fit.client.Request;
+import modelengine.fit.client.Response;
+import modelengine.fit.http.client.HttpClassicClient;
+import modelengine.fit.http.websocket.Session;
+import modelengine.fit.http.websocket.client.WebSocketClassicListener;
+import modelengine.fit.serialization.MessageSerializer;
+import modelengine.fit.serialization.http.websocket.RequestMessageContentUtils;
+import modelengine.fit.serialization.http.websocket.ResponseMessageContentUtils;
+import modelengine.fit.serialization.http.websocket.StreamMessageType;
+import modelengine.fit.serialization.http.websocket.WebSocketUtils;
+import modelengine.fitframework.exception.ClientException;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.serialization.ResponseMetadata;
+import modelengine.fitframework.serialization.TagLengthValues;
+import modelengine.fitframework.util.StringUtils;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 表示到一个远端地址的多路复用的 WebSocket 长连接。
+ * <p>连接上的每一个调用都分配一个唯一标识，调用请求发送之后立即返回异步结果，不等待之前的调用完成，调用结果到达时根据唯一标识
+ * 完成对应的异步结果。连接关闭或发生错误之后，所有尚未完成的调用都以 {@link ClientException} 失败，连接不再可用。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+class MultiplexConnection implements WebSocketClassicListener {
+    private static final Logger log = Logger.get(MultiplexConnection.class);
+
+    private final String url;
+    private final Session session;
+    private final AtomicLong idGenerator = new AtomicLong();
+    private final Map<Long, PendingCall> pendingCalls = new ConcurrentHashMap<>();
+    private volatile boolean isClosed;
+
+    /**
+     * 创建一个到指定地址的多路复用连接。
+     *
+     * @param client 表示用于创建 WebSocket 会话的 {@link HttpClassicClient}。
+     * @param url 表示多路复用连接地址的 {@link String}。
+     */
+    MultiplexConnection(HttpClassicClient client, String url) {
+        this.url = notNull(url, "The url cannot be null.");
+        this.session = notNull(client, "The http client cannot be null.").createWebSocketSession(url, this);
+    }
+
+    /**
+     * 判断当前连接是否已经不可用。
+     *
+     * @return 如果当前连接已经关闭或发生错误，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean isClosed() {
+        return this.isClosed;
+    }
+
+    /**
+     * 在当前连接上发送一个调用请求。
+     *
+     * @param request 表示调用请求的 {@link Request}。
+     * @param messageSerializer 表示调用使用的消息序列化器的 {@link MessageSerializer}。
+     * @return 表示调用结果的异步结果的 {@link CompletableFuture}{@code <}{@link Response}{@code >}。
+     */
+    CompletableFuture<Response> send(Request request, MessageSerializer messageSerializer) {
+        long id = this.idGenerator.incrementAndGet();
+        PendingCall call = new PendingCall(request.returnType(), messageSerializer);
+        this.pendingCalls.put(id, call);
+        if (this.isClosed) {
+            this.fail(id, "The multiplexed websocket connection is closed.", null);
+            return call.future;
+        }
+        TagLengthValues content = TagLengthValues.create();
+        RequestMessageContentUtils.setGenericableId(content, request.metadata().genericableId());
+        RequestMessageContentUtils.setFitableId(content, request.metadata().fitableId());
+        RequestMessageContentUtils.setDataFormat(content, request.metadata().dataFormat());
+        RequestMessageContentUtils.setGenericableVersion(content, request.metadata().genericableVersion());
+        RequestMessageContentUtils.setExtensions(content, request.metadata().tagValues());
+        RequestMessageContentUtils.setEntity(content,
+                messageSerializer.serializeRequest(request.dataTypes(), request.data()));
+        TagLengthValues message = TagLengthValues.create();
+        WebSocketUtils.setType(message, StreamMessageType.REQUEST.code());
+        WebSocketUtils.setId(message, id);
+        WebSocketUtils.setContent(message, content.serialize());
+        this.session.send(message.serialize());
+        call.future.whenComplete((response, cause) -> {
+            // 调用超时或被取消时，通知服务端不再返回调用结果。
+            if (cause != null) {
+                this.cancel(id);
+            }
+        });
+        return call.future;
+    }
+
+    private void cancel(long id) {
+        if (this.pendingCalls.remove(id) == null || this.isClosed) {
+            return;
+        }
+        TagLengthValues message = TagLengthValues.create();
+        WebSocketUtils.setType(message, StreamMessageType.CANCEL.code());
+        WebSocketUtils.setId(message, id);
+        this.session.send(message.serialize());
+    }
+
+    @Override
+    public void onOpen(Session session) {}
+
+    @Override
+    public void onMessage(Session session, String message) {}
+
+    @Override
+    public void onMessage(Session session, byte[] message) {
+        TagLengthValues tlvs = TagLengthValues.deserialize(message);
+        if (WebSocketUtils.getType(tlvs) != StreamMessageType.RESPONSE.code()) {
+            log.warn("Cannot handle multiplexed message with unsupported type. [url={}]", this.url);
+            return;
+        }
+        long id = WebSocketUtils.getId(tlvs);
+        PendingCall call = this.pendingCalls.remove(id);
+        if (call == null) {
+            return;
+        }
+        try {
+            call.future.complete(call.toResponse(TagLengthValues.deserialize(WebSocketUtils.getContent(tlvs))));
+        } catch (RuntimeException cause) {
+            call.future.completeExceptionally(cause);
+        }
+    }
+
+    @Override
+    public void onClose(Session session, int code, String reason) {
+        this.close(StringUtils.format("The multiplexed websocket connection was closed. [code={0}, reason={1}]",
+                code,
+                reason), null);
+    }
+
+    @Override
+    public void onError(Session session, Throwable cause) {
+        this.close(StringUtils.format("Error occurred in multiplexed websocket connection. [url={0}]", this.url),
+                cause);
+    }
+
+    private void close(String message, Throwable cause) {
+        this.isClosed = true;
+        for (Long id : this.pendingCalls.keySet()) {
+            this.fail(id, message, cause);
+        }
+    }
+
+    private void fail(long id, String message, Throwable cause) {
+        PendingCall call = this.pendingCalls.remove(id);
+        if (call != null) {
+            call.future.completeExceptionally(new ClientException(message, cause));
+        }
+    }
+
+    private static class PendingCall {
+        private final Type returnType;
+        private final MessageSerializer messageSerializer;
+        private final CompletableFuture<Response> future = new CompletableFuture<>();
+
+        private PendingCall(Type returnType, MessageSerializer messageSerializer) {
+            this.returnType = returnType;
+            this.messageSerializer = messageSerializer;
+        }
+
+        private Response toResponse(TagLengthValues content) {
+            int code = ResponseMessageContentUtils.getCode(content);
+            ResponseMetadata metadata = ResponseMetadata.custom()
+                    .dataFormat(ResponseMessageContentUtils.getDataFormat(content))
+                    .code(code)
+                    .message(ResponseMessageContentUtils.getMessage(content))
+                    .tagValues(ResponseMessageContentUtils.getExtensions(content))
+                    .build();
+            Object data = null;
+            if (code == ResponseMetadata.CODE_OK) {
+                data = this.messageSerializer.deserializeResponse(this.returnType,
+                        ResponseMessageContentUtils.getEntity(content));
+            }
+            return Response.create(metadata, data);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.client.http.websocket;
+
+import static modelengine.fit.serialization.http.Constants.FIT_MULTIPLEX_PATH;
+
+import modelengine.fit.client.Request;
+import modelengine.fit.client.Response;
+import modelengine.fit.client.http.InvokeClient;
+import modelengine.fit.client.http.support.AbstractInvokeClient;
+import modelengine.fit.client.http.support.ConnectionBuilder;
+import modelengine.fit.client.http.support.ConnectionBuilderFactory;
+import modelengine.fit.http.protocol.Protocol;
+import modelengine.fitframework.broker.CommunicationType;
+import modelengine.fitframework.conf.runtime.ClientConfig;
+import modelengine.fitframework.conf.runtime.WorkerConfig;
+import modelengine.fitframework.exception.ClientException;
+import modelengine.fitframework.inspection.Nonnull;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.util.StringUtils;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 表示通过多路复用的 WebSocket 长连接进行同步调用的 {@link InvokeClient}。
+ * <p>到每一个远端地址只建立一个长连接，所有的调用都通过该连接并发地发送，调用不再需要重新建立连接，也不再需要携带 Http 请求头，
+ * 连接断开之后，下一次调用会重新建立连接。调用超时或被取消时，会通知服务端不再返回调用结果。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+public class MultiplexInvokeClient extends AbstractInvokeClient {
+    private final Map<String, MultiplexConnection> connections = new ConcurrentHashMap<>();
+
+    public MultiplexInvokeClient(BeanContainer container, WorkerConfig workerConfig, ClientConfig clientConfig) {
+        super(container, workerConfig, clientConfig);
+    }
+
+    @Override
+    public Response requestResponse(@Nonnull Request request) {
+        try {
+            return this.requestResponseAsync(request).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ClientException(cause);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Response> requestResponseAsync(@Nonnull Request request) {
+        CompletableFuture<Response> future;
+        try {
+            future = this.getConnection(request)
+                    .send(request, this.getMessageSerializer(request.metadata().dataFormat()));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        int timeout = this.getTimeout(request);
+        if (timeout <= 0) {
+            return future;
+        }
+        return future.orTimeout(timeout, TimeUnit.MILLISECONDS).exceptionally(exception -> {
+            Throwable cause = exception instanceof CompletionException && exception.getCause() != null
+                    ? exception.getCause()
+                    : exception;
+            if (cause instanceof TimeoutException) {
+                throw new ClientException(StringUtils.format(
+                        "Timed out waiting for multiplexed response. [genericableId={0}, fitableId={1}, timeout={2}]",
+                        request.metadata().genericableId(),
+                        request.metadata().fitableId(),
+                        timeout), cause);
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ClientException(cause);
+        });
+    }
+
+    private MultiplexConnection getConnection(Request request) {
+        ConnectionBuilder builder =
+                ConnectionBuilderFactory.getWebSocketConnectionBuilder(Protocol.from(request.protocol()));
+        String url = builder.buildUrl(request, FIT_MULTIPLEX_PATH);
+        MultiplexConnection connection = this.connections.get(url);
+        if (connection != null && !connection.isClosed()) {
+            return connection;
+        }
+        return this.connections.compute(url, (key, previous) -> {
+            if (previous != null && !previous.isClosed()) {
+                return previous;
+            }
+            return new MultiplexConnection(this.buildHttpClient(request), key);
+        });
+    }
+
+    @Override
+    public CommunicationType support() {
+        return CommunicationType.SYNC;
+    }
+}
@@ -9,9 +9,11 @@ package modelengine.fit.client.http.async;
 import static modelengine.fit.http.header.HttpHeaderKey.FIT_CODE;
 import static modelengine.fit.http.header.HttpHeaderKey.FIT_TLV;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import modelengine.fit.client.Address;
@@ -20,13 +22,21 @@ import modelengine.fit.client.RequestContext;
 import modelengine.fit.http.client.HttpClassicClient;
 import modelengine.fit.http.client.HttpClassicClientRequest;
 import modelengine.fit.http.client.HttpClassicClientResponse;
+import modelengine.fit.http.exception.AsyncTaskExecutionException;
 import modelengine.fit.http.protocol.ConfigurableMessageHeaders;
 import modelengine.fit.http.protocol.HttpRequestMethod;
 import modelengine.fit.http.protocol.Protocol;
+import modelengine.fit.http.websocket.Session;
+import modelengine.fit.http.websocket.client.WebSocketClassicListener;
 import modelengine.fit.serialization.http.HttpUtils;
+import modelengine.fit.serialization.http.websocket.BatchMessageContentUtils;
+import modelengine.fit.serialization.http.websocket.ResponseMessageContentUtils;
+import modelengine.fit.serialization.http.websocket.StreamMessageType;
+import modelengine.fit.serialization.http.websocket.WebSocketUtils;
 import modelengine.fitframework.broker.CommunicationType;
 import modelengine.fitframework.conf.runtime.SerializationFormat;
 import modelengine.fitframework.conf.runtime.WorkerConfig;
+import modelengine.fitframework.exception.TimeoutException;
 import modelengine.fitframework.ioc.BeanContainer;
 import modelengine.fitframework.serialization.RequestMetadata;
 import modelengine.fitframework.serialization.TagLengthValues;
@@ -34,7 +44,9 @@ import modelengine.fitframework.util.ObjectUtils;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -77,8 +89,76 @@ public class AsyncTaskServerTest {
                         .context(RequestContext.create(1000, TimeUnit.MILLISECONDS, CommunicationType.ASYNC, null))
                         .build(),
                 "instanceId");
-        AsyncTaskResult actual = server.get(taskId);
+        AsyncTaskResult actual = server.get(taskId, Object.class, 1000);
         assertThat(actual).isNotNull();
         assertThat(actual.getResponse().metadata().code()).isEqualTo(200);
     }
+
+    @Test
+    @DisplayName("当服务端推送批量结果时，每一个任务都获取到对应的结果")
+    void shouldGetCorrectResultsWhenPushedInBatch() {
+        WorkerConfig config = mock(WorkerConfig.class);
+        when(config.id()).thenReturn("workerId");
+        when(config.instanceId()).thenReturn("instanceId");
+        HttpClassicClient client = mock(HttpClassicClient.class);
+        Session session = mock(Session.class);
+        ArgumentCaptor<WebSocketClassicListener> listenerCaptor =
+                ArgumentCaptor.forClass(WebSocketClassicListener.class);
+        when(client.createWebSocketSession(anyString(), listenerCaptor.capture())).thenReturn(session);
+        AsyncTaskServer server = new AsyncTaskServer(mock(BeanContainer.class),
+                config,
+                client,
+                Request.custom()
+                        .protocol(Protocol.HTTP.protocol())
+                        .address(Address.create("localhost", 8080))
+                        .metadata(RequestMetadata.custom().dataFormat(SerializationFormat.JSON.code()).build())
+                        .data(new Object[0])
+                        .context(RequestContext.create(1000, TimeUnit.MILLISECONDS, CommunicationType.ASYNC, null))
+                        .build(),
+                "instanceId");
+        verify(session).send(any(byte[].class));
+        TagLengthValues batch = TagLengthValues.create();
+        BatchMessageContentUtils.setContents(batch, List.of(this.failedContent("task1"), this.failedContent("task2")));
+        TagLengthValues message = TagLengthValues.create();
+        WebSocketUtils.setType(message, StreamMessageType.RESPONSE.code());
+        WebSocketUtils.setContent(message, batch.serialize());
+        listenerCaptor.getValue().onMessage(session, message.serialize());
+        assertThat(server.get("task2", Object.class, 1000).getResponse().metadata().message()).isEqualTo("task2");
+        assertThat(server.get("task1", Object.class, 1000).getResponse().metadata().message()).isEqualTo("task1");
+    }
+
+    @Test
+    @DisplayName("当结果在超时时间内没有到达时，返回超时结果")
+    void shouldGetTimeoutResultWhenResultNotArrived() {
+        WorkerConfig config = mock(WorkerConfig.class);
+        when(config.id()).thenReturn("workerId");
+        when(config.instanceId()).thenReturn("instanceId");
+        HttpClassicClient client = mock(HttpClassicClient.class);
+        when(client.createWebSocketSession(anyString(), any())).thenReturn(mock(Session.class));
+        AsyncTaskServer server = new AsyncTaskServer(mock(BeanContainer.class),
+                config,
+                client,
+                Request.custom()
+                        .protocol(Protocol.HTTP.protocol())
+                        .address(Address.create("localhost", 8080))
+                        .metadata(RequestMetadata.custom().dataFormat(SerializationFormat.JSON.code()).build())
+                        .data(new Object[0])
+                        .context(RequestContext.create(1000, TimeUnit.MILLISECONDS, CommunicationType.ASYNC, null))
+                        .build(),
+                "instanceId");
+        AsyncTaskResult actual = server.get("task", Object.class, 10);
+        assertThat(actual.getResponse().metadata().code()).isEqualTo(TimeoutException.CODE);
+    }
+
+    private TagLengthValues failedContent(String taskId) {
+        TagLengthValues extensions = TagLengthValues.create();
+        HttpUtils.setAsyncTaskId(extensions, taskId);
+        TagLengthValues content = TagLengthValues.create();
+        ResponseMessageContentUtils.setDataFormat(content, SerializationFormat.JSON.code());
+        ResponseMessageContentUtils.setCode(content, AsyncTaskExecutionException.CODE);
+        ResponseMessageContentUtils.setMessage(content, taskId);
+        ResponseMessageContentUtils.setExtensions(content, extensions);
+        ResponseMessageContentUtils.setEntity(content, new byte[0]);
+        return content;
+    }
 }
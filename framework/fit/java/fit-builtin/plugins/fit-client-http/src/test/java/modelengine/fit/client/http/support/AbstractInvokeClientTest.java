@@ -0,0 +1,140 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.client.http.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import modelengine.fit.client.Request;
+import modelengine.fit.client.http.HttpsConstants;
+import modelengine.fit.http.client.HttpClassicClient;
+import modelengine.fit.http.client.HttpClassicClientFactory;
+import modelengine.fit.security.Decryptor;
+import modelengine.fit.serialization.MessageSerializer;
+import modelengine.fitframework.conf.runtime.ClientConfig;
+import modelengine.fitframework.conf.runtime.SerializationFormat;
+import modelengine.fitframework.conf.runtime.WorkerConfig;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.ioc.BeanFactory;
+import modelengine.fitframework.plugin.Plugin;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 为 {@link AbstractInvokeClient} 提供单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 AbstractInvokeClient")
+class AbstractInvokeClientTest {
+    private BeanContainer container;
+    private HttpClassicClientFactory factory;
+    private Decryptor decryptor;
+    private AbstractInvokeClient invokeClient;
+
+    @BeforeEach
+    void setup() {
+        this.container = mock(BeanContainer.class, RETURNS_DEEP_STUBS);
+        this.factory = mock(HttpClassicClientFactory.class);
+        when(this.factory.create(any())).thenAnswer(invocation -> mock(HttpClassicClient.class));
+        BeanFactory beanFactory = mock(BeanFactory.class);
+        when(beanFactory.get()).thenReturn(this.factory);
+        when(this.container.all(HttpClassicClientFactory.class)).thenReturn(Collections.singletonList(beanFactory));
+        this.decryptor = mock(Decryptor.class);
+        when(this.decryptor.decrypt(any())).thenAnswer(invocation -> "decrypted");
+        when(this.container.beans().lookup(Decryptor.class)).thenReturn(this.decryptor);
+        ClientConfig.Secure secure = mock(ClientConfig.Secure.class);
+        when(secure.encrypted()).thenReturn(true);
+        when(secure.keyStorePassword()).thenReturn(Optional.of("encrypted"));
+        ClientConfig clientConfig = mock(ClientConfig.class);
+        when(clientConfig.secure()).thenReturn(Optional.of(secure));
+        this.invokeClient = new SyncInvokeClient(this.container, mock(WorkerConfig.class), clientConfig);
+    }
+
+    @Test
+    @DisplayName("相同超时时间的 Http 客户端只构建一次，且密码只解密一次")
+    void shouldBuildHttpClientOnceForSameTimeout() {
+        HttpClassicClient first = this.invokeClient.buildHttpClient(this.request(1000));
+        HttpClassicClient second = this.invokeClient.buildHttpClient(this.request(1000));
+        assertThat(second).isSameAs(first);
+        verify(this.factory, times(1)).create(any());
+        verify(this.decryptor, times(1)).decrypt(any());
+    }
+
+    @Test
+    @DisplayName("不同超时时间的 Http 客户端分别构建，但共享解密后的安全配置")
+    void shouldShareSecureConfigForDifferentTimeouts() {
+        HttpClassicClient first = this.invokeClient.buildHttpClient(this.request(1000));
+        HttpClassicClient second = this.invokeClient.buildHttpClient(this.request(2000));
+        assertThat(second).isNotSameAs(first);
+        ArgumentCaptor<HttpClassicClientFactory.Config> captor =
+                ArgumentCaptor.forClass(HttpClassicClientFactory.Config.class);
+        verify(this.factory, times(2)).create(captor.capture());
+        assertThat(captor.getAllValues()).extracting(HttpClassicClientFactory.Config::socketTimeout)
+                .containsExactly(1000, 2000);
+        assertThat(captor.getValue().custom()).containsEntry(HttpsConstants.CLIENT_SECURE_KEY_STORE_PASSWORD,
+                "decrypted");
+        verify(this.decryptor, times(1)).decrypt(any());
+    }
+
+    @Test
+    @DisplayName("Http 客户端的缓存数量超过上限时清空缓存")
+    void shouldClearHttpClientsWhenCacheIsFull() {
+        HttpClassicClient first = this.invokeClient.buildHttpClient(this.request(0));
+        for (int timeout = 1; timeout < 64; timeout++) {
+            this.invokeClient.buildHttpClient(this.request(timeout));
+        }
+        assertThat(this.invokeClient.buildHttpClient(this.request(0))).isSameAs(first);
+        this.invokeClient.buildHttpClient(this.request(64));
+        assertThat(this.invokeClient.buildHttpClient(this.request(0))).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("消息序列化器所在的插件停止时，移除缓存的消息序列化器")
+    void shouldEvictMessageSerializerWhenPluginStopping() {
+        MessageSerializer serializer = mock(MessageSerializer.class);
+        when(serializer.getFormat()).thenReturn(SerializationFormat.JSON.code());
+        BeanFactory serializerFactory = mock(BeanFactory.class);
+        when(serializerFactory.get()).thenReturn(serializer);
+        when(this.container.all(MessageSerializer.class)).thenReturn(Collections.singletonList(serializerFactory));
+        assertThat(this.invokeClient.getMessageSerializer(SerializationFormat.JSON.code())).isSameAs(serializer);
+
+        Plugin other = mock(Plugin.class);
+        when(other.pluginClassLoader()).thenReturn(new URLClassLoader(new URL[0]));
+        this.invokeClient.onPluginStopping(other);
+        this.invokeClient.getMessageSerializer(SerializationFormat.JSON.code());
+        verify(this.container, times(1)).all(MessageSerializer.class);
+
+        Plugin owner = mock(Plugin.class);
+        when(owner.pluginClassLoader()).thenReturn(serializer.getClass().getClassLoader());
+        this.invokeClient.onPluginStopping(owner);
+        this.invokeClient.getMessageSerializer(SerializationFormat.JSON.code());
+        verify(this.container, times(2)).all(MessageSerializer.class);
+    }
+
+    private Request request(long timeout) {
+        Request request = mock(Request.class, RETURNS_DEEP_STUBS);
+        when(request.context().timeout()).thenReturn(timeout);
+        when(request.context().timeoutUnit()).thenReturn(TimeUnit.MILLISECONDS);
+        return request;
+    }
+}
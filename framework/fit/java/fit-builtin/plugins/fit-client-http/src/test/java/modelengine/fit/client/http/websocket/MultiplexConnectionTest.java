@@ -0,0 +1,142 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.client.http.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import modelengine.fit.client.Request;
+import modelengine.fit.client.Response;
+import modelengine.fit.http.client.HttpClassicClient;
+import modelengine.fit.http.websocket.Session;
+import modelengine.fit.serialization.MessageSerializer;
+import modelengine.fit.serialization.http.websocket.ResponseMessageContentUtils;
+import modelengine.fit.serialization.http.websocket.StreamMessageType;
+import modelengine.fit.serialization.http.websocket.WebSocketUtils;
+import modelengine.fitframework.exception.ClientException;
+import modelengine.fitframework.serialization.RequestMetadata;
+import modelengine.fitframework.serialization.ResponseMetadata;
+import modelengine.fitframework.serialization.TagLengthValues;
+import modelengine.fitframework.serialization.Version;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 为 {@link MultiplexConnection} 提供单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 MultiplexConnection")
+class MultiplexConnectionTest {
+    private Session session;
+    private MessageSerializer serializer;
+    private MultiplexConnection connection;
+
+    @BeforeEach
+    void setup() {
+        this.session = mock(Session.class);
+        HttpClassicClient client = mock(HttpClassicClient.class);
+        when(client.createWebSocketSession(any(), any())).thenReturn(this.session);
+        this.serializer = mock(MessageSerializer.class);
+        when(this.serializer.serializeRequest(any(), any())).thenReturn(new byte[0]);
+        this.connection = new MultiplexConnection(client, "ws://localhost:8080/fit/multiplex");
+    }
+
+    @Test
+    @DisplayName("调用结果按照唯一标识完成对应的调用，与返回的先后顺序无关")
+    void shouldCompleteCallsById() {
+        when(this.serializer.deserializeResponse(any(), eq(new byte[] {1}))).thenReturn("first");
+        when(this.serializer.deserializeResponse(any(), eq(new byte[] {2}))).thenReturn("second");
+        CompletableFuture<Response> first = this.connection.send(this.request(), this.serializer);
+        CompletableFuture<Response> second = this.connection.send(this.request(), this.serializer);
+        List<Long> ids = this.sentIds(2);
+        this.connection.onMessage(this.session, this.response(ids.get(1), new byte[] {2}));
+        assertThat(first).isNotDone();
+        this.connection.onMessage(this.session, this.response(ids.get(0), new byte[] {1}));
+        assertThat(first.join().data()).isEqualTo("first");
+        assertThat(second.join().data()).isEqualTo("second");
+    }
+
+    @Test
+    @DisplayName("调用失败时，通知服务端取消该调用")
+    void shouldSendCancelWhenCallFailed() {
+        CompletableFuture<Response> future = this.connection.send(this.request(), this.serializer);
+        long id = this.sentIds(1).get(0);
+        future.completeExceptionally(new IllegalStateException("timeout"));
+        List<byte[]> messages = this.sentMessages(2);
+        TagLengthValues cancel = TagLengthValues.deserialize(messages.get(1));
+        assertThat(WebSocketUtils.getType(cancel)).isEqualTo(StreamMessageType.CANCEL.code());
+        assertThat(WebSocketUtils.getId(cancel)).isEqualTo(id);
+    }
+
+    @Test
+    @DisplayName("连接关闭时，所有尚未完成的调用都失败，且连接不再可用")
+    void shouldFailPendingCallsWhenClosed() {
+        CompletableFuture<Response> future = this.connection.send(this.request(), this.serializer);
+        this.connection.onClose(this.session, 1006, "abnormal");
+        assertThat(this.connection.isClosed()).isTrue();
+        assertThat(future).isCompletedExceptionally();
+        CompletionException exception = catchThrowableOfType(CompletionException.class, future::join);
+        assertThat(exception).hasCauseInstanceOf(ClientException.class);
+    }
+
+    private Request request() {
+        Request request = mock(Request.class);
+        RequestMetadata metadata = RequestMetadata.custom()
+                .dataFormat(0)
+                .genericableId("g")
+                .genericableVersion(Version.builder("1.0.0").build())
+                .fitableId("f")
+                .fitableVersion(Version.builder("1.0.0").build())
+                .tagValues(TagLengthValues.create())
+                .build();
+        when(request.metadata()).thenReturn(metadata);
+        when(request.returnType()).thenReturn(String.class);
+        return request;
+    }
+
+    private byte[] response(long id, byte[] entity) {
+        TagLengthValues content = TagLengthValues.create();
+        ResponseMessageContentUtils.setDataFormat(content, 0);
+        ResponseMessageContentUtils.setCode(content, ResponseMetadata.CODE_OK);
+        ResponseMessageContentUtils.setMessage(content, "OK");
+        ResponseMessageContentUtils.setExtensions(content, TagLengthValues.create());
+        ResponseMessageContentUtils.setEntity(content, entity);
+        TagLengthValues message = TagLengthValues.create();
+        WebSocketUtils.setType(message, StreamMessageType.RESPONSE.code());
+        WebSocketUtils.setId(message, id);
+        WebSocketUtils.setContent(message, content.serialize());
+        return message.serialize();
+    }
+
+    private List<Long> sentIds(int count) {
+        return this.sentMessages(count)
+                .stream()
+                .map(message -> WebSocketUtils.getId(TagLengthValues.deserialize(message)))
+                .toList();
+    }
+
+    private List<byte[]> sentMessages(int count) {
+        ArgumentCaptor<byte[]> captor = ArgumentCaptor.forClass(byte[].class);
+        verify(this.session, times(count)).send(captor.capture());
+        return captor.getAllValues();
+    }
+}
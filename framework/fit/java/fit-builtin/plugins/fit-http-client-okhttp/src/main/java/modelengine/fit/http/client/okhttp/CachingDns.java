@@ -0,0 +1,58 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.client.okhttp;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import okhttp3.Dns;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 表示在指定时长内缓存解析结果的 {@link Dns}。
+ * <p>只有解析成功的结果会被缓存，解析失败时每次都会重新解析。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+class CachingDns implements Dns {
+    private static final int MAX_CACHED_HOSTS = 1024;
+
+    private final Dns delegate;
+    private final Cache<String, List<InetAddress>> cache;
+
+    /**
+     * 创建一个缓存解析结果的 {@link Dns}。
+     *
+     * @param delegate 表示实际执行解析的 {@link Dns}。
+     * @param ttl 表示解析结果的缓存时长的毫秒数的 {@code long}。
+     */
+    CachingDns(Dns delegate, long ttl) {
+        this.delegate = notNull(delegate, "The delegate dns cannot be null.");
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED_HOSTS)
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .build();
+    }
+
+    @Override
+    public List<InetAddress> lookup(String hostname) throws UnknownHostException {
+        List<InetAddress> addresses = this.cache.getIfPresent(hostname);
+        if (addresses != null) {
+            return addresses;
+        }
+        addresses = List.copyOf(this.delegate.lookup(hostname));
+        this.cache.put(hostname, addresses);
+        return addresses;
+    }
+}
@@ -0,0 +1,139 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.client.okhttp;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import modelengine.fitframework.util.StringUtils;
+import okhttp3.CacheControl;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+
+/**
+ * 表示位于磁盘缓存之前的内存响应缓存。
+ * <p>内存缓存只保存按照 {@code Cache-Control: max-age} 计算尚未过期、且消息体长度已知并且不超过限制的 {@code GET} 响应，命中时
+ * 直接在内存中构造响应，不再访问磁盘缓存和网络。响应过期之后，请求会继续交给磁盘缓存，由磁盘缓存携带 {@code ETag} 和
+ * {@code Last-Modified} 向服务端重新验证。</p>
+ * <p>内存缓存只以地址作为键，因此携带 {@code Authorization} 或 {@code Cookie} 请求头、请求方指定了缓存控制、或响应包含
+ * {@code Vary} 或 {@code Set-Cookie} 的请求不经过内存缓存，避免把与调用方身份相关的响应返回给其他调用方。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+class MemoryResponseCache implements Interceptor {
+    private static final String GET = "GET";
+    private static final int HTTP_OK = 200;
+    private static final long MILLIS_PER_SECOND = 1000L;
+
+    private final Cache<String, Entry> cache;
+    private final int maxEntrySize;
+
+    /**
+     * 创建一个内存响应缓存。
+     *
+     * @param maxSize 表示内存缓存允许占用的最大字节数的 {@code long}。
+     * @param maxEntrySize 表示单个响应的消息体允许的最大字节数的 {@code int}。
+     */
+    MemoryResponseCache(long maxSize, int maxEntrySize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize)
+                .<String, Entry>weigher((key, entry) -> key.length() + entry.body.length)
+                .build();
+        this.maxEntrySize = maxEntrySize;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        if (!isCacheable(request)) {
+            return chain.proceed(request);
+        }
+        String key = request.url().toString();
+        Entry entry = this.cache.getIfPresent(key);
+        if (entry != null) {
+            if (entry.expiresAt > System.currentTimeMillis()) {
+                return entry.toResponse(request);
+            }
+            this.cache.asMap().remove(key, entry);
+        }
+        return this.store(key, chain.proceed(request));
+    }
+
+    private static boolean isCacheable(Request request) {
+        if (!GET.equals(request.method()) || request.header("Authorization") != null
+                || request.header("Cookie") != null) {
+            return false;
+        }
+        CacheControl cacheControl = request.cacheControl();
+        return !cacheControl.noCache() && !cacheControl.noStore() && cacheControl.maxAgeSeconds() < 0
+                && cacheControl.minFreshSeconds() < 0 && !cacheControl.onlyIfCached();
+    }
+
+    private Response store(String key, Response response) throws IOException {
+        CacheControl cacheControl = response.cacheControl();
+        ResponseBody body = response.body();
+        if (response.code() != HTTP_OK || cacheControl.noStore() || cacheControl.noCache()
+                || cacheControl.maxAgeSeconds() <= 0 || response.header("Vary") != null
+                || response.header("Set-Cookie") != null || body == null
+                || body.contentLength() < 0 || body.contentLength() > this.maxEntrySize) {
+            return response;
+        }
+        byte[] bytes = body.bytes();
+        MediaType contentType = body.contentType();
+        long expiresAt = response.receivedResponseAtMillis() + cacheControl.maxAgeSeconds() * MILLIS_PER_SECOND
+                - getAgeSeconds(response) * MILLIS_PER_SECOND;
+        if (expiresAt > System.currentTimeMillis()) {
+            Response template = response.newBuilder()
+                    .body(null)
+                    .networkResponse(null)
+                    .cacheResponse(null)
+                    .priorResponse(null)
+                    .build();
+            this.cache.put(key, new Entry(template, bytes, contentType, expiresAt));
+        }
+        return response.newBuilder().body(ResponseBody.create(bytes, contentType)).build();
+    }
+
+    private static long getAgeSeconds(Response response) {
+        String age = response.header("Age");
+        if (StringUtils.isBlank(age)) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Long.parseLong(age.trim()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static class Entry {
+        private final Response template;
+        private final byte[] body;
+        private final MediaType contentType;
+        private final long expiresAt;
+
+        private Entry(Response template, byte[] body, MediaType contentType, long expiresAt) {
+            this.template = template;
+            this.body = body;
+            this.contentType = contentType;
+            this.expiresAt = expiresAt;
+        }
+
+        private Response toResponse(Request request) {
+            return this.template.newBuilder()
+                    .request(request)
+                    .body(ResponseBody.create(this.body, this.contentType))
+                    .build();
+        }
+    }
+}
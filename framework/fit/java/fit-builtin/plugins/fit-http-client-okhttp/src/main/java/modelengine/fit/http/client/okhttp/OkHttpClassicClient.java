@@ -53,7 +53,7 @@ public class OkHttpClassicClient extends AbstractHttpClassicClient {
 
     @Override
     public Session createWebSocketSession(String url, WebSocketClassicListener listener) {
-        return new OkHttpWebSocketSession(this, url, listener);
+        return new OkHttpWebSocketSession(this, url, listener, this.okHttpClient);
     }
 
     @Override
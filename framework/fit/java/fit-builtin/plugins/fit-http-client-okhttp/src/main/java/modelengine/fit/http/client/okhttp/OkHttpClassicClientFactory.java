@@ -16,17 +16,31 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import modelengine.fit.http.Serializers;
 import modelengine.fit.http.client.HttpClassicClient;
 import modelengine.fit.http.client.HttpClassicClientFactory;
+import modelengine.fit.http.client.okhttp.support.DefaultOkHttpConnectionPoolConfig;
+import modelengine.fit.http.client.okhttp.support.DefaultOkHttpResponseCacheConfig;
 import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.annotation.Fit;
 import modelengine.fitframework.annotation.Order;
 import modelengine.fitframework.annotation.Value;
 import modelengine.fitframework.serialization.ObjectSerializer;
+import modelengine.fitframework.util.StringUtils;
 import modelengine.fitframework.value.ValueFetcher;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.Dns;
 import okhttp3.OkHttpClient;
 
+import java.io.File;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 表示 {@link HttpClassicClientFactory} 的 OkHttp 实现。
+ * <p>不同配置创建的客户端都派生自同一个基础客户端，共享同一个连接池、调度器和域名解析器，因此配置的差异不会产生新的连接池，
+ * 客户端缓存淘汰时也不会遗留无人管理的连接和线程。</p>
+ * <p>调度器的并发上限 {@link OkHttpConnectionPoolConfig#getMaxRequestsPerHost()} 只约束异步请求，同步请求直接在调用线程上执行，
+ * 不经过调度器的排队，因此不受其限制。</p>
+ * <p>开启响应缓存时，内存和磁盘两级响应缓存同样挂载在基础客户端上，由所有客户端共享，详见 {@link OkHttpResponseCacheConfig}。</p>
  *
  * @author 杭潇
  * @since 2024-04-08
@@ -36,15 +50,77 @@ import java.util.Map;
 public class OkHttpClassicClientFactory implements HttpClassicClientFactory {
     private final Serializers serializers;
     private final ValueFetcher valueFetcher;
+    private final OkHttpClient baseClient;
     private final Cache<Config, OkHttpClient> okHttpClientCache;
 
+    /**
+     * 使用默认的连接池配置创建 {@link OkHttpClassicClientFactory} 的新实例，不开启响应缓存。
+     *
+     * @param serializers 表示序列化器集合的 {@link Map}。
+     * @param valueFetcher 表示值获取器的 {@link ValueFetcher}。
+     * @param cacheSize 表示客户端缓存的最大数量的 {@code long}。
+     */
     public OkHttpClassicClientFactory(Map<String, ObjectSerializer> serializers, ValueFetcher valueFetcher,
-            @Value("${okhttp.config-client.cache.max-size}") long cacheSize) {
+            long cacheSize) {
+        this(serializers, valueFetcher, cacheSize, new DefaultOkHttpConnectionPoolConfig());
+    }
+
+    /**
+     * 使用指定的连接池配置创建 {@link OkHttpClassicClientFactory} 的新实例，不开启响应缓存。
+     *
+     * @param serializers 表示序列化器集合的 {@link Map}。
+     * @param valueFetcher 表示值获取器的 {@link ValueFetcher}。
+     * @param cacheSize 表示客户端缓存的最大数量的 {@code long}。
+     * @param poolConfig 表示连接池配置的 {@link OkHttpConnectionPoolConfig}。
+     */
+    public OkHttpClassicClientFactory(Map<String, ObjectSerializer> serializers, ValueFetcher valueFetcher,
+            long cacheSize, OkHttpConnectionPoolConfig poolConfig) {
+        this(serializers, valueFetcher, cacheSize, poolConfig, new DefaultOkHttpResponseCacheConfig());
+    }
+
+    @Fit
+    public OkHttpClassicClientFactory(Map<String, ObjectSerializer> serializers, ValueFetcher valueFetcher,
+            @Value("${okhttp.config-client.cache.max-size}") long cacheSize, OkHttpConnectionPoolConfig poolConfig,
+            OkHttpResponseCacheConfig responseCacheConfig) {
         this.serializers = Serializers.create(serializers);
         this.valueFetcher = notNull(valueFetcher, "The value fetcher cannot be null.");
+        this.baseClient = createBaseClient(notNull(poolConfig, "The connection pool config cannot be null."),
+                notNull(responseCacheConfig, "The response cache config cannot be null."));
         this.okHttpClientCache = Caffeine.newBuilder().maximumSize(cacheSize).build();
     }
 
+    /**
+     * 创建所有客户端共享的基础客户端。
+     *
+     * @param poolConfig 表示连接池配置的 {@link OkHttpConnectionPoolConfig}。
+     * @param responseCacheConfig 表示响应缓存配置的 {@link OkHttpResponseCacheConfig}。
+     * @return 表示基础客户端的 {@link OkHttpClient}。
+     */
+    static OkHttpClient createBaseClient(OkHttpConnectionPoolConfig poolConfig,
+            OkHttpResponseCacheConfig responseCacheConfig) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(poolConfig.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(poolConfig.getMaxRequestsPerHost());
+        ConnectionPool connectionPool = new ConnectionPool(poolConfig.getMaxIdleConnections(),
+                poolConfig.getKeepAliveDuration(),
+                TimeUnit.MILLISECONDS);
+        Dns dns = Dns.SYSTEM;
+        if (poolConfig.getDnsCacheTtl() > 0) {
+            dns = new CachingDns(Dns.SYSTEM, poolConfig.getDnsCacheTtl());
+        }
+        OkHttpClient.Builder builder =
+                new OkHttpClient.Builder().dispatcher(dispatcher).connectionPool(connectionPool).dns(dns);
+        if (responseCacheConfig.getMaxMemorySize() > 0) {
+            builder.addInterceptor(new MemoryResponseCache(responseCacheConfig.getMaxMemorySize(),
+                    responseCacheConfig.getMaxMemoryEntrySize()));
+        }
+        if (StringUtils.isNotBlank(responseCacheConfig.getDirectory())) {
+            builder.cache(new okhttp3.Cache(new File(responseCacheConfig.getDirectory()),
+                    responseCacheConfig.getMaxDiskSize()));
+        }
+        return builder.build();
+    }
+
     @Override
     public HttpClassicClient create() {
         return this.create(Config.builder().build());
@@ -53,8 +129,44 @@ public class OkHttpClassicClientFactory implements HttpClassicClientFactory {
     @Override
     public HttpClassicClient create(Config config) {
         Config actualConfig = getIfNull(config, () -> HttpClassicClientFactory.Config.builder().build());
-        OkHttpClient okHttpClient =
-                this.okHttpClientCache.get(actualConfig, tempConfig -> getOkHttpClientBuilder(tempConfig).build());
+        OkHttpClient okHttpClient = this.okHttpClientCache.get(actualConfig,
+                tempConfig -> getOkHttpClientBuilder(this.baseClient, tempConfig).build());
         return new OkHttpClassicClient(this.serializers, this.valueFetcher, okHttpClient);
     }
+
+    /**
+     * 获取共享连接池中的连接总数。
+     *
+     * @return 表示共享连接池中的连接总数的 {@code int}。
+     */
+    public int connectionCount() {
+        return this.baseClient.connectionPool().connectionCount();
+    }
+
+    /**
+     * 获取共享连接池中的空闲连接数。
+     *
+     * @return 表示共享连接池中的空闲连接数的 {@code int}。
+     */
+    public int idleConnectionCount() {
+        return this.baseClient.connectionPool().idleConnectionCount();
+    }
+
+    /**
+     * 获取正在执行的异步请求数。
+     *
+     * @return 表示正在执行的异步请求数的 {@code int}。
+     */
+    public int runningCallsCount() {
+        return this.baseClient.dispatcher().runningCallsCount();
+    }
+
+    /**
+     * 获取由于超过并发限制而正在排队的异步请求数。
+     *
+     * @return 表示正在排队的异步请求数的 {@code int}。
+     */
+    public int queuedCallsCount() {
+        return this.baseClient.dispatcher().queuedCallsCount();
+    }
 }
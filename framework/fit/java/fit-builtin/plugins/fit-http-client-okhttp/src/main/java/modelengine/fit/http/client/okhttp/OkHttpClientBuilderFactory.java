@@ -45,7 +45,25 @@ public class OkHttpClientBuilderFactory {
      * @return 表示工厂创建实例的 {@link OkHttpClient.Builder}。
      */
     public static OkHttpClient.Builder getOkHttpClientBuilder(HttpClassicClientFactory.Config config) {
-        OkHttpClient.Builder clientBuilder = new OkHttpClient.Builder();
+        return configure(new OkHttpClient.Builder(), config);
+    }
+
+    /**
+     * 根据配置获取基于指定客户端的 {@link OkHttpClient.Builder}。
+     * <p>通过该方法创建的客户端与 {@code baseClient} 共享连接池、调度器和域名解析器，仅超时时间和安全配置不同。连接池在复用连接时会
+     * 比较目标地址的安全配置，因此不同安全配置的客户端之间不会错误地复用连接。</p>
+     *
+     * @param baseClient 表示提供共享资源的基础客户端的 {@link OkHttpClient}。
+     * @param config 表示配置的 {@link HttpClassicClientFactory.Config}。
+     * @return 表示工厂创建实例的 {@link OkHttpClient.Builder}。
+     */
+    public static OkHttpClient.Builder getOkHttpClientBuilder(OkHttpClient baseClient,
+            HttpClassicClientFactory.Config config) {
+        return configure(baseClient.newBuilder(), config);
+    }
+
+    private static OkHttpClient.Builder configure(OkHttpClient.Builder clientBuilder,
+            HttpClassicClientFactory.Config config) {
         setTimeout(clientBuilder, config);
         try {
             setSslConfig(clientBuilder, config);
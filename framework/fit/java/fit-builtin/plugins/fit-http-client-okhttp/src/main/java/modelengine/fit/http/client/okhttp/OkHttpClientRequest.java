@@ -16,19 +16,39 @@ import modelengine.fit.http.protocol.HttpVersion;
 import modelengine.fit.http.protocol.RequestLine;
 import modelengine.fit.http.protocol.WritableMessageBody;
 import modelengine.fit.http.protocol.support.ClientRequestBody;
+import modelengine.fitframework.inspection.Nonnull;
 import modelengine.fitframework.model.MultiValueMap;
+import modelengine.fitframework.util.StringUtils;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
+import okio.BufferedSink;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 表示 {@link ClientRequest} 的使用 OkHttp 实现。
+ * <p>写入的消息体数据会被追加到缓冲区中，直到 {@link #readResponse()} 时才生成一次 {@link RequestBody}，发送时直接从缓冲区写出，
+ * 不会产生额外的复制。通过 {@link #writeBody(InputStream, long)} 写入的消息体则不会被缓冲，在发送请求时才从输入流中读取，
+ * 长度已知时按照指定长度发送，长度未知时采用分块传输编码发送。</p>
+ * <p>通过 {@link #writeBody(Path)} 写入的文件同样不会被缓冲，发送请求时才打开文件，通过 {@link FileChannel#transferTo(long, long,
+ * java.nio.channels.WritableByteChannel)} 直接写入 OkHttp 的输出缓冲区，内存的占用与文件的大小无关。文件可以与字节数据交替写入，
+ * 例如 {@code 'multipart/form-data'} 格式的消息体，此时消息体按照写入的顺序依次发送。</p>
+ * <p>{@link #readResponseAsync()} 通过 OkHttp 的异步调用发送请求，等待响应期间不占用调用线程。</p>
  *
  * @author 杭潇
  * @since 2024-04-09
@@ -41,7 +61,9 @@ public class OkHttpClientRequest implements ClientRequest {
     private boolean isClosed;
     private final OkHttpClient okHttpClient;
     private final okhttp3.Request.Builder requestBuilder;
-    private final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    private final List<RequestBody> segments = new ArrayList<>();
+    private ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    private RequestBody streamingBody;
 
     /**
      * 表示 {@link OkHttpClientRequest} 类的构造方法。
@@ -83,20 +105,60 @@ public class OkHttpClientRequest implements ClientRequest {
 
     @Override
     public void writeBody(int b) throws IOException {
-        this.checkIfClosed();
+        this.checkIfWritable();
         this.stream.write(b);
-        this.updateRequestBody();
     }
 
     @Override
     public void writeBody(byte[] bytes, int off, int len) throws IOException {
-        this.checkIfClosed();
+        this.checkIfWritable();
         this.stream.write(bytes, off, len);
-        this.updateRequestBody();
     }
 
-    private void updateRequestBody() {
-        this.requestBuilder.method(this.method.name(), RequestBody.create(this.stream.toByteArray(), null));
+    @Override
+    public void writeBody(InputStream in, long length) throws IOException {
+        notNull(in, "The input stream to write cannot be null.");
+        this.checkIfWritable();
+        if (this.stream.size() > 0 || !this.segments.isEmpty()) {
+            throw new IllegalStateException("The body has already been written by bytes.");
+        }
+        this.streamingBody = new StreamingRequestBody(in, length);
+    }
+
+    @Override
+    public void writeBody(Path file) throws IOException {
+        notNull(file, "The file to write cannot be null.");
+        this.checkIfWritable();
+        this.closeSegment();
+        this.segments.add(new FileRequestBody(file, Files.size(file)));
+    }
+
+    private void closeSegment() {
+        if (this.stream.size() > 0) {
+            this.segments.add(new BufferedRequestBody(this.stream));
+            this.stream = new ByteArrayOutputStream();
+        }
+    }
+
+    private void checkIfWritable() throws IOException {
+        this.checkIfClosed();
+        if (this.streamingBody != null) {
+            throw new IllegalStateException("The body has already been written by stream.");
+        }
+    }
+
+    private RequestBody requestBody() {
+        if (this.streamingBody != null) {
+            return this.streamingBody;
+        }
+        if (!this.segments.isEmpty()) {
+            this.closeSegment();
+            return this.segments.size() == 1 ? this.segments.get(0) : new CompositeRequestBody(this.segments);
+        }
+        if (this.stream.size() > 0) {
+            return new BufferedRequestBody(this.stream);
+        }
+        return null;
     }
 
     @Override
@@ -105,7 +167,46 @@ public class OkHttpClientRequest implements ClientRequest {
     @Override
     public ClientResponse readResponse() throws IOException {
         this.checkIfClosed();
-        Response response = this.okHttpClient.newCall(this.requestBuilder.build()).execute();
+        Response response = this.newCall().execute();
+        return toClientResponse(response);
+    }
+
+    @Override
+    public CompletableFuture<ClientResponse> readResponseAsync() {
+        try {
+            this.checkIfClosed();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<ClientResponse> future = new CompletableFuture<>();
+        this.newCall().enqueue(new Callback() {
+            @Override
+            public void onFailure(@Nonnull Call call, @Nonnull IOException cause) {
+                future.completeExceptionally(cause);
+            }
+
+            @Override
+            public void onResponse(@Nonnull Call call, @Nonnull Response response) {
+                try {
+                    future.complete(toClientResponse(response));
+                } catch (RuntimeException e) {
+                    response.close();
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+        return future;
+    }
+
+    private Call newCall() {
+        RequestBody requestBody = this.requestBody();
+        if (requestBody != null) {
+            this.requestBuilder.method(this.method.name(), requestBody);
+        }
+        return this.okHttpClient.newCall(this.requestBuilder.build());
+    }
+
+    private static ClientResponse toClientResponse(Response response) {
         notNull(response.body(), () -> new IllegalStateException("The response body cannot be null."));
         return ClientResponse.create(response.code(),
                 response.message(),
@@ -133,4 +234,141 @@ public class OkHttpClientRequest implements ClientRequest {
         this.isClosed = true;
         this.body.close();
     }
-}
\ No newline at end of file
+
+    /**
+     * 表示直接从缓冲区写出数据的 {@link RequestBody}。
+     */
+    private static class BufferedRequestBody extends RequestBody {
+        private final ByteArrayOutputStream stream;
+
+        private BufferedRequestBody(ByteArrayOutputStream stream) {
+            this.stream = stream;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return null;
+        }
+
+        @Override
+        public long contentLength() {
+            return this.stream.size();
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            this.stream.writeTo(sink.outputStream());
+        }
+    }
+
+    /**
+     * 表示在发送时才从输入流中读取数据的 {@link RequestBody}。
+     * <p>输入流只能被读取一次，因此该消息体不支持重试时的重复发送。</p>
+     */
+    private static class StreamingRequestBody extends RequestBody {
+        private static final int BUFFER_SIZE = 8192;
+
+        private final InputStream in;
+        private final long length;
+
+        private StreamingRequestBody(InputStream in, long length) {
+            this.in = in;
+            this.length = length < 0 ? -1 : length;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return null;
+        }
+
+        @Override
+        public long contentLength() {
+            return this.length;
+        }
+
+        @Override
+        public boolean isOneShot() {
+            return true;
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            byte[] bytes = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = this.in.read(bytes)) > -1) {
+                sink.write(bytes, 0, read);
+            }
+        }
+    }
+
+    /**
+     * 表示在发送时才通过文件通道读取文件的 {@link RequestBody}。
+     * <p>每次发送都会重新打开文件，因此该消息体支持重试时的重复发送。</p>
+     */
+    private static class FileRequestBody extends RequestBody {
+        private final Path file;
+        private final long length;
+
+        private FileRequestBody(Path file, long length) {
+            this.file = file;
+            this.length = length;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return null;
+        }
+
+        @Override
+        public long contentLength() {
+            return this.length;
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            try (FileChannel channel = FileChannel.open(this.file, StandardOpenOption.READ)) {
+                long position = 0;
+                while (position < this.length) {
+                    long transferred = channel.transferTo(position, this.length - position, sink);
+                    if (transferred <= 0) {
+                        throw new IOException(StringUtils.format("The file is truncated while sending. [file={0}]",
+                                this.file));
+                    }
+                    position += transferred;
+                }
+            }
+        }
+    }
+
+    /**
+     * 表示按照写入顺序依次发送多个消息体片段的 {@link RequestBody}。
+     */
+    private static class CompositeRequestBody extends RequestBody {
+        private final List<RequestBody> segments;
+
+        private CompositeRequestBody(List<RequestBody> segments) {
+            this.segments = segments;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return null;
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+            long length = 0;
+            for (RequestBody segment : this.segments) {
+                length += segment.contentLength();
+            }
+            return length;
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            for (RequestBody segment : this.segments) {
+                segment.writeTo(sink);
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.client.okhttp;
+
+/**
+ * 表示 {@link OkHttpClassicClientFactory} 所创建的所有客户端共享的连接池配置。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+public interface OkHttpConnectionPoolConfig {
+    /**
+     * 获取连接池中允许保留的最大空闲连接数。
+     *
+     * @return 表示连接池中允许保留的最大空闲连接数的 {@code int}。
+     */
+    int getMaxIdleConnections();
+
+    /**
+     * 获取空闲连接的保活时长。
+     *
+     * @return 表示空闲连接的保活时长的毫秒数的 {@code long}。
+     */
+    long getKeepAliveDuration();
+
+    /**
+     * 获取允许同时执行的最大异步请求数。
+     *
+     * @return 表示允许同时执行的最大异步请求数的 {@code int}。
+     */
+    int getMaxRequests();
+
+    /**
+     * 获取每个主机允许同时执行的最大异步请求数。
+     * <p>该限制由调度器实施，只约束异步请求，同步请求不受其限制。</p>
+     *
+     * @return 表示每个主机允许同时执行的最大异步请求数的 {@code int}。
+     */
+    int getMaxRequestsPerHost();
+
+    /**
+     * 获取域名解析结果的缓存时长。
+     *
+     * <p>默认不缓存，即每次都使用系统的域名解析，需要显式配置正数才会开启缓存。</p>
+     *
+     * @return 表示域名解析结果的缓存时长的毫秒数的 {@code long}，非正数表示不缓存。
+     */
+    long getDnsCacheTtl();
+}
@@ -0,0 +1,45 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.client.okhttp;
+
+/**
+ * 表示 {@link OkHttpClassicClientFactory} 所创建的所有客户端共享的响应缓存配置。
+ * <p>响应缓存分为内存和磁盘两级，两级缓存都遵循响应的 {@code Cache-Control} 语义。磁盘缓存在过期后会携带 {@code ETag} 和
+ * {@code Last-Modified} 向服务端重新验证，内存缓存只保存尚未过期的小响应，用于避免热点资源的磁盘读取。两级缓存默认都不开启。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+public interface OkHttpResponseCacheConfig {
+    /**
+     * 获取磁盘缓存的目录。
+     *
+     * @return 表示磁盘缓存的目录的 {@link String}，为空白字符串时表示不开启磁盘缓存。
+     */
+    String getDirectory();
+
+    /**
+     * 获取磁盘缓存允许占用的最大字节数。
+     *
+     * @return 表示磁盘缓存允许占用的最大字节数的 {@code long}。
+     */
+    long getMaxDiskSize();
+
+    /**
+     * 获取内存缓存允许占用的最大字节数。
+     *
+     * @return 表示内存缓存允许占用的最大字节数的 {@code long}，非正数表示不开启内存缓存。
+     */
+    long getMaxMemorySize();
+
+    /**
+     * 获取内存缓存中单个响应的消息体允许的最大字节数。
+     *
+     * @return 表示内存缓存中单个响应的消息体允许的最大字节数的 {@code int}。
+     */
+    int getMaxMemoryEntrySize();
+}
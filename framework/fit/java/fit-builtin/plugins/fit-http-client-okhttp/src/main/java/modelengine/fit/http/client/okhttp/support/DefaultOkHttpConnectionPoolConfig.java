@@ -0,0 +1,116 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.client.okhttp.support;
+
+import modelengine.fit.http.client.okhttp.OkHttpConnectionPoolConfig;
+import modelengine.fitframework.annotation.AcceptConfigValues;
+import modelengine.fitframework.annotation.Component;
+
+/**
+ * {@link OkHttpConnectionPoolConfig} 的默认实现。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@Component
+@AcceptConfigValues("okhttp.connection-pool")
+public class DefaultOkHttpConnectionPoolConfig implements OkHttpConnectionPoolConfig {
+    /**
+     * 配置项：{@code 'max-idle-connections'}。
+     */
+    private int maxIdleConnections = 64;
+
+    /**
+     * 配置项：{@code 'keep-alive-duration'}。
+     */
+    private long keepAliveDuration = 300_000L;
+
+    /**
+     * 配置项：{@code 'max-requests'}。
+     */
+    private int maxRequests = 256;
+
+    /**
+     * 配置项：{@code 'max-requests-per-host'}。
+     */
+    private int maxRequestsPerHost = 64;
+
+    /**
+     * 配置项：{@code 'dns-cache-ttl'}。
+     */
+    private long dnsCacheTtl = 0L;
+
+    @Override
+    public int getMaxIdleConnections() {
+        return this.maxIdleConnections;
+    }
+
+    /**
+     * 设置连接池中允许保留的最大空闲连接数。
+     *
+     * @param maxIdleConnections 表示连接池中允许保留的最大空闲连接数的 {@code int}。
+     */
+    public void setMaxIdleConnections(int maxIdleConnections) {
+        this.maxIdleConnections = maxIdleConnections;
+    }
+
+    @Override
+    public long getKeepAliveDuration() {
+        return this.keepAliveDuration;
+    }
+
+    /**
+     * 设置空闲连接的保活时长。
+     *
+     * @param keepAliveDuration 表示空闲连接的保活时长的毫秒数的 {@code long}。
+     */
+    public void setKeepAliveDuration(long keepAliveDuration) {
+        this.keepAliveDuration = keepAliveDuration;
+    }
+
+    @Override
+    public int getMaxRequests() {
+        return this.maxRequests;
+    }
+
+    /**
+     * 设置允许同时执行的最大异步请求数。
+     *
+     * @param maxRequests 表示允许同时执行的最大异步请求数的 {@code int}。
+     */
+    public void setMaxRequests(int maxRequests) {
+        this.maxRequests = maxRequests;
+    }
+
+    @Override
+    public int getMaxRequestsPerHost() {
+        return this.maxRequestsPerHost;
+    }
+
+    /**
+     * 设置每个主机允许同时执行的最大异步请求数。
+     *
+     * @param maxRequestsPerHost 表示每个主机允许同时执行的最大异步请求数的 {@code int}。
+     */
+    public void setMaxRequestsPerHost(int maxRequestsPerHost) {
+        this.maxRequestsPerHost = maxRequestsPerHost;
+    }
+
+    @Override
+    public long getDnsCacheTtl() {
+        return this.dnsCacheTtl;
+    }
+
+    /**
+     * 设置域名解析结果的缓存时长。
+     *
+     * @param dnsCacheTtl 表示域名解析结果的缓存时长的毫秒数的 {@code long}，非正数表示不缓存。
+     */
+    public void setDnsCacheTtl(long dnsCacheTtl) {
+        this.dnsCacheTtl = dnsCacheTtl;
+    }
+}
@@ -0,0 +1,98 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.client.okhttp.support;
+
+import modelengine.fit.http.client.okhttp.OkHttpResponseCacheConfig;
+import modelengine.fitframework.annotation.AcceptConfigValues;
+import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.util.StringUtils;
+
+/**
+ * {@link OkHttpResponseCacheConfig} 的默认实现。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@Component
+@AcceptConfigValues("okhttp.response-cache")
+public class DefaultOkHttpResponseCacheConfig implements OkHttpResponseCacheConfig {
+    /**
+     * 配置项：{@code 'directory'}。
+     */
+    private String directory = StringUtils.EMPTY;
+
+    /**
+     * 配置项：{@code 'max-disk-size'}。
+     */
+    private long maxDiskSize = 64L * 1024 * 1024;
+
+    /**
+     * 配置项：{@code 'max-memory-size'}。
+     */
+    private long maxMemorySize;
+
+    /**
+     * 配置项：{@code 'max-memory-entry-size'}。
+     */
+    private int maxMemoryEntrySize = 64 * 1024;
+
+    @Override
+    public String getDirectory() {
+        return this.directory;
+    }
+
+    /**
+     * 设置磁盘缓存的目录。
+     *
+     * @param directory 表示磁盘缓存的目录的 {@link String}。
+     */
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public long getMaxDiskSize() {
+        return this.maxDiskSize;
+    }
+
+    /**
+     * 设置磁盘缓存允许占用的最大字节数。
+     *
+     * @param maxDiskSize 表示磁盘缓存允许占用的最大字节数的 {@code long}。
+     */
+    public void setMaxDiskSize(long maxDiskSize) {
+        this.maxDiskSize = maxDiskSize;
+    }
+
+    @Override
+    public long getMaxMemorySize() {
+        return this.maxMemorySize;
+    }
+
+    /**
+     * 设置内存缓存允许占用的最大字节数。
+     *
+     * @param maxMemorySize 表示内存缓存允许占用的最大字节数的 {@code long}。
+     */
+    public void setMaxMemorySize(long maxMemorySize) {
+        this.maxMemorySize = maxMemorySize;
+    }
+
+    @Override
+    public int getMaxMemoryEntrySize() {
+        return this.maxMemoryEntrySize;
+    }
+
+    /**
+     * 设置内存缓存中单个响应的消息体允许的最大字节数。
+     *
+     * @param maxMemoryEntrySize 表示内存缓存中单个响应的消息体允许的最大字节数的 {@code int}。
+     */
+    public void setMaxMemoryEntrySize(int maxMemoryEntrySize) {
+        this.maxMemoryEntrySize = maxMemoryEntrySize;
+    }
+}
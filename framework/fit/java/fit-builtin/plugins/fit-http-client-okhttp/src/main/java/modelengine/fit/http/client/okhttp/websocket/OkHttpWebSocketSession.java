@@ -39,7 +39,21 @@ public class OkHttpWebSocketSession extends AbstractSession {
      * @param listener 表示 WebSocket 的监听器的 {@link WebSocketClassicListener}。
      */
     public OkHttpWebSocketSession(HttpResource httpResource, String url, WebSocketClassicListener listener) {
-        OkHttpClient okHttpClient = new OkHttpClient();
+        this(httpResource, url, listener, new OkHttpClient());
+    }
+
+    /**
+     * 通过 Http 的资源、访问 WebSocket 的地址、WebSocket 的监听器和底层使用的 OkHttp 客户端来初始化
+     * {@link OkHttpWebSocketSession} 的新实例。
+     *
+     * @param httpResource 表示 Http 的资源的 {@link HttpResource}。
+     * @param url 表示访问 WebSocket 的地址的 {@link String}。
+     * @param listener 表示 WebSocket 的监听器的 {@link WebSocketClassicListener}。
+     * @param okHttpClient 表示底层使用的 OkHttp 客户端的 {@link OkHttpClient}。
+     */
+    public OkHttpWebSocketSession(HttpResource httpResource, String url, WebSocketClassicListener listener,
+            OkHttpClient okHttpClient) {
+        notNull(okHttpClient, "The okhttp client cannot be null.");
         Request request = new Request.Builder().url(url).build();
         WebSocketListener actualListener =
                 new WebSocketListenerAdapter(notNull(httpResource, "The http resource cannot be null."),
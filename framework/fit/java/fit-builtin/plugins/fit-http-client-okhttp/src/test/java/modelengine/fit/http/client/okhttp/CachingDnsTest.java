@@ -0,0 +1,60 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.client.okhttp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import okhttp3.Dns;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 为 {@link CachingDns} 提供单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 CachingDns")
+class CachingDnsTest {
+    @Test
+    @DisplayName("缓存有效期内重复解析同一个域名，只实际解析一次")
+    void shouldLookupOnceWithinTtl() throws UnknownHostException {
+        AtomicInteger counter = new AtomicInteger();
+        InetAddress address = InetAddress.getLoopbackAddress();
+        Dns dns = new CachingDns(hostname -> {
+            counter.incrementAndGet();
+            return Collections.singletonList(address);
+        }, 60_000L);
+        List<InetAddress> first = dns.lookup("localhost");
+        List<InetAddress> second = dns.lookup("localhost");
+        assertThat(first).containsExactly(address);
+        assertThat(second).containsExactly(address);
+        assertThat(counter.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("解析失败的结果不会被缓存")
+    void shouldNotCacheFailure() {
+        AtomicInteger counter = new AtomicInteger();
+        Dns dns = new CachingDns(hostname -> {
+            counter.incrementAndGet();
+            throw new UnknownHostException(hostname);
+        }, 60_000L);
+        UnknownHostException exception = catchThrowableOfType(UnknownHostException.class, () -> dns.lookup("a"));
+        assertThat(exception).hasMessage("a");
+        catchThrowableOfType(UnknownHostException.class, () -> dns.lookup("a"));
+        assertThat(counter.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,136 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.client.okhttp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import modelengine.fit.http.client.okhttp.support.DefaultOkHttpConnectionPoolConfig;
+import modelengine.fit.http.client.okhttp.support.DefaultOkHttpResponseCacheConfig;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 为 {@link OkHttpClassicClientFactory} 提供单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 OkHttpClassicClientFactory")
+class OkHttpClassicClientFactoryTest {
+    private static final String ETAG = "\"v1\"";
+
+    @TempDir
+    Path cacheDirectory;
+
+    private HttpServer server;
+    private final AtomicInteger hits = new AtomicInteger();
+    private final List<String> ifNoneMatches = new CopyOnWriteArrayList<>();
+    private OkHttpClient client;
+
+    @BeforeEach
+    void setup() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/fresh", exchange -> this.respond(exchange, "max-age=60"));
+        this.server.createContext("/validate", exchange -> {
+            String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            if (ETAG.equals(ifNoneMatch)) {
+                this.ifNoneMatches.add(ifNoneMatch);
+                this.hits.incrementAndGet();
+                exchange.getResponseHeaders().add("ETag", ETAG);
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            this.respond(exchange, "no-cache");
+        });
+        this.server.start();
+        DefaultOkHttpResponseCacheConfig cacheConfig = new DefaultOkHttpResponseCacheConfig();
+        cacheConfig.setDirectory(this.cacheDirectory.toString());
+        cacheConfig.setMaxMemorySize(1024 * 1024);
+        this.client = OkHttpClassicClientFactory.createBaseClient(new DefaultOkHttpConnectionPoolConfig(), cacheConfig);
+    }
+
+    @AfterEach
+    void teardown() throws IOException {
+        this.server.stop(0);
+        this.client.cache().close();
+    }
+
+    @Test
+    @DisplayName("未过期的响应直接从缓存中获取，不再访问服务端")
+    void shouldServeFreshResponseFromCache() throws IOException {
+        assertThat(this.get("/fresh")).isEqualTo("content");
+        assertThat(this.get("/fresh")).isEqualTo("content");
+        assertThat(this.hits.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("需要验证的响应携带 ETag 向服务端重新验证，验证通过时使用缓存的消息体")
+    void shouldRevalidateWithEtag() throws IOException {
+        assertThat(this.get("/validate")).isEqualTo("content");
+        assertThat(this.get("/validate")).isEqualTo("content");
+        assertThat(this.hits.get()).isEqualTo(2);
+        assertThat(this.ifNoneMatches).containsExactly(ETAG);
+    }
+
+    @Test
+    @DisplayName("携带 Cookie 的请求不经过内存缓存")
+    void shouldBypassMemoryCacheWhenRequestCarriesCookie() throws IOException {
+        DefaultOkHttpResponseCacheConfig cacheConfig = new DefaultOkHttpResponseCacheConfig();
+        cacheConfig.setMaxMemorySize(1024 * 1024);
+        OkHttpClient memoryClient =
+                OkHttpClassicClientFactory.createBaseClient(new DefaultOkHttpConnectionPoolConfig(), cacheConfig);
+        assertThat(this.get(memoryClient, "/fresh", "session=a")).isEqualTo("content");
+        assertThat(this.get(memoryClient, "/fresh", "session=b")).isEqualTo("content");
+        assertThat(this.hits.get()).isEqualTo(2);
+    }
+
+    private void respond(HttpExchange exchange, String cacheControl) throws IOException {
+        this.hits.incrementAndGet();
+        byte[] body = "content".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Cache-Control", cacheControl);
+        exchange.getResponseHeaders().add("ETag", ETAG);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private String get(String path) throws IOException {
+        return this.get(this.client, path, null);
+    }
+
+    private String get(OkHttpClient okHttpClient, String path, String cookie) throws IOException {
+        Request.Builder builder =
+                new Request.Builder().url("http://127.0.0.1:" + this.server.getAddress().getPort() + path);
+        if (cookie != null) {
+            builder.header("Cookie", cookie);
+        }
+        try (Response response = okHttpClient.newCall(builder.build()).execute()) {
+            return response.body().string();
+        }
+    }
+}
@@ -34,4 +34,17 @@ class OkHttpClientBuilderFactoryTest {
         OkHttpClient.Builder okHttpClientBuilder = OkHttpClientBuilderFactory.getOkHttpClientBuilder(build);
         assertThat(okHttpClientBuilder).isNotNull();
     }
-}
\ No newline at end of file
+
+    @DisplayName("基于基础客户端创建的 OkHttpClient 与基础客户端共享连接池和调度器")
+    @Test
+    void givenBaseClientThenShareConnectionPoolAndDispatcher() {
+        OkHttpClient baseClient = new OkHttpClient();
+        HttpClassicClientFactory.Config config =
+                HttpClassicClientFactory.Config.builder().connectTimeout(1000).socketTimeout(2000).build();
+        OkHttpClient okHttpClient = OkHttpClientBuilderFactory.getOkHttpClientBuilder(baseClient, config).build();
+        assertThat(okHttpClient.connectionPool()).isSameAs(baseClient.connectionPool());
+        assertThat(okHttpClient.dispatcher()).isSameAs(baseClient.dispatcher());
+        assertThat(okHttpClient.connectTimeoutMillis()).isEqualTo(1000);
+        assertThat(okHttpClient.readTimeoutMillis()).isEqualTo(2000);
+    }
+}
@@ -0,0 +1,141 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.client.okhttp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import modelengine.fit.http.protocol.ClientResponse;
+import modelengine.fit.http.protocol.HttpRequestMethod;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 为 {@link OkHttpClientRequest} 提供单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 OkHttpClientRequest")
+class OkHttpClientRequestTest {
+    private OkHttpClient okHttpClient;
+    private RequestBody sentBody;
+    private String sentContent;
+
+    @BeforeEach
+    void setup() {
+        this.okHttpClient = new OkHttpClient.Builder().addInterceptor(chain -> {
+            Request request = chain.request();
+            this.sentBody = request.body();
+            if (this.sentBody != null) {
+                Buffer buffer = new Buffer();
+                this.sentBody.writeTo(buffer);
+                this.sentContent = buffer.readUtf8();
+            }
+            return new Response.Builder().request(request)
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(200)
+                    .message("OK")
+                    .body(ResponseBody.create(new byte[0], null))
+                    .build();
+        }).build();
+    }
+
+    @Test
+    @DisplayName("多次写入的消息体在发送时一次性生成")
+    void shouldSendAllChunksWrittenByBytes() throws IOException {
+        OkHttpClientRequest request =
+                new OkHttpClientRequest(HttpRequestMethod.POST, "http://localhost/test", this.okHttpClient);
+        request.writeStartLineAndHeaders();
+        for (int i = 0; i < 100; i++) {
+            request.writeBody(("chunk" + i + ";").getBytes(StandardCharsets.UTF_8));
+        }
+        request.readResponse();
+        assertThat(this.sentBody.contentLength()).isEqualTo(this.sentContent.length());
+        assertThat(this.sentContent).startsWith("chunk0;chunk1;").endsWith("chunk99;");
+    }
+
+    @Test
+    @DisplayName("以流的形式写入已知长度的消息体，发送时按照指定长度读取")
+    void shouldSendStreamWithKnownLength() throws IOException {
+        OkHttpClientRequest request =
+                new OkHttpClientRequest(HttpRequestMethod.POST, "http://localhost/test", this.okHttpClient);
+        request.writeStartLineAndHeaders();
+        request.writeBody(new ByteArrayInputStream("Content".getBytes(StandardCharsets.UTF_8)), 7);
+        request.readResponse();
+        assertThat(this.sentBody.contentLength()).isEqualTo(7);
+        assertThat(this.sentBody.isOneShot()).isTrue();
+        assertThat(this.sentContent).isEqualTo("Content");
+    }
+
+    @Test
+    @DisplayName("以流的形式写入未知长度的消息体，发送时采用分块传输编码")
+    void shouldSendStreamWithUnknownLength() throws IOException {
+        OkHttpClientRequest request =
+                new OkHttpClientRequest(HttpRequestMethod.POST, "http://localhost/test", this.okHttpClient);
+        request.writeStartLineAndHeaders();
+        request.writeBody(new ByteArrayInputStream("Content".getBytes(StandardCharsets.UTF_8)), -1);
+        request.readResponse();
+        assertThat(this.sentBody.contentLength()).isEqualTo(-1);
+        assertThat(this.sentContent).isEqualTo("Content");
+    }
+
+    @Test
+    @DisplayName("文件与字节数据交替写入时，按照写入顺序发送，且消息体可以重复发送")
+    void shouldSendFileAndBytesInOrder(@TempDir Path tempDir) throws IOException {
+        Path file = Files.writeString(tempDir.resolve("upload.bin"), "FileContent");
+        OkHttpClientRequest request =
+                new OkHttpClientRequest(HttpRequestMethod.POST, "http://localhost/test", this.okHttpClient);
+        request.writeStartLineAndHeaders();
+        request.writeBody("head;".getBytes(StandardCharsets.UTF_8));
+        request.writeBody(file);
+        request.writeBody(";tail".getBytes(StandardCharsets.UTF_8));
+        request.readResponse();
+        assertThat(this.sentBody.contentLength()).isEqualTo(21);
+        assertThat(this.sentBody.isOneShot()).isFalse();
+        assertThat(this.sentContent).isEqualTo("head;FileContent;tail");
+    }
+
+    @Test
+    @DisplayName("异步读取响应时，在响应到达后完成异步结果")
+    void shouldCompleteFutureWhenReadingResponseAsync() throws IOException {
+        OkHttpClientRequest request =
+                new OkHttpClientRequest(HttpRequestMethod.POST, "http://localhost/test", this.okHttpClient);
+        request.writeStartLineAndHeaders();
+        request.writeBody("Content".getBytes(StandardCharsets.UTF_8));
+        ClientResponse response = request.readResponseAsync().join();
+        assertThat(response.startLine().statusCode()).isEqualTo(200);
+        assertThat(this.sentContent).isEqualTo("Content");
+    }
+
+    @Test
+    @DisplayName("以流的形式写入消息体后，不能再以字节的形式写入")
+    void shouldNotMixStreamAndBytes() throws IOException {
+        OkHttpClientRequest request =
+                new OkHttpClientRequest(HttpRequestMethod.POST, "http://localhost/test", this.okHttpClient);
+        request.writeBody(new ByteArrayInputStream(new byte[0]), 0);
+        IllegalStateException exception =
+                catchThrowableOfType(IllegalStateException.class, () -> request.writeBody(new byte[1]));
+        assertThat(exception).hasMessage("The body has already been written by stream.");
+    }
+}
@@ -25,6 +25,7 @@ import modelengine.fit.http.server.HttpServerResponseException;
 import modelengine.fit.http.server.handler.comparator.ClassComparator;
 import modelengine.fitframework.flowable.Choir;
 import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.plugin.Plugin;
 import modelengine.fitframework.serialization.ObjectSerializer;
 import modelengine.fitframework.util.ObjectUtils;
 
@@ -49,6 +50,7 @@ public class DefaultReflectibleHttpHandler extends AbstractReflectibleHttpHandle
             new ConcurrentSkipListMap<>(ClassComparator.INSTANCE);
     private EntitySerializer<ObjectEntity<Object>> customJsonEntitySerializer;
     private ObjectSerializer customJsonSerializer;
+    private Plugin plugin;
 
     public DefaultReflectibleHttpHandler(StaticInfo staticInfo, ExecutionInfo executionInfo) {
         super(staticInfo, executionInfo);
@@ -87,9 +89,22 @@ public class DefaultReflectibleHttpHandler extends AbstractReflectibleHttpHandle
         }
     }
 
+    /**
+     * 设置当前处理器所属的插件。
+     * <p>处理请求之前，如果所属的插件尚未激活，则先激活插件。</p>
+     *
+     * @param plugin 表示当前处理器所属插件的 {@link Plugin}。
+     */
+    public void setPlugin(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
     @Override
     public void handle(HttpClassicServerRequest request, HttpClassicServerResponse response)
             throws DoHttpHandlerException {
+        if (this.plugin != null && !this.plugin.activated()) {
+            this.activatePlugin();
+        }
         request.customEntitySerializer(MimeType.APPLICATION_JSON, this.customJsonEntitySerializer);
         request.customJsonSerializer(this.customJsonSerializer);
         response.customEntitySerializer(MimeType.APPLICATION_JSON, this.customJsonEntitySerializer);
@@ -97,6 +112,17 @@ public class DefaultReflectibleHttpHandler extends AbstractReflectibleHttpHandle
         super.handle(request, response);
     }
 
+    private void activatePlugin() {
+        // 激活插件时创建的 Bean 可能依赖线程上下文类加载器，因此与调用服务实现时一样使用插件的类加载器。
+        ClassLoader currentClassLoader = Thread.currentThread().getContextClassLoader();
+        try {
+            Thread.currentThread().setContextClassLoader(this.plugin.pluginClassLoader());
+            this.plugin.activate();
+        } finally {
+            Thread.currentThread().setContextClassLoader(currentClassLoader);
+        }
+    }
+
     @Override
     protected void handleResult(HttpClassicServerRequest request, HttpClassicServerResponse response, Object[] args,
             Object result) {
@@ -104,7 +104,8 @@ public class ReflectibleHttpHandlerRegistry extends AbstractHandlerResolver
         ObjectSerializer jsonSerializer = this.getCustomJsonSerializer(plugin);
         List<HttpMethodNameResolver> methodNameResolvers = this.getHttpMethodNameResolvers(plugin.container());
         for (HttpHandlerGroup group : groups) {
-            this.registerHttpHandlerGroup(group,
+            this.registerHttpHandlerGroup(plugin,
+                    group,
                     globalExceptionHandlers,
                     pluginExceptionHandlers,
                     jsonSerializer,
@@ -120,7 +121,7 @@ public class ReflectibleHttpHandlerRegistry extends AbstractHandlerResolver
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
-    private void registerHttpHandlerGroup(HttpHandlerGroup group,
+    private void registerHttpHandlerGroup(Plugin plugin, HttpHandlerGroup group,
             Map<Class<Throwable>, Map<String, HttpExceptionHandler>> globalExceptionHandlers,
             Map<Class<Throwable>, HttpExceptionHandler> pluginExceptionHandlers, ObjectSerializer jsonSerializer,
             List<HttpMethodNameResolver> methodNameResolvers) {
@@ -132,6 +133,7 @@ public class ReflectibleHttpHandlerRegistry extends AbstractHandlerResolver
                     actualHandler.setGlobalExceptionHandler(globalExceptionHandlers);
                     actualHandler.addPluginExceptionHandler(pluginExceptionHandlers);
                     actualHandler.addCustomJsonSerializer(jsonSerializer);
+                    actualHandler.setPlugin(plugin);
                 }
                 List<String> methodNames = methodNameResolvers.stream()
                         .map(resolver -> resolver.resolve(method))
@@ -7,26 +7,36 @@
 package modelengine.fit.server.http.support;
 
 import static modelengine.fit.serialization.http.Constants.FIT_ASYNC_LONG_POLLING_DURATION_MILLIS;
+import static modelengine.fitframework.inspection.Validation.notNull;
 
 import modelengine.fit.http.exception.AsyncTaskExecutionException;
 import modelengine.fit.http.exception.AsyncTaskNotFoundException;
 import modelengine.fit.serialization.http.HttpUtils;
 import modelengine.fitframework.broker.server.Response;
 import modelengine.fitframework.log.Logger;
-import modelengine.fitframework.util.ObjectUtils;
+import modelengine.fitframework.serialization.ResponseMetadata;
 import modelengine.fitframework.util.StringUtils;
 
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 /**
  * 表示 FIT 异步任务提交者。
+ * <p>任务完成时会被放入已完成队列，长轮询直接从队列中获取已完成的任务，不需要遍历所有未完成的任务。当存在推送订阅者时，已完成的
+ * 任务会被立即推送给订阅者，同一时刻完成的多个任务会合并为一批推送。订阅者需要自行将无法推送的单个结果转换为错误响应，只有
+ * 连接不可用时才推送失败。推送失败时，这一批任务会重新放回已完成队列并保留在任务记录中，同时移除推送失败的订阅者，任务结果
+ * 留待下一个订阅者或者长轮询获取。</p>
  *
  * @author 王成
  * @since 2023-11-17
@@ -36,12 +46,18 @@ public class AsyncTaskCreator {
 
     private final String workerInstanceId;
     private final Map<String, CompletableFuture<Response>> store;
-    private final Semaphore taskSemaphore;
+    private final BlockingQueue<CompletedTask> completedTasks;
+    private final AtomicReference<Consumer<List<Response>>> subscriber;
+    private final AtomicBoolean isFlushing;
+    private volatile long lastAccessedTime;
 
     public AsyncTaskCreator(String workerInstanceId) {
         this.workerInstanceId = workerInstanceId;
         this.store = new ConcurrentHashMap<>();
-        this.taskSemaphore = new Semaphore(0);
+        this.completedTasks = new LinkedBlockingQueue<>();
+        this.subscriber = new AtomicReference<>();
+        this.isFlushing = new AtomicBoolean();
+        this.lastAccessedTime = System.currentTimeMillis();
     }
 
     /**
@@ -63,6 +79,22 @@ public class AsyncTaskCreator {
         return this.workerInstanceId;
     }
 
+    /**
+     * 记录当前提交者被访问的时间。
+     */
+    void markAccessed() {
+        this.lastAccessedTime = System.currentTimeMillis();
+    }
+
+    /**
+     * 获取当前提交者最后一次被访问的时间。
+     *
+     * @return 表示最后一次被访问的时间的毫秒数的 {@code long}。
+     */
+    long getLastAccessedTime() {
+        return this.lastAccessedTime;
+    }
+
     /**
      * 将任务查询句柄加入对应请求者实例的记录。
      *
@@ -71,18 +103,13 @@ public class AsyncTaskCreator {
      */
     void addTask(String taskId, CompletableFuture<Response> responseFuture) {
         // 异步任务唯一标识重复时，输出告警日志并覆盖已有任务。
-        if (this.store.containsKey(taskId)) {
+        if (this.store.put(taskId, responseFuture) != null) {
             log.warn("Duplicated task id found. [workerInstanceId={}, taskId={}]", this.workerInstanceId, taskId);
         }
-        this.taskSemaphore.release();
-        this.store.put(taskId, responseFuture);
-    }
-
-    /**
-     * 任务完成时释放信号量，解除长轮询线程的阻塞。
-     */
-    void notifyCompletion() {
-        this.taskSemaphore.release();
+        responseFuture.whenComplete((response, cause) -> {
+            this.completedTasks.offer(new CompletedTask(taskId, responseFuture));
+            this.flush();
+        });
     }
 
     /**
@@ -93,35 +120,123 @@ public class AsyncTaskCreator {
      * @throws AsyncTaskExecutionException 当指定的异步任务执行过程中发生异常时。
      */
     Optional<Response> longPolling() {
-        long durationMillis = FIT_ASYNC_LONG_POLLING_DURATION_MILLIS;
-        long curMillis = System.currentTimeMillis();
-        while (System.currentTimeMillis() - curMillis <= durationMillis) {
-            Collection<CompletableFuture<Response>> allTasks = this.store.values();
-            if (allTasks.isEmpty()) {
-                throw new AsyncTaskNotFoundException(StringUtils.format(
-                        "Async task not found for current worker. [workerInstanceId={0}]",
-                        this.workerInstanceId));
+        if (this.store.isEmpty()) {
+            throw new AsyncTaskNotFoundException(StringUtils.format(
+                    "Async task not found for current worker. [workerInstanceId={0}]",
+                    this.workerInstanceId));
+        }
+        try {
+            CompletedTask task =
+                    this.completedTasks.poll(FIT_ASYNC_LONG_POLLING_DURATION_MILLIS, TimeUnit.MILLISECONDS);
+            if (task == null) {
+                // 本次长轮询结束但没有任务完成，返回空结果。
+                return Optional.empty();
             }
+            this.store.remove(task.taskId);
+            return Optional.of(task.getResponse());
+        } catch (InterruptedException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 订阅当前提交者的所有异步任务结果。
+     * <p>订阅之后，已经完成但尚未被获取的任务结果会被立即推送，之后每一批完成的任务结果都会在完成时推送。同一时刻只有一个订阅者，新的
+     * 订阅者会替换旧的订阅者。</p>
+     *
+     * @param subscriber 表示接收批量任务结果的订阅者的 {@link Consumer}{@code <}{@link List}{@code <}{@link Response}{@code >>}。
+     */
+    void subscribe(Consumer<List<Response>> subscriber) {
+        this.subscriber.set(notNull(subscriber, "The subscriber cannot be null."));
+        this.flush();
+    }
+
+    /**
+     * 取消指定订阅者的订阅。
+     *
+     * @param subscriber 表示需要取消订阅的订阅者的 {@link Consumer}{@code <}{@link List}{@code <}{@link Response}{@code >>}。
+     */
+    void unsubscribe(Consumer<List<Response>> subscriber) {
+        this.subscriber.compareAndSet(subscriber, null);
+    }
+
+    /**
+     * 判断当前提交者是否存在推送订阅者。
+     *
+     * @return 如果存在推送订阅者，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean hasSubscriber() {
+        return this.subscriber.get() != null;
+    }
+
+    private void flush() {
+        // 只有一个线程负责推送，其他线程完成的任务会被该线程在同一批中一起推送。
+        while (!this.completedTasks.isEmpty() && this.hasSubscriber() && this.isFlushing.compareAndSet(false, true)) {
             try {
-                // taskSemaphore 会在新任务抵达或者已有任务完成时被释放，解除阻塞。
-                this.taskSemaphore.tryAcquire(durationMillis, TimeUnit.MILLISECONDS);
-                // 由于数组的协变性，toArray 后会失去类型信息，但强制类型转换是必定成功的。
-                // 使用非阻塞查询 API。
-                Response response = ObjectUtils.cast(CompletableFuture.anyOf(allTasks.toArray(new CompletableFuture[0]))
-                        .getNow(null));
-                if (response != null) {
-                    // 清除已经结束的任务结果。
-                    this.store.remove(HttpUtils.getAsyncTaskId(response.metadata().tagValues()));
-                    return Optional.of(response);
+                Consumer<List<Response>> current = this.subscriber.get();
+                if (current == null) {
+                    return;
                 }
-            } catch (InterruptedException e) {
-                return Optional.empty();
+                List<CompletedTask> tasks = new ArrayList<>();
+                this.completedTasks.drainTo(tasks);
+                if (!tasks.isEmpty()) {
+                    this.push(current, tasks);
+                }
+            } finally {
+                this.isFlushing.set(false);
+            }
+        }
+    }
+
+    private void push(Consumer<List<Response>> current, List<CompletedTask> tasks) {
+        List<Response> batch = new ArrayList<>(tasks.size());
+        for (CompletedTask task : tasks) {
+            batch.add(task.toResponse());
+        }
+        try {
+            current.accept(batch);
+        } catch (RuntimeException e) {
+            log.warn("Failed to push async task results, keep them for the next subscriber. [workerInstanceId={}]",
+                    this.workerInstanceId,
+                    e);
+            this.subscriber.compareAndSet(current, null);
+            this.completedTasks.addAll(tasks);
+            return;
+        }
+        for (CompletedTask task : tasks) {
+            this.store.remove(task.taskId);
+        }
+    }
+
+    private static class CompletedTask {
+        private final String taskId;
+        private final CompletableFuture<Response> future;
+
+        private CompletedTask(String taskId, CompletableFuture<Response> future) {
+            this.taskId = taskId;
+            this.future = future;
+        }
+
+        private Response getResponse() {
+            try {
+                return this.future.join();
             } catch (CompletionException e) {
                 log.warn("Async task execution failure. [cause={}]", e.getMessage());
                 throw new AsyncTaskExecutionException(e.getCause());
             }
         }
-        // 本次长轮询结束但没有任务完成，返回空结果。
-        return Optional.empty();
+
+        private Response toResponse() {
+            try {
+                return this.getResponse();
+            } catch (AsyncTaskExecutionException e) {
+                Response response = Response.create(ResponseMetadata.custom()
+                        .code(AsyncTaskExecutionException.CODE)
+                        .message(e.getMessage())
+                        .build());
+                HttpUtils.setAsyncTaskId(response.metadata().tagValues(), this.taskId);
+                return response;
+            }
+        }
     }
 }
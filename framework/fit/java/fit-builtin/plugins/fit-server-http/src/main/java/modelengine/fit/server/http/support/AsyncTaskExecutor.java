@@ -20,11 +20,9 @@ import modelengine.fitframework.serialization.ResponseMetadata;
 import modelengine.fitframework.serialization.tlv.TlvUtils;
 import modelengine.fitframework.util.StringUtils;
 
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -32,6 +30,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
@@ -49,12 +48,10 @@ public class AsyncTaskExecutor {
     private static final int FIT_MAX_ASYNC_TASK_NUM = 1000;
 
     private final ConcurrentHashMap<String, AsyncTaskCreator> creators;
-    private final HashMap<String, Long> accessedTimes;
     private final ExecutorService asyncTaskExecutorService;
 
     private AsyncTaskExecutor() {
         this.creators = new ConcurrentHashMap<>();
-        this.accessedTimes = new HashMap<>();
         this.asyncTaskExecutorService = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors() + 1,
                 Runtime.getRuntime().availableProcessors() * 2,
                 60,
@@ -83,7 +80,6 @@ public class AsyncTaskExecutor {
             AsyncTaskCreator curCreator = this.getOrCreateAsyncTaskCreator(workerId, workerInstanceId);
             CompletableFuture<Response> responseFuture =
                     CompletableFuture.supplyAsync(task, this.asyncTaskExecutorService);
-            responseFuture.thenRun(curCreator::notifyCompletion);
             curCreator.addTask(asyncTaskId, responseFuture);
             return ResponseMetadata.CODE_OK;
         } catch (RejectedExecutionException e) {
@@ -105,58 +101,80 @@ public class AsyncTaskExecutor {
         return this.getAsyncTaskCreator(sourceWorkerId, sourceWorkerInstanceId).longPolling();
     }
 
+    /**
+     * 订阅指定请求来源方的所有异步任务结果。
+     *
+     * @param sourceWorkerId 表示请求来源方的进程唯一标识的 {@link String}。
+     * @param sourceWorkerInstanceId 标识请求来源方的进程实例唯一标识的 {@link String}。
+     * @param subscriber 表示接收批量任务结果的订阅者的 {@link Consumer}{@code <}{@link List}{@code <}{@link Response}{@code >>}。
+     */
+    public void subscribe(String sourceWorkerId, String sourceWorkerInstanceId,
+            Consumer<List<Response>> subscriber) {
+        this.getOrCreateAsyncTaskCreator(sourceWorkerId, sourceWorkerInstanceId).subscribe(subscriber);
+    }
+
+    /**
+     * 取消指定订阅者对请求来源方的异步任务结果的订阅。
+     *
+     * @param sourceWorkerId 表示请求来源方的进程唯一标识的 {@link String}。
+     * @param subscriber 表示需要取消订阅的订阅者的 {@link Consumer}{@code <}{@link List}{@code <}{@link Response}{@code >>}。
+     */
+    public void unsubscribe(String sourceWorkerId, Consumer<List<Response>> subscriber) {
+        AsyncTaskCreator creator = this.creators.get(sourceWorkerId);
+        if (creator != null) {
+            creator.unsubscribe(subscriber);
+        }
+    }
+
     private AsyncTaskCreator getOrCreateAsyncTaskCreator(String workerId, String workerInstanceId) {
         // 根据 workerId 获取任务提交者，如果任务来自一个新的提交者实例，则丢弃已有实例和附属的任务记录；
         // 并且基于懒汉方式丢弃长时间无人访问的 AsyncTaskCreator。
-        synchronized (this.creators) {
-            this.accessedTimes.put(workerId, System.currentTimeMillis());
-            this.clearAsyncTaskCreatorNotAccessed();
-            AsyncTaskCreator creator = this.creators.get(workerId);
-            if (creator == null || creator.isNotSameInstance(workerInstanceId)) {
-                creator = new AsyncTaskCreator(workerInstanceId);
-                AsyncTaskCreator obsoleteCreator = this.creators.put(workerId, creator);
-                if (obsoleteCreator != null) {
-                    log.warn("New worker instance detected. Discard obsolete instance tasks. "
-                                    + "[workerId={}, obsoleteInstanceId={}, newInstanceId={}]",
-                            workerId,
-                            obsoleteCreator.getInstanceId(),
-                            workerInstanceId);
-                }
+        this.clearAsyncTaskCreatorNotAccessed();
+        AsyncTaskCreator creator = this.creators.compute(workerId, (key, previous) -> {
+            if (previous != null && !previous.isNotSameInstance(workerInstanceId)) {
+                return previous;
             }
-            return creator;
-        }
-    }
-
-    private AsyncTaskCreator getAsyncTaskCreator(String workerId, String workerInstanceId) {
-        synchronized (this.creators) {
-            AsyncTaskCreator creator = this.creators.get(workerId);
-            if (creator == null || creator.isNotSameInstance(workerInstanceId)) {
-                String message = StringUtils.format(
-                        "Async task not found for current worker. [workerId={0}, instanceId={1}]",
+            if (previous != null) {
+                log.warn("New worker instance detected. Discard obsolete instance tasks. "
+                                + "[workerId={}, obsoleteInstanceId={}, newInstanceId={}]",
                         workerId,
+                        previous.getInstanceId(),
                         workerInstanceId);
-                log.warn(message);
-                throw new AsyncTaskNotFoundException(message);
             }
-            this.accessedTimes.put(workerId, System.currentTimeMillis());
-            this.clearAsyncTaskCreatorNotAccessed();
-            return creator;
+            return new AsyncTaskCreator(workerInstanceId);
+        });
+        creator.markAccessed();
+        return creator;
+    }
+
+    private AsyncTaskCreator getAsyncTaskCreator(String workerId, String workerInstanceId) {
+        AsyncTaskCreator creator = this.creators.get(workerId);
+        if (creator == null || creator.isNotSameInstance(workerInstanceId)) {
+            String message = StringUtils.format(
+                    "Async task not found for current worker. [workerId={0}, instanceId={1}]",
+                    workerId,
+                    workerInstanceId);
+            log.warn(message);
+            throw new AsyncTaskNotFoundException(message);
         }
+        creator.markAccessed();
+        this.clearAsyncTaskCreatorNotAccessed();
+        return creator;
     }
 
     private void clearAsyncTaskCreatorNotAccessed() {
-        Set<String> toRemoveWorkers = new HashSet<>();
         long currentTimeMillis = System.currentTimeMillis();
-        for (Map.Entry<String, Long> entry : this.accessedTimes.entrySet()) {
-            if (currentTimeMillis - entry.getValue() <= FIT_ASYNC_LONG_POLLING_DURATION_MILLIS * 5) {
+        for (Map.Entry<String, AsyncTaskCreator> entry : this.creators.entrySet()) {
+            AsyncTaskCreator creator = entry.getValue();
+            // 存在推送订阅者的提交者仍然在被使用，不应被丢弃。
+            long idleMillis = currentTimeMillis - creator.getLastAccessedTime();
+            if (creator.hasSubscriber() || idleMillis <= FIT_ASYNC_LONG_POLLING_DURATION_MILLIS * 5) {
                 continue;
             }
-            String workerId = entry.getKey();
-            toRemoveWorkers.add(workerId);
-            AsyncTaskCreator obsoleteCreator = this.creators.remove(workerId);
-            log.warn("Worker instance have not been accessed for a long time, discard obsolete instance tasks. "
-                    + "[workerId={}, obsoleteInstanceId={}]", workerId, obsoleteCreator.getInstanceId());
+            if (this.creators.remove(entry.getKey(), creator)) {
+                log.warn("Worker instance have not been accessed for a long time, discard obsolete instance tasks. "
+                        + "[workerId={}, obsoleteInstanceId={}]", entry.getKey(), creator.getInstanceId());
+            }
         }
-        toRemoveWorkers.forEach(this.accessedTimes::remove);
     }
 }
@@ -0,0 +1,179 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.server.http.websocket;
+
+import static modelengine.fit.serialization.http.Constants.FIT_ASYNC_TASK_PUSH_PATH;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fit.http.websocket.CloseReason;
+import modelengine.fit.http.websocket.Session;
+import modelengine.fit.http.websocket.annotation.BinaryMessage;
+import modelengine.fit.http.websocket.annotation.OnClose;
+import modelengine.fit.http.websocket.annotation.OnMessage;
+import modelengine.fit.http.websocket.annotation.WebSocketEndpoint;
+import modelengine.fit.serialization.MessageSerializer;
+import modelengine.fit.serialization.http.websocket.BatchMessageContentUtils;
+import modelengine.fit.serialization.http.websocket.RequestMessageContentUtils;
+import modelengine.fit.serialization.http.websocket.ResponseMessageContentUtils;
+import modelengine.fit.serialization.http.websocket.StreamMessageType;
+import modelengine.fit.serialization.http.websocket.WebSocketUtils;
+import modelengine.fit.serialization.util.MessageSerializerUtils;
+import modelengine.fit.server.http.support.AsyncTaskExecutor;
+import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.broker.server.Response;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.serialization.ResponseMetadata;
+import modelengine.fitframework.serialization.SerializationException;
+import modelengine.fitframework.serialization.TagLengthValues;
+import modelengine.fitframework.serialization.tlv.TlvUtils;
+import modelengine.fitframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 表示向客户端推送 FIT 异步任务结果的 WebSocket 控制器。
+ * <p>客户端建立连接之后发送一个订阅消息，携带自身的进程唯一标识和进程实例唯一标识，之后该客户端提交的所有异步任务的结果都会在
+ * 完成时通过该连接推送，同一时刻完成的多个结果会合并在一个消息中推送，客户端不再需要通过长轮询获取结果。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@WebSocketEndpoint(path = FIT_ASYNC_TASK_PUSH_PATH)
+@Component
+public class FitAsyncTaskWebSocketController {
+    private static final Logger log = Logger.get(FitAsyncTaskWebSocketController.class);
+
+    private final BeanContainer container;
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+    FitAsyncTaskWebSocketController(BeanContainer container) {
+        this.container = notNull(container, "The container cannot be null.");
+    }
+
+    /**
+     * 当收到 WebSocket 二进制消息时的处理方法。
+     *
+     * @param session 表示 WebSocket 会话的 {@link Session}。
+     * @param message 表示收到的 WebSocket 二进制消息的 {@code byte[]}。
+     */
+    @OnMessage
+    public void onMessage(Session session, @BinaryMessage byte[] message) {
+        TagLengthValues tlvs = TagLengthValues.deserialize(message);
+        int type = WebSocketUtils.getType(tlvs);
+        if (type != StreamMessageType.REQUEST.code()) {
+            log.warn("Cannot handle async task push message with unsupported type. [type={}]", type);
+            return;
+        }
+        TagLengthValues extensions =
+                RequestMessageContentUtils.getExtensions(TagLengthValues.deserialize(WebSocketUtils.getContent(tlvs)));
+        String workerId = TlvUtils.getWorkerId(extensions);
+        String workerInstanceId = TlvUtils.getWorkerInstanceId(extensions);
+        if (StringUtils.isBlank(workerId) || StringUtils.isBlank(workerInstanceId)) {
+            session.close(CloseReason.CANNOT_ACCEPT);
+            return;
+        }
+        Subscription subscription = new Subscription(workerId, results -> this.push(session, results));
+        Subscription previous = this.subscriptions.put(session.getId(), subscription);
+        if (previous != null) {
+            AsyncTaskExecutor.INSTANCE.unsubscribe(previous.workerId, previous.subscriber);
+        }
+        AsyncTaskExecutor.INSTANCE.subscribe(workerId, workerInstanceId, subscription.subscriber);
+    }
+
+    /**
+     * 当 WebSocket 会话关闭时的处理方法。
+     *
+     * @param session 表示 WebSocket 会话的 {@link Session}。
+     */
+    @OnClose
+    public void onClose(Session session) {
+        Subscription subscription = this.subscriptions.remove(session.getId());
+        if (subscription != null) {
+            AsyncTaskExecutor.INSTANCE.unsubscribe(subscription.workerId, subscription.subscriber);
+        }
+    }
+
+    /**
+     * 将一批异步任务结果推送给客户端。
+     * <p>无法序列化的结果以错误响应的形式推送，不影响同一批中的其他结果。发送失败时关闭连接并抛出异常，由提交者保留这一批结果。</p>
+     *
+     * @param session 表示 WebSocket 会话的 {@link Session}。
+     * @param results 表示一批异步任务结果的 {@link List}{@code <}{@link Response}{@code >}。
+     */
+    void push(Session session, List<Response> results) {
+        List<TagLengthValues> contents = new ArrayList<>(results.size());
+        for (Response result : results) {
+            contents.add(this.encode(result));
+        }
+        TagLengthValues batch = TagLengthValues.create();
+        BatchMessageContentUtils.setContents(batch, contents);
+        TagLengthValues message = TagLengthValues.create();
+        WebSocketUtils.setType(message, StreamMessageType.RESPONSE.code());
+        WebSocketUtils.setContent(message, batch.serialize());
+        try {
+            session.send(message.serialize());
+        } catch (RuntimeException e) {
+            // 关闭连接，让客户端回退到长轮询，未推送的结果保留在提交者中。
+            this.close(session);
+            throw e;
+        }
+    }
+
+    private TagLengthValues encode(Response result) {
+        int format = result.metadata().dataFormat();
+        int code = result.metadata().code();
+        String message = result.metadata().message();
+        byte[] entity = new byte[0];
+        if (code == ResponseMetadata.CODE_OK) {
+            try {
+                entity = this.getMessageSerializer(format).serializeResponse(result.type(), result.data());
+            } catch (RuntimeException e) {
+                // 单个结果无法序列化时推送该结果的错误响应，不影响同一批中的其他结果。
+                log.warn("Failed to serialize async task result. [format={}]", format, e);
+                code = SerializationException.CODE;
+                message = e.getMessage();
+            }
+        }
+        TagLengthValues content = TagLengthValues.create();
+        ResponseMessageContentUtils.setDataFormat(content, format);
+        ResponseMessageContentUtils.setCode(content, code);
+        ResponseMessageContentUtils.setMessage(content, message);
+        ResponseMessageContentUtils.setExtensions(content, result.metadata().tagValues());
+        ResponseMessageContentUtils.setEntity(content, entity);
+        return content;
+    }
+
+    private void close(Session session) {
+        try {
+            session.close(CloseReason.UNEXPECTED_CONDITION);
+        } catch (RuntimeException e) {
+            log.debug("Failed to close async task push session. [session={}]", session.getId(), e);
+        }
+    }
+
+    private MessageSerializer getMessageSerializer(int format) {
+        return MessageSerializerUtils.getMessageSerializer(this.container, format)
+                .orElseThrow(() -> new IllegalStateException(StringUtils.format(
+                        "MessageSerializer required but not found. [format={0}]",
+                        format)));
+    }
+
+    private static class Subscription {
+        private final String workerId;
+        private final Consumer<List<Response>> subscriber;
+
+        private Subscription(String workerId, Consumer<List<Response>> subscriber) {
+            this.workerId = workerId;
+            this.subscriber = subscriber;
+        }
+    }
+}
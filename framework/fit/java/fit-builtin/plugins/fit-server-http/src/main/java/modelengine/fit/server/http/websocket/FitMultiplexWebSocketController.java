@@ -0,0 +1,240 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.server.http.websocket;
+
+import static modelengine.fit.serialization.http.Constants.FIT_MULTIPLEX_PATH;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fit.http.server.DoHttpHandlerException;
+import modelengine.fit.http.websocket.Session;
+import modelengine.fit.http.websocket.annotation.BinaryMessage;
+import modelengine.fit.http.websocket.annotation.OnClose;
+import modelengine.fit.http.websocket.annotation.OnMessage;
+import modelengine.fit.http.websocket.annotation.OnOpen;
+import modelengine.fit.http.websocket.annotation.WebSocketEndpoint;
+import modelengine.fit.serialization.MessageSerializer;
+import modelengine.fit.serialization.http.websocket.RequestMessageContentUtils;
+import modelengine.fit.serialization.http.websocket.ResponseMessageContentUtils;
+import modelengine.fit.serialization.http.websocket.StreamMessageType;
+import modelengine.fit.serialization.http.websocket.WebSocketUtils;
+import modelengine.fit.serialization.util.MessageSerializerUtils;
+import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.broker.FitableMetadata;
+import modelengine.fitframework.broker.Genericable;
+import modelengine.fitframework.broker.LocalGenericableRepository;
+import modelengine.fitframework.broker.server.Dispatcher;
+import modelengine.fitframework.broker.server.Response;
+import modelengine.fitframework.exception.FitException;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.schedule.Task;
+import modelengine.fitframework.schedule.ThreadPoolExecutor;
+import modelengine.fitframework.serialization.RequestMetadata;
+import modelengine.fitframework.serialization.TagLengthValues;
+import modelengine.fitframework.serialization.Version;
+import modelengine.fitframework.util.StringUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 表示处理多路复用的 FIT WebSocket 通信请求的控制器。
+ * <p>客户端与服务端之间只建立一个长连接，所有的调用请求都通过该连接发送。每一个调用请求和调用结果都携带调用的唯一标识，请求在
+ * 独立的线程池中执行，因此同一个连接上的多个调用可以同时进行，调用结果按照完成的先后顺序返回。</p>
+ * <p>线程池的等待队列是有界的，线程和队列都已占满时，新的调用不会在 WebSocket 的读取线程上执行，而是立即返回失败的调用结果，
+ * 避免阻塞同一个连接上其他调用的读取。</p>
+ * <p>客户端可以通过取消消息放弃一个尚未完成的调用，服务端不会中断正在执行的调用，但不再返回该调用的结果。</p>
+ * <p>多路复用的连接只用于调用参数和返回值都不是流式数据的调用，流式调用仍然使用 {@link FitWebSocketController}。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@WebSocketEndpoint(path = FIT_MULTIPLEX_PATH)
+@Component
+public class FitMultiplexWebSocketController {
+    private static final Logger log = Logger.get(FitMultiplexWebSocketController.class);
+    private static final int MAX_THREAD_NUM = 200;
+    private static final int MAX_QUEUE_SIZE = 1000;
+
+    private final BeanContainer container;
+    private final Dispatcher dispatcher;
+    private final LocalGenericableRepository repository;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, Set<Long>> pendingCalls = new ConcurrentHashMap<>();
+
+    FitMultiplexWebSocketController(BeanContainer container, Dispatcher dispatcher,
+            LocalGenericableRepository repository) {
+        this.container = notNull(container, "The container cannot be null.");
+        this.dispatcher = notNull(dispatcher, "The dispatcher cannot be null.");
+        this.repository = notNull(repository, "The repository cannot be null.");
+        this.executor = ThreadPoolExecutor.custom()
+                .threadPoolName("fit-multiplex-websocket")
+                .isDaemonThread(true)
+                .corePoolSize(Runtime.getRuntime().availableProcessors())
+                .maximumPoolSize(MAX_THREAD_NUM)
+                .keepAliveTime(60, TimeUnit.SECONDS)
+                .workQueueCapacity(MAX_QUEUE_SIZE)
+                .build();
+    }
+
+    /**
+     * 当收到 WebSocket 二进制消息时的处理方法。
+     *
+     * @param session 表示 WebSocket 会话的 {@link Session}。
+     * @param message 表示收到的 WebSocket 二进制消息的 {@code byte[]}。
+     */
+    @OnMessage
+    public void onMessage(Session session, @BinaryMessage byte[] message) {
+        TagLengthValues tlvs = TagLengthValues.deserialize(message);
+        int type = WebSocketUtils.getType(tlvs);
+        if (type == StreamMessageType.REQUEST.code()) {
+            this.doRequestMessageHandler(session, tlvs);
+        } else if (type == StreamMessageType.CANCEL.code()) {
+            this.doCancelMessageHandler(session, tlvs);
+        } else {
+            log.warn("Cannot handle multiplexed message with unsupported type. [type={}]", type);
+        }
+    }
+
+    /**
+     * 当 WebSocket 会话建立时的处理方法。
+     *
+     * @param session 表示 WebSocket 会话的 {@link Session}。
+     */
+    @OnOpen
+    public void onOpen(Session session) {
+        this.pendingCalls.put(session.getId(), ConcurrentHashMap.newKeySet());
+    }
+
+    /**
+     * 当 WebSocket 会话关闭时的处理方法。
+     *
+     * @param session 表示 WebSocket 会话的 {@link Session}。
+     */
+    @OnClose
+    public void onClose(Session session) {
+        Set<Long> calls = this.pendingCalls.remove(session.getId());
+        if (calls != null && !calls.isEmpty()) {
+            log.warn("Multiplexed websocket connection closed with pending calls. [count={}]", calls.size());
+        }
+    }
+
+    private void doRequestMessageHandler(Session session, TagLengthValues message) {
+        Set<Long> calls = this.pendingCalls.get(session.getId());
+        if (calls == null) {
+            // 连接已经关闭，不再接受新的调用。
+            return;
+        }
+        long id = WebSocketUtils.getId(message);
+        calls.add(id);
+        TagLengthValues content = TagLengthValues.deserialize(WebSocketUtils.getContent(message));
+        try {
+            this.executor.execute(Task.builder().runnable(() -> this.invoke(session, id, content)).buildDisposable());
+        } catch (RejectedExecutionException e) {
+            log.warn("Too many multiplexed calls, reject the call. [id={}]", id);
+            this.respond(session,
+                    id,
+                    failureContent(RequestMessageContentUtils.getDataFormat(content),
+                            FitException.CODE,
+                            "Too many multiplexed calls, the server is busy."));
+        }
+    }
+
+    private void doCancelMessageHandler(Session session, TagLengthValues message) {
+        Set<Long> calls = this.pendingCalls.get(session.getId());
+        if (calls != null) {
+            calls.remove(WebSocketUtils.getId(message));
+        }
+    }
+
+    private void invoke(Session session, long id, TagLengthValues content) {
+        int format = RequestMessageContentUtils.getDataFormat(content);
+        RequestMetadata metadata = RequestMetadata.custom()
+                .dataFormat(format)
+                .genericableId(RequestMessageContentUtils.getGenericableId(content))
+                .genericableVersion(RequestMessageContentUtils.getGenericableVersion(content))
+                .fitableId(RequestMessageContentUtils.getFitableId(content))
+                .fitableVersion(Version.builder(FitableMetadata.DEFAULT_VERSION).build())
+                .tagValues(RequestMessageContentUtils.getExtensions(content))
+                .build();
+        TagLengthValues responseContent;
+        try {
+            Method method = this.getMethod(metadata);
+            MessageSerializer messageSerializer = this.getMessageSerializer(format);
+            Type[] argumentTypes =
+                    Stream.of(method.getParameters()).map(Parameter::getParameterizedType).toArray(Type[]::new);
+            Object[] arguments =
+                    messageSerializer.deserializeRequest(argumentTypes, RequestMessageContentUtils.getEntity(content));
+            Response response = this.dispatcher.dispatch(metadata, arguments);
+            responseContent = TagLengthValues.create();
+            ResponseMessageContentUtils.setDataFormat(responseContent, response.metadata().dataFormat());
+            ResponseMessageContentUtils.setCode(responseContent, response.metadata().code());
+            ResponseMessageContentUtils.setMessage(responseContent, response.metadata().message());
+            ResponseMessageContentUtils.setExtensions(responseContent, response.metadata().tagValues());
+            ResponseMessageContentUtils.setEntity(responseContent,
+                    messageSerializer.serializeResponse(method.getGenericReturnType(), response.data()));
+        } catch (Throwable cause) {
+            log.warn("Failed to invoke multiplexed call. [genericableId={}, fitableId={}]",
+                    metadata.genericableId(),
+                    metadata.fitableId());
+            log.debug("Exception details.", cause);
+            responseContent = failureContent(format,
+                    cause instanceof FitException ? ((FitException) cause).getCode() : FitException.CODE,
+                    cause.getMessage());
+        }
+        this.respond(session, id, responseContent);
+    }
+
+    private static TagLengthValues failureContent(int format, int code, String message) {
+        TagLengthValues responseContent = TagLengthValues.create();
+        ResponseMessageContentUtils.setDataFormat(responseContent, format);
+        ResponseMessageContentUtils.setCode(responseContent, code);
+        ResponseMessageContentUtils.setMessage(responseContent, message);
+        ResponseMessageContentUtils.setExtensions(responseContent, TagLengthValues.create());
+        ResponseMessageContentUtils.setEntity(responseContent, new byte[0]);
+        return responseContent;
+    }
+
+    private void respond(Session session, long id, TagLengthValues responseContent) {
+        Set<Long> calls = this.pendingCalls.get(session.getId());
+        if (calls == null || !calls.remove(id)) {
+            // 调用已经被客户端取消，或连接已经关闭，不再返回调用结果。
+            return;
+        }
+        TagLengthValues responseMessage = TagLengthValues.create();
+        WebSocketUtils.setType(responseMessage, StreamMessageType.RESPONSE.code());
+        WebSocketUtils.setId(responseMessage, id);
+        WebSocketUtils.setContent(responseMessage, responseContent.serialize());
+        session.send(responseMessage.serialize());
+    }
+
+    private Method getMethod(RequestMetadata metadata) {
+        Genericable genericable = this.repository
+                .get(metadata.genericableId(), metadata.genericableVersion().toString())
+                .orElseThrow(() -> new DoHttpHandlerException(StringUtils.format(
+                        "No genericable. [genericableId={0}, genericableVersion={1}]",
+                        metadata.genericableId(),
+                        metadata.genericableVersion())));
+        Method method = genericable.method().method();
+        notNull(method, "The genericable method cannot be null. [genericableId={0}]", genericable.id());
+        return method;
+    }
+
+    private MessageSerializer getMessageSerializer(int format) {
+        return MessageSerializerUtils.getMessageSerializer(this.container, format)
+                .orElseThrow(() -> new IllegalStateException(StringUtils.format(
+                        "MessageSerializer required but not found. [format={0}]",
+                        format)));
+    }
+}
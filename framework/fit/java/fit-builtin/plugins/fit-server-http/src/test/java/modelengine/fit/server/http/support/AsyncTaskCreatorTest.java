@@ -0,0 +1,107 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.server.http.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import modelengine.fit.http.exception.AsyncTaskExecutionException;
+import modelengine.fit.http.exception.AsyncTaskNotFoundException;
+import modelengine.fit.serialization.http.HttpUtils;
+import modelengine.fitframework.broker.server.Response;
+import modelengine.fitframework.serialization.ResponseMetadata;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 为 {@link AsyncTaskCreator} 提供单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 AsyncTaskCreator")
+class AsyncTaskCreatorTest {
+    private AsyncTaskCreator creator;
+
+    @BeforeEach
+    void setup() {
+        this.creator = new AsyncTaskCreator("instanceId");
+    }
+
+    @Test
+    @DisplayName("订阅之前完成的任务在订阅时合并为一批推送")
+    void shouldPushCompletedTasksInOneBatchWhenSubscribed() {
+        this.creator.addTask("task1", CompletableFuture.completedFuture(this.response("task1")));
+        this.creator.addTask("task2", CompletableFuture.completedFuture(this.response("task2")));
+        List<List<Response>> batches = new ArrayList<>();
+        this.creator.subscribe(batches::add);
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).extracting(response -> HttpUtils.getAsyncTaskId(response.metadata().tagValues()))
+                .containsExactly("task1", "task2");
+    }
+
+    @Test
+    @DisplayName("订阅之后完成的任务在完成时立即推送，失败的任务推送错误结果")
+    void shouldPushTaskWhenCompletedAfterSubscribed() {
+        List<List<Response>> batches = new ArrayList<>();
+        this.creator.subscribe(batches::add);
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        this.creator.addTask("task1", future);
+        assertThat(batches).isEmpty();
+        future.completeExceptionally(new IllegalStateException("error"));
+        assertThat(batches).hasSize(1);
+        Response response = batches.get(0).get(0);
+        assertThat(response.metadata().code()).isEqualTo(AsyncTaskExecutionException.CODE);
+        assertThat(HttpUtils.getAsyncTaskId(response.metadata().tagValues())).isEqualTo("task1");
+    }
+
+    @Test
+    @DisplayName("长轮询获取到失败的任务后，该任务不再被保留")
+    void shouldRemoveFailedTaskAfterLongPolling() {
+        this.creator.addTask("task1", CompletableFuture.failedFuture(new IllegalStateException("error")));
+        assertThatThrownBy(() -> this.creator.longPolling()).isInstanceOf(AsyncTaskExecutionException.class);
+        assertThatThrownBy(() -> this.creator.longPolling()).isInstanceOf(AsyncTaskNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("推送失败时保留任务结果，由下一个订阅者获取")
+    void shouldKeepTasksWhenPushFailed() {
+        this.creator.subscribe(batch -> {
+            throw new IllegalStateException("closed");
+        });
+        this.creator.addTask("task1", CompletableFuture.completedFuture(this.response("task1")));
+        assertThat(this.creator.hasSubscriber()).isFalse();
+        List<List<Response>> batches = new ArrayList<>();
+        this.creator.subscribe(batches::add);
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).extracting(response -> HttpUtils.getAsyncTaskId(response.metadata().tagValues()))
+                .containsExactly("task1");
+    }
+
+    @Test
+    @DisplayName("推送失败时保留任务结果，由长轮询获取")
+    void shouldKeepTasksForLongPollingWhenPushFailed() {
+        this.creator.subscribe(batch -> {
+            throw new IllegalStateException("closed");
+        });
+        this.creator.addTask("task1", CompletableFuture.completedFuture(this.response("task1")));
+        assertThat(this.creator.longPolling()).hasValueSatisfying(response -> assertThat(HttpUtils.getAsyncTaskId(
+                response.metadata().tagValues())).isEqualTo("task1"));
+    }
+
+    private Response response(String taskId) {
+        Response response = Response.create(ResponseMetadata.custom().build());
+        HttpUtils.setAsyncTaskId(response.metadata().tagValues(), taskId);
+        return response;
+    }
+}
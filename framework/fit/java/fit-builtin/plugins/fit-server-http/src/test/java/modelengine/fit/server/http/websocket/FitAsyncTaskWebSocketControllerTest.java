@@ -0,0 +1,97 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.server.http.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import modelengine.fit.http.websocket.CloseReason;
+import modelengine.fit.http.websocket.Session;
+import modelengine.fit.serialization.MessageSerializer;
+import modelengine.fit.serialization.http.websocket.BatchMessageContentUtils;
+import modelengine.fit.serialization.http.websocket.ResponseMessageContentUtils;
+import modelengine.fit.serialization.http.websocket.WebSocketUtils;
+import modelengine.fitframework.broker.server.Response;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.ioc.BeanFactory;
+import modelengine.fitframework.serialization.ResponseMetadata;
+import modelengine.fitframework.serialization.SerializationException;
+import modelengine.fitframework.serialization.TagLengthValues;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 为 {@link FitAsyncTaskWebSocketController} 提供单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 FitAsyncTaskWebSocketController")
+class FitAsyncTaskWebSocketControllerTest {
+    private static final int FORMAT = 1;
+
+    private FitAsyncTaskWebSocketController controller;
+    private MessageSerializer serializer;
+    private Session session;
+
+    @BeforeEach
+    void setup() {
+        this.serializer = mock(MessageSerializer.class);
+        when(this.serializer.getFormat()).thenReturn(FORMAT);
+        BeanFactory factory = mock(BeanFactory.class);
+        when(factory.get()).thenReturn(this.serializer);
+        BeanContainer container = mock(BeanContainer.class);
+        when(container.all(MessageSerializer.class)).thenReturn(Collections.singletonList(factory));
+        this.controller = new FitAsyncTaskWebSocketController(container);
+        this.session = mock(Session.class);
+    }
+
+    @Test
+    @DisplayName("结果无法序列化时推送该结果的错误响应，同一批中的其他结果正常推送")
+    void shouldPushFailureResponseForResultThatCannotBeSerialized() {
+        when(this.serializer.serializeResponse(String.class, "ok")).thenReturn(new byte[] {1});
+        when(this.serializer.serializeResponse(String.class, "bad")).thenThrow(new IllegalStateException("bad"));
+        this.controller.push(this.session, Arrays.asList(this.response("ok"), this.response("bad")));
+        ArgumentCaptor<byte[]> captor = ArgumentCaptor.forClass(byte[].class);
+        verify(this.session).send(captor.capture());
+        List<TagLengthValues> contents = BatchMessageContentUtils.getContents(TagLengthValues.deserialize(
+                WebSocketUtils.getContent(TagLengthValues.deserialize(captor.getValue()))));
+        assertThat(contents).hasSize(2);
+        assertThat(ResponseMessageContentUtils.getCode(contents.get(0))).isEqualTo(ResponseMetadata.CODE_OK);
+        assertThat(ResponseMessageContentUtils.getCode(contents.get(1))).isEqualTo(SerializationException.CODE);
+        assertThat(ResponseMessageContentUtils.getMessage(contents.get(1))).isEqualTo("bad");
+        verify(this.session, never()).close(any(CloseReason.class));
+    }
+
+    @Test
+    @DisplayName("发送失败时关闭连接并抛出异常")
+    void shouldCloseSessionWhenSendFailed() {
+        when(this.serializer.serializeResponse(String.class, "ok")).thenReturn(new byte[] {1});
+        doThrow(new IllegalStateException("closed")).when(this.session).send(any(byte[].class));
+        assertThatThrownBy(() -> this.controller.push(this.session,
+                Collections.singletonList(this.response("ok")))).isInstanceOf(IllegalStateException.class);
+        verify(this.session).close(eq(CloseReason.UNEXPECTED_CONDITION));
+    }
+
+    private Response response(String data) {
+        return Response.create(ResponseMetadata.custom().dataFormat(FORMAT).build(), String.class, data);
+    }
+}
@@ -6,6 +6,7 @@
 
 package modelengine.fit.http.client;
 
+import static modelengine.fitframework.inspection.Validation.notNull;
 import static modelengine.fitframework.util.ObjectUtils.cast;
 
 import modelengine.fit.http.HttpResource;
@@ -19,6 +20,7 @@ import modelengine.fitframework.util.StringUtils;
 
 import java.io.IOException;
 import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 表示 Http 客户端。
@@ -63,6 +65,22 @@ public interface HttpClassicClient extends HttpResource {
      */
     <T> HttpClassicClientResponse<T> exchange(HttpClassicClientRequest request, Type responseType);
 
+    /**
+     * 异步发送 Http 请求，接收 Http 响应。
+     *
+     * @param request 表示 Http 请求的 {@link HttpClassicClientRequest}。
+     * @param responseType 表示期待的返回值类型的 {@link Type}。
+     * @param <T> 表示期待的返回值类型的 {@link T}。
+     * @return 表示 Http 响应的异步结果的 {@link CompletableFuture}{@code <}{@link HttpClassicClientResponse}{@code
+     * <}{@link T}{@code >>}。
+     * @throws IllegalArgumentException 当 {@code request} 为 {@code null} 时。
+     */
+    default <T> CompletableFuture<HttpClassicClientResponse<T>> exchangeAsync(HttpClassicClientRequest request,
+            Type responseType) {
+        notNull(request, "The http classic request to exchange cannot be null.");
+        return request.exchangeAsync(responseType);
+    }
+
     /**
      * 发送 Http 请求，获取 Http 响应的数据内容。
      * <p>可以通过捕获 {@link HttpClientResponseException} 来获取详细错误信息。</p>
@@ -14,6 +14,7 @@ import modelengine.fitframework.flowable.Choir;
 import modelengine.fitframework.model.MultiValueMap;
 
 import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 表示经典的客户端的 Http 请求。
@@ -81,6 +82,24 @@ public interface HttpClassicClientRequest extends HttpClassicRequest {
      */
     <T> HttpClassicClientResponse<T> exchange(Type responseType);
 
+    /**
+     * 异步发送当前 Http 请求，交换 Http 响应。
+     * <p>默认实现在当前线程中调用 {@link #exchange(Type)}，实现可以选择不占用调用线程，在响应到达时再完成返回的异步结果。
+     * 异步结果中的异常与 {@link #exchange(Type)} 抛出的异常保持一致。</p>
+     *
+     * @param responseType 表示期待的返回值类型的 {@link Type}。
+     * @param <T> 表示期待的返回值类型的 {@link T}。
+     * @return 表示交换回来的 Http 响应的异步结果的 {@link CompletableFuture}{@code <}{@link HttpClassicClientResponse}{@code
+     * <}{@link T}{@code >>}。
+     */
+    default <T> CompletableFuture<HttpClassicClientResponse<T>> exchangeAsync(Type responseType) {
+        try {
+            return CompletableFuture.completedFuture(this.exchange(responseType));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * 延迟发送当前 Http 请求，交换 Http 流式响应。
      *
@@ -7,6 +7,7 @@
 package modelengine.fit.http.client.support;
 
 import static modelengine.fit.http.protocol.MessageHeaderNames.CONTENT_LENGTH;
+import static modelengine.fit.http.protocol.MessageHeaderNames.CONTENT_TYPE;
 import static modelengine.fit.http.protocol.MessageHeaderNames.COOKIE;
 import static modelengine.fit.http.protocol.MessageHeaderNames.TRANSFER_ENCODING;
 import static modelengine.fit.http.protocol.MessageHeaderValues.CHUNKED;
@@ -18,6 +19,7 @@ import modelengine.fit.http.client.HttpClassicClientRequest;
 import modelengine.fit.http.client.HttpClassicClientResponse;
 import modelengine.fit.http.entity.Entity;
 import modelengine.fit.http.entity.FileEntity;
+import modelengine.fit.http.entity.PartitionedEntity;
 import modelengine.fit.http.entity.ReadableBinaryEntity;
 import modelengine.fit.http.entity.support.DefaultMultiValueEntity;
 import modelengine.fit.http.entity.support.DefaultObjectEntity;
@@ -25,6 +27,8 @@ import modelengine.fit.http.header.ContentType;
 import modelengine.fit.http.protocol.ClientRequest;
 import modelengine.fit.http.protocol.ClientResponse;
 import modelengine.fit.http.protocol.ConfigurableMessageHeaders;
+import modelengine.fit.http.protocol.MimeType;
+import modelengine.fit.http.protocol.util.HeaderUtils;
 import modelengine.fit.http.support.AbstractHttpClassicRequest;
 import modelengine.fitframework.exception.ClientException;
 import modelengine.fitframework.flowable.Choir;
@@ -34,7 +38,11 @@ import java.io.IOException;
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * 表示 {@link HttpClassicClientRequest} 的默认实现。
@@ -108,29 +116,7 @@ public class DefaultHttpClassicClientRequest extends AbstractHttpClassicRequest
     public <T> HttpClassicClientResponse<T> exchange(Type responseType) {
         this.commit();
         try {
-            Charset charset = this.contentType().flatMap(ContentType::charset).orElse(StandardCharsets.UTF_8);
-            if (this.entity == null) {
-                this.clientRequest.writeStartLineAndHeaders();
-            } else if (this.entity instanceof ReadableBinaryEntity) {
-                if (this.entity instanceof FileEntity) {
-                    FileEntity actual = cast(this.entity);
-                    this.headers().set(CONTENT_LENGTH, String.valueOf(actual.length()));
-                } else {
-                    this.headers().set(TRANSFER_ENCODING, CHUNKED);
-                }
-                this.clientRequest.writeStartLineAndHeaders();
-                ReadableBinaryEntity readableBinaryEntity = cast(this.entity);
-                byte[] bytes = new byte[512];
-                int read;
-                while ((read = readableBinaryEntity.read(bytes)) > -1) {
-                    this.clientRequest.writeBody(bytes, 0, read);
-                }
-            } else {
-                byte[] entityBytes = this.entitySerializer().serializeEntity(cast(this.entity), charset);
-                this.headers().set(CONTENT_LENGTH, String.valueOf(entityBytes.length));
-                this.clientRequest.writeStartLineAndHeaders();
-                this.clientRequest.writeBody(entityBytes);
-            }
+            this.writeRequest();
             ClientResponse clientResponse = this.clientRequest.readResponse();
             return new DefaultHttpClassicClientResponse<>(this.httpResource(), clientResponse, responseType);
         } catch (IOException e) {
@@ -140,6 +126,84 @@ public class DefaultHttpClassicClientRequest extends AbstractHttpClassicRequest
         }
     }
 
+    @Override
+    public <T> CompletableFuture<HttpClassicClientResponse<T>> exchangeAsync(Type responseType) {
+        this.commit();
+        try {
+            this.writeRequest();
+        } catch (IOException e) {
+            this.close();
+            return CompletableFuture.failedFuture(new ClientException("Failed to exchange response.", e));
+        } catch (RuntimeException e) {
+            this.close();
+            return CompletableFuture.failedFuture(e);
+        }
+        // 消息体可能在请求发送时才从实体中读取，因此需要在响应到达之后才能释放请求的资源。
+        CompletableFuture<ClientResponse> future = this.clientRequest.readResponseAsync();
+        return future.<HttpClassicClientResponse<T>>handle((clientResponse, cause) -> {
+            this.close();
+            if (cause == null) {
+                return new DefaultHttpClassicClientResponse<>(this.httpResource(), clientResponse, responseType);
+            }
+            Throwable actual = cause instanceof CompletionException ? cause.getCause() : cause;
+            if (actual instanceof IOException) {
+                throw new ClientException("Failed to exchange response.", actual);
+            }
+            throw new CompletionException(actual);
+        });
+    }
+
+    private void writeRequest() throws IOException {
+        Charset charset = this.contentType().flatMap(ContentType::charset).orElse(StandardCharsets.UTF_8);
+        if (this.entity == null) {
+            this.clientRequest.writeStartLineAndHeaders();
+        } else if (this.entity instanceof ReadableBinaryEntity) {
+            long length;
+            Path path = null;
+            if (this.entity instanceof FileEntity) {
+                FileEntity actual = cast(this.entity);
+                length = actual.length();
+                path = actual.path().orElse(null);
+                this.headers().set(CONTENT_LENGTH, String.valueOf(length));
+            } else {
+                length = HeaderUtils.contentLengthLong(this.headers());
+                if (length < 0) {
+                    this.headers().set(TRANSFER_ENCODING, CHUNKED);
+                }
+            }
+            this.clientRequest.writeStartLineAndHeaders();
+            if (path != null) {
+                // 来自本地文件的消息体由客户端在发送时通过文件通道读取，不经过输入流复制。
+                this.clientRequest.writeBody(path);
+            } else {
+                ReadableBinaryEntity readableBinaryEntity = cast(this.entity);
+                this.clientRequest.writeBody(readableBinaryEntity.getInputStream(), length);
+            }
+        } else if (this.entity instanceof PartitionedEntity) {
+            MultiPartBodyWriter writer = new MultiPartBodyWriter(cast(this.entity), this.boundary(), charset);
+            this.headers().set(CONTENT_LENGTH, String.valueOf(writer.length()));
+            this.clientRequest.writeStartLineAndHeaders();
+            writer.writeTo(this.clientRequest);
+        } else {
+            byte[] entityBytes = this.entitySerializer().serializeEntity(cast(this.entity), charset);
+            this.headers().set(CONTENT_LENGTH, String.valueOf(entityBytes.length));
+            this.clientRequest.writeStartLineAndHeaders();
+            this.clientRequest.writeBody(entityBytes);
+        }
+    }
+
+    private String boundary() {
+        Optional<ContentType> contentType = this.contentType();
+        Optional<String> boundary = contentType.flatMap(ContentType::boundary);
+        if (boundary.isPresent()) {
+            return boundary.get();
+        }
+        String generated = UUID.randomUUID().toString().replace("-", "");
+        String mediaType = contentType.map(ContentType::mediaType).orElse(MimeType.MULTIPART_FORM_DATA.value());
+        this.headers().set(CONTENT_TYPE, mediaType + "; boundary=" + generated);
+        return generated;
+    }
+
     @Override
     public Choir<Object> exchangeStream() {
         return this.exchangeStream(Object.class);
@@ -147,7 +211,7 @@ public class DefaultHttpClassicClientRequest extends AbstractHttpClassicRequest
 
     @Override
     public <T> Choir<T> exchangeStream(Type responseType) {
-        return new TextStreamChoir<>(this, responseType);
+        return new EventStreamChoir<>(this, responseType);
     }
 
     @Override
@@ -87,6 +87,16 @@ public class DefaultHttpClassicClientResponse<T> extends AbstractHttpClassicResp
         return ObjectUtils.cast(this.entity());
     }
 
+    /**
+     * 获取未经实体序列化器解析的原始消息体数据的输入流。
+     * <p>用于按需逐段读取流式的消息体，读取过程中不会将消息体数据缓存在内存中。</p>
+     *
+     * @return 表示原始消息体数据的输入流的 {@link InputStream}。
+     */
+    InputStream bodyInputStream() {
+        return this.clientResponse.getBodyInputStream();
+    }
+
     private Optional<Entity> actualEntity() {
         Charset charset = this.contentType().flatMap(ContentType::charset).orElse(StandardCharsets.UTF_8);
         try {
@@ -0,0 +1,280 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.client.support;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+import static modelengine.fitframework.util.ObjectUtils.cast;
+
+import modelengine.fit.http.client.HttpClassicClientRequest;
+import modelengine.fit.http.client.HttpClassicClientResponse;
+import modelengine.fit.http.entity.ReadableBinaryEntity;
+import modelengine.fit.http.entity.TextEvent;
+import modelengine.fit.http.header.ContentType;
+import modelengine.fit.http.protocol.MimeType;
+import modelengine.fitframework.flowable.Choir;
+import modelengine.fitframework.flowable.Subscriber;
+import modelengine.fitframework.flowable.choir.AbstractChoir;
+import modelengine.fitframework.flowable.subscription.AbstractSubscription;
+import modelengine.fitframework.inspection.Nonnull;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.serialization.ObjectSerializer;
+import modelengine.fitframework.thread.DefaultThreadFactory;
+import modelengine.fitframework.util.ObjectUtils;
+import modelengine.fitframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 表示支持背压的事件流的 {@link Choir} 实现。
+ * <p>支持 {@code 'text/event-stream'} 和 {@code 'application/x-ndjson'} 两种格式的响应。订阅者第一次请求数据时才异步发送
+ * Http 请求，等待响应期间不占用任何线程。响应到达之后，只有在订阅者还有未满足的需求时才在共享的线程池中读取并解码事件，
+ * 需求被满足之后立即归还线程，不再从连接中读取数据，由传输层的流量控制让服务端暂停发送，订阅者再次请求数据时才继续读取。</p>
+ * <p>底层的响应体是阻塞的输入流，因此有未满足需求的事件流在等待服务端的数据时会占用一个读取线程，同时读取的事件流的数量不超过
+ * {@value #MAX_READING_THREADS}。超出的事件流在队列中等待空闲的读取线程，每个事件流连续解码 {@value #MAX_EVENTS_PER_DRAIN}
+ * 个事件之后让出线程，避免需求无限的事件流一直占用线程。</p>
+ * <p>当事件的数据类型为 {@link TextEvent} 时，返回完整的事件，事件的数据为原始的字符串；当数据类型为 {@link String} 时，
+ * 返回事件的原始数据；否则，将事件的数据作为 JSON 反序列化为指定类型。</p>
+ *
+ * @param <T> 表示事件数据类型的 {@link T}。
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+public class EventStreamChoir<T> extends AbstractChoir<T> implements Choir<T> {
+    private static final Logger log = Logger.get(EventStreamChoir.class);
+    private static final int MAX_READING_THREADS = 64;
+    private static final int MAX_EVENTS_PER_DRAIN = 32;
+    private static final ExecutorService EXECUTOR = createExecutor();
+    private static final int HTTP_SUCCESS_CODE_MIN = 200;
+    private static final int HTTP_SUCCESS_CODE_MAX = 300;
+
+    private final HttpClassicClientRequest request;
+    private final Type responseType;
+
+    /**
+     * 使用指定的请求和事件数据类型初始化 {@link EventStreamChoir} 的新实例。
+     *
+     * @param request 表示请求的 {@link HttpClassicClientRequest}。
+     * @param responseType 表示事件数据类型的 {@link Type}。
+     * @throws IllegalArgumentException 当 {@code request} 为 {@code null} 时。
+     */
+    public EventStreamChoir(HttpClassicClientRequest request, Type responseType) {
+        this.request = notNull(request, "The request cannot be null.");
+        this.responseType = ObjectUtils.nullIf(responseType, Object.class);
+    }
+
+    private static ExecutorService createExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_READING_THREADS,
+                MAX_READING_THREADS,
+                60,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new DefaultThreadFactory("http-event-stream",
+                        true,
+                        (thread, cause) -> log.warn("Failed to decode http event stream.", cause)));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @Override
+    protected void subscribe0(@Nonnull Subscriber<T> subscriber) {
+        subscriber.onSubscribed(new EventStreamSubscription<>(subscriber, this.request, this.responseType));
+    }
+
+    private static class EventStreamSubscription<T> extends AbstractSubscription {
+        private final Subscriber<T> subscriber;
+        private final HttpClassicClientRequest request;
+        private final Type responseType;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicInteger state = new AtomicInteger();
+        private volatile HttpClassicClientResponse<Object> response;
+        private volatile EventStreamDecoder decoder;
+        private volatile ObjectSerializer serializer;
+
+        private static final int STATE_IDLE = 0;
+        private static final int STATE_EXCHANGING = 1;
+        private static final int STATE_TERMINATED = 2;
+
+        EventStreamSubscription(Subscriber<T> subscriber, HttpClassicClientRequest request, Type responseType) {
+            this.subscriber = subscriber;
+            this.request = request;
+            this.responseType = responseType;
+        }
+
+        @Override
+        protected void request0(long count) {
+            this.demand.getAndUpdate(previous -> previous + count < 0 ? Long.MAX_VALUE : previous + count);
+            if (this.state.compareAndSet(STATE_IDLE, STATE_EXCHANGING)) {
+                this.request.exchangeAsync(Object.class).whenComplete(this::onResponse);
+                return;
+            }
+            this.schedule();
+        }
+
+        @Override
+        protected void cancel0() {
+            this.state.set(STATE_TERMINATED);
+            this.close();
+        }
+
+        private void onResponse(HttpClassicClientResponse<Object> response, Throwable cause) {
+            if (cause != null) {
+                Throwable actual = cause instanceof CompletionException && cause.getCause() != null
+                        ? cause.getCause()
+                        : cause;
+                this.terminate(actual instanceof Exception ? (Exception) actual : new IllegalStateException(actual));
+                return;
+            }
+            this.response = response;
+            if (this.isCancelled()) {
+                this.close();
+                return;
+            }
+            try {
+                this.decoder = this.createDecoder(response);
+            } catch (RuntimeException e) {
+                this.terminate(e);
+                return;
+            }
+            this.schedule();
+        }
+
+        private EventStreamDecoder createDecoder(HttpClassicClientResponse<Object> response) {
+            if (!ObjectUtils.between(response.statusCode(),
+                    HTTP_SUCCESS_CODE_MIN,
+                    HTTP_SUCCESS_CODE_MAX,
+                    true,
+                    false)) {
+                throw new IllegalStateException(StringUtils.format(
+                        "Failed to exchange event stream. [uri={0}, statusCode={1}, reason={2}]",
+                        this.request.requestUri(),
+                        response.statusCode(),
+                        response.reasonPhrase()));
+            }
+            String mediaType = response.contentType().map(ContentType::mediaType).orElse(StringUtils.EMPTY);
+            EventStreamDecoder.Format format;
+            if (StringUtils.equalsIgnoreCase(mediaType, MimeType.TEXT_EVENT_STREAM.value())) {
+                format = EventStreamDecoder.Format.SERVER_SENT_EVENTS;
+            } else if (StringUtils.equalsIgnoreCase(mediaType, MimeType.APPLICATION_X_NDJSON.value())) {
+                format = EventStreamDecoder.Format.NDJSON;
+            } else {
+                throw new IllegalStateException(StringUtils.format("Unsupported event stream. [mediaType={0}]",
+                        mediaType));
+            }
+            if (this.responseType != String.class && this.responseType != TextEvent.class) {
+                this.serializer = response.jsonSerializer()
+                        .orElseThrow(() -> new IllegalStateException("No json serializer."));
+            }
+            Charset charset = response.contentType().flatMap(ContentType::charset).orElse(StandardCharsets.UTF_8);
+            return new EventStreamDecoder(this.bodyInputStream(response), charset, format);
+        }
+
+        private InputStream bodyInputStream(HttpClassicClientResponse<Object> response) {
+            if (response instanceof DefaultHttpClassicClientResponse) {
+                return ((DefaultHttpClassicClientResponse<Object>) response).bodyInputStream();
+            }
+            return response.entity()
+                    .filter(ReadableBinaryEntity.class::isInstance)
+                    .map(entity -> ((ReadableBinaryEntity) entity).getInputStream())
+                    .orElseThrow(() -> new IllegalStateException("No readable event stream body."));
+        }
+
+        private void schedule() {
+            if (this.decoder != null && this.wip.getAndIncrement() == 0) {
+                EXECUTOR.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            while (true) {
+                long requested = this.demand.get();
+                long emitted = 0;
+                while (emitted != requested) {
+                    if (emitted == MAX_EVENTS_PER_DRAIN) {
+                        // 让出读取线程，保留 wip 以便重新提交的任务继续读取。
+                        if (requested != Long.MAX_VALUE) {
+                            this.demand.addAndGet(-emitted);
+                        }
+                        EXECUTOR.execute(this::drain);
+                        return;
+                    }
+                    if (this.state.get() == STATE_TERMINATED) {
+                        return;
+                    }
+                    TextEvent event;
+                    T data;
+                    try {
+                        event = this.decoder.next();
+                        data = event == null ? null : this.convert(event);
+                    } catch (IOException | RuntimeException e) {
+                        this.terminate(e);
+                        return;
+                    }
+                    if (event == null) {
+                        this.terminate(null);
+                        return;
+                    }
+                    this.subscriber.consume(data);
+                    emitted++;
+                }
+                if (emitted > 0 && requested != Long.MAX_VALUE) {
+                    this.demand.addAndGet(-emitted);
+                }
+                missed = this.wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private T convert(TextEvent event) {
+            if (this.responseType == TextEvent.class) {
+                return cast(event);
+            }
+            String data = cast(event.data());
+            if (this.responseType == String.class) {
+                return cast(data);
+            }
+            return this.serializer.deserialize(data, this.responseType);
+        }
+
+        private void terminate(Exception cause) {
+            if (this.state.getAndSet(STATE_TERMINATED) == STATE_TERMINATED) {
+                return;
+            }
+            this.close();
+            if (cause == null) {
+                this.subscriber.complete();
+            } else {
+                this.subscriber.fail(cause);
+            }
+        }
+
+        private void close() {
+            HttpClassicClientResponse<Object> current = this.response;
+            if (current != null) {
+                try {
+                    current.close();
+                } catch (IOException e) {
+                    log.debug("Failed to close event stream response.", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.client.support;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fit.http.entity.TextEvent;
+import modelengine.fitframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 表示从输入流中按需解码事件的解码器。
+ * <p>解码器在一个可以复用的字节缓冲区中查找行的边界，字段名直接在字节上比较，只有字段值会被解码为字符串，因此读取数据时不会
+ * 为每一个数据块拼接字符串。只有一行数据跨越了缓冲区的边界时，才会将该行已经读取的部分移动到缓冲区的开头；一行数据超过缓冲区的
+ * 大小时，缓冲区会扩容，但不会超过 {@link #MAX_LINE_LENGTH}。</p>
+ * <p>解码器每次只解码一个事件，调用方可以根据下游的需求决定何时继续读取。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+class EventStreamDecoder {
+    /** 表示一行数据允许的最大字节数。 */
+    static final int MAX_LINE_LENGTH = 16 * 1024 * 1024;
+
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+    private static final byte COLON = ':';
+    private static final byte SPACE = ' ';
+    private static final byte[] FIELD_ID = TextEvent.EVENT_ID.getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FIELD_EVENT = TextEvent.EVENT_NAME.getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FIELD_RETRY = TextEvent.EVENT_RETRY.getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FIELD_DATA = TextEvent.EVENT_DATA.getBytes(StandardCharsets.US_ASCII);
+
+    private final InputStream in;
+    private final Charset charset;
+    private final Format format;
+    private final StringBuilder dataBuffer = new StringBuilder();
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+    private int start;
+    private int end;
+    private int scanned;
+    private int lineStart;
+    private int lineEnd;
+    private boolean isEof;
+
+    /**
+     * 创建一个事件解码器。
+     *
+     * @param in 表示待解码的输入流的 {@link InputStream}。
+     * @param charset 表示字段值的字符集的 {@link Charset}。
+     * @param format 表示事件流格式的 {@link Format}。
+     * @throws IllegalArgumentException 当 {@code in}、{@code charset} 或 {@code format} 为 {@code null} 时。
+     */
+    EventStreamDecoder(InputStream in, Charset charset, Format format) {
+        this.in = notNull(in, "The input stream cannot be null.");
+        this.charset = notNull(charset, "The charset cannot be null.");
+        this.format = notNull(format, "The format cannot be null.");
+    }
+
+    /**
+     * 解码下一个事件，没有完整的事件时阻塞等待输入流中的数据。
+     * <p>事件的数据总是以 {@link String} 的形式返回，由调用方决定如何转换。</p>
+     *
+     * @return 表示下一个事件的 {@link TextEvent}，当输入流结束时，返回 {@code null}。
+     * @throws IOException 当读取输入流发生异常，或一行数据超过了最大长度时。
+     */
+    TextEvent next() throws IOException {
+        return this.format == Format.NDJSON ? this.nextJsonLine() : this.nextServerSentEvent();
+    }
+
+    private TextEvent nextJsonLine() throws IOException {
+        while (this.readLine()) {
+            this.trimLine();
+            if (this.lineEnd > this.lineStart) {
+                return TextEvent.custom().data(this.decode(this.lineStart, this.lineEnd)).build();
+            }
+        }
+        return null;
+    }
+
+    private TextEvent nextServerSentEvent() throws IOException {
+        TextEvent.Builder builder = null;
+        String data = null;
+        boolean isMultiLine = false;
+        while (this.readLine()) {
+            if (this.lineEnd == this.lineStart) {
+                if (builder == null) {
+                    continue;
+                }
+                if (isMultiLine) {
+                    return builder.data(this.dataBuffer.toString()).build();
+                }
+                return builder.data(data == null ? StringUtils.EMPTY : data).build();
+            }
+            int colon = this.indexOf(COLON, this.lineStart, this.lineEnd);
+            if (colon <= this.lineStart) {
+                // 以冒号开头的行是注释，没有冒号的行不包含有效的字段值，均直接忽略。
+                continue;
+            }
+            builder = builder == null ? TextEvent.custom() : builder;
+            int fieldStart = this.lineStart;
+            this.lineStart = colon + 1;
+            this.trimLine();
+            if (this.isField(FIELD_DATA, fieldStart, colon)) {
+                String value = this.decode(this.lineStart, this.lineEnd);
+                if (data == null) {
+                    data = value;
+                } else {
+                    if (!isMultiLine) {
+                        this.dataBuffer.setLength(0);
+                        this.dataBuffer.append(data);
+                        isMultiLine = true;
+                    }
+                    this.dataBuffer.append(TextEvent.LF).append(value);
+                }
+            } else if (this.isField(FIELD_ID, fieldStart, colon)) {
+                builder.id(this.decode(this.lineStart, this.lineEnd));
+            } else if (this.isField(FIELD_EVENT, fieldStart, colon)) {
+                builder.event(this.decode(this.lineStart, this.lineEnd));
+            } else if (this.isField(FIELD_RETRY, fieldStart, colon)) {
+                builder.retry(Duration.ofMillis(Long.parseLong(this.decode(this.lineStart, this.lineEnd))));
+            }
+        }
+        // 输入流结束时没有以空行结束的事件是不完整的，直接丢弃。
+        return null;
+    }
+
+    private boolean readLine() throws IOException {
+        while (true) {
+            for (int i = this.scanned; i < this.end; i++) {
+                if (this.buffer[i] == LF) {
+                    this.setLine(this.start, i);
+                    this.start = i + 1;
+                    this.scanned = this.start;
+                    return true;
+                }
+            }
+            this.scanned = this.end;
+            if (this.isEof) {
+                if (this.start == this.end) {
+                    return false;
+                }
+                this.setLine(this.start, this.end);
+                this.start = this.end;
+                return true;
+            }
+            this.fill();
+        }
+    }
+
+    private void setLine(int from, int to) {
+        this.lineStart = from;
+        this.lineEnd = to > from && this.buffer[to - 1] == CR ? to - 1 : to;
+    }
+
+    private void fill() throws IOException {
+        if (this.start > 0) {
+            int remaining = this.end - this.start;
+            System.arraycopy(this.buffer, this.start, this.buffer, 0, remaining);
+            this.scanned -= this.start;
+            this.end = remaining;
+            this.start = 0;
+        }
+        if (this.end == this.buffer.length) {
+            if (this.buffer.length >= MAX_LINE_LENGTH) {
+                throw new IOException(StringUtils.format("The event stream line is too long. [maxLength={0}]",
+                        MAX_LINE_LENGTH));
+            }
+            this.buffer = Arrays.copyOf(this.buffer, Math.min(this.buffer.length * 2, MAX_LINE_LENGTH));
+        }
+        int read = this.in.read(this.buffer, this.end, this.buffer.length - this.end);
+        if (read < 0) {
+            this.isEof = true;
+        } else {
+            this.end += read;
+        }
+    }
+
+    private void trimLine() {
+        while (this.lineStart < this.lineEnd && (this.buffer[this.lineStart] & 0xFF) <= SPACE) {
+            this.lineStart++;
+        }
+        while (this.lineEnd > this.lineStart && (this.buffer[this.lineEnd - 1] & 0xFF) <= SPACE) {
+            this.lineEnd--;
+        }
+    }
+
+    private int indexOf(byte target, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (this.buffer[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isField(byte[] field, int fieldStart, int colon) {
+        return colon - fieldStart == field.length
+                && Arrays.equals(this.buffer, fieldStart, colon, field, 0, field.length);
+    }
+
+    private String decode(int from, int to) {
+        return new String(this.buffer, from, to - from, this.charset);
+    }
+
+    /**
+     * 表示事件流的格式。
+     */
+    enum Format {
+        /** 表示 {@code 'text/event-stream'} 格式，事件之间以空行分隔。 */
+        SERVER_SENT_EVENTS,
+
+        /** 表示 {@code 'application/x-ndjson'} 格式，每一行是一个事件的数据。 */
+        NDJSON
+    }
+}
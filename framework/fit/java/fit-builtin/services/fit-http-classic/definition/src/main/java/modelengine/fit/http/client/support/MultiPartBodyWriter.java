@@ -0,0 +1,167 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.client.support;
+
+import static modelengine.fitframework.inspection.Validation.notBlank;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fit.http.entity.EntityWriteException;
+import modelengine.fit.http.entity.FileEntity;
+import modelengine.fit.http.entity.NamedEntity;
+import modelengine.fit.http.entity.PartitionedEntity;
+import modelengine.fit.http.protocol.ClientRequest;
+import modelengine.fitframework.util.StringUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 表示将 {@code 'multipart/form-data'} 格式的消息体写入客户端请求的写入器。
+ * <p>分块的头部和文本分块在写入前生成，文件分块不会被读取到内存中：</p>
+ * <ul>
+ *     <li>当所有文件分块都来自本地文件时，文件分块通过 {@link ClientRequest#writeBody(java.nio.file.Path)} 写入，
+ *     由客户端在发送时通过文件通道读取；</li>
+ *     <li>否则，整个消息体被组合成一个输入流，通过 {@link ClientRequest#writeBody(InputStream, long)} 写入，
+ *     在发送时依次读取每一个分块。</li>
+ * </ul>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc7578">RFC 7578</a>
+ */
+class MultiPartBodyWriter {
+    private static final String CRLF = "\r\n";
+    private static final String BOUNDARY_SURROUND = "--";
+
+    private final List<Part> parts = new ArrayList<>();
+    private final byte[] closeDelimiter;
+    private final Charset charset;
+
+    /**
+     * 创建一个消息体写入器。
+     *
+     * @param entity 表示待写入的消息体的 {@link PartitionedEntity}。
+     * @param boundary 表示分块之间的分隔符的 {@link String}。
+     * @param charset 表示分块头部和文本分块使用的字符集的 {@link Charset}。
+     * @throws IllegalArgumentException 当 {@code entity} 或 {@code charset} 为 {@code null}，或 {@code boundary} 为空白
+     * 字符串时。
+     * @throws EntityWriteException 当分块的消息体既不是文件也不是文本时。
+     */
+    MultiPartBodyWriter(PartitionedEntity entity, String boundary, Charset charset) {
+        notNull(entity, "The partitioned entity cannot be null.");
+        notBlank(boundary, "The boundary cannot be blank.");
+        this.charset = notNull(charset, "The charset cannot be null.");
+        String delimiter = BOUNDARY_SURROUND + boundary;
+        for (NamedEntity namedEntity : entity.entities()) {
+            this.parts.add(this.createPart(delimiter, namedEntity));
+        }
+        this.closeDelimiter = (delimiter + BOUNDARY_SURROUND + CRLF).getBytes(charset);
+    }
+
+    private Part createPart(String delimiter, NamedEntity namedEntity) {
+        StringBuilder header = new StringBuilder(delimiter).append(CRLF)
+                .append("Content-Disposition: form-data; name=\"")
+                .append(escape(namedEntity.name()))
+                .append('"');
+        if (namedEntity.isFile()) {
+            FileEntity file = namedEntity.asFile();
+            header.append("; filename=\"")
+                    .append(escape(file.filename()))
+                    .append('"')
+                    .append(CRLF)
+                    .append("Content-Type: ")
+                    .append(file.resolvedMimeType().value())
+                    .append(CRLF)
+                    .append(CRLF);
+            return new Part(header.toString().getBytes(this.charset), file, null);
+        }
+        if (namedEntity.isText()) {
+            header.append(CRLF).append(CRLF);
+            return new Part(header.toString().getBytes(this.charset),
+                    null,
+                    namedEntity.asText().content().getBytes(this.charset));
+        }
+        throw new EntityWriteException(StringUtils.format(
+                "Unsupported entity in multipart body. [name={0}, entityType={1}]",
+                namedEntity.name(),
+                namedEntity.entity().getClass().getName()));
+    }
+
+    private static String escape(String value) {
+        return StringUtils.blankIf(value, StringUtils.EMPTY).replace("\"", "%22");
+    }
+
+    /**
+     * 获取消息体的总长度。
+     *
+     * @return 表示消息体总长度的 {@code long}。
+     */
+    long length() {
+        long length = this.closeDelimiter.length;
+        for (Part part : this.parts) {
+            length += part.header.length + part.contentLength() + CRLF.length();
+        }
+        return length;
+    }
+
+    /**
+     * 将消息体写入到指定的客户端请求中。
+     *
+     * @param request 表示待写入的客户端请求的 {@link ClientRequest}。
+     * @throws IOException 当发生 I/O 异常时。
+     */
+    void writeTo(ClientRequest request) throws IOException {
+        if (this.parts.stream().allMatch(Part::isPathOrText)) {
+            byte[] lineBreak = CRLF.getBytes(this.charset);
+            for (Part part : this.parts) {
+                request.writeBody(part.header);
+                if (part.file != null) {
+                    request.writeBody(part.file.path().orElseThrow());
+                } else {
+                    request.writeBody(part.text);
+                }
+                request.writeBody(lineBreak);
+            }
+            request.writeBody(this.closeDelimiter);
+            return;
+        }
+        List<InputStream> streams = new ArrayList<>();
+        for (Part part : this.parts) {
+            streams.add(new ByteArrayInputStream(part.header));
+            streams.add(part.file != null ? part.file.getInputStream() : new ByteArrayInputStream(part.text));
+            streams.add(new ByteArrayInputStream(CRLF.getBytes(this.charset)));
+        }
+        streams.add(new ByteArrayInputStream(this.closeDelimiter));
+        request.writeBody(new SequenceInputStream(Collections.enumeration(streams)), this.length());
+    }
+
+    private static class Part {
+        private final byte[] header;
+        private final FileEntity file;
+        private final byte[] text;
+
+        private Part(byte[] header, FileEntity file, byte[] text) {
+            this.header = header;
+            this.file = file;
+            this.text = text;
+        }
+
+        private long contentLength() {
+            return this.file != null ? this.file.length() : this.text.length;
+        }
+
+        private boolean isPathOrText() {
+            return this.file == null || this.file.path().isPresent();
+        }
+    }
+}
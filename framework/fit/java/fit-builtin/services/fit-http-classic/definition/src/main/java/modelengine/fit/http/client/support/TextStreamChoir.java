@@ -33,10 +33,13 @@ import java.util.concurrent.locks.Lock;
 
 /**
  * 表示 {@link Choir} 的事件流的实现。
+ * <p><b>{@link HttpClassicClientRequest#exchangeStream(Type)} 已改为返回按需读取事件的 {@link EventStreamChoir}，该类仅为兼容已有的
+ * 调用方而保留。</b></p>
  *
  * @author 季聿阶
  * @since 2024-08-17
  */
+@Deprecated
 public class TextStreamChoir<T> extends AbstractChoir<T> implements Choir<T> {
     private final HttpClassicClientRequest request;
     private final Type responseType;
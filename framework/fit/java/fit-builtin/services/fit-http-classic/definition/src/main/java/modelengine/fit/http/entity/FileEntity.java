@@ -12,6 +12,8 @@ import modelengine.fitframework.util.StringUtils;
 
 import java.io.File;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
 
 /**
  * 表示文件类型的消息体数据。
@@ -48,6 +50,17 @@ public interface FileEntity extends ReadableBinaryEntity {
      */
     boolean isInline();
 
+    /**
+     * 获取消息体内容所在的本地文件。
+     * <p>当消息体内容来自本地文件时，发送方可以直接通过文件通道读取文件发送，而不需要经过输入流复制到内存中。</p>
+     *
+     * @return 表示消息体内容所在的本地文件的 {@link Optional}{@code <}{@link Path}{@code >}，当消息体内容不来自本地文件时，返回
+     * {@link Optional#empty()}。
+     */
+    default Optional<Path> path() {
+        return Optional.empty();
+    }
+
     /**
      * 创建文件类型的消息体数据。创建出来的消息体数据是附件类型，适用于文件下载。
      *
@@ -93,6 +106,23 @@ public interface FileEntity extends ReadableBinaryEntity {
         return new DefaultFileEntity(httpMessage, filename, in, length, position, actualFile);
     }
 
+    /**
+     * 使用本地文件创建文件类型的消息体数据。
+     * <p>消息体内容直接从指定文件中读取，文件在资源释放时不会被删除。作为请求的消息体发送时，文件内容通过文件通道读取，
+     * 内存的占用与文件的大小无关。</p>
+     *
+     * @param httpMessage 表示消息体数据所属的 Http 消息的 {@link HttpMessage}。
+     * <p>{@link HttpMessage} 有很多子类，请仔细确认区分所属的消息是请求还是响应。</p>
+     * @param path 表示消息体内容所在的本地文件的 {@link Path}。
+     * @param position 表示文件显示位置的 {@link Position}。
+     * @return 表示创建出来的文件类型的消息体数据的 {@link FileEntity}。
+     * @throws IllegalArgumentException 当 {@code path} 为 {@code null} 时。
+     * @throws EntityReadException 当获取文件大小失败时。
+     */
+    static FileEntity create(HttpMessage httpMessage, Path path, Position position) {
+        return new DefaultFileEntity(httpMessage, path, position);
+    }
+
     /**
      * 表示文件消息体数据的显示位置。
      */
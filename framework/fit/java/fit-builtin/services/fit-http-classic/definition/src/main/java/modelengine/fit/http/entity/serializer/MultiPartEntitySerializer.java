@@ -27,35 +27,32 @@ import modelengine.fit.http.header.HeaderValue;
 import modelengine.fit.http.util.HttpUtils;
 import modelengine.fitframework.inspection.Nonnull;
 import modelengine.fitframework.util.FileUtils;
-import modelengine.fitframework.util.LineSeparator;
 import modelengine.fitframework.util.MapBuilder;
 import modelengine.fitframework.util.StringUtils;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
-import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.RandomAccessFile;
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Objects;
 import java.util.function.Function;
 
 /**
  * 表示消息体格式为 {@code 'multipart/*'} 的序列化器。
+ * <p>反序列化时，消息体以固定大小的缓冲区增量读取，文件分块在读取的同时直接写入到磁盘，
+ * 不会在内存中缓存完整的消息体或文件内容。可以分别限制单个分块和整个消息体的最大字节数，超出限制时抛出
+ * {@link EntityReadException}，并清理已经生成的临时文件。</p>
  *
  * @author 季聿阶
  * @see <a href="https://datatracker.ietf.org/doc/html/rfc2046#section-5.1.1">RFC 2046</a>
@@ -65,20 +62,43 @@ public class MultiPartEntitySerializer implements EntitySerializer<PartitionedEn
     /** 表示 {@link MultiPartEntitySerializer} 的单例实现。 */
     public static final EntitySerializer<PartitionedEntity> INSTANCE = new MultiPartEntitySerializer();
 
-    static final int TINY_BUFFER = 32;
-    static final int SMALL_BUFFER = 64;
-    static final int MEDIUM_BUFFER = 512;
+    /** 表示不限制大小的 {@code long}。 */
+    public static final long UNLIMITED = -1L;
 
-    private static final byte CR = '\r';
-    private static final byte LF = '\n';
     private static final char HEADER_SEPARATOR = ':';
     private static final String BOUNDARY_SURROUND = "--";
+    private static final String TEMP_FILE_PREFIX = "entity-multipart-";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
 
     private final Map<String, Function<HeaderValue, HeaderValue>> functions =
             MapBuilder.<String, Function<HeaderValue, HeaderValue>>get()
                     .put(CONTENT_DISPOSITION.toLowerCase(Locale.ROOT), HeaderValue::toContentDisposition)
                     .put(CONTENT_TYPE.toLowerCase(Locale.ROOT), HeaderValue::toContentType)
                     .build();
+    private final long maxPartSize;
+    private final long maxTotalSize;
+    private final Path tempDirectory;
+
+    /**
+     * 初始化 {@link MultiPartEntitySerializer} 的新实例，不限制分块和消息体的大小，文件分块写入到系统默认的临时目录。
+     */
+    public MultiPartEntitySerializer() {
+        this(UNLIMITED, UNLIMITED, null);
+    }
+
+    /**
+     * 使用指定的大小限制和临时文件目录初始化 {@link MultiPartEntitySerializer} 的新实例。
+     *
+     * @param maxPartSize 表示单个分块内容允许的最大字节数的 {@code long}，非正数表示不限制。
+     * @param maxTotalSize 表示整个消息体允许的最大字节数的 {@code long}，非正数表示不限制。
+     * @param tempDirectory 表示文件分块写入的目录的 {@link Path}，为 {@code null} 时使用系统默认的临时目录。
+     * 将其设置为与文件最终存放位置相同的磁盘，可以让后续的文件转存只需要一次重命名。
+     */
+    public MultiPartEntitySerializer(long maxPartSize, long maxTotalSize, Path tempDirectory) {
+        this.maxPartSize = maxPartSize;
+        this.maxTotalSize = maxTotalSize;
+        this.tempDirectory = tempDirectory;
+    }
 
     @Override
     public void serializeEntity(@Nonnull PartitionedEntity entity, Charset charset, OutputStream out) {
@@ -89,62 +109,74 @@ public class MultiPartEntitySerializer implements EntitySerializer<PartitionedEn
     public PartitionedEntity deserializeEntity(@Nonnull InputStream in, Charset charset,
             @Nonnull HttpMessage httpMessage, Type objectType) {
         String boundary = this.parseBoundary(httpMessage);
-        byte[] pattern = boundary.getBytes(charset);
-        try (InputStream input = new BufferedInputStream(new NonClosingInputStream(in))) {
-            return this.deserializeEntity(input, charset, httpMessage, pattern);
+        MultiPartReader reader = new MultiPartReader(in, boundary.getBytes(charset), this.maxTotalSize);
+        List<NamedEntity> namedEntities = new ArrayList<>();
+        try {
+            boolean isEnd = reader.readPart(null, UNLIMITED);
+            while (!isEnd) {
+                isEnd = this.readNamedEntity(reader, charset, httpMessage, namedEntities);
+            }
+            return new DefaultPartitionedEntity(httpMessage, namedEntities);
         } catch (IOException e) {
+            closeQuietly(namedEntities);
             throw new EntityReadException("Failed to deserialize message body. [mimeType='multipart/*']", e);
+        } catch (RuntimeException e) {
+            closeQuietly(namedEntities);
+            throw e;
+        }
+    }
+
+    private boolean readNamedEntity(MultiPartReader reader, Charset charset, HttpMessage httpMessage,
+            List<NamedEntity> namedEntities) throws IOException {
+        List<String> headerLines = new ArrayList<>();
+        String line = reader.readHeaderLine(charset);
+        while (!line.isEmpty()) {
+            headerLines.add(line);
+            line = reader.readHeaderLine(charset);
+        }
+        Map<String, HeaderValue> headerValues = this.parseHeaderValues(headerLines);
+        ContentDisposition contentDisposition = cast(headerValues.get(CONTENT_DISPOSITION.toLowerCase(Locale.ROOT)));
+        boolean isEnd;
+        Entity innerEntity;
+        if (contentDisposition != null && contentDisposition.name().isPresent() && contentDisposition.fileName()
+                .isPresent()) {
+            File tempFile = this.createTempFile();
+            try (OutputStream out = new FileOutputStream(tempFile)) {
+                isEnd = reader.readPart(out, this.maxPartSize);
+            } catch (IOException | RuntimeException e) {
+                FileUtils.delete(tempFile);
+                throw e;
+            }
+            innerEntity = FileEntity.create(httpMessage,
+                    contentDisposition.fileName().get(),
+                    new FileInputStream(tempFile),
+                    tempFile.length(),
+                    FileEntity.Position.INLINE,
+                    tempFile);
+        } else {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            isEnd = reader.readPart(out, this.maxPartSize);
+            innerEntity = new DefaultTextEntity(httpMessage, out.toString(charset));
         }
+        namedEntities.add(new DefaultNamedEntity(httpMessage, getName(contentDisposition), innerEntity));
+        return isEnd;
     }
 
-    private PartitionedEntity deserializeEntity(InputStream in, Charset charset, HttpMessage httpMessage,
-            byte[] pattern) throws IOException {
-        boolean isEnd = this.findNextBoundary(in, pattern, null);
-        if (isEnd) {
-            return new DefaultPartitionedEntity(httpMessage, Collections.emptyList());
+    private File createTempFile() throws IOException {
+        if (this.tempDirectory == null) {
+            return Files.createTempFile(TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX).toFile();
         }
-        List<NamedEntity> namedEntities = new ArrayList<>();
-        while (!isEnd) {
-            List<String> headerLines = new ArrayList<>();
-            String line = readMetadataHeaderLine(in, charset);
-            while (!Objects.equals(line, StringUtils.EMPTY)) {
-                headerLines.add(line);
-                line = readMetadataHeaderLine(in, charset);
-            }
-            Map<String, HeaderValue> headerValues = this.parseHeaderValues(headerLines);
-            ContentDisposition contentDisposition =
-                    cast(headerValues.get(CONTENT_DISPOSITION.toLowerCase(Locale.ROOT)));
-            Entity innerEntity;
-            if (contentDisposition != null && contentDisposition.name().isPresent() && contentDisposition.fileName()
-                    .isPresent()) {
-                File tempFile = Files.createTempFile("entity-multipart-", ".tmp").toFile();
-                try (FileOutputStream out = new FileOutputStream(tempFile)) {
-                    isEnd = this.findNextBoundary(in, pattern, out);
-                } catch (IOException e) {
-                    FileUtils.delete(tempFile);
-                    throw e;
-                }
-                try (RandomAccessFile raf = new RandomAccessFile(tempFile, "rw")) {
-                    raf.setLength(tempFile.length() - 2);
-                }
-                innerEntity = FileEntity.create(httpMessage,
-                        contentDisposition.fileName().get(),
-                        new FileInputStream(tempFile),
-                        tempFile.length(),
-                        FileEntity.Position.INLINE,
-                        tempFile);
-            } else {
-                try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-                    isEnd = this.findNextBoundary(in, pattern, out);
-                    String content = out.toString(charset.name());
-                    content = content.substring(0, content.length() - 2);
-                    innerEntity = new DefaultTextEntity(httpMessage, content);
-                }
+        return Files.createTempFile(this.tempDirectory, TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX).toFile();
+    }
+
+    private static void closeQuietly(List<NamedEntity> namedEntities) {
+        for (NamedEntity namedEntity : namedEntities) {
+            try {
+                namedEntity.close();
+            } catch (IOException ignored) {
+                // 清理已经生成的分块时的异常不影响原始异常的抛出。
             }
-            NamedEntity namedEntity = new DefaultNamedEntity(httpMessage, getName(contentDisposition), innerEntity);
-            namedEntities.add(namedEntity);
         }
-        return new DefaultPartitionedEntity(httpMessage, namedEntities);
     }
 
     private static String getName(ContentDisposition contentDisposition) {
@@ -154,161 +186,6 @@ public class MultiPartEntitySerializer implements EntitySerializer<PartitionedEn
         return contentDisposition.name().orElse(StringUtils.EMPTY);
     }
 
-    private static String readMetadataHeaderLine(InputStream in, Charset charset) throws IOException {
-        byte[] bytes = readMetadataHeaderLineByCrlf(in);
-        String line = new String(bytes, charset);
-        if (line.endsWith(LineSeparator.CRLF.value())) {
-            line = line.substring(0, line.length() - 2);
-        }
-        return line;
-    }
-
-    /**
-     * 寻找下一个分隔符。
-     * <p>如果成功返回，则 {@code out} 中至少写入了 2 个字符。</p>
-     *
-     * @param in 表示消息体内容的输入流的 {@link InputStream}。
-     * @param pattern 表示分隔符的字节数组的 {@code byte[]}。
-     * @param out 表示需要保存的 Text 文本内容的输出流的 {@link OutputStream}。
-     * @return 表示寻找到分隔符之后是否触及输入流的结尾的标志。不管是否寻找到下一个分隔符，只要触及输入流的结尾，则返回
-     * {@code true}，否则返回 {@code false}，<b>注意：当返回 {@code false} 时，一定找到了下一个分隔符。</b>
-     * @throws IOException 当发生 I/O 异常时。
-     */
-    private boolean findNextBoundary(InputStream in, byte[] pattern, OutputStream out) throws IOException {
-        while (true) {
-            byte[] bytes = readLineByCrlf(in, pattern.length + 2, false);
-            if (bytes == null) {
-                throw new IOException("The next boundary not found: no any content bytes.");
-            }
-            if (bytes.length < pattern.length + 2) {
-                if (isLineBreak(bytes)) {
-                    writeBytes(out, bytes);
-                    continue;
-                } else {
-                    throw new IOException("The first boundary not found: unexpected exit.");
-                }
-            }
-            boolean isEqualsPattern = equals(pattern, bytes);
-            if (isLineBreak(bytes)) {
-                if (isEqualsPattern) {
-                    return false;
-                } else {
-                    writeBytes(out, bytes);
-                    continue;
-                }
-            }
-            if (isEqualsPattern && isEnd(bytes)) {
-                return true;
-            }
-            if (!isEqualsPattern) {
-                writeBytes(out, bytes);
-            }
-            this.readRemainedBytesInCurrentLine(in, out, isEqualsPattern, bytes[bytes.length - 1] == CR);
-            if (isEqualsPattern) {
-                return false;
-            }
-        }
-    }
-
-    private void readRemainedBytesInCurrentLine(InputStream in, OutputStream out, boolean isEqualsPattern,
-            boolean hasPrecedingCr) throws IOException {
-        // 当匹配分隔符成功时，如果当前行没有读完，后续大概率会跟少量的任意字符作为报文填充，因此选择小型缓存空间。
-        int bufferSize = isEqualsPattern ? TINY_BUFFER : MEDIUM_BUFFER;
-        boolean hasPrecedingByteCr = hasPrecedingCr;
-        while (true) {
-            byte[] bytes = readLineByCrlf(in, bufferSize, hasPrecedingByteCr);
-            if (bytes == null) {
-                throw new IOException("The next boundary not found: no more data and unexpected exit.");
-            }
-            if (isLineBreak(bytes) || this.isBoundaryLineBreak(bytes, hasPrecedingByteCr)) {
-                if (isEqualsPattern) {
-                    return;
-                }
-                writeBytes(out, bytes);
-                return;
-            }
-            writeBytes(out, bytes);
-            if (bytes.length < bufferSize) {
-                throw new IOException("The next boundary not found: unexpected exit.");
-            }
-            hasPrecedingByteCr = bytes[bytes.length - 1] == CR;
-        }
-    }
-
-    private static void writeBytes(OutputStream out, byte[] bytes) throws IOException {
-        if (out != null) {
-            out.write(bytes);
-        }
-    }
-
-    private static boolean equals(byte[] src, byte[] dst) {
-        for (int i = 0; i < src.length; i++) {
-            if (src[i] != dst[i]) {
-                return false;
-            }
-        }
-        return true;
-    }
-
-    private static boolean isLineBreak(byte[] bytes) {
-        if (bytes.length >= 2) {
-            return bytes[bytes.length - 2] == CR && bytes[bytes.length - 1] == LF;
-        } else {
-            return false;
-        }
-    }
-
-    private boolean isBoundaryLineBreak(byte[] bytes, boolean hasPrecedingCr) {
-        return hasPrecedingCr && bytes.length == 1 && bytes[0] == LF;
-    }
-
-    private static boolean isEnd(byte[] bytes) {
-        return bytes[bytes.length - 2] == '-' && bytes[bytes.length - 1] == '-';
-    }
-
-    private static byte[] readMetadataHeaderLineByCrlf(InputStream in) throws IOException {
-        int buffer = SMALL_BUFFER;
-        byte[] bytes = readLineByCrlf(in, buffer, false);
-        if (bytes == null) {
-            throw new IOException("The next line not found: unexpected exit.");
-        }
-        if (bytes.length < buffer || isLineBreak(bytes)) {
-            return bytes;
-        }
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            writeBytes(out, bytes);
-            while (bytes.length == buffer && !isLineBreak(bytes)) {
-                bytes = readLineByCrlf(in, buffer, bytes[bytes.length - 1] == CR);
-                if (bytes == null) {
-                    throw new IOException("The next line not found: unexpected exit.");
-                }
-                writeBytes(out, bytes);
-            }
-            return out.toByteArray();
-        }
-    }
-
-    private static byte[] readLineByCrlf(InputStream in, int max, boolean hasPrecedingCr) throws IOException {
-        boolean hasPrecedingByteCr = hasPrecedingCr;
-        byte[] bytes = new byte[max];
-        for (int i = 0; i < max; i++) {
-            int read = in.read();
-            if (read == -1) {
-                if (i == 0) {
-                    return null;
-                }
-                return Arrays.copyOf(bytes, i);
-            }
-            byte nextByte = (byte) read;
-            bytes[i] = nextByte;
-            if (nextByte == LF && hasPrecedingByteCr) {
-                return Arrays.copyOf(bytes, i + 1);
-            }
-            hasPrecedingByteCr = nextByte == CR;
-        }
-        return bytes;
-    }
-
     private String parseBoundary(HttpMessage message) {
         String boundary = message.contentType()
                 .flatMap(ContentType::boundary)
@@ -335,19 +212,4 @@ public class MultiPartEntitySerializer implements EntitySerializer<PartitionedEn
         }
         return result;
     }
-
-    /**
-     * 表示不关闭输入流的输入流。
-     *
-     * @author 邬涨财
-     * @since 2023-12-20
-     */
-    private static class NonClosingInputStream extends FilterInputStream {
-        public NonClosingInputStream(InputStream in) {
-            super(in);
-        }
-
-        @Override
-        public void close() {}
-    }
 }
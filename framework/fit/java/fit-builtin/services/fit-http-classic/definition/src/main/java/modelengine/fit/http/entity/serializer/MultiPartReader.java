@@ -0,0 +1,213 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.entity.serializer;
+
+import modelengine.fit.http.entity.EntityReadException;
+import modelengine.fitframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+
+/**
+ * 表示格式为 {@code 'multipart/*'} 的消息体的增量读取器。
+ * <p>读取器只持有一块固定大小的缓冲区，每次从输入流中批量读取数据，并在缓冲区中查找分隔符。分隔符之前的数据会被直接写入到指定的输出流，
+ * 只有可能构成分隔符前缀的少量尾部数据会保留在缓冲区中，因此无论消息体有多大，读取器占用的内存都是固定的。</p>
+ * <p>消息体中的分隔符为 {@code CRLF--boundary}，为了让位于消息体开头的第一个分隔符也能够被识别，缓冲区在初始化时预置了一个
+ * {@code CRLF}。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+final class MultiPartReader {
+    /** 表示读取器的缓冲区的默认大小。 */
+    static final int BUFFER_SIZE = 8192;
+
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+    private static final byte DASH = '-';
+
+    private final InputStream in;
+    private final byte[] delimiter;
+    private final byte[] buffer;
+    private final long maxTotalSize;
+    private int position;
+    private int limit;
+    private long totalSize;
+    private boolean isExhausted;
+
+    /**
+     * 创建一个增量读取器。
+     *
+     * @param in 表示消息体的输入流的 {@link InputStream}。
+     * @param boundary 表示包含前缀 {@code --} 的分隔符的字节数组的 {@code byte[]}。
+     * @param maxTotalSize 表示允许读取的消息体的最大字节数的 {@code long}，非正数表示不限制。
+     */
+    MultiPartReader(InputStream in, byte[] boundary, long maxTotalSize) {
+        this.in = in;
+        this.delimiter = new byte[boundary.length + 2];
+        this.delimiter[0] = CR;
+        this.delimiter[1] = LF;
+        System.arraycopy(boundary, 0, this.delimiter, 2, boundary.length);
+        this.buffer = new byte[Math.max(BUFFER_SIZE, this.delimiter.length * 2)];
+        this.buffer[0] = CR;
+        this.buffer[1] = LF;
+        this.limit = 2;
+        this.maxTotalSize = maxTotalSize;
+    }
+
+    /**
+     * 读取数据直至下一个分隔符，并跳过分隔符所在行的剩余内容。
+     *
+     * @param out 表示分隔符之前的数据需要写入的输出流的 {@link OutputStream}，为 {@code null} 时表示丢弃这些数据。
+     * @param maxSize 表示分隔符之前的数据允许的最大字节数的 {@code long}，非正数表示不限制。
+     * @return 如果读取到的是终止分隔符，则返回 {@code true}，否则，返回 {@code false}。
+     * @throws IOException 当发生 I/O 异常，或在找到分隔符之前输入流已经结束时。
+     * @throws EntityReadException 当分隔符之前的数据超过了允许的最大字节数，或消息体超过了允许的最大字节数时。
+     */
+    boolean readPart(OutputStream out, long maxSize) throws IOException {
+        long written = 0;
+        while (true) {
+            int index = this.indexOfDelimiter();
+            if (index >= 0) {
+                this.write(out, index, written, maxSize);
+                this.position = index + this.delimiter.length;
+                return this.readBoundaryTail();
+            }
+            // 缓冲区尾部不足一个分隔符长度的数据可能是分隔符的前缀，需要保留到下一次查找。
+            int safe = Math.max(this.position, this.limit - this.delimiter.length + 1);
+            written = this.write(out, safe, written, maxSize);
+            this.position = safe;
+            if (!this.fill()) {
+                throw new IOException("The next boundary not found: unexpected exit.");
+            }
+        }
+    }
+
+    /**
+     * 读取以 {@code CRLF} 结尾的一行元数据头，返回的内容不包含 {@code CRLF}。
+     *
+     * @param charset 表示元数据头的字符集的 {@link Charset}。
+     * @return 表示读取到的元数据头的 {@link String}，当读取到空行时，返回 {@link StringUtils#EMPTY}。
+     * @throws IOException 当发生 I/O 异常，或元数据头的长度超过了缓冲区的大小，或在读取到 {@code CRLF} 之前输入流已经结束时。
+     */
+    String readHeaderLine(Charset charset) throws IOException {
+        int searched = this.position;
+        while (true) {
+            int index = this.indexOfCrlf(searched);
+            if (index >= 0) {
+                String line = new String(this.buffer, this.position, index - this.position, charset);
+                this.position = index + 2;
+                return line;
+            }
+            if (this.limit - this.position == this.buffer.length) {
+                throw new IOException("The header line is too long.");
+            }
+            int offset = Math.max(0, this.limit - 1 - this.position);
+            if (!this.fill()) {
+                throw new IOException("The next line not found: unexpected exit.");
+            }
+            searched = this.position + offset;
+        }
+    }
+
+    private boolean readBoundaryTail() throws IOException {
+        while (this.limit - this.position < 2) {
+            if (!this.fill()) {
+                throw new IOException("The next boundary not found: unexpected exit.");
+            }
+        }
+        if (this.buffer[this.position] == DASH && this.buffer[this.position + 1] == DASH) {
+            this.position += 2;
+            return true;
+        }
+        // 分隔符之后、行结束之前的内容为报文填充，直接忽略。
+        while (true) {
+            int index = this.indexOfCrlf(this.position);
+            if (index >= 0) {
+                this.position = index + 2;
+                return false;
+            }
+            this.position = Math.max(this.position, this.limit - 1);
+            if (!this.fill()) {
+                throw new IOException("The next boundary not found: no more data and unexpected exit.");
+            }
+        }
+    }
+
+    private long write(OutputStream out, int end, long written, long maxSize) throws IOException {
+        int length = end - this.position;
+        if (length <= 0) {
+            return written;
+        }
+        long actual = written + length;
+        if (maxSize > 0 && actual > maxSize) {
+            throw new EntityReadException(StringUtils.format(
+                    "The part of multipart entity is too large. [maxPartSize={0}]",
+                    maxSize));
+        }
+        if (out != null) {
+            out.write(this.buffer, this.position, length);
+        }
+        return actual;
+    }
+
+    private int indexOfDelimiter() {
+        int last = this.limit - this.delimiter.length;
+        for (int i = this.position; i <= last; i++) {
+            if (this.buffer[i] != CR) {
+                continue;
+            }
+            int j = 1;
+            while (j < this.delimiter.length && this.buffer[i + j] == this.delimiter[j]) {
+                j++;
+            }
+            if (j == this.delimiter.length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int indexOfCrlf(int from) {
+        for (int i = from; i < this.limit - 1; i++) {
+            if (this.buffer[i] == CR && this.buffer[i + 1] == LF) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean fill() throws IOException {
+        if (this.isExhausted) {
+            return false;
+        }
+        if (this.position > 0) {
+            System.arraycopy(this.buffer, this.position, this.buffer, 0, this.limit - this.position);
+            this.limit -= this.position;
+            this.position = 0;
+        }
+        while (true) {
+            int read = this.in.read(this.buffer, this.limit, this.buffer.length - this.limit);
+            if (read < 0) {
+                this.isExhausted = true;
+                return false;
+            }
+            if (read > 0) {
+                this.limit += read;
+                this.totalSize += read;
+                if (this.maxTotalSize > 0 && this.totalSize > this.maxTotalSize) {
+                    throw new EntityReadException(StringUtils.format(
+                            "The multipart entity is too large. [maxTotalSize={0}]",
+                            this.maxTotalSize));
+                }
+                return true;
+            }
+        }
+    }
+}
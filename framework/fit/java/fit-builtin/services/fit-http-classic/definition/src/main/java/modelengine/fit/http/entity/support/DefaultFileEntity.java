@@ -8,8 +8,10 @@ package modelengine.fit.http.entity.support;
 
 import static modelengine.fitframework.inspection.Validation.greaterThanOrEquals;
 import static modelengine.fitframework.inspection.Validation.notBlank;
+import static modelengine.fitframework.inspection.Validation.notNull;
 
 import modelengine.fit.http.HttpMessage;
+import modelengine.fit.http.entity.EntityReadException;
 import modelengine.fit.http.entity.FileEntity;
 import modelengine.fit.http.protocol.MimeType;
 import modelengine.fitframework.inspection.Nonnull;
@@ -22,6 +24,8 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.Optional;
 
@@ -41,6 +45,7 @@ public class DefaultFileEntity extends DefaultReadableBinaryEntity implements Fi
     private final long length;
     private final Position position;
     private final File actualFile;
+    private final Path path;
 
     /**
      * 创建文件类型的消息体数据对象。
@@ -54,11 +59,44 @@ public class DefaultFileEntity extends DefaultReadableBinaryEntity implements Fi
      */
     public DefaultFileEntity(HttpMessage httpMessage, String filename, InputStream in, long length, Position position,
             File actualFile) {
+        this(httpMessage, filename, length, in, position, actualFile, null);
+    }
+
+    /**
+     * 使用本地文件创建文件类型的消息体数据对象。
+     * <p>文件只在第一次读取消息体内容时才会被打开，通过 {@link #path()} 直接传输文件的场景不会打开文件的输入流。</p>
+     *
+     * @param httpMessage 表示消息体数据所属的 Http 消息的 {@link HttpMessage}。
+     * @param path 表示消息体内容所在的本地文件的 {@link Path}。该文件在资源释放时不会被删除。
+     * @param position 表示文件显示位置的 {@link Position}。
+     * @throws IllegalArgumentException 当 {@code path} 为 {@code null} 时。
+     * @throws EntityReadException 当获取文件大小失败时。
+     */
+    public DefaultFileEntity(HttpMessage httpMessage, Path path, Position position) {
+        this(httpMessage, getFilename(path), size(path), new LazyFileInputStream(path), position, null, path);
+    }
+
+    private DefaultFileEntity(HttpMessage httpMessage, String filename, long length, InputStream in,
+            Position position, File actualFile, Path path) {
         super(httpMessage, in);
         this.filename = notBlank(filename, "The filename cannot be blank.");
         this.length = greaterThanOrEquals(length, 0, "The file length must not be negative. [length={0}]", length);
         this.position = ObjectUtils.nullIf(position, Position.INLINE);
         this.actualFile = actualFile;
+        this.path = path;
+    }
+
+    private static String getFilename(Path path) {
+        notNull(path, "The file path cannot be null.");
+        return path.getFileName().toString();
+    }
+
+    private static long size(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            throw new EntityReadException(StringUtils.format("Failed to get file entity size. [path={0}]", path), e);
+        }
     }
 
     @Override
@@ -81,6 +119,14 @@ public class DefaultFileEntity extends DefaultReadableBinaryEntity implements Fi
         return this.position == Position.INLINE;
     }
 
+    @Override
+    public Optional<Path> path() {
+        if (this.path != null) {
+            return Optional.of(this.path);
+        }
+        return Optional.ofNullable(this.actualFile).map(File::toPath);
+    }
+
     @Nonnull
     @Override
     public MimeType resolvedMimeType() {
@@ -102,4 +148,55 @@ public class DefaultFileEntity extends DefaultReadableBinaryEntity implements Fi
             FileUtils.delete(this.actualFile);
         }
     }
+
+    /**
+     * 表示在第一次读取时才打开文件的输入流。
+     */
+    private static class LazyFileInputStream extends InputStream {
+        private final Path path;
+        private InputStream in;
+        private boolean closed;
+
+        private LazyFileInputStream(Path path) {
+            this.path = path;
+        }
+
+        private InputStream in() throws IOException {
+            if (this.closed) {
+                throw new IOException(StringUtils.format("The file entity is closed. [path={0}]", this.path));
+            }
+            if (this.in == null) {
+                this.in = Files.newInputStream(this.path);
+            }
+            return this.in;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return this.in().read();
+        }
+
+        @Override
+        public int read(byte[] bytes, int off, int len) throws IOException {
+            return this.in().read(bytes, off, len);
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            return this.in().skip(n);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return this.in == null ? 0 : this.in.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.closed = true;
+            if (this.in != null) {
+                this.in.close();
+            }
+        }
+    }
 }
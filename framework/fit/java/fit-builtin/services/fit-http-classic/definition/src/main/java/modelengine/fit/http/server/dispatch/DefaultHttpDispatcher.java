@@ -58,27 +58,30 @@ public class DefaultHttpDispatcher implements HttpDispatcher {
     private final Map<HttpRequestMethod, Map<String, HttpHandler>> noPathVariableHandlers = new ConcurrentHashMap<>();
 
     /**
-     * 表示路径样式中存在路径变量的处理器集合。
+     * 表示路径样式中存在路径变量或 {@code '**'} 通配符的处理器集合。
      * <p>其键值对映射分别表示的含义如下：
      *     <ul>
      *         <li>映射中的键表示 Http 请求的方法的 {@link HttpRequestMethod}。</li>
-     *         <li>映射中的值表示 Http 请求路径的匹配树的 {@link MappingTree}{@code <}{@link HttpHandler}{@code >}。</li>
+     *         <li>映射中的值表示 Http 请求路径的匹配树的 {@link MappingTree}{@code <}{@link HttpHandler}{@code >}，
+     *         匹配树中的每一段路径样式为普通路径段、{@code '*'} 或 {@code '**'}。</li>
      *     </ul>
      * </p>
      */
     private final Map<HttpRequestMethod, MappingTree<HttpHandler>> pathVariableHandlers = new ConcurrentHashMap<>();
 
     /**
-     * 表示路径样式中存在 {@code '**'} 通配符的处理器集合。
+     * 表示路径样式中存在 {@code '**'} 通配符，且无法放入匹配树的处理器集合。
+     * <p>当路径样式中某一段路径在通配符之外还包含其他字符时，如 {@code /a**} 或 {@code /a/b?/**}，该路径样式无法放入匹配树，
+     * 只能逐个进行匹配。为避免每次请求时重复解析，路径样式在注册时即被编译为 {@link PathPattern}。</p>
      * <p>其键值对映射分别表示的含义如下：
      *     <ul>
      *         <li>第一层映射中的键表示 Http 请求的方法的 {@link HttpRequestMethod}。</li>
-     *         <li>第二层映射中的键表示路径样式，如 {@code /**}。</li>
-     *         <li>第二层映射中的值为其对应的 Http 请求的处理器的 {@link HttpHandler}。</li>
+     *         <li>第二层映射中的键表示路径样式，如 {@code /a**}。</li>
+     *         <li>第二层映射中的值为其对应的 Http 请求的处理器及编译后的路径样式的 {@link WildcardHandler}。</li>
      *     </ul>
      * </p>
      */
-    private final Map<HttpRequestMethod, Map<String, HttpHandler>> wildcardHandlers = new ConcurrentHashMap<>();
+    private final Map<HttpRequestMethod, Map<String, WildcardHandler>> wildcardHandlers = new ConcurrentHashMap<>();
 
     private final Map<String, HttpHandlerGroup> groups = new ConcurrentHashMap<>();
 
@@ -86,9 +89,11 @@ public class DefaultHttpDispatcher implements HttpDispatcher {
     public HttpHandler dispatch(HttpClassicServerRequest request, HttpClassicResponse response) {
         log.debug("Remote address accessed. [path={}, remote={}]",
                 request.path(), request.remoteAddress().hostAddress());
-        return OptionalUtils.get(() -> this.selectFromNoPathVariableHandlers(request))
-                .orElse(() -> this.selectFromPathVariableHandlers(request))
-                .orElse(() -> this.selectFromWildcardHandlers(request))
+        HttpRequestMethod method = request.method();
+        String path = UrlUtils.decodePath(request.path());
+        return OptionalUtils.get(() -> this.selectFromNoPathVariableHandlers(method, path))
+                .orElse(() -> this.selectFromPathVariableHandlers(method, path))
+                .orElse(() -> this.selectFromWildcardHandlers(method, path))
                 .orElseThrow(() -> {
                     String message = StringUtils.format("No http handler for http request. [method={0}, path={1}]",
                             request.method().name(),
@@ -97,35 +102,30 @@ public class DefaultHttpDispatcher implements HttpDispatcher {
                 });
     }
 
-    private Optional<HttpHandler> selectFromNoPathVariableHandlers(HttpClassicServerRequest request) {
-        Map<String, HttpHandler> handlers = this.noPathVariableHandlers.get(request.method());
+    private Optional<HttpHandler> selectFromNoPathVariableHandlers(HttpRequestMethod method, String path) {
+        Map<String, HttpHandler> handlers = this.noPathVariableHandlers.get(method);
         if (MapUtils.isEmpty(handlers)) {
             return Optional.empty();
         }
-        String path = UrlUtils.decodePath(request.path());
-        HttpHandler handler = handlers.get(path);
-        return Optional.ofNullable(handler);
+        return Optional.ofNullable(handlers.get(path));
     }
 
-    private Optional<HttpHandler> selectFromPathVariableHandlers(HttpClassicServerRequest request) {
-        MappingTree<HttpHandler> mappingTree = this.pathVariableHandlers.get(request.method());
+    private Optional<HttpHandler> selectFromPathVariableHandlers(HttpRequestMethod method, String path) {
+        MappingTree<HttpHandler> mappingTree = this.pathVariableHandlers.get(method);
         if (mappingTree == null) {
             return Optional.empty();
         }
-        String path = UrlUtils.decodePath(request.path());
         return mappingTree.search(path);
     }
 
-    private Optional<HttpHandler> selectFromWildcardHandlers(HttpClassicServerRequest request) {
-        Map<String, HttpHandler> handlers = this.wildcardHandlers.get(request.method());
+    private Optional<HttpHandler> selectFromWildcardHandlers(HttpRequestMethod method, String path) {
+        Map<String, WildcardHandler> handlers = this.wildcardHandlers.get(method);
         if (MapUtils.isEmpty(handlers)) {
             return Optional.empty();
         }
-        String path = UrlUtils.decodePath(request.path());
-        for (Map.Entry<String, HttpHandler> entry : handlers.entrySet()) {
-            PathPattern pattern = Pattern.forPath(entry.getKey(), PATH_SEPARATOR);
-            if (pattern.matches(path)) {
-                return Optional.of(entry.getValue());
+        for (WildcardHandler wildcardHandler : handlers.values()) {
+            if (wildcardHandler.pattern().matches(path)) {
+                return Optional.of(wildcardHandler.handler());
             }
         }
         return Optional.empty();
@@ -139,10 +139,12 @@ public class DefaultHttpDispatcher implements HttpDispatcher {
         String pathPattern = MappingTree.convertToMatchedPathPattern(handler.pathPattern());
         notBlank(pathPattern, "The path pattern cannot be blank.");
         HttpHandler preHandler;
-        if (pathPattern.contains("**")) {
-            Map<String, HttpHandler> handlers =
+        if (pathPattern.contains("**") && !isTreeCompatible(pathPattern)) {
+            Map<String, WildcardHandler> handlers =
                     this.wildcardHandlers.computeIfAbsent(method, methodName -> new ConcurrentHashMap<>());
-            preHandler = handlers.put(pathPattern, handler);
+            WildcardHandler preWildcardHandler = handlers.put(pathPattern,
+                    new WildcardHandler(Pattern.forPath(pathPattern, PATH_SEPARATOR), handler));
+            preHandler = preWildcardHandler == null ? null : preWildcardHandler.handler();
         } else if (pathPattern.contains("*")) {
             MappingTree<HttpHandler> mappingTree =
                     this.pathVariableHandlers.computeIfAbsent(method, methodName -> new DefaultMappingTree<>());
@@ -167,7 +169,7 @@ public class DefaultHttpDispatcher implements HttpDispatcher {
         notNull(handler, "The http handler cannot be null.");
         String pathPattern = MappingTree.convertToMatchedPathPattern(handler.pathPattern());
         notBlank(pathPattern, "The path pattern cannot be blank.");
-        if (pathPattern.contains("**")) {
+        if (pathPattern.contains("**") && !isTreeCompatible(pathPattern)) {
             Optional.ofNullable(this.wildcardHandlers.get(method)).ifPresent(handlers -> handlers.remove(pathPattern));
         } else if (pathPattern.contains("*")) {
             Optional.ofNullable(this.pathVariableHandlers.get(method))
@@ -189,11 +191,30 @@ public class DefaultHttpDispatcher implements HttpDispatcher {
         });
         this.wildcardHandlers.forEach((requestMethod, httpHandlers) -> {
             List<HttpHandler> handlerList = map.computeIfAbsent(requestMethod, key -> new ArrayList<>());
-            handlerList.addAll(httpHandlers.values());
+            httpHandlers.values().forEach(wildcardHandler -> handlerList.add(wildcardHandler.handler()));
         });
         return map;
     }
 
+    /**
+     * 判断指定的含有 {@code '**'} 通配符的路径样式是否可以放入匹配树。
+     * <p>只有当路径样式的每一段要么是 {@code '*'} 或 {@code '**'}，要么不包含任何通配符时，才可以放入匹配树。</p>
+     *
+     * @param pathPattern 表示指定的路径样式的 {@link String}。
+     * @return 如果可以放入匹配树，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    private static boolean isTreeCompatible(String pathPattern) {
+        for (String fragment : MappingTree.splitPath(pathPattern)) {
+            if (StringUtils.equals(fragment, "*") || StringUtils.equals(fragment, "**")) {
+                continue;
+            }
+            if (fragment.indexOf('*') >= 0 || fragment.indexOf('?') >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public void registerGroup(HttpHandlerGroup group) {
         if (group != null) {
@@ -210,4 +231,25 @@ public class DefaultHttpDispatcher implements HttpDispatcher {
     public Map<String, HttpHandlerGroup> getHttpHandlerGroups() {
         return Collections.unmodifiableMap(this.groups);
     }
+
+    /**
+     * 表示预编译了路径样式的含有 {@code '**'} 通配符的处理器。
+     */
+    private static class WildcardHandler {
+        private final PathPattern pattern;
+        private final HttpHandler handler;
+
+        private WildcardHandler(PathPattern pattern, HttpHandler handler) {
+            this.pattern = pattern;
+            this.handler = handler;
+        }
+
+        private PathPattern pattern() {
+            return this.pattern;
+        }
+
+        private HttpHandler handler() {
+            return this.handler;
+        }
+    }
 }
@@ -12,22 +12,32 @@ import static modelengine.fitframework.inspection.Validation.notNull;
 
 import modelengine.fit.http.server.dispatch.MappingTree;
 import modelengine.fitframework.util.CollectionUtils;
+import modelengine.fitframework.util.LockUtils;
+import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Deque;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 /**
  * {@link MappingTree} 的默认实现。
+ * <p>匹配树的每一个节点对应路径中的一段，节点的子节点有以下三种：</p>
+ * <ul>
+ *     <li>普通的路径段，如 {@code /a/b} 中的 {@code a}，需要完全匹配；</li>
+ *     <li>单段通配符 {@code '*'}，可以匹配任意的一段路径；</li>
+ *     <li>多段通配符 {@code '**'}，可以匹配任意的零段或多段路径。</li>
+ * </ul>
+ * <p>搜索时逐段进行匹配，每一段的匹配优先级为：普通的路径段优先于单段通配符，单段通配符优先于多段通配符。
+ * 当高优先级的分支无法匹配时，会回溯到低优先级的分支继续匹配。</p>
+ * <p>注册和取消注册操作修改的是一棵加锁保护的可变匹配树，搜索操作使用的是由可变匹配树冻结而成的不可变快照。快照中的子节点以有序数组
+ * 的形式保存，搜索时直接在原始路径字符串上按下标逐段扫描，不会切分路径，也不会产生中间对象。每次注册或取消注册后快照即失效，
+ * 并在下一次搜索时重新生成，因此启动阶段的大量注册只会触发一次冻结。</p>
  *
  * @author 季聿阶
  * @since 2022-07-26
@@ -36,9 +46,13 @@ public class DefaultMappingTree<T> implements MappingTree<T> {
     /** 表示路径分隔符的 {@link String}。 */
     public static final String PATH_SEPARATOR = "/";
 
+    private static final char PATH_SEPARATOR_CHAR = '/';
     private static final String WILD_KEY = "*";
+    private static final String MULTIPLE_WILD_KEY = "**";
 
-    private final Map<String, MappingTreeNode<T>> nodes = new ConcurrentHashMap<>();
+    private final Object lock = LockUtils.newSynchronizedLock();
+    private final MappingTreeNode<T> root = new MappingTreeNode<>();
+    private volatile FrozenNode<T> frozen;
 
     /**
      * 将指定路径按照路径分隔符进行切分。
@@ -64,8 +78,11 @@ public class DefaultMappingTree<T> implements MappingTree<T> {
         isTrue(CollectionUtils.isNotEmpty(pathFragments),
                 "The path pattern cannot only contain '/'. [pathPattern={0}]",
                 pathPattern);
-        return this.nodes.computeIfAbsent(pathFragments.remove(), fragment -> new MappingTreeNode<>())
-                .register(pathFragments, handler);
+        synchronized (this.lock) {
+            Optional<T> preHandler = this.root.register(pathFragments, handler);
+            this.frozen = null;
+            return preHandler;
+        }
     }
 
     @Override
@@ -79,14 +96,9 @@ public class DefaultMappingTree<T> implements MappingTree<T> {
         isTrue(CollectionUtils.isNotEmpty(pathFragments),
                 "The path pattern cannot only contain '/'. [pathPattern={0}]",
                 pathPattern);
-        String removed = pathFragments.remove();
-        if (!this.nodes.containsKey(removed)) {
-            return;
-        }
-        MappingTreeNode<T> treeNode = this.nodes.get(removed);
-        boolean isEmpty = treeNode.unregister(pathFragments);
-        if (isEmpty) {
-            this.nodes.remove(removed);
+        synchronized (this.lock) {
+            this.root.unregister(pathFragments);
+            this.frozen = null;
         }
     }
 
@@ -95,46 +107,75 @@ public class DefaultMappingTree<T> implements MappingTree<T> {
         notBlank(path, "The search path cannot be blank.");
         String actualPath = path.trim();
         isTrue(actualPath.startsWith(PATH_SEPARATOR), "The search path is not start with '/'. [path={0}]", path);
-        Deque<String> pathFragments = splitPath(actualPath);
-        isTrue(CollectionUtils.isNotEmpty(pathFragments),
+        isTrue(nextFragmentStart(actualPath, 0) < actualPath.length(),
                 "The search path cannot only contain '/'. [pathPattern={0}]",
                 path);
-        MappingTreeNode<T> childNode = this.nodes.get(pathFragments.removeFirst());
-        Optional<T> httpHandler = Optional.ofNullable(childNode).flatMap(node -> node.search(pathFragments));
-        if (httpHandler.isPresent()) {
-            return httpHandler;
-        }
-        MappingTreeNode<T> wildChildNode = this.nodes.get(WILD_KEY);
-        return Optional.ofNullable(wildChildNode).flatMap(node -> node.search(pathFragments));
+        return Optional.ofNullable(this.frozen().search(actualPath, 0));
     }
 
     @Override
     public List<T> getAllHandlers() {
-        Collection<MappingTreeNode<T>> values = this.nodes.values();
-        return values.stream()
-                .filter(Objects::nonNull)
-                .flatMap(value -> this.getNodeHandlers(value).stream())
-                .collect(Collectors.toList());
+        List<T> handlers = new ArrayList<>();
+        synchronized (this.lock) {
+            this.root.collectHandlers(handlers);
+        }
+        return handlers;
     }
 
-    private List<T> getNodeHandlers(MappingTreeNode<T> node) {
-        List<T> handlers = new ArrayList<>();
-        if (node.handler != null) {
-            handlers.add(node.handler);
+    private FrozenNode<T> frozen() {
+        FrozenNode<T> current = this.frozen;
+        if (current != null) {
+            return current;
         }
-        if (!node.children.isEmpty()) {
-            List<T> childrenHandlers = node.children.values()
-                    .stream()
-                    .filter(Objects::nonNull)
-                    .flatMap(child -> this.getNodeHandlers(child).stream())
-                    .collect(Collectors.toList());
-            handlers.addAll(childrenHandlers);
+        synchronized (this.lock) {
+            if (this.frozen == null) {
+                this.frozen = FrozenNode.freeze(this.root);
+            }
+            return this.frozen;
         }
-        return handlers;
+    }
+
+    /**
+     * 获取指定路径中从指定位置开始的下一段路径的起始位置。
+     * <p>路径分隔符以及仅包含空白字符的路径段都会被跳过，与 {@link #splitPath(String)} 的切分规则保持一致。</p>
+     *
+     * @param path 表示指定路径的 {@link String}。
+     * @param from 表示开始查找的位置的 {@code int}。
+     * @return 表示下一段路径的起始位置的 {@code int}，当不存在下一段路径时，返回路径的长度。
+     */
+    private static int nextFragmentStart(String path, int from) {
+        int length = path.length();
+        int position = from;
+        while (position < length) {
+            if (path.charAt(position) == PATH_SEPARATOR_CHAR) {
+                position++;
+                continue;
+            }
+            int end = fragmentEnd(path, position);
+            if (!isBlank(path, position, end)) {
+                return position;
+            }
+            position = end;
+        }
+        return length;
+    }
+
+    private static int fragmentEnd(String path, int start) {
+        int end = path.indexOf(PATH_SEPARATOR_CHAR, start);
+        return end < 0 ? path.length() : end;
+    }
+
+    private static boolean isBlank(String path, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!Character.isWhitespace(path.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     private static class MappingTreeNode<T> {
-        private final Map<String, MappingTreeNode<T>> children = new ConcurrentHashMap<>();
+        private final Map<String, MappingTreeNode<T>> children = new LinkedHashMap<>();
         private T handler;
 
         private Optional<T> register(Queue<String> pathFragments, T handler) {
@@ -163,23 +204,132 @@ public class DefaultMappingTree<T> implements MappingTree<T> {
             return this.children.isEmpty();
         }
 
-        private Optional<T> search(Deque<String> pathFragments) {
-            if (pathFragments.isEmpty()) {
-                return Optional.ofNullable(this.handler);
+        private void collectHandlers(List<T> handlers) {
+            if (this.handler != null) {
+                handlers.add(this.handler);
+            }
+            this.children.values().forEach(child -> child.collectHandlers(handlers));
+        }
+    }
+
+    /**
+     * 表示匹配树冻结后的不可变节点。
+     * <p>普通路径段的子节点按照路径段的字典序保存在数组中，搜索时通过二分查找直接与原始路径中的字符区间进行比较。</p>
+     */
+    private static final class FrozenNode<T> {
+        private final String[] keys;
+        private final FrozenNode<T>[] children;
+        private final FrozenNode<T> wildChild;
+        private final FrozenNode<T> multipleWildChild;
+        private final T handler;
+
+        private FrozenNode(String[] keys, FrozenNode<T>[] children, FrozenNode<T> wildChild,
+                FrozenNode<T> multipleWildChild, T handler) {
+            this.keys = keys;
+            this.children = children;
+            this.wildChild = wildChild;
+            this.multipleWildChild = multipleWildChild;
+            this.handler = handler;
+        }
+
+        private static <T> FrozenNode<T> freeze(MappingTreeNode<T> node) {
+            List<String> keys = node.children.keySet()
+                    .stream()
+                    .filter(key -> !StringUtils.equals(key, WILD_KEY))
+                    .filter(key -> !StringUtils.equals(key, MULTIPLE_WILD_KEY))
+                    .sorted()
+                    .toList();
+            FrozenNode<T>[] children = ObjectUtils.cast(new FrozenNode[keys.size()]);
+            for (int i = 0; i < keys.size(); i++) {
+                children[i] = freeze(node.children.get(keys.get(i)));
+            }
+            MappingTreeNode<T> wildChild = node.children.get(WILD_KEY);
+            MappingTreeNode<T> multipleWildChild = node.children.get(MULTIPLE_WILD_KEY);
+            return new FrozenNode<>(keys.toArray(new String[0]),
+                    children,
+                    wildChild == null ? null : freeze(wildChild),
+                    multipleWildChild == null ? null : freeze(multipleWildChild),
+                    node.handler);
+        }
+
+        private T search(String path, int from) {
+            int start = nextFragmentStart(path, from);
+            if (start == path.length()) {
+                if (this.handler != null) {
+                    return this.handler;
+                }
+                return this.multipleWildChild == null ? null : this.multipleWildChild.search(path, start);
+            }
+            int end = fragmentEnd(path, start);
+            int index = this.indexOf(path, start, end);
+            if (index >= 0) {
+                T found = this.children[index].search(path, end);
+                if (found != null) {
+                    return found;
+                }
+            }
+            if (this.wildChild != null) {
+                T found = this.wildChild.search(path, end);
+                if (found != null) {
+                    return found;
+                }
+            }
+            if (this.multipleWildChild == null) {
+                return null;
+            }
+            return this.multipleWildChild.searchAfterMultipleWild(path, start);
+        }
+
+        /**
+         * 在当前节点为多段通配符节点的情况下搜索处理器。
+         * <p>多段通配符依次尝试匹配零段、一段直至全部剩余的路径段，返回第一个匹配成功的处理器。</p>
+         *
+         * @param path 表示待匹配的路径的 {@link String}。
+         * @param from 表示剩余路径的起始位置的 {@code int}。
+         * @return 表示搜索到的处理器的 {@link T}，当没有匹配的处理器时，返回 {@code null}。
+         */
+        private T searchAfterMultipleWild(String path, int from) {
+            int position = from;
+            while (true) {
+                T found = this.search(path, position);
+                if (found != null) {
+                    return found;
+                }
+                int start = nextFragmentStart(path, position);
+                if (start == path.length()) {
+                    return null;
+                }
+                position = fragmentEnd(path, start);
             }
-            String removed = pathFragments.removeFirst();
-            MappingTreeNode<T> child = this.children.get(removed);
-            Optional<T> httpHandler = Optional.ofNullable(child).flatMap(node -> node.search(pathFragments));
-            if (httpHandler.isPresent()) {
-                return httpHandler;
+        }
+
+        private int indexOf(String path, int start, int end) {
+            int low = 0;
+            int high = this.keys.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int compared = compare(this.keys[middle], path, start, end);
+                if (compared < 0) {
+                    low = middle + 1;
+                } else if (compared > 0) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
             }
-            MappingTreeNode<T> wildChild = this.children.get(WILD_KEY);
-            httpHandler = Optional.ofNullable(wildChild).flatMap(node -> node.search(pathFragments));
-            if (httpHandler.isPresent()) {
-                return httpHandler;
+            return -1;
+        }
+
+        private static int compare(String key, String path, int start, int end) {
+            int length = end - start;
+            int min = Math.min(key.length(), length);
+            for (int i = 0; i < min; i++) {
+                int compared = key.charAt(i) - path.charAt(start + i);
+                if (compared != 0) {
+                    return compared;
+                }
             }
-            pathFragments.addFirst(removed);
-            return Optional.empty();
+            return key.length() - length;
         }
     }
 }
@@ -13,6 +13,7 @@ import static modelengine.fitframework.util.ObjectUtils.getIfNull;
 import modelengine.fit.http.server.HttpClassicServer;
 import modelengine.fit.http.server.HttpHandler;
 import modelengine.fit.http.server.HttpServerFilter;
+import modelengine.fit.http.server.support.HttpServerFilterSelector;
 
 import java.util.Collections;
 import java.util.List;
@@ -27,6 +28,7 @@ public abstract class AbstractHttpHandler implements HttpHandler {
     private final HttpClassicServer httpServer;
     private final String pathPattern;
     private final List<HttpServerFilter> preFilters;
+    private final HttpServerFilterSelector preFilterSelector;
 
     /**
      * 通过 Http 处理器的相关静态信息来实例化 {@link AbstractHttpHandler}。
@@ -45,6 +47,7 @@ public abstract class AbstractHttpHandler implements HttpHandler {
         this.httpServer = notNull(executionInfo.httpServer(), "The http server cannot be null.");
         this.pathPattern = notBlank(staticInfo.pathPattern(), "The path pattern cannot be blank.");
         this.preFilters = getIfNull(executionInfo.preFilters(), Collections::emptyList);
+        this.preFilterSelector = HttpServerFilterSelector.create(this.preFilters);
     }
 
     @Override
@@ -61,4 +64,14 @@ public abstract class AbstractHttpHandler implements HttpHandler {
     public List<HttpServerFilter> preFilters() {
         return Collections.unmodifiableList(this.preFilters);
     }
+
+    /**
+     * 获取当前处理器的前置过滤器的选择器。
+     * <p>选择器在处理器创建时根据 {@link #preFilters()} 预先编译，处理 Http 请求时直接用于选择需要执行的过滤器。</p>
+     *
+     * @return 表示前置过滤器的选择器的 {@link HttpServerFilterSelector}。
+     */
+    public HttpServerFilterSelector preFilterSelector() {
+        return this.preFilterSelector;
+    }
 }
@@ -11,22 +11,22 @@ import modelengine.fit.http.server.HttpClassicServerResponse;
 import modelengine.fit.http.server.HttpHandler;
 import modelengine.fit.http.server.HttpServerFilter;
 import modelengine.fit.http.server.HttpServerFilterChain;
+import modelengine.fit.http.server.handler.AbstractHttpHandler;
 import modelengine.fitframework.inspection.Validation;
-import modelengine.fitframework.util.wildcard.Pattern;
 
+import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * {@link HttpServerFilterChain} 的默认实现。
+ * <p>需要执行的过滤器在第一次执行过滤时一次性选出，之后的每一次过滤只需要按顺序取出下一个过滤器。</p>
  *
  * @author 季聿阶
  * @since 2022-07-18
  */
 public class DefaultHttpServerFilterChain implements HttpServerFilterChain {
-    private static final char PATH_SEPARATOR = '/';
-
-    private final List<HttpServerFilter> filters;
+    private final HttpServerFilterSelector selector;
+    private List<HttpServerFilter> selectedFilters;
     private int index;
     private final HttpHandler handler;
 
@@ -38,38 +38,31 @@ public class DefaultHttpServerFilterChain implements HttpServerFilterChain {
      */
     public DefaultHttpServerFilterChain(HttpHandler handler) {
         this.handler = Validation.notNull(handler, "The http handler cannot be null.");
-        this.filters = handler.preFilters();
+        this.selector = selectorOf(handler);
         this.index = -1;
     }
 
+    private static HttpServerFilterSelector selectorOf(HttpHandler handler) {
+        if (handler instanceof AbstractHttpHandler) {
+            HttpServerFilterSelector selector = ((AbstractHttpHandler) handler).preFilterSelector();
+            if (selector != null) {
+                return selector;
+            }
+        }
+        return HttpServerFilterSelector.create(handler.preFilters());
+    }
+
     @Override
     public void doFilter(HttpClassicServerRequest request, HttpClassicServerResponse response) {
-        Optional<HttpServerFilter> opNextFilter = this.findNextFilter(request);
-        if (opNextFilter.isPresent()) {
-            opNextFilter.get().doFilter(request, response, this);
+        if (this.selectedFilters == null) {
+            this.selectedFilters =
+                    this.selector.isEmpty() ? Collections.emptyList() : this.selector.select(request.path());
+        }
+        if (this.index + 1 < this.selectedFilters.size()) {
+            this.index++;
+            this.selectedFilters.get(this.index).doFilter(request, response, this);
         } else {
             this.handler.handle(request, response);
         }
     }
-
-    private Optional<HttpServerFilter> findNextFilter(HttpClassicServerRequest request) {
-        for (int i = this.index + 1; i < this.filters.size(); i++) {
-            HttpServerFilter nextFilter = this.filters.get(i);
-            boolean isMismatch = nextFilter.mismatchPatterns()
-                    .stream()
-                    .map(pattern -> Pattern.forPath(pattern, PATH_SEPARATOR))
-                    .anyMatch(pattern -> pattern.matches(request.path()));
-            if (isMismatch) {
-                continue;
-            }
-            for (String pattern : nextFilter.matchPatterns()) {
-                boolean matches = Pattern.forPath(pattern, PATH_SEPARATOR).matches(request.path());
-                if (matches) {
-                    this.index = i;
-                    return Optional.of(nextFilter);
-                }
-            }
-        }
-        return Optional.empty();
-    }
 }
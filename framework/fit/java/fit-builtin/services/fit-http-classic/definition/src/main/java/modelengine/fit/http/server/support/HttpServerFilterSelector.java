@@ -0,0 +1,124 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.server.support;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fit.http.server.HttpServerFilter;
+import modelengine.fitframework.util.ObjectUtils;
+import modelengine.fitframework.util.wildcard.PathPattern;
+import modelengine.fitframework.util.wildcard.Pattern;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 表示根据 Http 请求的路径选择需要执行的 {@link HttpServerFilter} 的选择器。
+ * <p>选择器将每一个过滤器的过滤路径样式和不匹配的过滤路径样式编译为 {@link PathPattern}，处理 Http 请求时不再重复编译。同时，
+ * 选择器按照请求路径缓存选择结果，缓存的路径数量有上限，超过上限时清空缓存，避免带有路径变量的 Http 处理器使缓存无限增长。</p>
+ * <p>选择器在创建时保存过滤器列表的快照，之后不再跟踪该列表的变化。插件启动和停止时，Http 处理器连同其前置过滤器会被重新解析和
+ * 注册，新的处理器会创建新的选择器，因此不需要在处理 Http 请求时检查过滤器是否发生变化。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+public class HttpServerFilterSelector {
+    private static final char PATH_SEPARATOR = '/';
+    private static final int MAX_CACHED_PATHS = 1024;
+    private static final HttpServerFilterSelector EMPTY = new HttpServerFilterSelector(Collections.emptyList());
+
+    private final HttpServerFilter[] filters;
+    private final PathPattern[][] matchPatterns;
+    private final PathPattern[][] mismatchPatterns;
+    private final Map<String, List<HttpServerFilter>> selections = new ConcurrentHashMap<>();
+
+    private HttpServerFilterSelector(List<HttpServerFilter> filters) {
+        this.filters = filters.toArray(new HttpServerFilter[0]);
+        this.matchPatterns = new PathPattern[this.filters.length][];
+        this.mismatchPatterns = new PathPattern[this.filters.length][];
+        for (int i = 0; i < this.filters.length; i++) {
+            HttpServerFilter filter = notNull(this.filters[i], "The http server filter cannot be null.");
+            this.matchPatterns[i] = compile(filter.matchPatterns());
+            this.mismatchPatterns[i] = compile(filter.mismatchPatterns());
+        }
+    }
+
+    /**
+     * 判断当前选择器中是否没有任何过滤器。
+     *
+     * @return 如果没有任何过滤器，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    public boolean isEmpty() {
+        return this.filters.length == 0;
+    }
+
+    /**
+     * 选择指定路径的 Http 请求需要执行的过滤器。
+     * <p>过滤器被选中的条件为：请求路径不满足该过滤器任何一个不匹配的过滤路径样式，且满足该过滤器至少一个过滤路径样式。</p>
+     *
+     * @param path 表示 Http 请求的路径的 {@link String}。
+     * @return 表示按照执行顺序排列的需要执行的过滤器的 {@link List}{@code <}{@link HttpServerFilter}{@code >}。
+     */
+    public List<HttpServerFilter> select(String path) {
+        if (this.filters.length == 0) {
+            return Collections.emptyList();
+        }
+        List<HttpServerFilter> selected = this.selections.get(path);
+        if (selected != null) {
+            return selected;
+        }
+        selected = this.select0(path);
+        if (this.selections.size() >= MAX_CACHED_PATHS) {
+            this.selections.clear();
+        }
+        this.selections.put(path, selected);
+        return selected;
+    }
+
+    private List<HttpServerFilter> select0(String path) {
+        List<HttpServerFilter> selected = new ArrayList<>(this.filters.length);
+        for (int i = 0; i < this.filters.length; i++) {
+            if (!matchesAny(this.mismatchPatterns[i], path) && matchesAny(this.matchPatterns[i], path)) {
+                selected.add(this.filters[i]);
+            }
+        }
+        return Collections.unmodifiableList(selected);
+    }
+
+    private static boolean matchesAny(PathPattern[] patterns, String path) {
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static PathPattern[] compile(List<String> patterns) {
+        return ObjectUtils.<List<String>>getIfNull(patterns, Collections::emptyList)
+                .stream()
+                .map(pattern -> Pattern.forPath(pattern, PATH_SEPARATOR))
+                .toArray(PathPattern[]::new);
+    }
+
+    /**
+     * 使用指定的过滤器列表创建选择器。
+     *
+     * @param filters 表示已经按照执行顺序排列的过滤器列表的 {@link List}{@code <}{@link HttpServerFilter}{@code >}。
+     * @return 表示创建的选择器的 {@link HttpServerFilterSelector}。
+     * @throws IllegalArgumentException 当 {@code filters} 中存在 {@code null} 时。
+     */
+    public static HttpServerFilterSelector create(List<HttpServerFilter> filters) {
+        if (filters == null || filters.isEmpty()) {
+            return EMPTY;
+        }
+        return new HttpServerFilterSelector(filters);
+    }
+}
@@ -7,7 +7,10 @@
 package modelengine.fit.http.client.support;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import modelengine.fit.http.HttpMessage;
@@ -16,6 +19,7 @@ import modelengine.fit.http.QueryCollection;
 import modelengine.fit.http.client.HttpClassicClientResponse;
 import modelengine.fit.http.entity.Entity;
 import modelengine.fit.http.entity.FileEntity;
+import modelengine.fit.http.entity.ReadableBinaryEntity;
 import modelengine.fit.http.entity.support.DefaultObjectEntity;
 import modelengine.fit.http.protocol.ClientRequest;
 import modelengine.fit.http.protocol.ClientResponse;
@@ -175,6 +179,29 @@ public class DefaultHttpClassicClientRequestTest {
         assertThat(exchange.contentLength()).isEqualTo(30);
     }
 
+    @Test
+    @DisplayName("非文件的二进制实体已经设置消息体长度时，按照设置的长度以流的形式发送")
+    void givenBinaryEntityWithContentLengthThenSendWithThatLength() throws IOException {
+        InputStream in = new ByteArrayInputStream("Content".getBytes(StandardCharsets.UTF_8));
+        this.defaultHttpClassicClientRequest.entity(ReadableBinaryEntity.create(this.defaultHttpClassicClientRequest,
+                in));
+        this.defaultHttpClassicClientRequest.headers().set("Content-Length", "7");
+        this.defaultHttpClassicClientRequest.exchange();
+        verify(this.clientRequest).writeBody(any(InputStream.class), eq(7L));
+        assertThat(this.defaultHttpClassicClientRequest.headers().first("Transfer-Encoding")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("非文件的二进制实体没有设置消息体长度时，采用分块传输编码发送")
+    void givenBinaryEntityWithoutContentLengthThenSendChunked() throws IOException {
+        InputStream in = new ByteArrayInputStream("Content".getBytes(StandardCharsets.UTF_8));
+        this.defaultHttpClassicClientRequest.entity(ReadableBinaryEntity.create(this.defaultHttpClassicClientRequest,
+                in));
+        this.defaultHttpClassicClientRequest.exchange();
+        verify(this.clientRequest).writeBody(any(InputStream.class), eq(-1L));
+        assertThat(this.defaultHttpClassicClientRequest.headers().first("Transfer-Encoding")).hasValue("chunked");
+    }
+
     @Nested
     @DisplayName("测试 exchange(Class<T>) 方法")
     class TestExchange {
@@ -0,0 +1,163 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.client.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import modelengine.fit.http.client.HttpClassicClientRequest;
+import modelengine.fit.http.client.HttpClassicClientResponse;
+import modelengine.fit.http.entity.ReadableBinaryEntity;
+import modelengine.fit.http.header.ContentType;
+import modelengine.fit.http.protocol.MimeType;
+import modelengine.fitframework.flowable.Subscription;
+import modelengine.fitframework.flowable.subscriber.EmptySubscriber;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 为 {@link EventStreamChoir} 提供单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 EventStreamChoir")
+class EventStreamChoirTest {
+    private static class RecordingSubscriber extends EmptySubscriber<String> {
+        private final List<String> records = new CopyOnWriteArrayList<>();
+        private final CountDownLatch terminated = new CountDownLatch(1);
+        private volatile CountDownLatch consumed;
+        private volatile Subscription subscription;
+
+        @Override
+        protected void onSubscribed0(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        protected void consume(Subscription subscription, String data) {
+            this.records.add(data);
+            this.consumed.countDown();
+        }
+
+        @Override
+        protected void complete(Subscription subscription) {
+            this.records.add("complete");
+            this.terminated.countDown();
+        }
+
+        @Override
+        protected void fail(Subscription subscription, Exception cause) {
+            this.records.add("fail");
+            this.terminated.countDown();
+        }
+
+        private void request(long count) throws InterruptedException {
+            this.consumed = new CountDownLatch((int) count);
+            this.subscription.request(count);
+            assertThat(this.consumed.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        private void requestUntilTerminated() throws InterruptedException {
+            this.consumed = new CountDownLatch(0);
+            this.subscription.request(1);
+            assertThat(this.terminated.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    private static HttpClassicClientResponse<Object> response(int statusCode, MimeType mimeType, String body) {
+        ContentType contentType = mock(ContentType.class);
+        when(contentType.mediaType()).thenReturn(mimeType.value());
+        when(contentType.charset()).thenReturn(Optional.empty());
+        ReadableBinaryEntity entity = mock(ReadableBinaryEntity.class);
+        when(entity.getInputStream()).thenReturn(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+        HttpClassicClientResponse<Object> response = mock(HttpClassicClientResponse.class);
+        when(response.statusCode()).thenReturn(statusCode);
+        when(response.contentType()).thenReturn(Optional.of(contentType));
+        when(response.entity()).thenReturn(Optional.of(entity));
+        return response;
+    }
+
+    private static HttpClassicClientRequest request(HttpClassicClientResponse<Object> response) {
+        HttpClassicClientRequest request = mock(HttpClassicClientRequest.class);
+        when(request.exchangeAsync(any())).thenReturn(CompletableFuture.completedFuture(response));
+        return request;
+    }
+
+    @Test
+    @DisplayName("只在订阅者请求数据时发送请求，并且只解码订阅者请求的数量的事件")
+    void shouldDecodeEventsOnDemand() throws InterruptedException, IOException {
+        HttpClassicClientResponse<Object> response =
+                response(200, MimeType.TEXT_EVENT_STREAM, "data: a\n\ndata: b\n\ndata: c\n\n");
+        HttpClassicClientRequest request = request(response);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        new EventStreamChoir<String>(request, String.class).subscribe(subscriber);
+        verify(request, never()).exchangeAsync(any());
+        subscriber.request(2);
+        assertThat(subscriber.records).containsExactly("a", "b");
+        verify(response, never()).close();
+        subscriber.request(1);
+        subscriber.requestUntilTerminated();
+        assertThat(subscriber.records).containsExactly("a", "b", "c", "complete");
+        verify(response).close();
+    }
+
+    @Test
+    @DisplayName("需求无限时分批让出读取线程，仍然按顺序解码全部事件")
+    void shouldDecodeAllEventsInBatchesWhenDemandIsUnbounded() throws InterruptedException {
+        StringBuilder body = new StringBuilder();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            body.append(i).append('\n');
+            expected.add(String.valueOf(i));
+        }
+        expected.add("complete");
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        new EventStreamChoir<String>(request(response(200, MimeType.APPLICATION_X_NDJSON, body.toString())),
+                String.class).subscribe(subscriber);
+        subscriber.consumed = new CountDownLatch(0);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertThat(subscriber.terminated.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(subscriber.records).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("按行解码 NDJSON 格式的响应")
+    void shouldDecodeJsonLines() throws InterruptedException {
+        HttpClassicClientResponse<Object> response = response(200, MimeType.APPLICATION_X_NDJSON, "first\nsecond\n");
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        new EventStreamChoir<String>(request(response), String.class).subscribe(subscriber);
+        subscriber.request(2);
+        assertThat(subscriber.records).containsExactly("first", "second");
+    }
+
+    @Test
+    @DisplayName("响应状态码不是成功状态码时，订阅者收到失败信号")
+    void shouldFailWhenStatusCodeIsNotSuccess() throws InterruptedException {
+        HttpClassicClientResponse<Object> response = response(500, MimeType.TEXT_EVENT_STREAM, "");
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        new EventStreamChoir<String>(request(response), String.class).subscribe(subscriber);
+        subscriber.requestUntilTerminated();
+        assertThat(subscriber.records).containsExactly("fail");
+    }
+}
@@ -0,0 +1,88 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.client.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fit.http.entity.TextEvent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 为 {@link EventStreamDecoder} 提供单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 EventStreamDecoder")
+class EventStreamDecoderTest {
+    private static EventStreamDecoder decoder(String content, EventStreamDecoder.Format format) {
+        return new EventStreamDecoder(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+                StandardCharsets.UTF_8,
+                format);
+    }
+
+    @Test
+    @DisplayName("解析包含标识、名称、重试时间和多行数据的服务端事件")
+    void shouldDecodeServerSentEventWithAllFields() throws IOException {
+        EventStreamDecoder decoder = decoder("id: 1\nevent: message\nretry: 3000\ndata: 第一行\ndata: second\n\n",
+                EventStreamDecoder.Format.SERVER_SENT_EVENTS);
+        TextEvent event = decoder.next();
+        assertThat(event.id()).isEqualTo("1");
+        assertThat(event.event()).isEqualTo("message");
+        assertThat(event.retry()).isEqualTo(Duration.ofMillis(3000));
+        assertThat(event.data()).isEqualTo("第一行\nsecond");
+        assertThat(decoder.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("忽略注释行和多余的空行，并支持 CRLF 换行")
+    void shouldSkipCommentsAndBlankLines() throws IOException {
+        EventStreamDecoder decoder = decoder(": keep-alive\r\n\r\n\r\ndata: a\r\n\r\ndata: b\r\n\r\n",
+                EventStreamDecoder.Format.SERVER_SENT_EVENTS);
+        assertThat(decoder.next().data()).isEqualTo("a");
+        assertThat(decoder.next().data()).isEqualTo("b");
+        assertThat(decoder.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("超过初始缓冲区大小的数据行可以完整解析")
+    void shouldDecodeLineLongerThanInitialBuffer() throws IOException {
+        String data = "x".repeat(100_000);
+        EventStreamDecoder decoder =
+                decoder("data: " + data + "\n\ndata: next\n\n", EventStreamDecoder.Format.SERVER_SENT_EVENTS);
+        assertThat(decoder.next().data()).isEqualTo(data);
+        assertThat(decoder.next().data()).isEqualTo("next");
+        assertThat(decoder.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("未以空行结束的最后一个事件被丢弃")
+    void shouldDropIncompleteTrailingEvent() throws IOException {
+        EventStreamDecoder decoder =
+                decoder("data: complete\n\ndata: partial", EventStreamDecoder.Format.SERVER_SENT_EVENTS);
+        assertThat(decoder.next().data()).isEqualTo("complete");
+        assertThat(decoder.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("按行解析 NDJSON，忽略空行，最后一行可以没有换行符")
+    void shouldDecodeJsonLines() throws IOException {
+        EventStreamDecoder decoder =
+                decoder("{\"a\":1}\n\n  {\"b\":2}\r\n{\"c\":3}", EventStreamDecoder.Format.NDJSON);
+        assertThat(decoder.next().data()).isEqualTo("{\"a\":1}");
+        assertThat(decoder.next().data()).isEqualTo("{\"b\":2}");
+        assertThat(decoder.next().data()).isEqualTo("{\"c\":3}");
+        assertThat(decoder.next()).isNull();
+    }
+}
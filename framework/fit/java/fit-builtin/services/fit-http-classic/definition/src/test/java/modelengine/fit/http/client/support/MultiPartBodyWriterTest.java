@@ -0,0 +1,137 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.client.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import modelengine.fit.http.HttpMessage;
+import modelengine.fit.http.entity.FileEntity;
+import modelengine.fit.http.entity.NamedEntity;
+import modelengine.fit.http.entity.PartitionedEntity;
+import modelengine.fit.http.entity.TextEntity;
+import modelengine.fit.http.entity.serializer.MultiPartEntitySerializer;
+import modelengine.fit.http.entity.support.DefaultNamedEntity;
+import modelengine.fit.http.entity.support.DefaultPartitionedEntity;
+import modelengine.fit.http.header.ContentType;
+import modelengine.fit.http.header.HeaderValue;
+import modelengine.fit.http.protocol.ClientRequest;
+import modelengine.fit.http.util.HttpUtils;
+import modelengine.fitframework.util.IoUtils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 为 {@link MultiPartBodyWriter} 提供单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 MultiPartBodyWriter")
+class MultiPartBodyWriterTest {
+    private static final String BOUNDARY = "token";
+
+    @TempDir
+    Path tempDir;
+
+    private final HttpMessage httpMessage = mock(HttpMessage.class);
+    private final ByteArrayOutputStream sent = new ByteArrayOutputStream();
+    private ClientRequest clientRequest;
+    private PartitionedEntity received;
+
+    @BeforeEach
+    void setup() throws IOException {
+        HeaderValue headerValue = HttpUtils.parseHeaderValue("multipart/form-data; boundary=" + BOUNDARY);
+        Optional<ContentType> contentType = Optional.of(headerValue.toContentType());
+        when(this.httpMessage.contentType()).thenReturn(contentType);
+        this.clientRequest = mock(ClientRequest.class);
+        doAnswer(invocation -> {
+            this.sent.write(invocation.<byte[]>getArgument(0));
+            return null;
+        }).when(this.clientRequest).writeBody(any(byte[].class));
+        doAnswer(invocation -> {
+            this.sent.write(Files.readAllBytes(invocation.getArgument(0)));
+            return null;
+        }).when(this.clientRequest).writeBody(any(Path.class));
+        doAnswer(invocation -> {
+            this.sent.write(IoUtils.read(invocation.<InputStream>getArgument(0)));
+            return null;
+        }).when(this.clientRequest).writeBody(any(InputStream.class), anyLong());
+    }
+
+    @AfterEach
+    void teardown() throws IOException {
+        if (this.received != null) {
+            this.received.close();
+        }
+    }
+
+    @Test
+    @DisplayName("文件分块来自本地文件时，直接写入文件，生成的消息体可以被正确解析")
+    void shouldWriteFileDirectlyWhenFileIsLocal() throws IOException {
+        Path file = Files.writeString(this.tempDir.resolve("a.txt"), "FileContent");
+        PartitionedEntity entity = this.entity(FileEntity.create(this.httpMessage, file, FileEntity.Position.INLINE));
+        MultiPartBodyWriter writer = new MultiPartBodyWriter(entity, BOUNDARY, StandardCharsets.UTF_8);
+        writer.writeTo(this.clientRequest);
+        verify(this.clientRequest).writeBody(file);
+        verify(this.clientRequest, never()).writeBody(any(InputStream.class), anyLong());
+        this.assertReceived(writer.length());
+    }
+
+    @Test
+    @DisplayName("文件分块不来自本地文件时，整个消息体作为输入流写入，生成的消息体可以被正确解析")
+    void shouldWriteStreamWhenFileIsNotLocal() throws IOException {
+        byte[] content = "FileContent".getBytes(StandardCharsets.UTF_8);
+        PartitionedEntity entity = this.entity(FileEntity.createAttachment(this.httpMessage,
+                "a.txt",
+                new ByteArrayInputStream(content),
+                content.length));
+        MultiPartBodyWriter writer = new MultiPartBodyWriter(entity, BOUNDARY, StandardCharsets.UTF_8);
+        writer.writeTo(this.clientRequest);
+        verify(this.clientRequest, never()).writeBody(any(Path.class));
+        this.assertReceived(writer.length());
+    }
+
+    private PartitionedEntity entity(FileEntity file) {
+        NamedEntity text = new DefaultNamedEntity(this.httpMessage, "text", TextEntity.create(this.httpMessage, "v"));
+        NamedEntity named = new DefaultNamedEntity(this.httpMessage, "file", file);
+        return new DefaultPartitionedEntity(this.httpMessage, Arrays.asList(text, named));
+    }
+
+    private void assertReceived(long length) throws IOException {
+        byte[] bytes = this.sent.toByteArray();
+        assertThat(bytes).hasSize((int) length);
+        this.received =
+                MultiPartEntitySerializer.INSTANCE.deserializeEntity(bytes, StandardCharsets.UTF_8, this.httpMessage);
+        assertThat(this.received.entities()).hasSize(2);
+        assertThat(this.received.entities().get(0).name()).isEqualTo("text");
+        assertThat(this.received.entities().get(0).asText().content()).isEqualTo("v");
+        FileEntity file = this.received.entities().get(1).asFile();
+        assertThat(file.filename()).isEqualTo("a.txt");
+        assertThat(new String(IoUtils.read(file.getInputStream()), StandardCharsets.UTF_8)).isEqualTo("FileContent");
+    }
+}
@@ -34,7 +34,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -196,7 +198,7 @@ public class MultiPartEntitySerializerTest {
             @Test
             @DisplayName("给定参数中包含小型缓冲大小的元数据头，然后异常中断，抛出异常")
             void givenSmallBufferHeaderAndExitThenThrowException() {
-                String content = "----token\r\n" + "1".repeat(MultiPartEntitySerializer.SMALL_BUFFER);
+                String content = "----token\r\n" + "1".repeat(64);
                 EntityReadException entityReadException = catchThrowableOfType(EntityReadException.class,
                         () -> this.getSerializer()
                                 .deserializeEntity(content.getBytes(StandardCharsets.UTF_8),
@@ -529,6 +531,94 @@ public class MultiPartEntitySerializerTest {
                     assertThat(namedEntity2.asText().content()).isEqualTo("Content");
                 }
             }
+
+            @Nested
+            @DisplayName("测试增量读取场景")
+            class TestStreaming {
+                @Test
+                @DisplayName("给定超过缓冲区大小且分批到达的内容，返回完整的文件和文本")
+                void givenLargeContentInSmallChunksThenReturnActualFile() throws IOException {
+                    String fileContent = "0123456789\r\n--tok".repeat(2000);
+                    String content = "----token\r\n"
+                            + "Content-Disposition: form-data; name=\"key\"; filename=\"test.txt\"\r\n\r\n"
+                            + fileContent + "\r\n----token\r\n"
+                            + "Content-Disposition: form-data; name=\"another\"\r\n\r\n"
+                            + "Content\r\n----token--";
+                    InputStream in = new ChunkedInputStream(content.getBytes(StandardCharsets.UTF_8), 7);
+                    MultiPartEntitySerializerTest.this.entity = MultiPartEntitySerializer.INSTANCE.deserializeEntity(
+                            in,
+                            MultiPartEntitySerializerTest.this.charset,
+                            MultiPartEntitySerializerTest.this.httpMessage);
+                    assertThat(MultiPartEntitySerializerTest.this.entity.entities()).hasSize(2);
+                    FileEntity fileEntity = MultiPartEntitySerializerTest.this.entity.entities().get(0).asFile();
+                    assertThat(fileEntity.length()).isEqualTo(fileContent.length());
+                    assertThat(IoUtils.content(fileEntity.getInputStream())).isEqualTo(fileContent);
+                    NamedEntity namedEntity = MultiPartEntitySerializerTest.this.entity.entities().get(1);
+                    assertThat(namedEntity.asText().content()).isEqualTo("Content");
+                }
+            }
+
+            @Nested
+            @DisplayName("测试大小限制场景")
+            class TestLimit {
+                private final String content = """
+                        ----token\r
+                        Content-Disposition: form-data; name="key"; filename="test.txt"\r
+                        \r
+                        Content\r
+                        ----token--""";
+
+                @Test
+                @DisplayName("分块内容超过限制，抛出异常")
+                void givenPartExceedsLimitThenThrowException() {
+                    EntitySerializer<PartitionedEntity> serializer = new MultiPartEntitySerializer(6, -1, null);
+                    EntityReadException exception = catchThrowableOfType(EntityReadException.class,
+                            () -> serializer.deserializeEntity(this.content.getBytes(StandardCharsets.UTF_8),
+                                    MultiPartEntitySerializerTest.this.charset,
+                                    MultiPartEntitySerializerTest.this.httpMessage));
+                    assertThat(exception).hasMessage("The part of multipart entity is too large. [maxPartSize=6]");
+                }
+
+                @Test
+                @DisplayName("消息体超过限制，抛出异常")
+                void givenTotalExceedsLimitThenThrowException() {
+                    EntitySerializer<PartitionedEntity> serializer = new MultiPartEntitySerializer(-1, 16, null);
+                    EntityReadException exception = catchThrowableOfType(EntityReadException.class,
+                            () -> serializer.deserializeEntity(this.content.getBytes(StandardCharsets.UTF_8),
+                                    MultiPartEntitySerializerTest.this.charset,
+                                    MultiPartEntitySerializerTest.this.httpMessage));
+                    assertThat(exception).hasMessage("The multipart entity is too large. [maxTotalSize=16]");
+                }
+
+                @Test
+                @DisplayName("分块内容恰好等于限制，返回对应的文件流")
+                void givenPartEqualsLimitThenReturnActualFile() throws IOException {
+                    EntitySerializer<PartitionedEntity> serializer = new MultiPartEntitySerializer(7, -1, null);
+                    MultiPartEntitySerializerTest.this.entity =
+                            serializer.deserializeEntity(this.content.getBytes(StandardCharsets.UTF_8),
+                                    MultiPartEntitySerializerTest.this.charset,
+                                    MultiPartEntitySerializerTest.this.httpMessage);
+                    FileEntity fileEntity = MultiPartEntitySerializerTest.this.entity.entities().get(0).asFile();
+                    assertThat(IoUtils.content(fileEntity.getInputStream())).isEqualTo("Content");
+                }
+            }
+        }
+    }
+
+    /**
+     * 表示每次最多只返回指定数量字节的输入流，用于模拟分批到达的消息体。
+     */
+    private static class ChunkedInputStream extends ByteArrayInputStream {
+        private final int chunkSize;
+
+        ChunkedInputStream(byte[] bytes, int chunkSize) {
+            super(bytes);
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public synchronized int read(byte[] bytes, int off, int len) {
+            return super.read(bytes, off, Math.min(len, this.chunkSize));
         }
     }
 }
@@ -0,0 +1,59 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.entity.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import modelengine.fit.http.HttpMessage;
+import modelengine.fit.http.entity.FileEntity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+/**
+ * 为 {@link DefaultFileEntity} 提供单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 DefaultFileEntity 类")
+class DefaultFileEntityTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("使用本地文件创建时，文件在第一次读取时才被打开")
+    void shouldOpenFileOnFirstRead() throws IOException {
+        Path file = Files.write(this.directory.resolve("hello.txt"), "hello".getBytes(StandardCharsets.UTF_8));
+        FileEntity entity = new DefaultFileEntity(mock(HttpMessage.class), file, FileEntity.Position.INLINE);
+        Files.write(file, "world".getBytes(StandardCharsets.UTF_8));
+        try (entity) {
+            assertThat(entity.length()).isEqualTo(5);
+            assertThat(new String(entity.getInputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("world");
+        }
+        assertThat(file).exists();
+    }
+
+    @Test
+    @DisplayName("使用本地文件创建后文件被删除时，读取时报告文件不存在")
+    void shouldFailOnReadWhenFileDeletedAfterCreation() throws IOException {
+        Path file = Files.write(this.directory.resolve("hello.txt"), "hello".getBytes(StandardCharsets.UTF_8));
+        try (FileEntity entity = new DefaultFileEntity(mock(HttpMessage.class), file, FileEntity.Position.INLINE)) {
+            Files.delete(file);
+            assertThatThrownBy(() -> entity.getInputStream().read()).isInstanceOf(NoSuchFileException.class);
+        }
+    }
+}
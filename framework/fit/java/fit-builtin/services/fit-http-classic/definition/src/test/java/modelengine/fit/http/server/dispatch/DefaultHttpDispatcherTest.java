@@ -317,4 +317,46 @@ public class DefaultHttpDispatcherTest {
             return DefaultHttpDispatcherTest.this.dispatcher;
         }
     }
+
+    @Nested
+    @DisplayName("注册了一个无法放入匹配树的 '**' 路径样式的处理器后")
+    class AfterRegistering1PartialWildcardHandler {
+        @BeforeEach
+        void setup() {
+            when(DefaultHttpDispatcherTest.this.handler.pathPattern()).thenReturn("/a**");
+            this.dispatcher().register(HttpRequestMethod.GET.name(), DefaultHttpDispatcherTest.this.handler);
+        }
+
+        @Test
+        @DisplayName("当转发路径匹配的请求时，请求被注册的处理器处理")
+        void requestIsHandledWhenDispatchingMatchedPath() {
+            when(DefaultHttpDispatcherTest.this.request.method()).thenReturn(HttpRequestMethod.GET);
+            when(DefaultHttpDispatcherTest.this.request.path()).thenReturn("/abc");
+            HttpHandler httpHandler = this.dispatcher().dispatch(DefaultHttpDispatcherTest.this.request, null);
+            assertThat(httpHandler).isEqualTo(DefaultHttpDispatcherTest.this.handler);
+        }
+
+        @Test
+        @DisplayName("当取消注册后，抛出 HttpHandlerNotFoundException")
+        void throwExceptionAfterUnregistering() {
+            this.dispatcher().unregister(HttpRequestMethod.GET.name(), DefaultHttpDispatcherTest.this.handler);
+            when(DefaultHttpDispatcherTest.this.request.method()).thenReturn(HttpRequestMethod.GET);
+            when(DefaultHttpDispatcherTest.this.request.path()).thenReturn("/abc");
+            HttpHandlerNotFoundException exception = catchThrowableOfType(HttpHandlerNotFoundException.class,
+                    () -> this.dispatcher().dispatch(DefaultHttpDispatcherTest.this.request, null));
+            assertThat(exception).isNotNull().hasMessage("No http handler for http request. [method=GET, path=/abc]");
+        }
+
+        @Test
+        @DisplayName("可以成功获取所有注册的处理器")
+        void shouldReturnAllRegisteredHandlers() {
+            Map<HttpRequestMethod, List<HttpHandler>> mapping = this.dispatcher().getHttpHandlersMapping();
+            assertThat(mapping).hasSize(1);
+            assertThat(mapping.get(HttpRequestMethod.GET)).containsExactly(DefaultHttpDispatcherTest.this.handler);
+        }
+
+        private HttpDispatcher dispatcher() {
+            return DefaultHttpDispatcherTest.this.dispatcher;
+        }
+    }
 }
@@ -65,4 +65,96 @@ public class DefaultMappingTreeTest {
             assertThat(search).isNotEmpty().get().isEqualTo(DefaultMappingTreeTest.this.handler);
         }
     }
+
+    @Nested
+    @DisplayName("注册了一个含多段通配符的路径后")
+    class AfterRegistering1MultipleWildPattern {
+        @ParameterizedTest(name = "{index}: 注册路径样式为 `{0}`，搜索路径为 `{1}`")
+        @DisplayName("搜索匹配的路径可以获取处理器")
+        @CsvSource({"/**,/a", "/**,/a/b/c", "/a/**,/a", "/a/**,/a/b/c", "/a/**/c,/a/c", "/a/**/c,/a/b/b/c",
+                "/*/**,/a/b"})
+        void returnHandlerWhenSearchingMatchedPath(String pathPattern, String searchPath) {
+            DefaultMappingTreeTest.this.mappingTree.register(pathPattern, DefaultMappingTreeTest.this.handler);
+            Optional<HttpHandler> search = DefaultMappingTreeTest.this.mappingTree.search(searchPath);
+            assertThat(search).isNotEmpty().get().isEqualTo(DefaultMappingTreeTest.this.handler);
+        }
+
+        @ParameterizedTest(name = "{index}: 注册路径样式为 `{0}`，搜索路径为 `{1}`")
+        @DisplayName("搜索不匹配的路径无法获取处理器")
+        @CsvSource({"/a/**,/b", "/a/**/c,/a/b", "/a/**/c,/a/c/d"})
+        void returnEmptyWhenSearchingNotMatchedPath(String pathPattern, String searchPath) {
+            DefaultMappingTreeTest.this.mappingTree.register(pathPattern, DefaultMappingTreeTest.this.handler);
+            Optional<HttpHandler> search = DefaultMappingTreeTest.this.mappingTree.search(searchPath);
+            assertThat(search).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("注册了多个可以匹配相同路径的路径样式后")
+    class AfterRegisteringOverlappingPatterns {
+        private final HttpHandler staticHandler = mock(HttpHandler.class);
+        private final HttpHandler wildHandler = mock(HttpHandler.class);
+        private final HttpHandler multipleWildHandler = mock(HttpHandler.class);
+
+        @BeforeEach
+        void setup() {
+            DefaultMappingTreeTest.this.mappingTree.register("/a/b/*", this.staticHandler);
+            DefaultMappingTreeTest.this.mappingTree.register("/a/*/c", this.wildHandler);
+            DefaultMappingTreeTest.this.mappingTree.register("/a/**", this.multipleWildHandler);
+        }
+
+        @ParameterizedTest(name = "{index}: 搜索路径为 `{0}`")
+        @DisplayName("普通路径段优先于单段通配符")
+        @ValueSource(strings = {"/a/b/c", "/a/b/d"})
+        void staticFragmentShouldPrecedeWildcard(String path) {
+            Optional<HttpHandler> search = DefaultMappingTreeTest.this.mappingTree.search(path);
+            assertThat(search).isNotEmpty().get().isEqualTo(this.staticHandler);
+        }
+
+        @ParameterizedTest(name = "{index}: 搜索路径为 `{0}`")
+        @DisplayName("单段通配符优先于多段通配符")
+        @ValueSource(strings = {"/a/x/c"})
+        void wildcardShouldPrecedeMultipleWildcard(String path) {
+            Optional<HttpHandler> search = DefaultMappingTreeTest.this.mappingTree.search(path);
+            assertThat(search).isNotEmpty().get().isEqualTo(this.wildHandler);
+        }
+
+        @ParameterizedTest(name = "{index}: 搜索路径为 `{0}`")
+        @DisplayName("无法匹配其他路径样式时回溯到多段通配符")
+        @ValueSource(strings = {"/a", "/a/b", "/a/x/d", "/a/b/c/d"})
+        void backtrackToMultipleWildcard(String path) {
+            Optional<HttpHandler> search = DefaultMappingTreeTest.this.mappingTree.search(path);
+            assertThat(search).isNotEmpty().get().isEqualTo(this.multipleWildHandler);
+        }
+    }
+
+    @Nested
+    @DisplayName("搜索过后再修改匹配树")
+    class AfterSearching {
+        @BeforeEach
+        void setup() {
+            DefaultMappingTreeTest.this.mappingTree.register("/a/*", DefaultMappingTreeTest.this.handler);
+            assertThat(DefaultMappingTreeTest.this.mappingTree.search("/a/b")).isNotEmpty();
+        }
+
+        @ParameterizedTest(name = "{index}: 搜索路径为 `{0}`")
+        @DisplayName("新注册的路径样式可以被搜索到")
+        @ValueSource(strings = {"/b/c", "//b//c/", "/ /b/c"})
+        void returnHandlerAfterRegistering(String path) {
+            HttpHandler another = mock(HttpHandler.class);
+            DefaultMappingTreeTest.this.mappingTree.register("/b/*", another);
+            Optional<HttpHandler> search = DefaultMappingTreeTest.this.mappingTree.search(path);
+            assertThat(search).isNotEmpty().get().isEqualTo(another);
+        }
+
+        @ParameterizedTest(name = "{index}: 搜索路径为 `{0}`")
+        @DisplayName("取消注册的路径样式无法被搜索到")
+        @ValueSource(strings = {"/a/b"})
+        void returnEmptyAfterUnregistering(String path) {
+            DefaultMappingTreeTest.this.mappingTree.unregister("/a/*");
+            Optional<HttpHandler> search = DefaultMappingTreeTest.this.mappingTree.search(path);
+            assertThat(search).isEmpty();
+            assertThat(DefaultMappingTreeTest.this.mappingTree.getAllHandlers()).isEmpty();
+        }
+    }
 }
@@ -0,0 +1,108 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.server.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import modelengine.fit.http.server.HttpServerFilter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 表示 {@link HttpServerFilterSelector} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 HttpServerFilterSelector 类")
+class HttpServerFilterSelectorTest {
+    private HttpServerFilter allFilter;
+    private HttpServerFilter exceptAFilter;
+    private HttpServerFilter onlyAFilter;
+
+    @BeforeEach
+    void setup() {
+        this.allFilter = mock(HttpServerFilter.class);
+        when(this.allFilter.matchPatterns()).thenReturn(Collections.singletonList("/**"));
+        this.exceptAFilter = mock(HttpServerFilter.class);
+        when(this.exceptAFilter.matchPatterns()).thenReturn(Collections.singletonList("/**"));
+        when(this.exceptAFilter.mismatchPatterns()).thenReturn(Collections.singletonList("/a/**"));
+        this.onlyAFilter = mock(HttpServerFilter.class);
+        when(this.onlyAFilter.matchPatterns()).thenReturn(Arrays.asList("/a", "/a/*"));
+    }
+
+    @Test
+    @DisplayName("按照原有顺序选出匹配的过滤器")
+    void shouldSelectMatchedFiltersInOrder() {
+        HttpServerFilterSelector selector =
+                HttpServerFilterSelector.create(Arrays.asList(this.allFilter, this.exceptAFilter, this.onlyAFilter));
+        assertThat(selector.select("/a/b")).containsExactly(this.allFilter, this.onlyAFilter);
+        assertThat(selector.select("/b")).containsExactly(this.allFilter, this.exceptAFilter);
+    }
+
+    @Test
+    @DisplayName("过滤路径样式只在创建时读取一次")
+    void shouldReadPatternsOnlyOnce() {
+        HttpServerFilterSelector selector =
+                HttpServerFilterSelector.create(Collections.singletonList(this.onlyAFilter));
+        selector.select("/a");
+        selector.select("/a/b");
+        selector.select("/c");
+        verify(this.onlyAFilter, times(1)).matchPatterns();
+        verify(this.onlyAFilter, times(1)).mismatchPatterns();
+    }
+
+    @Test
+    @DisplayName("相同路径的重复选择返回缓存的结果")
+    void shouldReturnCachedSelectionForSamePath() {
+        HttpServerFilterSelector selector = HttpServerFilterSelector.create(Collections.singletonList(this.allFilter));
+        List<HttpServerFilter> first = selector.select("/a");
+        List<HttpServerFilter> second = selector.select("/a");
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("不同路径的选择结果分别缓存")
+    void shouldCacheSelectionsForDifferentPaths() {
+        HttpServerFilterSelector selector =
+                HttpServerFilterSelector.create(Collections.singletonList(this.onlyAFilter));
+        List<HttpServerFilter> first = selector.select("/a/1");
+        assertThat(selector.select("/a/2")).containsExactly(this.onlyAFilter);
+        assertThat(selector.select("/a/1")).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("创建之后过滤器列表发生变化，不影响选择结果")
+    void shouldKeepSnapshotOfFilters() {
+        List<HttpServerFilter> filters = new ArrayList<>(Collections.singletonList(this.onlyAFilter));
+        HttpServerFilterSelector selector = HttpServerFilterSelector.create(filters);
+        filters.add(this.allFilter);
+        assertThat(selector.select("/b")).isEmpty();
+        filters.clear();
+        assertThat(selector.isEmpty()).isFalse();
+        assertThat(selector.select("/a")).containsExactly(this.onlyAFilter);
+    }
+
+    @Test
+    @DisplayName("没有过滤器时，选择结果为空")
+    void shouldReturnEmptyWhenNoFilters() {
+        HttpServerFilterSelector selector = HttpServerFilterSelector.create(null);
+        assertThat(selector.isEmpty()).isTrue();
+        assertThat(selector.select("/a")).isEmpty();
+    }
+}
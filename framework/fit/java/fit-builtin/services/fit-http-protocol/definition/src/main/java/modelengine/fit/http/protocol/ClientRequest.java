@@ -9,6 +9,10 @@ package modelengine.fit.http.protocol;
 import static modelengine.fitframework.inspection.Validation.notNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 表示客户端的 Http 请求。
@@ -57,6 +61,45 @@ public interface ClientRequest extends Message<RequestLine, ConfigurableMessageH
      */
     void writeBody(byte[] bytes, int off, int len) throws IOException;
 
+    /**
+     * 以流的形式向 Http 消息体中写入数据。
+     * <p>默认实现会从输入流中依次读取全部数据并写入消息体。实现可以选择在真正发送请求时才从输入流中读取数据，从而避免在内存中
+     * 缓存完整的消息体，因此调用方需要保证在 {@link #readResponse()} 返回之前，输入流始终可读。</p>
+     *
+     * @param in 表示待写入数据的输入流的 {@link InputStream}。
+     * @param length 表示待写入数据的长度的 {@code long}，长度未知时为 {@code -1}，此时消息体采用分块传输编码发送。
+     * @throws IOException 当发生 I/O 异常时。
+     * @throws IllegalArgumentException 当 {@code in} 为 {@code null} 时。
+     */
+    default void writeBody(InputStream in, long length) throws IOException {
+        notNull(in, "The input stream to write cannot be null.");
+        byte[] bytes = new byte[512];
+        int read;
+        while ((read = in.read(bytes)) > -1) {
+            this.writeBody(bytes, 0, read);
+        }
+    }
+
+    /**
+     * 将指定文件的全部内容写入 Http 消息体。
+     * <p>默认实现会从文件中依次读取全部数据并写入消息体。实现可以选择在真正发送请求时才通过文件通道读取文件，从而避免在内存中
+     * 缓存文件内容，因此调用方需要保证在 {@link #readResponse()} 返回之前，文件始终存在且内容不变。</p>
+     *
+     * @param file 表示待写入文件的 {@link Path}。
+     * @throws IOException 当发生 I/O 异常时。
+     * @throws IllegalArgumentException 当 {@code file} 为 {@code null} 时。
+     */
+    default void writeBody(Path file) throws IOException {
+        notNull(file, "The file to write cannot be null.");
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] bytes = new byte[512];
+            int read;
+            while ((read = in.read(bytes)) > -1) {
+                this.writeBody(bytes, 0, read);
+            }
+        }
+    }
+
     /**
      * 将所有写入的数据对外发送。
      *
@@ -72,4 +115,18 @@ public interface ClientRequest extends Message<RequestLine, ConfigurableMessageH
      * @throws modelengine.fitframework.exception.TimeoutException 当发生超时异常时。
      */
     ClientResponse readResponse() throws IOException;
+
+    /**
+     * 异步读取 Http 响应。
+     * <p>默认实现在当前线程中调用 {@link #readResponse()}，实现可以选择不占用调用线程，在响应到达时再完成返回的异步结果。</p>
+     *
+     * @return 表示 Http 响应的异步结果的 {@link CompletableFuture}{@code <}{@link ClientResponse}{@code >}。
+     */
+    default CompletableFuture<ClientResponse> readResponseAsync() {
+        try {
+            return CompletableFuture.completedFuture(this.readResponse());
+        } catch (IOException | RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
@@ -28,6 +28,11 @@ public enum MimeType {
      */
     APPLICATION_X_WWW_FORM_URLENCODED("application/x-www-form-urlencoded"),
 
+    /**
+     * {@code "application/x-ndjson"}
+     */
+    APPLICATION_X_NDJSON("application/x-ndjson"),
+
     /**
      * {@code "application/octet-stream"}
      */
@@ -19,6 +19,12 @@ public class Constants {
     /** 表示 FIT 通信中等待异步结果的路径。 */
     public static final String FIT_ASYNC_TASK_PATH_PATTERN = "/fit/async/await-response";
 
+    /** 表示 FIT 通信中服务端推送异步结果的长连接的路径。 */
+    public static final String FIT_ASYNC_TASK_PUSH_PATH = "/fit/async/push";
+
+    /** 表示 FIT 通信中多路复用长连接的路径。 */
+    public static final String FIT_MULTIPLEX_PATH = "/fit/multiplex";
+
     /** 表示 FIT 通信中异步长轮询的最长等待时间。 */
     public static final long FIT_ASYNC_LONG_POLLING_DURATION_MILLIS = 60_000L;
 }
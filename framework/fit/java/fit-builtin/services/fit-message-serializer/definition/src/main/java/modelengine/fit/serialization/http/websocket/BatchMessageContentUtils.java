@@ -0,0 +1,53 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.serialization.http.websocket;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.serialization.TagLengthValues;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 表示 WebSocket 通信过程中在一个消息中批量携带多个调用结果的工具类。
+ * <p>批量消息中的第 {@code i} 个调用结果以 {@code i} 作为标识保存，每一个调用结果的内容与
+ * {@link ResponseMessageContentUtils} 构造的内容一致。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+public class BatchMessageContentUtils {
+    /**
+     * 从 TLV 中获取批量携带的所有调用结果。
+     *
+     * @param tagValues 表示 TLV 字段的 {@link TagLengthValues}。
+     * @return 表示所有调用结果的 {@link List}{@code <}{@link TagLengthValues}{@code >}。
+     */
+    public static List<TagLengthValues> getContents(TagLengthValues tagValues) {
+        notNull(tagValues, "The TLV cannot be null.");
+        List<TagLengthValues> contents = new ArrayList<>(tagValues.getTags().size());
+        for (int i = 0; i < tagValues.getTags().size(); i++) {
+            contents.add(TagLengthValues.deserialize(tagValues.getValue(i)));
+        }
+        return contents;
+    }
+
+    /**
+     * 向 TLV 中设置批量携带的所有调用结果。
+     *
+     * @param tagValues 表示 TLV 字段的 {@link TagLengthValues}。
+     * @param contents 表示所有调用结果的 {@link List}{@code <}{@link TagLengthValues}{@code >}。
+     */
+    public static void setContents(TagLengthValues tagValues, List<TagLengthValues> contents) {
+        notNull(tagValues, "The TLV cannot be null.");
+        notNull(contents, "The contents cannot be null.");
+        for (int i = 0; i < contents.size(); i++) {
+            tagValues.putTag(i, contents.get(i).serialize());
+        }
+    }
+}
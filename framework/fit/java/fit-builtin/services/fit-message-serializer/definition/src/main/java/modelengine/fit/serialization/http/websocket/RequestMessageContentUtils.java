@@ -25,6 +25,8 @@ public class RequestMessageContentUtils extends TagValuesChecker {
     private static final int GENERICABLE_VERSION_TAG = 0x01;
     private static final int TLV_TAG = 0x02;
     private static final int ENTITY_TAG = 0x03;
+    private static final int GENERICABLE_ID_TAG = 0x04;
+    private static final int FITABLE_ID_TAG = 0x05;
 
     static {
         // 校验标签值，确保所有标签值不冲突。
@@ -121,4 +123,52 @@ public class RequestMessageContentUtils extends TagValuesChecker {
         notNull(entity, "The entity cannot be null.");
         tagValues.putTag(ENTITY_TAG, entity);
     }
+
+    /**
+     * 从 TLV 中获取泛服务的唯一标识。
+     * <p>仅多路复用的调用请求包含本字段，普通的流式调用通过访问路径传递泛服务的唯一标识。</p>
+     *
+     * @param tagValues 表示 TLV 字段的 {@link TagLengthValues}。
+     * @return 表示泛服务的唯一标识的 {@link String}。
+     */
+    public static String getGenericableId(TagLengthValues tagValues) {
+        notNull(tagValues, "The TLV cannot be null.");
+        return new String(tagValues.getValue(GENERICABLE_ID_TAG), UTF_8);
+    }
+
+    /**
+     * 向 TLV 中设置泛服务的唯一标识。
+     *
+     * @param tagValues 表示 TLV 字段的 {@link TagLengthValues}。
+     * @param genericableId 表示泛服务的唯一标识的 {@link String}。
+     */
+    public static void setGenericableId(TagLengthValues tagValues, String genericableId) {
+        notNull(tagValues, "The TLV cannot be null.");
+        notNull(genericableId, "The genericable id cannot be null.");
+        tagValues.putTag(GENERICABLE_ID_TAG, genericableId.getBytes(UTF_8));
+    }
+
+    /**
+     * 从 TLV 中获取泛服务实现的唯一标识。
+     * <p>仅多路复用的调用请求包含本字段，普通的流式调用通过访问路径传递泛服务实现的唯一标识。</p>
+     *
+     * @param tagValues 表示 TLV 字段的 {@link TagLengthValues}。
+     * @return 表示泛服务实现的唯一标识的 {@link String}。
+     */
+    public static String getFitableId(TagLengthValues tagValues) {
+        notNull(tagValues, "The TLV cannot be null.");
+        return new String(tagValues.getValue(FITABLE_ID_TAG), UTF_8);
+    }
+
+    /**
+     * 向 TLV 中设置泛服务实现的唯一标识。
+     *
+     * @param tagValues 表示 TLV 字段的 {@link TagLengthValues}。
+     * @param fitableId 表示泛服务实现的唯一标识的 {@link String}。
+     */
+    public static void setFitableId(TagLengthValues tagValues, String fitableId) {
+        notNull(tagValues, "The TLV cannot be null.");
+        notNull(fitableId, "The fitable id cannot be null.");
+        tagValues.putTag(FITABLE_ID_TAG, fitableId.getBytes(UTF_8));
+    }
 }
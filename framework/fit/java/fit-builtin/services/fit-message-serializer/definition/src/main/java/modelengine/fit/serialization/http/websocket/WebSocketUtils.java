@@ -23,6 +23,7 @@ public class WebSocketUtils extends TagValuesChecker {
     private static final int STREAM_MESSAGE_TYPE_TAG = 0x80;
     private static final int STREAM_MESSAGE_INDEX_TAG = 0x81;
     private static final int STREAM_MESSAGE_CONTENT_TAG = 0x82;
+    private static final int STREAM_MESSAGE_ID_TAG = 0x83;
 
     static {
         // 校验标签值，确保所有标签值不冲突。
@@ -103,4 +104,28 @@ public class WebSocketUtils extends TagValuesChecker {
         notNull(type, "The content cannot be null.");
         tagValues.putTag(STREAM_MESSAGE_CONTENT_TAG, type);
     }
+
+    /**
+     * 从 TLV 中获取调用的唯一标识。
+     * <p>仅多路复用的调用消息包含本字段，用于在同一个连接上区分不同的调用。</p>
+     *
+     * @param tagValues 表示 TLV 字段的 {@link TagLengthValues}。
+     * @return 表示调用的唯一标识的 {@code long}。
+     */
+    public static long getId(TagLengthValues tagValues) {
+        notNull(tagValues, "The TLV cannot be null.");
+        return Long.parseLong(new String(tagValues.getValue(STREAM_MESSAGE_ID_TAG), UTF_8));
+    }
+
+    /**
+     * 向 TLV 中设置调用的唯一标识。
+     * <p>仅多路复用的调用消息需要设置本字段，用于在同一个连接上区分不同的调用。</p>
+     *
+     * @param tagValues 表示 TLV 字段的 {@link TagLengthValues}。
+     * @param id 表示调用的唯一标识的 {@code long}。
+     */
+    public static void setId(TagLengthValues tagValues, long id) {
+        notNull(tagValues, "The TLV cannot be null.");
+        tagValues.putTag(STREAM_MESSAGE_ID_TAG, Long.toString(id).getBytes(UTF_8));
+    }
 }
@@ -28,75 +28,179 @@ import modelengine.fitframework.ioc.lifecycle.container.BeanContainerStoppedObse
 import modelengine.fitframework.ioc.lifecycle.container.BeanContainerTerminatingObserver;
 import modelengine.fitframework.plugin.Plugin;
 import modelengine.fitframework.plugin.PluginKey;
+import modelengine.fitframework.thread.DefaultThreadFactory;
 import modelengine.fitframework.type.TypeMatcher;
-import modelengine.fitframework.util.CollectionUtils;
 import modelengine.fitframework.util.Disposable;
 import modelengine.fitframework.util.LockUtils;
 import modelengine.fitframework.util.StringUtils;
 import modelengine.fitframework.util.support.AbstractDisposable;
 
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * 为 {@link BeanContainer} 提供默认实现。
+ * <p>容器维护 Bean 名称和 Bean 类型的索引，类型索引以 Bean 类型及其所有父类和接口的原始类型为键，按类型查找时只需要对索引中的
+ * 候选 Bean 进行泛型匹配。按类型查找的结果按照请求的类型缓存，容器中的 Bean 发生变化时清空。</p>
+ * <p>跨容器的 {@link #all(Type)} 的结果同样按照请求的类型缓存，缓存依赖于全局的容器版本号和产生结果时遍历的容器序列，任意一个容器
+ * 中的 Bean 发生变化，或插件的层级关系发生变化之后，缓存都会失效。</p>
  *
  * @author 梁济时
  * @since 2022-04-28
  */
 public final class DefaultBeanContainer extends AbstractDisposable implements BeanContainer, BeanRegistry {
+    /** 表示所有容器的版本号，任意一个容器中的 Bean 发生变化时递增。 */
+    private static final AtomicLong VERSION = new AtomicLong();
+
+    /**
+     * 表示启动时并行创建单例 Bean 的线程数量的配置项。
+     * <p>未配置或配置为 {@code 1} 时按注册顺序串行创建。并行创建时仅按照 {@code @DependsOn} 声明的依赖排序，注入的依赖在创建时按需解析，
+     * 因此仅当各单例 Bean 的创建过程不依赖于启动顺序时才应开启。</p>
+     */
+    private static final String STARTUP_PARALLELISM_KEY = "beans.startup.parallelism";
+
     private final Plugin plugin;
 
     private final Beans beans;
 
     private final List<BeanFactory> factories;
+    private final Map<String, BeanFactory> nameIndex;
+    private final Map<Class<?>, List<BeanFactory>> typeIndex;
+    private final List<BeanFactory> unindexedFactories;
+    private final Map<Type, List<BeanFactory>> factoriesCache;
+    private final Map<Type, AllFactories> allCache;
     private final ReadWriteLock monitor;
 
     private final List<BeanRegisteredObserver> beanRegisteredObservers;
+    private final AtomicBoolean activating;
+    private volatile boolean activated;
 
     public DefaultBeanContainer(Plugin plugin) {
         this.plugin = notNull(plugin, "The owning plugin of a bean container cannot be null.");
 
         this.beans = this.new Beans();
 
-        this.factories = new LinkedList<>();
+        this.factories = new ArrayList<>();
+        this.nameIndex = new HashMap<>();
+        this.typeIndex = new HashMap<>();
+        this.unindexedFactories = new ArrayList<>();
+        this.factoriesCache = new ConcurrentHashMap<>();
+        this.allCache = new ConcurrentHashMap<>();
         this.monitor = LockUtils.newReentrantReadWriteLock();
 
         this.beanRegisteredObservers = new LinkedList<>();
+        this.activating = new AtomicBoolean();
     }
 
     private BeanMetadata register(BeanFactory factory) {
         notNull(factory, "The factory of bean to register cannot be null.");
         LockUtils.synchronize(this.monitor.writeLock(), () -> {
-            Set<String> existing = this.factories.stream()
-                    .map(current -> CollectionUtils.intersect(names(current), names(factory)))
-                    .filter(CollectionUtils::isNotEmpty)
-                    .flatMap(Collection::stream)
-                    .collect(Collectors.toSet());
-            if (existing.isEmpty()) {
-                this.factories.add(factory);
-            } else {
+            Set<String> names = names(factory);
+            Set<String> existing =
+                    names.stream().filter(this.nameIndex::containsKey).collect(Collectors.toSet());
+            if (!existing.isEmpty()) {
                 throw new BeanDefinitionException(StringUtils.format(
                         "Beans with the same name already exists. [names={0}]",
                         existing));
             }
+            this.factories.add(factory);
+            names.forEach(name -> this.nameIndex.put(name, factory));
+            this.index(factory);
+            this.invalidate();
         });
         BeanMetadata metadata = factory.metadata();
         this.beanRegisteredObservers.forEach(observer -> observer.onBeanRegistered(metadata));
         return metadata;
     }
 
+    private void index(BeanFactory factory) {
+        Class<?> rawClass = rawClass(factory.metadata().type());
+        if (rawClass == null) {
+            this.unindexedFactories.add(factory);
+            return;
+        }
+        for (Class<?> key : superTypes(rawClass)) {
+            this.typeIndex.computeIfAbsent(key, ignored -> new ArrayList<>()).add(factory);
+        }
+    }
+
+    private void unindex(BeanFactory factory) {
+        names(factory).forEach(name -> this.nameIndex.remove(name, factory));
+        this.unindexedFactories.remove(factory);
+        Class<?> rawClass = rawClass(factory.metadata().type());
+        if (rawClass == null) {
+            return;
+        }
+        for (Class<?> key : superTypes(rawClass)) {
+            List<BeanFactory> indexed = this.typeIndex.get(key);
+            if (indexed != null) {
+                indexed.remove(factory);
+                if (indexed.isEmpty()) {
+                    this.typeIndex.remove(key);
+                }
+            }
+        }
+    }
+
+    private void invalidate() {
+        this.factoriesCache.clear();
+        VERSION.incrementAndGet();
+    }
+
+    private static Class<?> rawClass(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        } else if (type instanceof ParameterizedType && ((ParameterizedType) type).getRawType() instanceof Class) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        } else {
+            return null;
+        }
+    }
+
+    private static Set<Class<?>> superTypes(Class<?> clazz) {
+        Set<Class<?>> superTypes = new LinkedHashSet<>();
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        pending.add(clazz);
+        while (!pending.isEmpty()) {
+            Class<?> current = pending.poll();
+            if (!superTypes.add(current)) {
+                continue;
+            }
+            if (current.getSuperclass() != null) {
+                pending.add(current.getSuperclass());
+            }
+            pending.addAll(Arrays.asList(current.getInterfaces()));
+        }
+        // 接口和基本类型没有父类，但是仍然可以匹配到 Object 类型。
+        superTypes.add(Object.class);
+        return superTypes;
+    }
+
     private static Set<String> names(BeanFactory factory) {
         Set<String> names = new HashSet<>();
         names.add(factory.metadata().name());
@@ -197,15 +301,19 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
 
     @Override
     public void removeBean(String beanName) {
-        synchronized (this.monitor) {
-            this.factories.removeIf(beanFactory -> names(beanFactory).contains(beanName));
-        }
+        LockUtils.synchronize(this.monitor.writeLock(), () -> {
+            BeanFactory factory = this.nameIndex.get(beanName);
+            if (factory != null) {
+                this.factories.remove(factory);
+                this.unindex(factory);
+                this.invalidate();
+            }
+        });
     }
 
     @Override
     public Optional<BeanFactory> factory(String name) {
-        return LockUtils.synchronize(this.monitor.readLock(),
-                () -> this.factories.stream().filter(factory -> names(factory).contains(name)).findAny());
+        return LockUtils.synchronize(this.monitor.readLock(), () -> Optional.ofNullable(this.nameIndex.get(name)));
     }
 
     @Override
@@ -245,10 +353,27 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
 
     @Override
     public List<BeanFactory> factories(Type type) {
+        notNull(type, "The type of beans to lookup cannot be null.");
         return LockUtils.synchronize(this.monitor.readLock(),
-                () -> this.factories.stream()
-                        .filter(factory -> TypeMatcher.match(factory.metadata().type(), type))
-                        .collect(Collectors.toList()));
+                () -> new ArrayList<>(this.factoriesCache.computeIfAbsent(type, this::matchFactories)));
+    }
+
+    private List<BeanFactory> matchFactories(Type type) {
+        Class<?> rawClass = rawClass(type);
+        Collection<BeanFactory> candidates;
+        if (rawClass == null) {
+            candidates = this.factories;
+        } else if (this.unindexedFactories.isEmpty()) {
+            candidates = this.typeIndex.getOrDefault(rawClass, Collections.emptyList());
+        } else {
+            Set<BeanFactory> indexed =
+                    new HashSet<>(this.typeIndex.getOrDefault(rawClass, Collections.emptyList()));
+            indexed.addAll(this.unindexedFactories);
+            candidates = this.factories.stream().filter(indexed::contains).collect(Collectors.toList());
+        }
+        return Collections.unmodifiableList(candidates.stream()
+                .filter(factory -> TypeMatcher.match(factory.metadata().type(), type))
+                .collect(Collectors.toList()));
     }
 
     @Override
@@ -282,11 +407,31 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
 
     @Override
     public List<BeanFactory> all(Type type) {
-        return LockUtils.synchronize(this.monitor.readLock(),
-                () -> this.all()
+        notNull(type, "The type of beans to lookup cannot be null.");
+        return LockUtils.synchronize(this.monitor.readLock(), () -> {
+            long version = VERSION.get();
+            AllFactories cached = this.allCache.get(type);
+            if (cached != null && cached.version == version && cached.isSameHierarchy(this)) {
+                return new ArrayList<>(cached.factories);
+            }
+            List<BeanContainer> containers = new ArrayList<>();
+            List<BeanFactory> all = new ArrayList<>();
+            Iterator<BeanContainer> iterator = new LocalPreferredBeanContainerIterator(this);
+            while (iterator.hasNext()) {
+                BeanContainer current = iterator.next();
+                containers.add(current);
+                current.factories(type)
                         .stream()
-                        .filter(factory -> TypeMatcher.match(factory.metadata().type(), type))
-                        .collect(Collectors.toList()));
+                        .filter(factory -> this.applicable(current, factory.metadata().applicable()))
+                        .forEach(all::add);
+            }
+            all.sort(BeanFactoryOrderComparator.INSTANCE);
+            // 只有当所有容器都是默认容器时，容器中的变化才能通过版本号感知，才可以缓存结果。
+            if (containers.stream().allMatch(DefaultBeanContainer.class::isInstance)) {
+                this.allCache.put(type, new AllFactories(version, containers, all));
+            }
+            return new ArrayList<>(all);
+        });
     }
 
     @Override
@@ -308,23 +453,139 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
 
     @Override
     public void start() {
-        BeanContainerInitializedObserver.notify(this);
-        this.start0();
-        BeanContainerStartedObserver.notify(this);
+        // 不同插件的容器可能被并行启动，此时容器的观察者的通知串行执行。
+        ParallelStartup.notifyObservers(() -> BeanContainerInitializedObserver.notify(this));
+        if (!this.plugin.lazy()) {
+            this.activate();
+        }
+        ParallelStartup.notifyObservers(() -> BeanContainerStartedObserver.notify(this));
+    }
+
+    @Override
+    public void activate() {
+        // 激活过程中创建的 Bean 可能再次激活容器，包括在并行创建 Bean 的线程中，此时直接返回而不等待激活完成，否则会发生死锁。
+        if (this.activated || !this.activating.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (!this.activated) {
+                this.start0();
+                this.activated = true;
+            }
+        } finally {
+            this.activating.set(false);
+        }
     }
 
     private void start0() {
-        for (BeanFactory factory : this.factories) {
-            if (factory.metadata().singleton() && !factory.metadata().lazy()) {
-                factory.get();
+        List<BeanFactory> singletons = LockUtils.synchronize(this.monitor.readLock(),
+                () -> this.factories.stream()
+                        .filter(factory -> factory.metadata().singleton() && !factory.metadata().lazy())
+                        .collect(Collectors.toList()));
+        int parallelism = Math.min(this.startupParallelism(), singletons.size());
+        if (parallelism <= 1) {
+            singletons.forEach(BeanFactory::get);
+            return;
+        }
+        Map<BeanFactory, List<BeanFactory>> dependencies =
+                LockUtils.synchronize(this.monitor.readLock(), () -> this.declaredDependencies(singletons));
+        List<BeanFactory> ordered = sortByDependencies(singletons, dependencies);
+        if (ordered == null) {
+            singletons.forEach(BeanFactory::get);
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism,
+                new DefaultThreadFactory("bean-startup-" + this.name(), true, null));
+        try {
+            Map<BeanFactory, CompletableFuture<Void>> futures = new HashMap<>();
+            for (BeanFactory factory : ordered) {
+                CompletableFuture<?>[] prerequisites =
+                        dependencies.get(factory).stream().map(futures::get).toArray(CompletableFuture[]::new);
+                futures.put(factory,
+                        CompletableFuture.allOf(prerequisites).thenRunAsync(() -> factory.get(), executor));
+            }
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]))
+                    .exceptionally(cause -> null)
+                    .join();
+            // 按照注册顺序报告第一个创建失败的 Bean，使错误信息与串行创建时保持一致。
+            for (BeanFactory factory : singletons) {
+                try {
+                    futures.get(factory).join();
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw e;
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private int startupParallelism() {
+        return Optional.ofNullable(this.plugin.config())
+                .map(config -> config.get(STARTUP_PARALLELISM_KEY, Integer.class))
+                .orElse(1);
+    }
+
+    private Map<BeanFactory, List<BeanFactory>> declaredDependencies(List<BeanFactory> singletons) {
+        Set<BeanFactory> candidates = new HashSet<>(singletons);
+        Map<BeanFactory, List<BeanFactory>> dependencies = new HashMap<>();
+        for (BeanFactory factory : singletons) {
+            dependencies.put(factory,
+                    factory.metadata()
+                            .dependencies()
+                            .stream()
+                            .map(this.nameIndex::get)
+                            .filter(candidates::contains)
+                            .distinct()
+                            .collect(Collectors.toList()));
+        }
+        return dependencies;
+    }
+
+    /**
+     * 按照 Bean 声明的依赖关系对 Bean 进行拓扑排序，被依赖的 Bean 排在前面，其余的 Bean 保持注册顺序。
+     *
+     * @param singletons 表示按照注册顺序排列的 Bean 工厂的 {@link List}{@code <}{@link BeanFactory}{@code >}。
+     * @param dependencies 表示每个 Bean 声明的依赖的 {@link Map}{@code <}{@link BeanFactory}{@code ,
+     * }{@link List}{@code <}{@link BeanFactory}{@code >>}。
+     * @return 表示排序后的 Bean 工厂的 {@link List}{@code <}{@link BeanFactory}{@code >}。当声明的依赖中存在环路时返回
+     * {@code null}，此时需要串行创建，由创建过程报告循环依赖。
+     */
+    private static List<BeanFactory> sortByDependencies(List<BeanFactory> singletons,
+            Map<BeanFactory, List<BeanFactory>> dependencies) {
+        Map<BeanFactory, List<BeanFactory>> dependents = new HashMap<>();
+        Map<BeanFactory, Integer> remaining = new HashMap<>();
+        Deque<BeanFactory> ready = new ArrayDeque<>();
+        for (BeanFactory factory : singletons) {
+            List<BeanFactory> declared = dependencies.get(factory);
+            declared.forEach(dependency -> dependents.computeIfAbsent(dependency, key -> new ArrayList<>())
+                    .add(factory));
+            remaining.put(factory, declared.size());
+            if (declared.isEmpty()) {
+                ready.add(factory);
+            }
+        }
+        List<BeanFactory> ordered = new ArrayList<>(singletons.size());
+        while (!ready.isEmpty()) {
+            BeanFactory factory = ready.poll();
+            ordered.add(factory);
+            for (BeanFactory dependent : dependents.getOrDefault(factory, Collections.emptyList())) {
+                if (remaining.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
             }
         }
+        return ordered.size() == singletons.size() ? ordered : null;
     }
 
     @Override
     public void stop() {
         BeanContainerTerminatingObserver.notify(this);
         this.dispose();
+        this.activated = false;
         BeanContainerStoppedObserver.notify(this);
     }
 
@@ -428,9 +689,41 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
         LockUtils.synchronize(this.monitor.writeLock(), () -> {
             this.factories.forEach(Disposable::safeDispose);
             this.factories.clear();
+            this.nameIndex.clear();
+            this.typeIndex.clear();
+            this.unindexedFactories.clear();
+            this.allCache.clear();
+            this.invalidate();
         });
     }
 
+    /**
+     * 表示跨容器查找的指定类型的 Bean 工厂的缓存。
+     */
+    private static class AllFactories {
+        private final long version;
+        private final List<BeanContainer> containers;
+        private final List<BeanFactory> factories;
+
+        private AllFactories(long version, List<BeanContainer> containers, List<BeanFactory> factories) {
+            this.version = version;
+            this.containers = containers;
+            this.factories = factories;
+        }
+
+        private boolean isSameHierarchy(BeanContainer container) {
+            Iterator<BeanContainer> iterator = new LocalPreferredBeanContainerIterator(container);
+            int index = 0;
+            while (iterator.hasNext()) {
+                if (index >= this.containers.size() || iterator.next() != this.containers.get(index)) {
+                    return false;
+                }
+                index++;
+            }
+            return index == this.containers.size();
+        }
+    }
+
     private boolean applicable(BeanContainer container, BeanApplicableScope scope) {
         BeanApplicableScope actual = nullIf(scope, BeanApplicableScope.ANYWHERE);
         switch (actual) {
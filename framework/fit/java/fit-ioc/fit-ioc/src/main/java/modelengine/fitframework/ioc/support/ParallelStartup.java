@@ -0,0 +1,67 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.ioc.support;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+/**
+ * 为并行启动插件提供生命周期通知的串行化支持。
+ * <p>插件及容器的生命周期观察者原本只在单个线程中被通知。当同一层级的插件被并行启动时，启动线程通过
+ * {@link #run(Object, Runnable)} 声明其所属的启动过程，此后该线程上的生命周期通知通过 {@link #notifyObservers(Runnable)} 在启动过程的
+ * 锁上串行执行。串行启动时不持有任何锁，观察者的行为与之前保持一致。</p>
+ * <p>并行启动时，观察者在通知过程中不能等待其他启动线程，否则会发生死锁。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+public final class ParallelStartup {
+    private static final ThreadLocal<Object> MONITOR = new ThreadLocal<>();
+
+    private ParallelStartup() {}
+
+    /**
+     * 在当前线程上执行并行启动过程中的一个启动任务。
+     *
+     * @param monitor 表示同一并行启动过程中所有启动任务共享的锁的 {@link Object}。
+     * @param task 表示启动任务的 {@link Runnable}。
+     * @throws IllegalArgumentException 当 {@code monitor} 或 {@code task} 为 {@code null} 时。
+     */
+    public static void run(Object monitor, Runnable task) {
+        notNull(monitor, "The startup monitor cannot be null.");
+        notNull(task, "The startup task cannot be null.");
+        Object previous = MONITOR.get();
+        MONITOR.set(monitor);
+        try {
+            task.run();
+        } finally {
+            if (previous == null) {
+                MONITOR.remove();
+            } else {
+                MONITOR.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 执行生命周期通知。
+     * <p>当前线程处于并行启动过程中时，在启动过程的锁上串行执行通知，否则直接执行通知。</p>
+     *
+     * @param notification 表示生命周期通知的 {@link Runnable}。
+     * @throws IllegalArgumentException 当 {@code notification} 为 {@code null} 时。
+     */
+    public static void notifyObservers(Runnable notification) {
+        notNull(notification, "The notification cannot be null.");
+        Object monitor = MONITOR.get();
+        if (monitor == null) {
+            notification.run();
+            return;
+        }
+        synchronized (monitor) {
+            notification.run();
+        }
+    }
+}
@@ -14,19 +14,30 @@ import modelengine.fitframework.ioc.DependencyDefinitionException;
 import modelengine.fitframework.ioc.DependencyNotFoundException;
 import modelengine.fitframework.ioc.lifecycle.bean.BeanLifecycle;
 import modelengine.fitframework.ioc.lifecycle.bean.BeanLifecycles;
-import modelengine.fitframework.util.LockUtils;
 import modelengine.fitframework.util.StringUtils;
 
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
 /**
  * 为 {@link BeanFactory} 提供用以单例Bean的实现。
+ * <p>单例Bean可能在多个线程中同时创建。当一个线程需要等待另一个线程正在创建的Bean时，会沿着线程之间的等待关系检查是否形成环路，
+ * 形成环路时说明Bean之间存在循环依赖，此时抛出 {@link CircularDependencyException}，而不是永久等待。</p>
  *
  * @author 梁济时
  * @since 2022-08-04
  */
 public class SingletonBeanFactory extends AbstractBeanFactory implements BeanFactory {
+    /** 表示每个线程正在等待创建完成的单例Bean的工厂。 */
+    private static final Map<Thread, SingletonBeanFactory> WAITING = new ConcurrentHashMap<>();
+
     private volatile Object bean;
     private volatile boolean creating;
-    private final Object lock;
+    private volatile Thread owner;
+    private final ReentrantLock lock;
 
     private BeanLifecycle lifecycle;
 
@@ -41,7 +52,7 @@ public class SingletonBeanFactory extends AbstractBeanFactory implements BeanFac
 
         this.bean = null;
         this.creating = false;
-        this.lock = LockUtils.newSynchronizedLock();
+        this.lock = new ReentrantLock();
     }
 
     @Override
@@ -55,7 +66,12 @@ public class SingletonBeanFactory extends AbstractBeanFactory implements BeanFac
         if (this.bean != null) {
             return cast(this.bean);
         }
-        synchronized (this.lock) {
+        if (!this.lock.tryLock()) {
+            this.awaitLock();
+        }
+        Thread previousOwner = this.owner;
+        this.owner = Thread.currentThread();
+        try {
             if (this.bean != null) {
                 return cast(this.bean);
             }
@@ -65,10 +81,41 @@ public class SingletonBeanFactory extends AbstractBeanFactory implements BeanFac
                         this.metadata()));
             }
             this.create();
+        } finally {
+            this.owner = previousOwner;
+            this.lock.unlock();
         }
         return cast(this.bean);
     }
 
+    private void awaitLock() {
+        Thread current = Thread.currentThread();
+        WAITING.put(current, this);
+        try {
+            this.checkWaitingCycle(current);
+            this.lock.lock();
+        } finally {
+            WAITING.remove(current);
+        }
+    }
+
+    private void checkWaitingCycle(Thread current) {
+        Set<SingletonBeanFactory> visited = new HashSet<>();
+        SingletonBeanFactory waiting = this;
+        while (waiting != null && visited.add(waiting)) {
+            Thread waitingOwner = waiting.owner;
+            if (waitingOwner == null) {
+                return;
+            }
+            if (waitingOwner == current) {
+                throw new CircularDependencyException(StringUtils.format(
+                        "Circular dependency occurs when creating singleton bean concurrently. [metadata={0}]",
+                        this.metadata()));
+            }
+            waiting = WAITING.get(waitingOwner);
+        }
+    }
+
     private void create() {
         this.metadata().dependencies().forEach(this::checkDependency);
         this.lifecycle = BeanLifecycles.intercept(this.lifecycle());
@@ -102,11 +149,14 @@ public class SingletonBeanFactory extends AbstractBeanFactory implements BeanFac
 
     @Override
     protected void onDisposed() {
-        synchronized (this.lock) {
+        this.lock.lock();
+        try {
             if (this.bean != null && this.lifecycle != null) {
                 this.lifecycle.destroy(this.bean);
             }
             this.bean = null;
+        } finally {
+            this.lock.unlock();
         }
         super.onDisposed();
     }
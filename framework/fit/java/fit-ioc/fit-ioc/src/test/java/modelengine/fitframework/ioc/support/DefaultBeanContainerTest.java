@@ -38,6 +38,7 @@ import modelengine.fitframework.util.MapBuilder;
 import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -48,11 +49,16 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 /**
  * 表示 DefaultBeanContainer 的单元测试。
@@ -62,6 +68,7 @@ import java.util.Set;
  */
 @DisplayName("测试 DefaultBeanContainer 类")
 class DefaultBeanContainerTest extends AbstractBeanContainerTest {
+    private Plugin plugin;
     private DefaultBeanContainer container;
     private PluginMetadata pluginMetadata;
     private final String name = "testName";
@@ -75,6 +82,8 @@ class DefaultBeanContainerTest extends AbstractBeanContainerTest {
         private static final Long ID = 100L;
         private static final String NAME = "my-bean";
         private static final String VALUE = "my-value";
+        private static final AtomicInteger INSTANCES = new AtomicInteger();
+        private static final AtomicReference<Runnable> ON_CREATED = new AtomicReference<>(() -> {});
 
         private final Long id;
         private String name;
@@ -85,6 +94,8 @@ class DefaultBeanContainerTest extends AbstractBeanContainerTest {
 
         Bean(Long id) {
             this.id = id;
+            INSTANCES.incrementAndGet();
+            ON_CREATED.get().run();
         }
 
         void setValue(@SuppressWarnings("SameParameterValue") String value) {
@@ -145,14 +156,14 @@ class DefaultBeanContainerTest extends AbstractBeanContainerTest {
         FitRuntime runtime = mock(FitRuntime.class);
         when(runtime.resolverOfAnnotations()).thenReturn(annotationMetadataResolver);
         when(runtime.resolverOfBeans()).thenReturn(beanResolver);
-        Plugin plugin = mock(Plugin.class);
-        when(plugin.runtime()).thenReturn(runtime);
-        this.container = new DefaultBeanContainer(plugin);
-        when(plugin.container()).thenReturn(this.container);
-        when(plugin.children()).thenReturn(EMPTY_PLUGIN_COLLECTION);
+        this.plugin = mock(Plugin.class);
+        when(this.plugin.runtime()).thenReturn(runtime);
+        this.container = new DefaultBeanContainer(this.plugin);
+        when(this.plugin.container()).thenReturn(this.container);
+        when(this.plugin.children()).thenReturn(EMPTY_PLUGIN_COLLECTION);
         this.pluginMetadata = mock(PluginMetadata.class);
         when(this.pluginMetadata.name()).thenReturn("testMetadata");
-        when(plugin.metadata()).thenReturn(this.pluginMetadata);
+        when(this.plugin.metadata()).thenReturn(this.pluginMetadata);
 
         when(beanResolver.bean(any(), any(Class.class))).thenReturn(Optional.of(BeanDefinition.custom()
                 .name(Bean.class.getName())
@@ -343,6 +354,55 @@ class DefaultBeanContainerTest extends AbstractBeanContainerTest {
         assertDoesNotThrow(() -> this.container.start());
     }
 
+    @Nested
+    @DisplayName("测试延迟激活")
+    class TestActivate {
+        @BeforeEach
+        void setup() {
+            DefaultBeanContainerTest.this.container.register(Bean.class);
+            Bean.INSTANCES.set(0);
+        }
+
+        @AfterEach
+        void teardown() {
+            Bean.ON_CREATED.set(() -> {});
+        }
+
+        @Test
+        @DisplayName("插件延迟激活时，启动容器不实例化单例 Bean，激活容器时实例化且只实例化一次")
+        void givenLazyPluginThenInstantiateSingletonsWhenActivated() {
+            when(DefaultBeanContainerTest.this.plugin.lazy()).thenReturn(true);
+            DefaultBeanContainerTest.this.container.start();
+            assertThat(Bean.INSTANCES.get()).isEqualTo(0);
+            DefaultBeanContainerTest.this.container.activate();
+            DefaultBeanContainerTest.this.container.activate();
+            assertThat(Bean.INSTANCES.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("激活过程中创建的 Bean 在当前线程和其他线程中再次激活容器时，不等待激活完成")
+        void givenReentrantActivationThenReturnWithoutWaiting() {
+            DefaultBeanContainer container = DefaultBeanContainerTest.this.container;
+            Bean.ON_CREATED.set(() -> {
+                container.activate();
+                assertThat(CompletableFuture.runAsync(container::activate)).succeedsWithin(Duration.ofSeconds(5));
+            });
+            when(DefaultBeanContainerTest.this.plugin.lazy()).thenReturn(true);
+            container.start();
+            container.activate();
+            assertThat(Bean.INSTANCES.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("插件非延迟激活时，启动容器即实例化单例 Bean")
+        void givenEagerPluginThenInstantiateSingletonsWhenStarted() {
+            DefaultBeanContainerTest.this.container.start();
+            assertThat(Bean.INSTANCES.get()).isEqualTo(1);
+            DefaultBeanContainerTest.this.container.activate();
+            assertThat(Bean.INSTANCES.get()).isEqualTo(1);
+        }
+    }
+
     @Nested
     @DisplayName("测试 factory() 方法")
     class TestFactory {
@@ -419,6 +479,61 @@ class DefaultBeanContainerTest extends AbstractBeanContainerTest {
         }
     }
 
+    @Nested
+    @DisplayName("测试按名称和类型的索引查找")
+    class TestIndex {
+        @BeforeEach
+        void setup() {
+            this.register("stringBean", String.class);
+            this.register("integerBean", Integer.class);
+        }
+
+        @Test
+        @DisplayName("按父类型和接口查找，返回所有匹配的 Bean")
+        void shouldFindFactoriesBySuperTypes() {
+            assertThat(this.names(DefaultBeanContainerTest.this.container.factories(CharSequence.class)))
+                    .containsExactly("stringBean");
+            assertThat(this.names(DefaultBeanContainerTest.this.container.factories(Number.class)))
+                    .containsExactly("integerBean");
+            assertThat(this.names(DefaultBeanContainerTest.this.container.factories(Comparable.class)))
+                    .containsExactly("stringBean", "integerBean");
+            assertThat(DefaultBeanContainerTest.this.container.factories(Long.class)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("移除 Bean 之后，按名称和类型都不再能查找到该 Bean")
+        void shouldNotFindRemovedBean() {
+            assertThat(DefaultBeanContainerTest.this.container.factories(CharSequence.class)).hasSize(1);
+            DefaultBeanContainerTest.this.container.removeBean("stringBean");
+            assertThat(DefaultBeanContainerTest.this.container.factory("stringBean")).isEmpty();
+            assertThat(DefaultBeanContainerTest.this.container.factories(CharSequence.class)).isEmpty();
+            assertThat(this.names(DefaultBeanContainerTest.this.container.factories(Object.class)))
+                    .containsExactly("integerBean");
+        }
+
+        @Test
+        @DisplayName("注册新的 Bean 之后，跨容器查找的结果包含新注册的 Bean")
+        void shouldInvalidateCachedResultWhenBeanRegistered() {
+            assertThat(this.names(DefaultBeanContainerTest.this.container.all(CharSequence.class)))
+                    .containsExactly("stringBean");
+            this.register("builderBean", StringBuilder.class);
+            assertThat(this.names(DefaultBeanContainerTest.this.container.all(CharSequence.class)))
+                    .containsExactlyInAnyOrder("stringBean", "builderBean");
+        }
+
+        private void register(String name, Class<?> type) {
+            DefaultBeanContainerTest.this.container.register(BeanDefinition.custom()
+                    .name(name)
+                    .type(type)
+                    .stereotype(Stereotype.SINGLETON)
+                    .build());
+        }
+
+        private List<String> names(List<BeanFactory> factories) {
+            return factories.stream().map(factory -> factory.metadata().name()).collect(Collectors.toList());
+        }
+    }
+
     @Test
     @DisplayName("释放对象占用的资源，释放成功")
     void disposeResourceThenExecuteSuccessfully() {
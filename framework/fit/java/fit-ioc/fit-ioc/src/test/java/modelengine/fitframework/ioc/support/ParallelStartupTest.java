@@ -0,0 +1,51 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.ioc.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 表示 {@link ParallelStartup} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 ParallelStartup")
+class ParallelStartupTest {
+    private final Object monitor = new Object();
+
+    @Test
+    @DisplayName("串行启动时不持有锁直接执行通知")
+    void shouldNotifyWithoutLockWhenNotInParallelStartup() {
+        AtomicBoolean locked = new AtomicBoolean(true);
+        ParallelStartup.notifyObservers(() -> locked.set(Thread.holdsLock(this.monitor)));
+        assertThat(locked).isFalse();
+    }
+
+    @Test
+    @DisplayName("并行启动时在启动过程的锁上执行通知")
+    void shouldNotifyUnderLockWhenInParallelStartup() {
+        AtomicBoolean locked = new AtomicBoolean();
+        ParallelStartup.run(this.monitor,
+                () -> ParallelStartup.notifyObservers(() -> locked.set(Thread.holdsLock(this.monitor))));
+        assertThat(locked).isTrue();
+    }
+
+    @Test
+    @DisplayName("启动任务结束后不再持有锁执行通知")
+    void shouldNotifyWithoutLockAfterParallelStartupFinished() {
+        ParallelStartup.run(this.monitor, () -> {});
+        AtomicBoolean locked = new AtomicBoolean(true);
+        ParallelStartup.notifyObservers(() -> locked.set(Thread.holdsLock(this.monitor)));
+        assertThat(locked).isFalse();
+    }
+}
@@ -0,0 +1,135 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.ioc.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import modelengine.fitframework.annotation.Stereotype;
+import modelengine.fitframework.conf.Config;
+import modelengine.fitframework.ioc.BeanApplicableScope;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.ioc.BeanFactory;
+import modelengine.fitframework.ioc.BeanMetadata;
+import modelengine.fitframework.ioc.CircularDependencyException;
+import modelengine.fitframework.ioc.annotation.AnnotationMetadata;
+import modelengine.fitframework.ioc.lifecycle.bean.BeanCreator;
+import modelengine.fitframework.ioc.lifecycle.bean.support.DefaultBeanLifecycle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 表示 {@link SingletonBeanFactory} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 SingletonBeanFactory 类")
+class SingletonBeanFactoryTest {
+    private final BeanContainer container = mock(BeanContainer.class);
+
+    private BeanFactory factory(String name, BeanCreator creator) {
+        BeanMetadata metadata = new DefaultBeanMetadata(this.container,
+                name,
+                Collections.emptySet(),
+                Object.class,
+                Stereotype.SINGLETON,
+                false,
+                false,
+                Collections.emptySet(),
+                BeanApplicableScope.ANYWHERE,
+                mock(AnnotationMetadata.class),
+                mock(Config.class));
+        return new SingletonBeanFactory(new DefaultBeanLifecycle(metadata, creator, null, null, null, null));
+    }
+
+    @Test
+    @DisplayName("多个线程同时获取单例 Bean 时，Bean 只创建一次")
+    void shouldCreateOnceWhenAccessedConcurrently() throws Exception {
+        AtomicInteger created = new AtomicInteger();
+        BeanFactory factory = this.factory("bean", arguments -> {
+            created.incrementAndGet();
+            return new Object();
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<CompletableFuture<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(CompletableFuture.supplyAsync(factory::get, executor));
+            }
+            Object expected = factory.get();
+            for (CompletableFuture<Object> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isSameAs(expected);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(created).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("两个线程分别创建互相依赖的单例 Bean 时，抛出循环依赖异常而不是死锁")
+    void shouldDetectCircularDependencyAcrossThreads() throws Exception {
+        CountDownLatch started = new CountDownLatch(2);
+        AtomicReference<BeanFactory> first = new AtomicReference<>();
+        AtomicReference<BeanFactory> second = new AtomicReference<>();
+        first.set(this.factory("first", arguments -> {
+            await(started);
+            return second.get().get();
+        }));
+        second.set(this.factory("second", arguments -> {
+            await(started);
+            return first.get().get();
+        }));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CompletableFuture<Object> firstFuture = CompletableFuture.supplyAsync(first.get()::get, executor);
+            CompletableFuture<Object> secondFuture = CompletableFuture.supplyAsync(second.get()::get, executor);
+            CompletableFuture.allOf(firstFuture, secondFuture)
+                    .exceptionally(cause -> null)
+                    .get(5, TimeUnit.SECONDS);
+            assertThat(firstFuture).isCompletedExceptionally();
+            assertThat(secondFuture).isCompletedExceptionally();
+            assertThat(isCausedByCircularDependency(firstFuture) || isCausedByCircularDependency(secondFuture))
+                    .isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static boolean isCausedByCircularDependency(CompletableFuture<Object> future) {
+        Throwable cause = future.handle((result, exception) -> exception).join();
+        while (cause != null) {
+            if (cause instanceof CircularDependencyException) {
+                return true;
+            }
+            cause = cause.getCause();
+        }
+        return false;
+    }
+
+    private static void await(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
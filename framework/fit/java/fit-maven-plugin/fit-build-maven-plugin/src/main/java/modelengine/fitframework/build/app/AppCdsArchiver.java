@@ -0,0 +1,96 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.build.app;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.launch.AggregatedFitLauncher;
+import modelengine.fitframework.util.FileUtils;
+import modelengine.fitframework.util.StringUtils;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.logging.Log;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 为聚合启动的应用生成类数据共享（AppCDS）归档。
+ * <p>归档通过一次训练运行生成：以解压嵌套 Jar 包的方式启动应用，应用启动完成后立即退出，JVM 在退出时将启动过程中加载的类写入
+ * 动态归档。部署时使用相同版本的 JDK，并指定 {@code -XX:SharedArchiveFile} 和
+ * {@code -D}{@value AggregatedFitLauncher#EXTRACT_DIRECTORY_KEY} 启动应用即可使用该归档。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+final class AppCdsArchiver {
+    private static final String ARCHIVE_FILE_EXTENSION = ".jsa";
+    private static final String EXTRACT_DIRECTORY_SUFFIX = "-extracted";
+
+    private final Log log;
+    private final File application;
+
+    /**
+     * 使用 Maven 日志和应用的 Jar 包初始化 {@link AppCdsArchiver} 类的新实例。
+     *
+     * @param log 表示 Maven 日志的 {@link Log}。
+     * @param application 表示应用的 Jar 包的 {@link File}。
+     */
+    AppCdsArchiver(Log log, File application) {
+        this.log = notNull(log, "The log cannot be null.");
+        this.application = notNull(application, "The application cannot be null.");
+    }
+
+    /**
+     * 通过训练运行生成应用的类数据共享归档。
+     *
+     * @return 表示生成的归档文件的 {@link File}。
+     * @throws MojoExecutionException 当训练运行失败时。
+     */
+    File archive() throws MojoExecutionException {
+        String baseName = FileUtils.ignoreExtension(this.application.getName());
+        File archive = new File(this.application.getParentFile(), baseName + ARCHIVE_FILE_EXTENSION);
+        File extractDirectory = new File(this.application.getParentFile(), baseName + EXTRACT_DIRECTORY_SUFFIX);
+        List<String> command = Arrays.asList(javaCommand(),
+                "-XX:ArchiveClassesAtExit=" + FileUtils.path(archive),
+                "-D" + AggregatedFitLauncher.EXTRACT_DIRECTORY_KEY + "=" + FileUtils.path(extractDirectory),
+                "-D" + AggregatedFitLauncher.CDS_TRAINING_KEY + "=true",
+                "-jar",
+                FileUtils.path(this.application));
+        this.log.info(StringUtils.format("Start training run to create class data sharing archive. [archive={0}]",
+                FileUtils.path(archive)));
+        int exitCode;
+        try {
+            Process process = new ProcessBuilder(command).directory(this.application.getParentFile())
+                    .inheritIO()
+                    .start();
+            exitCode = process.waitFor();
+        } catch (IOException e) {
+            throw new MojoExecutionException(StringUtils.format(
+                    "Failed to start training run of application. [application={0}]",
+                    FileUtils.path(this.application)), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException(StringUtils.format(
+                    "Training run of application is interrupted. [application={0}]",
+                    FileUtils.path(this.application)), e);
+        }
+        if (exitCode != 0 || !archive.isFile()) {
+            throw new MojoExecutionException(StringUtils.format(
+                    "Failed to create class data sharing archive. [application={0}, exitCode={1}]",
+                    FileUtils.path(this.application),
+                    exitCode));
+        }
+        return archive;
+    }
+
+    private static String javaCommand() {
+        return FileUtils.path(new File(new File(System.getProperty("java.home"), "bin"), "java"));
+    }
+}
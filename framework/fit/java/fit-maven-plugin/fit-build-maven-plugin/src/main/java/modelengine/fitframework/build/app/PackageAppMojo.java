@@ -38,6 +38,11 @@ import java.util.List;
 public class PackageAppMojo extends AbstractPackageMojo {
     @Parameter(property = "sharedDependencies")
     private List<SharedDependency> sharedDependencies;
+    /**
+     * 表示是否在打包完成后通过训练运行生成类数据共享（AppCDS）归档。
+     */
+    @Parameter(property = "cdsArchive", defaultValue = "false")
+    private boolean cdsArchive;
     @Parameter(defaultValue = "${session}", readonly = true, required = true)
     private MavenSession session;
     @Component(hint = "default")
@@ -58,6 +63,9 @@ public class PackageAppMojo extends AbstractPackageMojo {
         AppRepackager repackager =
                 new AppRepackager(this.project(), this.getLog(), downloader, root, this.sharedDependencies);
         repackager.repackage();
+        if (this.cdsArchive) {
+            new AppCdsArchiver(this.getLog(), this.project().getArtifact().getFile()).archive();
+        }
     }
 
     private ProjectBuildingRequest createRequest() {
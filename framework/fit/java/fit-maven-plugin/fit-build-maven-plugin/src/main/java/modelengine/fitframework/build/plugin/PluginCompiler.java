@@ -6,6 +6,8 @@
 
 package modelengine.fitframework.build.plugin;
 
+import modelengine.fitframework.jvm.classfile.ClassFile;
+import modelengine.fitframework.jvm.scan.ComponentIndex;
 import modelengine.fitframework.plugin.maven.support.AbstractCompiler;
 import modelengine.fitframework.plugin.maven.support.SharedDependency;
 import modelengine.fitframework.util.StringUtils;
@@ -17,6 +19,7 @@ import org.apache.maven.project.MavenProject;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -24,6 +27,8 @@ import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 为插件提供编译程序。
@@ -33,6 +38,7 @@ import java.util.Set;
  */
 final class PluginCompiler extends AbstractCompiler {
     private static final String PLUGIN_MANIFEST = "plugin.xml";
+    private static final String COMPONENT_INDEX = "components.idx";
 
     private final PluginManifest manifest;
 
@@ -44,6 +50,7 @@ final class PluginCompiler extends AbstractCompiler {
     @Override
     protected void output(String outputDirectory, String fitRootDirectory) throws MojoExecutionException {
         this.outputPluginManifest(fitRootDirectory);
+        this.outputComponentIndex(outputDirectory, fitRootDirectory);
         this.outputDependencies(fitRootDirectory);
     }
 
@@ -62,6 +69,40 @@ final class PluginCompiler extends AbstractCompiler {
         }
     }
 
+    private void outputComponentIndex(String classesDirectory, String outputDirectory)
+            throws MojoExecutionException {
+        if (classesDirectory == null || !Files.isDirectory(Paths.get(classesDirectory))) {
+            return;
+        }
+        ComponentIndex index = new ComponentIndex();
+        try (Stream<Path> paths = Files.walk(Paths.get(classesDirectory))) {
+            List<Path> classPaths = paths.filter(Files::isRegularFile)
+                    .filter(path -> path.toString().endsWith(ClassFile.FILE_EXTENSION))
+                    .collect(Collectors.toList());
+            for (Path classPath : classPaths) {
+                try (InputStream in = Files.newInputStream(classPath)) {
+                    index.add(ComponentIndex.Entry.of(new ClassFile(in)));
+                } catch (IOException e) {
+                    throw new MojoExecutionException(StringUtils.format("Failed to load class. [file={0}]",
+                            classPath), e);
+                }
+            }
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to list class files.", e);
+        }
+        String fileName = outputDirectory + File.separator + COMPONENT_INDEX;
+        try (OutputStream out = Files.newOutputStream(new File(fileName).toPath())) {
+            index.write(out);
+            this.log()
+                    .info(StringUtils.format("Write component index. [file={0}, classes={1}]",
+                            fileName,
+                            index.entries().size()));
+        } catch (IOException e) {
+            throw new MojoExecutionException(StringUtils.format("Failed to write component index. [file={0}]",
+                    fileName), e);
+        }
+    }
+
     private void outputDependencies(String outputDirectory) throws MojoExecutionException {
         Set<Artifact> dependencies = this.project().getArtifacts();
         this.log().info(StringUtils.format("Prepare to package dependencies. [total={0}]", dependencies.size()));
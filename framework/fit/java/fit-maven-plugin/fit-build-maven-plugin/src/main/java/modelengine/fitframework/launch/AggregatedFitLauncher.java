@@ -13,22 +13,34 @@ import modelengine.fitframework.protocol.jar.JarEntryLocation;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
-import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.security.CodeSource;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 /**
  * 为 All In One 场景提供应用程序启动程序。
+ * <p>默认直接从应用程序 JAR 中嵌套的 JAR 加载类。当通过 {@link #EXTRACT_DIRECTORY_KEY} 指定了解压目录时，会先将嵌套的 JAR
+ * 解压到该目录中，再从解压后的 JAR 文件中加载类，这样的布局可以被 JVM 的类数据共享（AppCDS）使用：</p>
+ * <ol>
+ *     <li>训练运行：{@code java -XX:ArchiveClassesAtExit=app.jsa -Dfit.launcher.extract-directory=<目录>
+ *     -Dfit.launcher.cds-training=true -jar app.jar}，应用启动完成后退出，并生成类数据共享归档；</li>
+ *     <li>正常运行：{@code java -XX:SharedArchiveFile=app.jsa -Dfit.launcher.extract-directory=<目录> -jar app.jar}。</li>
+ * </ol>
  *
  * @author 梁济时
  * @since 2023-02-01
@@ -61,11 +73,31 @@ public final class AggregatedFitLauncher {
     /** 表示 FIT 的入口类的键。 */
     public static final String MANIFEST_ENTRY_CLASS_KEY = "FIT-Entry-Class";
 
+    /** 表示解压嵌套 JAR 的目录的系统属性的键。 */
+    public static final String EXTRACT_DIRECTORY_KEY = "fit.launcher.extract-directory";
+
+    /** 表示应用程序 JAR 文件的系统属性的键，当解压嵌套 JAR 启动时，由启动程序设置。 */
+    public static final String APPLICATION_KEY = "fit.launcher.application";
+
+    /** 表示类数据共享的训练运行的系统属性的键，训练运行在应用启动完成后即退出。 */
+    public static final String CDS_TRAINING_KEY = "fit.launcher.cds-training";
+
+    private static final String PLUGIN_ENTRY_NAME =
+            FIT_ROOT_ENTRY_NAME + "plugins" + JarEntryLocation.ENTRY_PATH_SEPARATOR;
+    private static final String EXTRACTED_CLASSES_FILE_NAME = "classes" + Jar.FILE_EXTENSION;
+
     public static void main(String[] args) throws Throwable {
         Handlers.register();
         UrlClassLoader sharedClassLoader = obtainSharedClassLoader();
         UrlClassLoader frameworkClassLoader = new UrlClassLoader(new URL[0], sharedClassLoader);
-        String entryClassName = getEntryClassName(sharedClassLoader, frameworkClassLoader, Jar.from(startup()));
+        File startup = startup();
+        File extractDirectory = extractDirectory();
+        if (extractDirectory != null) {
+            System.setProperty(APPLICATION_KEY, startup.getPath());
+            System.setProperty(EXTRACT_DIRECTORY_KEY, extractDirectory.getPath());
+        }
+        String entryClassName =
+                getEntryClassName(sharedClassLoader, frameworkClassLoader, Jar.from(startup), extractDirectory);
         if (entryClassName == null || entryClassName.isEmpty()) {
             throw new IllegalStateException("No FIT-Class-Name configured in manifest of JAR.");
         }
@@ -81,6 +113,24 @@ public final class AggregatedFitLauncher {
         } catch (InvocationTargetException e) {
             throw e.getCause();
         }
+        if (Boolean.getBoolean(CDS_TRAINING_KEY)) {
+            // 训练运行在应用启动完成后正常退出，JVM 在退出时生成类数据共享归档。
+            System.exit(0);
+        }
+    }
+
+    private static File extractDirectory() {
+        String directory = System.getProperty(EXTRACT_DIRECTORY_KEY);
+        if (directory == null || directory.trim().isEmpty()) {
+            return null;
+        }
+        File file = new File(directory.trim()).getAbsoluteFile();
+        if (!file.isDirectory() && !file.mkdirs()) {
+            throw new IllegalStateException(String.format(Locale.ROOT,
+                    "Failed to create directory to extract nested JARs. [directory=%s]",
+                    file.getPath()));
+        }
+        return file;
     }
 
     private static File startup() {
@@ -119,7 +169,7 @@ public final class AggregatedFitLauncher {
     }
 
     private static String getEntryClassName(UrlClassLoader sharedClassLoader, UrlClassLoader frameworkClassLoader,
-            Jar jar) throws MalformedURLException {
+            Jar jar, File extractDirectory) throws IOException {
         String entryClassName = null;
         for (Jar.Entry entry : jar.entries()) {
             if (MANIFEST_ENTRY_NAME.equalsIgnoreCase(entry.name())) {
@@ -128,27 +178,104 @@ public final class AggregatedFitLauncher {
                 continue;
             }
             if (CLASS_DIRECTORY_ENTRY_NAME.equalsIgnoreCase(entry.name())) {
-                frameworkClassLoader.addURL(entry.location().asJar().toUrl());
+                frameworkClassLoader.addURL(classesUrlOf(entry, extractDirectory));
                 continue;
             }
             if (!isJarEntry(entry.name())) {
                 continue;
             }
             if (inDirectory(entry.name(), LIB_ENTRY_NAME)) {
-                frameworkClassLoader.addURL(entry.location().asJar().toUrl());
+                frameworkClassLoader.addURL(urlOf(entry, extractDirectory));
                 continue;
             }
             if (inDirectory(entry.name(), SHARED_ENTRY_NAME)) {
-                sharedClassLoader.addURL(entry.location().asJar().toUrl());
+                sharedClassLoader.addURL(urlOf(entry, extractDirectory));
                 continue;
             }
             if (inDirectory(entry.name(), THIRD_PARTY_ENTRY_NAME)) {
-                frameworkClassLoader.addURL(entry.location().asJar().toUrl());
+                frameworkClassLoader.addURL(urlOf(entry, extractDirectory));
+                continue;
+            }
+            if (extractDirectory != null && inDirectory(entry.name(), PLUGIN_ENTRY_NAME)) {
+                // 插件由运行时加载，这里只负责解压，运行时会优先使用解压后的插件。
+                urlOf(entry, extractDirectory);
             }
         }
         return entryClassName;
     }
 
+    static URL urlOf(Jar.Entry entry, File extractDirectory) throws IOException {
+        if (extractDirectory == null) {
+            return entry.location().asJar().toUrl();
+        }
+        File file = new File(extractDirectory, entry.name().substring(FIT_ROOT_ENTRY_NAME.length()));
+        long lastModified = entry.timeOfLastModification().getTime();
+        if (file.length() != entry.sizeOfUncompressed() || file.lastModified() != lastModified) {
+            try (InputStream in = entry.read()) {
+                extract(file, lastModified, out -> copy(in, out));
+            }
+        }
+        return file.toURI().toURL();
+    }
+
+    static URL classesUrlOf(Jar.Entry entry, File extractDirectory) throws IOException {
+        if (extractDirectory == null) {
+            return entry.location().asJar().toUrl();
+        }
+        // 类数据共享不支持目录，因此将应用程序自身的类重新打包成 JAR 文件，应用程序 JAR 更新后才重新打包。
+        File file = new File(extractDirectory, EXTRACTED_CLASSES_FILE_NAME);
+        long lastModified = entry.jar().location().file().lastModified();
+        if (!file.isFile() || file.lastModified() != lastModified) {
+            Jar classes = entry.asJar();
+            extract(file, lastModified, out -> {
+                try (ZipOutputStream zip = new ZipOutputStream(out)) {
+                    for (Jar.Entry current : classes.entries()) {
+                        zip.putNextEntry(new ZipEntry(current.name()));
+                        if (!current.directory()) {
+                            try (InputStream in = current.read()) {
+                                copy(in, zip);
+                            }
+                        }
+                        zip.closeEntry();
+                    }
+                }
+            });
+        }
+        return file.toURI().toURL();
+    }
+
+    private static void extract(File file, long lastModified, Writer writer) throws IOException {
+        File directory = file.getParentFile();
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException(String.format(Locale.ROOT,
+                    "Failed to create directory to extract nested JAR. [directory=%s]",
+                    directory.getPath()));
+        }
+        // 先写入临时文件再替换，避免多个进程同时解压到相同目录时读取到不完整的文件。
+        Path temporary = Files.createTempFile(directory.toPath(), file.getName(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temporary)) {
+                writer.write(out);
+            }
+            if (!temporary.toFile().setLastModified(lastModified)) {
+                throw new IOException(String.format(Locale.ROOT,
+                        "Failed to set last modified time of extracted JAR. [file=%s]",
+                        file.getPath()));
+            }
+            Files.move(temporary, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static void copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) > -1) {
+            out.write(buffer, 0, read);
+        }
+    }
+
     private static UrlClassLoader obtainSharedClassLoader() {
         ClassLoader loader = AggregatedFitLauncher.class.getClassLoader();
         return new UrlClassLoader(new URL[0], loader);
@@ -237,6 +364,11 @@ public final class AggregatedFitLauncher {
         return builder.toString();
     }
 
+    @FunctionalInterface
+    private interface Writer {
+        void write(OutputStream out) throws IOException;
+    }
+
     /**
      * 表示 {@link URLClassLoader} 的共享类加载器的实现。
      */
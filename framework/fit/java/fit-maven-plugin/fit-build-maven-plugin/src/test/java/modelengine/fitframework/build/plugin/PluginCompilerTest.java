@@ -11,6 +11,8 @@ import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import modelengine.fitframework.jvm.classfile.ClassFile;
+import modelengine.fitframework.jvm.scan.ComponentIndex;
 import modelengine.fitframework.util.support.Zip;
 
 import org.apache.maven.artifact.Artifact;
@@ -23,7 +25,9 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
 
 /**
@@ -72,4 +76,25 @@ public class PluginCompilerTest {
         assertThat(cause).hasMessage(
                 "Plugin cannot depend on another plugin. [groupId=test.plugin, artifactId=test-plugin]");
     }
+
+    @Test
+    @DisplayName("编译插件时，生成包含声明了注解的类的组件索引")
+    void shouldOutputComponentIndex() throws IOException, MojoExecutionException {
+        Path classes = Files.createTempDirectory("PluginCompilerTest-classes-");
+        String resource = PluginCompilerTest.class.getName().replace('.', '/') + ClassFile.FILE_EXTENSION;
+        Path classFile = classes.resolve(resource);
+        Files.createDirectories(classFile.getParent());
+        try (InputStream in = PluginCompilerTest.class.getClassLoader().getResourceAsStream(resource)) {
+            Files.copy(in, classFile);
+        }
+        Path fitRoot = Files.createDirectories(classes.resolve("FIT-INF"));
+        when(this.mavenProject.getArtifacts()).thenReturn(Collections.emptySet());
+        this.compiler.output(classes.toString(), fitRoot.toString());
+        ComponentIndex index;
+        try (InputStream in = Files.newInputStream(fitRoot.resolve("components.idx"))) {
+            index = ComponentIndex.read(in);
+        }
+        assertThat(index.classNames("modelengine.fitframework.build")).containsExactly(
+                PluginCompilerTest.class.getName());
+    }
 }
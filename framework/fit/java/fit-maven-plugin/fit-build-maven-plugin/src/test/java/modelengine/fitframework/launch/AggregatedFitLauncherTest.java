@@ -0,0 +1,151 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.launch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fitframework.protocol.jar.Jar;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 为 {@link AggregatedFitLauncher} 的嵌套 JAR 解压提供单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 AggregatedFitLauncher 解压嵌套 JAR")
+class AggregatedFitLauncherTest {
+    private static final String LIB_ENTRY = "FIT-INF/lib/library.jar";
+    private static final String CLASS_ENTRY = "FIT-INF/classes/sample/Sample.class";
+    private static final long ENTRY_TIME = 1_700_000_000_000L;
+
+    @TempDir
+    Path directory;
+
+    private File application;
+    private File extractDirectory;
+
+    @BeforeEach
+    void setup() throws IOException {
+        this.application = this.directory.resolve("app.jar").toFile();
+        this.extractDirectory = this.directory.resolve("extracted").toFile();
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(this.application.toPath()))) {
+            put(out, "FIT-INF/", null);
+            put(out, "FIT-INF/classes/", null);
+            put(out, "FIT-INF/classes/sample/", null);
+            put(out, CLASS_ENTRY, "class");
+            put(out, "FIT-INF/lib/", null);
+            put(out, LIB_ENTRY, "library");
+        }
+    }
+
+    @Test
+    @DisplayName("未指定解压目录时，返回嵌套 JAR 的地址")
+    void shouldReturnNestedUrlWithoutExtractDirectory() throws IOException {
+        URL url = AggregatedFitLauncher.urlOf(this.entry(LIB_ENTRY), null);
+        assertThat(url.toExternalForm()).contains("!/" + LIB_ENTRY);
+        assertThat(this.extractDirectory).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("按照 FIT-INF 下的相对路径解压嵌套 JAR，并保留修改时间")
+    void shouldExtractNestedJar() throws IOException {
+        Jar.Entry entry = this.entry(LIB_ENTRY);
+        URL url = AggregatedFitLauncher.urlOf(entry, this.extractDirectory);
+        File file = new File(this.extractDirectory, "lib/library.jar");
+        assertThat(url).isEqualTo(file.toURI().toURL());
+        assertThat(file).hasContent("library");
+        assertThat(file.lastModified()).isEqualTo(entry.timeOfLastModification().getTime());
+        assertThat(this.extractDirectory.toPath().resolve("lib").toFile().list()).containsExactly("library.jar");
+    }
+
+    @Test
+    @DisplayName("已解压的文件与嵌套 JAR 一致时直接复用")
+    void shouldReuseUpToDateExtractedJar() throws IOException {
+        Jar.Entry entry = this.entry(LIB_ENTRY);
+        AggregatedFitLauncher.urlOf(entry, this.extractDirectory);
+        File file = new File(this.extractDirectory, "lib/library.jar");
+        long lastModified = file.lastModified();
+        Files.write(file.toPath(), "LIBRARY".getBytes(StandardCharsets.UTF_8));
+        assertThat(file.setLastModified(lastModified)).isTrue();
+        AggregatedFitLauncher.urlOf(entry, this.extractDirectory);
+        assertThat(file).hasContent("LIBRARY");
+    }
+
+    @Test
+    @DisplayName("已解压的文件的修改时间不一致时重新解压")
+    void shouldExtractAgainWhenModificationTimeChanged() throws IOException {
+        Jar.Entry entry = this.entry(LIB_ENTRY);
+        AggregatedFitLauncher.urlOf(entry, this.extractDirectory);
+        File file = new File(this.extractDirectory, "lib/library.jar");
+        Files.write(file.toPath(), "LIBRARY".getBytes(StandardCharsets.UTF_8));
+        assertThat(file.setLastModified(ENTRY_TIME - 60_000L)).isTrue();
+        AggregatedFitLauncher.urlOf(entry, this.extractDirectory);
+        assertThat(file).hasContent("library");
+    }
+
+    @Test
+    @DisplayName("将应用程序的类重新打包成 JAR 文件")
+    void shouldRepackClassesDirectory() throws IOException {
+        URL url = AggregatedFitLauncher.classesUrlOf(this.entry("FIT-INF/classes/"), this.extractDirectory);
+        File file = new File(this.extractDirectory, "classes.jar");
+        assertThat(url).isEqualTo(file.toURI().toURL());
+        assertThat(file.lastModified()).isEqualTo(this.application.lastModified());
+        try (ZipFile zip = new ZipFile(file)) {
+            ZipEntry entry = zip.getEntry("sample/Sample.class");
+            assertThat(entry).isNotNull();
+            assertThat(new String(zip.getInputStream(entry).readAllBytes(), StandardCharsets.UTF_8))
+                    .isEqualTo("class");
+        }
+    }
+
+    @Test
+    @DisplayName("应用程序 JAR 未更新时复用重新打包的类，更新后重新打包")
+    void shouldRepackClassesOnlyWhenApplicationChanged() throws IOException {
+        AggregatedFitLauncher.classesUrlOf(this.entry("FIT-INF/classes/"), this.extractDirectory);
+        File file = new File(this.extractDirectory, "classes.jar");
+        long lastModified = file.lastModified();
+        Files.write(file.toPath(), "stale".getBytes(StandardCharsets.UTF_8));
+        assertThat(file.setLastModified(lastModified)).isTrue();
+        AggregatedFitLauncher.classesUrlOf(this.entry("FIT-INF/classes/"), this.extractDirectory);
+        assertThat(file).hasContent("stale");
+
+        assertThat(this.application.setLastModified(lastModified + 60_000L)).isTrue();
+        AggregatedFitLauncher.classesUrlOf(this.entry("FIT-INF/classes/"), this.extractDirectory);
+        try (ZipFile zip = new ZipFile(file)) {
+            assertThat(zip.getEntry("sample/Sample.class")).isNotNull();
+        }
+    }
+
+    private Jar.Entry entry(String name) throws IOException {
+        return Jar.from(this.application).entries().get(name);
+    }
+
+    private static void put(ZipOutputStream out, String name, String content) throws IOException {
+        ZipEntry entry = new ZipEntry(name);
+        entry.setTime(ENTRY_TIME);
+        out.putNextEntry(entry);
+        if (content != null) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        out.closeEntry();
+    }
+}
@@ -20,9 +20,12 @@ import modelengine.fitframework.ioc.BeanContainer;
 import modelengine.fitframework.ioc.BeanFactory;
 import modelengine.fitframework.ioc.BeanMetadata;
 import modelengine.fitframework.ioc.support.DefaultBeanContainer;
+import modelengine.fitframework.ioc.support.ParallelStartup;
 import modelengine.fitframework.jvm.scan.PackageScanner;
 import modelengine.fitframework.log.Logger;
 import modelengine.fitframework.plugin.Plugin;
+import modelengine.fitframework.plugin.PluginActivatedObserver;
+import modelengine.fitframework.plugin.PluginCategory;
 import modelengine.fitframework.plugin.PluginCollection;
 import modelengine.fitframework.plugin.PluginStartedObserver;
 import modelengine.fitframework.plugin.PluginStartingObserver;
@@ -44,6 +47,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -68,6 +73,7 @@ public abstract class AbstractPlugin extends AbstractDisposable implements Plugi
     private static final String PREFIXED_INHERITED_CONFIG_NAME = "Global Config (Prefixed)";
 
     private static final String BASE_PACKAGE_KEY = "fit.beans.packages";
+    private static final String LAZY_KEY = "fit.plugin.lazy";
     private static final String PLUGIN_CONFIG_PREFIX = "plugin" + Config.SEPARATOR_DOT;
 
     private static final String PLUGIN_BEAN_NAME = "plugin";
@@ -85,6 +91,9 @@ public abstract class AbstractPlugin extends AbstractDisposable implements Plugi
 
     private volatile boolean initialized;
     private volatile boolean started;
+    private volatile boolean lazy;
+    private volatile boolean activated;
+    private final AtomicBoolean activating;
     private final Object monitor;
 
     public AbstractPlugin() {
@@ -93,6 +102,7 @@ public abstract class AbstractPlugin extends AbstractDisposable implements Plugi
         this.publisherOfEvents = new PluginEventPublisher(this);
 
         this.started = false;
+        this.activating = new AtomicBoolean();
         this.monitor = LockUtils.newSynchronizedLock();
     }
 
@@ -302,23 +312,83 @@ public abstract class AbstractPlugin extends AbstractDisposable implements Plugi
 
     private void start0() {
         LOG.debug("Start plugin: {}", this.metadata());
+        this.lazy = this.isLazy();
         this.onStarting();
         this.container().start();
         this.onStarted();
+        if (!this.lazy) {
+            this.onActivated();
+            this.activated = true;
+        }
+    }
+
+    /**
+     * 判断插件是否需要延迟激活。
+     * <p>只有用户插件可以延迟激活，插件可以在自身的配置中，或者在全局配置的 {@code plugin.<插件名>} 下，通过
+     * {@code fit.plugin.lazy} 配置项声明延迟激活。</p>
+     *
+     * @return 若插件需要延迟激活，则返回 {@code true}，否则返回 {@code false}。
+     */
+    private boolean isLazy() {
+        return this.parent() != null && this.metadata().category() == PluginCategory.USER
+                && Boolean.TRUE.equals(this.config().get(LAZY_KEY, Boolean.class));
     }
 
     /**
      * 当插件被启动前调用的方法。
+     * <p>同一层级的插件可能被并行启动，此时观察者的通知串行执行，观察者无需考虑并发。</p>
      */
     protected void onStarting() {
-        PluginStartingObserver.notify(this);
+        ParallelStartup.notifyObservers(() -> PluginStartingObserver.notify(this));
     }
 
     /**
      * 当插件被启动后调用的方法。
+     * <p>同一层级的插件可能被并行启动，此时观察者的通知串行执行，观察者无需考虑并发。</p>
      */
     protected void onStarted() {
-        PluginStartedObserver.notify(this);
+        ParallelStartup.notifyObservers(() -> PluginStartedObserver.notify(this));
+    }
+
+    @Override
+    public final boolean lazy() {
+        return this.lazy;
+    }
+
+    @Override
+    public final boolean activated() {
+        return this.activated;
+    }
+
+    @Override
+    public final void activate() {
+        // 激活时创建 Bean 的过程可能再次调用插件，包括在并行创建 Bean 的线程中，如果等待激活完成会发生死锁，因此激活过程中的调用
+        // 直接放行，所需的 Bean 在被使用时按需创建。
+        if (this.activated || !this.started() || !this.activating.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (this.activated || !this.started()) {
+                return;
+            }
+            long startTime = System.nanoTime();
+            this.container().activate();
+            this.onActivated();
+            this.activated = true;
+            LOG.info("Plugin activated. [name={}, duration={}ms]",
+                    this.metadata().name(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        } finally {
+            this.activating.set(false);
+        }
+    }
+
+    /**
+     * 当插件被激活后调用的方法。
+     * <p>延迟激活的插件在首次被调用的线程中激活，观察者需要自行考虑并发。激活过程中对插件的其他调用不会等待激活完成。</p>
+     */
+    protected void onActivated() {
+        PluginActivatedObserver.notify(this);
     }
 
     /**
@@ -392,6 +462,7 @@ public abstract class AbstractPlugin extends AbstractDisposable implements Plugi
             this.stop0();
             this.dispose();
             this.started = false;
+            this.activated = false;
         }
     }
 
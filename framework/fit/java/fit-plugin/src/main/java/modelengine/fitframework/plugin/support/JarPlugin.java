@@ -11,6 +11,7 @@ import static modelengine.fitframework.inspection.Validation.notNull;
 import modelengine.fitframework.plugin.Plugin;
 import modelengine.fitframework.plugin.PluginMetadata;
 import modelengine.fitframework.protocol.jar.Jar;
+import modelengine.fitframework.protocol.jar.JarCache;
 import modelengine.fitframework.runtime.FitRuntime;
 import modelengine.fitframework.util.StringUtils;
 
@@ -58,6 +59,14 @@ public final class JarPlugin extends AbstractPlugin implements Plugin {
         return this.parent;
     }
 
+    @Override
+    protected void dispose0() {
+        // 插件文件在卸载之后可能被删除或替换，因此立即关闭插件文件中的 JAR，不等待垃圾回收。嵌套在其他文件中的插件不占用单独的文件。
+        if (this.jar.location().nests().isEmpty()) {
+            JarCache.instance().invalidate(this.jar.location().file());
+        }
+    }
+
     @Override
     protected void registerJars() {
         this.pluginClassLoader.add(NestedJarDiscovery.urlOfJar(this.jar.location()));
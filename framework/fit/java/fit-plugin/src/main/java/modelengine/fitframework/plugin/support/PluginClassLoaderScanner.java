@@ -6,22 +6,33 @@
 
 package modelengine.fitframework.plugin.support;
 
+import modelengine.fitframework.jvm.scan.ComponentIndex;
 import modelengine.fitframework.jvm.scan.PackageScanner;
 import modelengine.fitframework.jvm.scan.support.ClassLoaderPackageScanner;
+import modelengine.fitframework.protocol.jar.Jar;
+import modelengine.fitframework.protocol.jar.JarLocation;
 import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 import java.util.Enumeration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 表示 {@link ClassLoaderPackageScanner} 的插件类加载的实现。
+ * <p>插件的扫描只用于发现组件，因此当插件 JAR 中存在构建时生成的 {@link ComponentIndex 组件索引}时，直接使用索引中的类，
+ * 不再遍历 JAR 中的所有条目；不存在组件索引时，仍然遍历扫描，但先从类文件中解析注解，只加载声明了注解的类。</p>
  *
  * @author 季聿阶
  * @since 2023-09-01
  */
 public class PluginClassLoaderScanner extends ClassLoaderPackageScanner {
+    private final Map<JarLocation, Optional<ComponentIndex>> indexes = new ConcurrentHashMap<>();
+
     public PluginClassLoaderScanner(ClassLoader loader, PackageScanner.Callback callback) {
         super(loader, callback);
     }
@@ -42,4 +53,32 @@ public class PluginClassLoaderScanner extends ClassLoaderPackageScanner {
             return super.getPackageResources(basePackage, resourceName);
         }
     }
+
+    @Override
+    protected boolean skipsUnannotatedClasses() {
+        return true;
+    }
+
+    @Override
+    protected ComponentIndex componentIndex(JarLocation location) {
+        if (!(this.getLoader() instanceof PluginClassLoader)) {
+            return null;
+        }
+        return this.indexes.computeIfAbsent(location, PluginClassLoaderScanner::loadComponentIndex).orElse(null);
+    }
+
+    private static Optional<ComponentIndex> loadComponentIndex(JarLocation location) {
+        try {
+            Jar.Entry entry = Jar.from(location).entries().get(ComponentIndex.RESOURCE_NAME);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            try (InputStream in = entry.read()) {
+                return Optional.of(ComponentIndex.read(in));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(StringUtils.format("Failed to load component index. [location={0}]",
+                    location), e);
+        }
+    }
 }
@@ -8,6 +8,7 @@ package modelengine.fitframework.protocol.jar;
 
 import modelengine.fitframework.protocol.jar.support.DefaultJarCache;
 
+import java.io.File;
 import java.io.IOException;
 
 /**
@@ -29,6 +30,15 @@ public interface JarCache {
      */
     Jar get(JarLocation location) throws IOException;
 
+    /**
+     * 使指定文件中的所有 JAR 的缓存失效，并关闭这些 JAR。
+     * <p>关闭之后不再占用文件，仍被引用的 JAR 依然可以读取，此时只在读取期间临时打开文件。</p>
+     *
+     * @param file 表示 JAR 所在文件的 {@link File}。
+     * @throws IllegalArgumentException {@code file} 为 {@code null}。
+     */
+    void invalidate(File file);
+
     /**
      * 获取 Jar 文件的缓存。
      *
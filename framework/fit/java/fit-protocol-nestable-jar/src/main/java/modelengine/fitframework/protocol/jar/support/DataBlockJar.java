@@ -13,7 +13,6 @@ import modelengine.fitframework.protocol.jar.JarFormatException;
 import modelengine.fitframework.protocol.jar.JarLocation;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.security.Permission;
@@ -21,9 +20,11 @@ import java.util.Arrays;
 import java.util.Date;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * 为 {@link Jar} 提供基类。
+ * <p>每个归档件在关闭之前持有所在文件的共享通道的一个引用，嵌套的归档件与外层的归档件共享同一个通道。</p>
  *
  * @author 梁济时
  * @since 2023-01-12
@@ -31,12 +32,19 @@ import java.util.Objects;
 final class DataBlockJar implements Jar {
     private final JarLocation location;
     private final DataLocator locatorOfData;
+    private final SharedFileChannel channel;
+    private final DataRandomReader reader;
     private final String comment;
     private final JarEntryCollection entries;
+    private final AtomicBoolean closed;
 
-    private DataBlockJar(JarLocation location, DataLocator locatorOfData, DataRandomReader reader) throws IOException {
+    private DataBlockJar(JarLocation location, DataLocator locatorOfData, SharedFileChannel channel,
+            DataRandomReader reader) throws IOException {
         this.location = location;
         this.locatorOfData = locatorOfData;
+        this.channel = channel;
+        this.reader = reader;
+        this.closed = new AtomicBoolean();
         Zip cd = new Zip(reader);
         this.comment = cd.comment();
         this.entries = new JarEntryCollection(cd.size());
@@ -77,11 +85,26 @@ final class DataBlockJar implements Jar {
         return this.location().toString();
     }
 
+    /**
+     * 关闭归档件，释放其持有的共享通道的引用。
+     * <p>关闭之后仍然可以读取，此时只在读取期间临时打开文件。</p>
+     */
+    void close() {
+        if (this.closed.compareAndSet(false, true)) {
+            this.channel.release();
+        }
+    }
+
     static DataBlockJar load(File file) throws IOException {
         JarLocation jarLocation = JarLocation.custom().file(file).build();
         DataLocator dataLocator = DataLocator.of(jarLocation.file());
-        try (DataRandomReader reader = DataRandomReader.from(dataLocator)) {
-            return new DataBlockJar(jarLocation, dataLocator, reader);
+        SharedFileChannel channel = SharedFileChannel.open(jarLocation.file());
+        try {
+            DataRandomReader reader = new DataRandomReaders.Default(dataLocator, channel);
+            return new DataBlockJar(jarLocation, dataLocator, channel, reader);
+        } catch (IOException | RuntimeException e) {
+            channel.release();
+            throw e;
         }
     }
 
@@ -180,34 +203,18 @@ final class DataBlockJar implements Jar {
 
         @Override
         public InputStream read() throws IOException {
-            // 性能敏感场景，IDEA 提示无情重构为 Files.newInputStream(Path path)，该重构性能劣化严重，禁止该重构。
-            InputStream in = new FileInputStream(DataBlockJar.this.locatorOfData().file());
-            try {
-                long bytesToSkip = DataBlockJar.this.locatorOfData.offset() + this.offsetOfLocalHeader;
-                long skipped = 0L;
-                while (skipped < bytesToSkip) {
-                    skipped += in.skip(bytesToSkip - skipped);
-                }
-                Zip.skipLocalHeader(in);
-                in = new LimitedInputStream(in, this.sizeOfCompressed());
-                switch (this.methodOfCompression()) {
-                    case NONE:
-                        return in;
-                    case DEFLATED:
-                        return new JarInflaterInputStream(in, this.sizeOfCompressed());
-                    default:
-                        throw new JarFormatException(String.format(Locale.ROOT,
-                                "Unsupported method of compression. [method=%s]",
-                                this.methodOfCompression().code()));
-                }
-            } catch (IOException | RuntimeException e) {
-                try {
-                    in.close();
-                } catch (IOException | RuntimeException suppressed) {
-                    e.addSuppressed(suppressed);
-                }
-                throw e;
+            CompressionMethod method = this.methodOfCompression();
+            if (method != CompressionMethod.NONE && method != CompressionMethod.DEFLATED) {
+                throw new JarFormatException(String.format(Locale.ROOT,
+                        "Unsupported method of compression. [method=%s]",
+                        method.code()));
             }
+            // 通过共享通道从指定位置读取，不需要为每个条目重新打开文件，也可以被多个线程同时读取。输入流在关闭之前持有通道的引用。
+            long offset = this.offsetOfLocalHeader + Zip.measureLocalHeader(DataBlockJar.this.reader,
+                    this.offsetOfLocalHeader);
+            InputStream in = DataBlockJar.this.channel.stream(DataBlockJar.this.locatorOfData.offset() + offset,
+                    this.sizeOfCompressed());
+            return method == CompressionMethod.NONE ? in : new JarInflaterInputStream(in, this.sizeOfCompressed());
         }
 
         @Override
@@ -215,14 +222,19 @@ final class DataBlockJar implements Jar {
             if (this.directory()) {
                 return new NestedDirectoryJar(this);
             } else if (Objects.equals(this.methodOfCompression, CompressionMethod.NONE)) {
-                try (DataRandomReader data = DataRandomReader.from(DataBlockJar.this.locatorOfData)) {
-                    long offset = this.offsetOfLocalHeader;
-                    offset += Zip.measureLocalHeader(data, offset);
-                    long length = this.sizeOfCompressed;
-                    DataLocator locator = DataBlockJar.this.locatorOfData.sub(offset, length);
-                    try (DataRandomReader sub = data.sub(offset, length)) {
-                        return new DataBlockJar(this.location.asJar(), locator, sub);
-                    }
+                long offset = this.offsetOfLocalHeader;
+                offset += Zip.measureLocalHeader(DataBlockJar.this.reader, offset);
+                long length = this.sizeOfCompressed;
+                DataLocator locator = DataBlockJar.this.locatorOfData.sub(offset, length);
+                DataBlockJar.this.channel.retain();
+                try {
+                    return new DataBlockJar(this.location.asJar(),
+                            locator,
+                            DataBlockJar.this.channel,
+                            DataBlockJar.this.reader.sub(offset, length));
+                } catch (IOException | RuntimeException e) {
+                    DataBlockJar.this.channel.release();
+                    throw e;
                 }
             } else {
                 throw new JarFormatException(String.format(Locale.ROOT,
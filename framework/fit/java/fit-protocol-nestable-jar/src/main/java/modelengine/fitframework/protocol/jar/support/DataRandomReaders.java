@@ -6,11 +6,7 @@
 
 package modelengine.fitframework.protocol.jar.support;
 
-import static modelengine.fitframework.protocol.jar.location.Locations.path;
-
-import java.io.EOFException;
 import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.util.Locale;
 
 /**
@@ -28,28 +24,27 @@ final class DataRandomReaders {
      */
     static final class Default implements DataRandomReader {
         private final DataLocator locator;
-        private final RandomAccessFile access;
+        private final SharedFileChannel channel;
         private final boolean root;
 
         Default(DataLocator locator) throws IOException {
-            this(locator, null);
+            this(locator, SharedFileChannel.open(locator.file()), true);
+        }
+
+        Default(DataLocator locator, SharedFileChannel channel) {
+            this(locator, channel, false);
         }
 
-        private Default(DataLocator locator, RandomAccessFile access) throws IOException {
+        private Default(DataLocator locator, SharedFileChannel channel, boolean root) {
             this.locator = locator;
-            if (access == null) {
-                this.access = new RandomAccessFile(this.locator.file(), "r");
-                this.root = true;
-            } else {
-                this.access = access;
-                this.root = false;
-            }
+            this.channel = channel;
+            this.root = root;
         }
 
         @Override
-        public void close() throws IOException {
+        public void close() {
             if (this.root) {
-                this.access.close();
+                this.channel.release();
             }
         }
 
@@ -61,20 +56,7 @@ final class DataRandomReaders {
         @Override
         public byte[] read(long position, int length) throws IOException {
             validate(position, length, this.locator.length());
-            this.access.seek(this.locator.offset() + position);
-            byte[] bytes = new byte[length];
-            int read = 0;
-            while (read < length) {
-                int part = this.access.read(bytes, read, length - read);
-                if (part < 0) {
-                    throw new EOFException(String.format(Locale.ROOT,
-                            "No enough data to read. [file=%s, position=%s, length=%d, actual=%d]",
-                            path(this.locator.file()), position, length, read));
-                } else {
-                    read += part;
-                }
-            }
-            return bytes;
+            return this.channel.read(this.locator.offset() + position, length);
         }
 
         @Override
@@ -96,7 +78,7 @@ final class DataRandomReaders {
                 return this;
             } else {
                 DataLocator dataLocator = this.locator.sub(offset, length);
-                return new Default(dataLocator, this.access);
+                return new Default(dataLocator, this.channel);
             }
         }
 
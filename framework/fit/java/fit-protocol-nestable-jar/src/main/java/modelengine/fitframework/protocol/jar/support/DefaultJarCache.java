@@ -6,21 +6,28 @@
 
 package modelengine.fitframework.protocol.jar.support;
 
+import modelengine.fitframework.protocol.jar.FilesCache;
 import modelengine.fitframework.protocol.jar.Jar;
 import modelengine.fitframework.protocol.jar.JarCache;
 import modelengine.fitframework.protocol.jar.JarFormatException;
 import modelengine.fitframework.protocol.jar.JarLocation;
 
+import java.io.File;
 import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
 import java.security.Permission;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * 为 {@link JarCache} 提供默认实现。
+ * <p>缓存中以弱引用持有已经解析了中央目录的归档件，读取缓存不需要加锁，因此多个线程可以同时从嵌套的归档件中加载类。</p>
+ * <p>归档件在缓存失效或者不再被引用而被移出缓存时关闭，释放其占用的文件。</p>
  *
  * @author 梁济时
  * @since 2023-02-21
@@ -31,10 +38,12 @@ public final class DefaultJarCache implements JarCache {
      */
     public static final DefaultJarCache INSTANCE = new DefaultJarCache();
 
-    private final Map<JarLocation, WeakReference<CachedJar>> cache;
+    private final ConcurrentMap<JarLocation, CachedJarReference> cache;
+    private final ReferenceQueue<CachedJar> released;
 
     private DefaultJarCache() {
-        this.cache = new WeakHashMap<>();
+        this.cache = new ConcurrentHashMap<>();
+        this.released = new ReferenceQueue<>();
     }
 
     @Override
@@ -42,31 +51,59 @@ public final class DefaultJarCache implements JarCache {
         return this.getOrLoad(location);
     }
 
+    @Override
+    public void invalidate(File file) {
+        if (file == null) {
+            throw new IllegalArgumentException("The file of JARs to invalidate cannot be null.");
+        }
+        this.expunge();
+        File canonicalFile = FilesCache.instance().getCanonicalFile(file);
+        this.cache.entrySet().removeIf(entry -> {
+            if (!Objects.equals(entry.getKey().file(), canonicalFile)) {
+                return false;
+            }
+            entry.getValue().close();
+            return true;
+        });
+    }
+
     private CachedJar getOrLoad(JarLocation location) throws IOException {
+        this.expunge();
         CachedJar jar;
-        WeakReference<CachedJar> ref;
-        boolean created = false;
-        if ((ref = this.cache.get(location)) == null || (jar = ref.get()) == null) {
-            synchronized (this.cache) {
-                if ((ref = this.cache.get(location)) == null || (jar = ref.get()) == null) {
-                    jar = new CachedJar(location);
-                    ref = new WeakReference<>(jar);
-                    this.cache.put(location, ref);
-                    created = true;
-                }
+        while (true) {
+            // 不加锁读取缓存，缓存不存在或已经被释放时，通过原子的替换写入新的缓存，替换失败说明其他线程已经写入，重新读取即可。
+            CachedJarReference ref = this.cache.get(location);
+            if (ref != null && (jar = ref.get()) != null) {
+                break;
             }
-        }
-        jar.initialize();
-        if (created) {
-            synchronized (this.cache) {
-                // 使用归档件中持有的位置信息实例作为键，确保在归档件实例存在时，键具有强引用，避免被释放。
-                this.cache.remove(jar.location());
-                this.cache.put(jar.location(), new WeakReference<>(jar));
+            jar = new CachedJar(location);
+            CachedJarReference created = new CachedJarReference(location, jar, this.released);
+            jar.reference = created;
+            if (this.store(location, ref, created)) {
+                break;
             }
         }
+        jar.initialize();
         return jar;
     }
 
+    private boolean store(JarLocation location, CachedJarReference previous, CachedJarReference created) {
+        if (previous == null) {
+            return this.cache.putIfAbsent(location, created) == null;
+        } else {
+            return this.cache.replace(location, previous, created);
+        }
+    }
+
+    private void expunge() {
+        Reference<? extends CachedJar> ref;
+        while ((ref = this.released.poll()) != null) {
+            CachedJarReference released = (CachedJarReference) ref;
+            this.cache.remove(released.location, released);
+            released.close();
+        }
+    }
+
     private Jar load(JarLocation location) throws IOException {
         if (location.nests().isEmpty()) {
             return DataBlockJar.load(location.file());
@@ -87,6 +124,7 @@ public final class DefaultJarCache implements JarCache {
         private volatile Jar jar;
         private volatile Jar.EntryCollection entries;
         private final Object monitor;
+        private CachedJarReference reference;
 
         private CachedJar(JarLocation location) {
             this.location = location;
@@ -100,8 +138,10 @@ public final class DefaultJarCache implements JarCache {
             }
             synchronized (this.monitor) {
                 if (this.jar == null) {
-                    this.jar = DefaultJarCache.this.load(this.location);
-                    this.entries = new CachedJarEntryCollection(this, this.jar.entries());
+                    Jar loaded = DefaultJarCache.this.load(this.location);
+                    this.entries = new CachedJarEntryCollection(this, loaded.entries());
+                    this.jar = loaded;
+                    this.reference.loaded(loaded);
                 }
             }
         }
@@ -132,6 +172,43 @@ public final class DefaultJarCache implements JarCache {
         }
     }
 
+    private final class CachedJarReference extends WeakReference<CachedJar> {
+        private final JarLocation location;
+        private Jar loaded;
+        private boolean closed;
+
+        private CachedJarReference(JarLocation location, CachedJar jar, ReferenceQueue<CachedJar> queue) {
+            super(jar, queue);
+            this.location = location;
+        }
+
+        private synchronized void loaded(Jar jar) {
+            this.loaded = jar;
+            if (!this.closed && DefaultJarCache.this.cache.get(this.location) == this) {
+                return;
+            }
+            // 加载完成之前缓存已经失效，立即关闭，之后的读取会临时打开文件。
+            this.closed = true;
+            closeJar(jar);
+        }
+
+        private synchronized void close() {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            if (this.loaded != null) {
+                closeJar(this.loaded);
+            }
+        }
+    }
+
+    private static void closeJar(Jar jar) {
+        if (jar instanceof DataBlockJar) {
+            ((DataBlockJar) jar).close();
+        }
+    }
+
     private final class CachedJarEntry extends EmptyJarEntryDecorator {
         private final Jar jar;
 
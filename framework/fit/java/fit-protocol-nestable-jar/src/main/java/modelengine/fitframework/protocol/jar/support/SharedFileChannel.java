@@ -0,0 +1,318 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.protocol.jar.support;
+
+import static modelengine.fitframework.protocol.jar.location.Locations.path;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 表示归档件所在文件的共享通道。
+ * <p>同一个文件中的归档件及其嵌套的归档件共享同一个 {@link FileChannel}，所有读取都使用指定位置的读取方法，不依赖也不修改通道的
+ * 当前位置，因此可以被多个线程同时读取，不需要加锁，也不需要每次读取时重新打开文件。</p>
+ * <p>读取不响应线程的中断，当其他线程被中断导致通道关闭时，会重新打开通道后继续读取。</p>
+ * <p>通道通过引用计数管理：打开通道的归档件持有一个引用，每个未关闭的输入流和每次进行中的读取各持有一个引用，引用全部释放时立即
+ * 关闭文件，不依赖垃圾回收。归档件被关闭之后仍被引用的归档件依然可以读取，此时只在读取期间或输入流关闭之前临时打开文件。
+ * 垃圾回收时的清理只用于关闭未被释放的引用所遗留的文件。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+final class SharedFileChannel {
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final State state;
+    private final Cleaner.Cleanable cleanable;
+
+    private SharedFileChannel(File file) throws IOException {
+        this.state = new State(file);
+        this.cleanable = CLEANER.register(this, this.state);
+    }
+
+    /**
+     * 打开指定文件的共享通道，调用方持有通道的一个引用，不再使用时需要通过 {@link #release()} 释放。
+     *
+     * @param file 表示待打开的文件的 {@link File}。
+     * @return 表示文件的共享通道的 {@link SharedFileChannel}。
+     * @throws IOException 打开文件过程发生输入输出异常。
+     */
+    static SharedFileChannel open(File file) throws IOException {
+        return new SharedFileChannel(file);
+    }
+
+    /**
+     * 获取通道对应的文件。
+     *
+     * @return 表示通道对应的文件的 {@link File}。
+     */
+    File file() {
+        return this.state.file;
+    }
+
+    /**
+     * 增加通道的一个引用，文件已经关闭时重新打开文件，引用不再使用时需要通过 {@link #release()} 释放。
+     *
+     * @throws IOException 重新打开文件过程发生输入输出异常。
+     */
+    void retain() throws IOException {
+        this.state.acquire();
+    }
+
+    /**
+     * 释放通道的一个引用，引用全部释放时立即关闭文件。
+     */
+    void release() {
+        this.state.release();
+    }
+
+    /**
+     * 判断通道对应的文件当前是否处于打开状态。
+     *
+     * @return 若文件处于打开状态，则为 {@code true}，否则为 {@code false}。
+     */
+    boolean opened() {
+        return this.state.opened();
+    }
+
+    /**
+     * 从指定位置读取数据，直到填满缓冲区或到达文件末尾。
+     *
+     * @param buffer 表示用以存储读取到的数据的 {@link ByteBuffer}。
+     * @param position 表示读取的起始位置的 64 位整数。
+     * @return 表示实际读取到的字节数的 32 位整数，若起始位置已经位于文件末尾，则为 {@code -1}。
+     * @throws IOException 读取过程发生输入输出异常。
+     */
+    int read(ByteBuffer buffer, long position) throws IOException {
+        this.state.acquire();
+        try {
+            int total = 0;
+            while (buffer.hasRemaining()) {
+                int read = this.state.read(buffer, position + total);
+                if (read < 0) {
+                    return total > 0 ? total : -1;
+                }
+                total += read;
+            }
+            return total;
+        } finally {
+            this.state.release();
+        }
+    }
+
+    /**
+     * 从指定位置读取指定长度的数据。
+     *
+     * @param position 表示读取的起始位置的 64 位整数。
+     * @param length 表示待读取的数据长度的 32 位整数。
+     * @return 表示读取到的数据的字节序。
+     * @throws EOFException 文件中没有足够的数据。
+     * @throws IOException 读取过程发生输入输出异常。
+     */
+    byte[] read(long position, int length) throws IOException {
+        byte[] bytes = new byte[length];
+        int read = this.read(ByteBuffer.wrap(bytes), position);
+        if (read < length) {
+            throw new EOFException(String.format(Locale.ROOT,
+                    "No enough data to read. [file=%s, position=%s, length=%d, actual=%d]",
+                    path(this.state.file), position, length, Math.max(read, 0)));
+        }
+        return bytes;
+    }
+
+    /**
+     * 创建从指定位置开始读取指定长度数据的输入流。
+     * <p>输入流在关闭之前持有通道的一个引用，关闭输入流时释放该引用。</p>
+     *
+     * @param position 表示读取的起始位置的 64 位整数。
+     * @param length 表示可以读取的数据长度的 64 位整数。
+     * @return 表示读取数据的输入流的 {@link InputStream}。
+     * @throws IOException 重新打开文件过程发生输入输出异常。
+     */
+    InputStream stream(long position, long length) throws IOException {
+        this.state.acquire();
+        return new ChannelInputStream(this, position, length);
+    }
+
+    /**
+     * 表示共享通道的状态，同时也是通道的清理动作，因此不能引用 {@link SharedFileChannel} 本身。
+     *
+     * @author 季聿阶
+     * @since 2026-10-19
+     */
+    private static final class State implements Runnable {
+        private final File file;
+        private final AtomicInteger references;
+        private volatile FileChannel channel;
+
+        private State(File file) throws IOException {
+            this.file = file;
+            this.references = new AtomicInteger(1);
+            this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        }
+
+        private void acquire() throws IOException {
+            while (true) {
+                int current = this.references.get();
+                if (current > 0) {
+                    if (this.references.compareAndSet(current, current + 1)) {
+                        return;
+                    }
+                    continue;
+                }
+                // 引用已经全部释放，文件可能已经关闭，在锁中重新打开。
+                synchronized (this) {
+                    if (this.references.get() == 0) {
+                        if (!this.opened()) {
+                            this.channel = FileChannel.open(this.file.toPath(), StandardOpenOption.READ);
+                        }
+                        this.references.set(1);
+                        return;
+                    }
+                }
+            }
+        }
+
+        private void release() {
+            if (this.references.decrementAndGet() > 0) {
+                return;
+            }
+            synchronized (this) {
+                // 释放到加锁之间其他线程可能已经重新获取了引用，此时不能关闭文件。
+                if (this.references.get() == 0) {
+                    this.close();
+                }
+            }
+        }
+
+        private boolean opened() {
+            FileChannel current = this.channel;
+            return current != null && current.isOpen();
+        }
+
+        private int read(ByteBuffer buffer, long position) throws IOException {
+            // 中断会导致共享的通道被关闭，因此读取期间暂时清除中断状态，读取完成后再恢复，与读取文件输入流的行为保持一致。
+            boolean interrupted = Thread.interrupted();
+            try {
+                while (true) {
+                    FileChannel current = this.channel;
+                    try {
+                        return current.read(buffer, position);
+                    } catch (ClosedByInterruptException e) {
+                        // 读取期间被中断，清除中断状态后重试。
+                        Thread.interrupted();
+                        interrupted = true;
+                        this.reopen(current);
+                    } catch (ClosedChannelException e) {
+                        this.reopen(current);
+                    }
+                }
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        private synchronized void reopen(FileChannel expected) throws IOException {
+            if (this.channel == expected && !expected.isOpen()) {
+                this.channel = FileChannel.open(this.file.toPath(), StandardOpenOption.READ);
+            }
+        }
+
+        private void close() {
+            FileChannel current = this.channel;
+            if (current == null) {
+                return;
+            }
+            this.channel = null;
+            try {
+                current.close();
+            } catch (IOException ignored) {
+                // 通道已经不再被使用，关闭失败时忽略异常。
+            }
+        }
+
+        @Override
+        public synchronized void run() {
+            this.close();
+        }
+    }
+
+    /**
+     * 表示基于共享通道的输入流，每个输入流独立维护读取位置。
+     *
+     * @author 季聿阶
+     * @since 2026-10-19
+     */
+    private static final class ChannelInputStream extends InputStream {
+        private final SharedFileChannel channel;
+        private final long end;
+        private long position;
+        private boolean closed;
+
+        private ChannelInputStream(SharedFileChannel channel, long position, long length) {
+            this.channel = channel;
+            this.position = position;
+            this.end = position + length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] bytes = new byte[1];
+            int read = this.read(bytes, 0, 1);
+            return read < 1 ? -1 : Byte.toUnsignedInt(bytes[0]);
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            long remaining = this.end - this.position;
+            if (remaining <= 0) {
+                return -1;
+            }
+            int actual = (int) Math.min(length, remaining);
+            int read = this.channel.read(ByteBuffer.wrap(bytes, offset, actual), this.position);
+            if (read > 0) {
+                this.position += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long bytes) {
+            long actual = Math.max(0L, Math.min(bytes, this.end - this.position));
+            this.position += actual;
+            return actual;
+        }
+
+        @Override
+        public void close() {
+            if (!this.closed) {
+                this.closed = true;
+                this.channel.release();
+            }
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, Math.max(0L, this.end - this.position));
+        }
+    }
+}
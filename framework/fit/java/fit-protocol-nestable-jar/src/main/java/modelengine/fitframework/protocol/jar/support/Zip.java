@@ -651,6 +651,7 @@ final class Zip implements Enumerable<Zip.FileHeader> {
                 calendar.set(Calendar.HOUR_OF_DAY, this.hour());
                 calendar.set(Calendar.MINUTE, this.minute());
                 calendar.set(Calendar.SECOND, this.second());
+                calendar.set(Calendar.MILLISECOND, 0);
                 this.date = calendar.getTime();
             }
             return this.date;
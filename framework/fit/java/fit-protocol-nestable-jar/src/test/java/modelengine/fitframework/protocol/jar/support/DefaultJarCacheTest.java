@@ -0,0 +1,98 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.protocol.jar.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import modelengine.fitframework.protocol.jar.Jar;
+import modelengine.fitframework.protocol.jar.JarCache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 为 {@link DefaultJarCache} 关闭归档件提供单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 DefaultJarCache 关闭归档件")
+class DefaultJarCacheTest {
+    private static final Path FILE_DESCRIPTORS = Paths.get("/proc/self/fd");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("缓存失效之后不再占用文件，仍被引用的归档件依然可以读取")
+    void shouldReleaseFileWhenInvalidated() throws IOException {
+        assumeTrue(Files.isDirectory(FILE_DESCRIPTORS), "Open files can only be listed on Linux.");
+        File file = this.createJar();
+        Jar jar = Jar.from(file);
+        Jar nested = jar.entries().get("nested.jar").asJar();
+        assertThat(countOpened(file)).isGreaterThan(0);
+
+        JarCache.instance().invalidate(file);
+        assertThat(countOpened(file)).isEqualTo(0);
+        try (InputStream in = nested.entries().get("entry.txt").read()) {
+            assertThat(countOpened(file)).isGreaterThan(0);
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("content");
+        }
+        assertThat(countOpened(file)).isEqualTo(0);
+    }
+
+    private File createJar() throws IOException {
+        Path nested = this.directory.resolve("nested.jar");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(nested))) {
+            out.putNextEntry(new ZipEntry("entry.txt"));
+            out.write("content".getBytes(StandardCharsets.UTF_8));
+            out.closeEntry();
+        }
+        byte[] bytes = Files.readAllBytes(nested);
+        Path outer = this.directory.resolve("outer.jar");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(outer))) {
+            // 嵌套的归档件必须以不压缩的方式存储。
+            ZipEntry entry = new ZipEntry("nested.jar");
+            CRC32 crc = new CRC32();
+            crc.update(bytes);
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(bytes.length);
+            entry.setCrc(crc.getValue());
+            out.putNextEntry(entry);
+            out.write(bytes);
+            out.closeEntry();
+        }
+        return outer.toFile();
+    }
+
+    private static long countOpened(File file) throws IOException {
+        Path target = file.getCanonicalFile().toPath();
+        try (Stream<Path> descriptors = Files.list(FILE_DESCRIPTORS)) {
+            return descriptors.filter(descriptor -> {
+                try {
+                    return Files.readSymbolicLink(descriptor).equals(target);
+                } catch (IOException e) {
+                    return false;
+                }
+            }).count();
+        }
+    }
+}
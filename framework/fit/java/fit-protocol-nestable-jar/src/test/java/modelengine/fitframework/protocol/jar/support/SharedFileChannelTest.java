@@ -0,0 +1,135 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.protocol.jar.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 为 {@link SharedFileChannel} 提供单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 SharedFileChannel")
+class SharedFileChannelTest {
+    private File file;
+    private byte[] content;
+    private SharedFileChannel channel;
+
+    @BeforeEach
+    void setup() throws IOException {
+        this.file = Files.createTempFile("SharedFileChannelTest-", ".bin").toFile();
+        this.content = new byte[4096];
+        for (int i = 0; i < this.content.length; i++) {
+            this.content[i] = (byte) i;
+        }
+        Files.write(this.file.toPath(), this.content);
+        this.channel = SharedFileChannel.open(this.file);
+    }
+
+    @AfterEach
+    void teardown() throws IOException {
+        this.channel.release();
+        Files.deleteIfExists(this.file.toPath());
+    }
+
+    @Test
+    @DisplayName("多个线程同时从不同位置读取时，读取到各自位置的数据")
+    void shouldReadConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<byte[]>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                int position = i * 64;
+                futures.add(executor.submit(() -> this.channel.read(position, 64)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                byte[] bytes = futures.get(i).get();
+                assertThat(bytes[0]).isEqualTo(this.content[i * 64]);
+                assertThat(bytes[63]).isEqualTo(this.content[i * 64 + 63]);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("输入流只读取指定范围的数据，且独立维护读取位置")
+    void shouldReadRangeByStream() throws IOException {
+        try (InputStream first = this.channel.stream(10, 5); InputStream second = this.channel.stream(100, 2)) {
+            assertThat(first.read()).isEqualTo(10);
+            assertThat(second.read()).isEqualTo(100);
+            assertThat(first.skip(2)).isEqualTo(2);
+            assertThat(first.read()).isEqualTo(13);
+            assertThat(first.read(new byte[8], 0, 8)).isEqualTo(1);
+            assertThat(first.read()).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    @DisplayName("线程的中断状态已经设置时，仍然可以读取，且保留中断状态")
+    void shouldReadWhenThreadInterrupted() throws IOException {
+        Thread.currentThread().interrupt();
+        try {
+            byte[] bytes = this.channel.read(1, 2);
+            assertThat(bytes).containsExactly(this.content[1], this.content[2]);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+        assertThat(this.channel.read(3, 1)).containsExactly(this.content[3]);
+    }
+
+    @Test
+    @DisplayName("打开通道的引用释放后，在最后一个输入流关闭时立即关闭文件")
+    void shouldCloseFileWhenLastStreamClosed() throws IOException {
+        InputStream in = this.channel.stream(0, 4);
+        this.channel.release();
+        assertThat(this.channel.opened()).isTrue();
+        assertThat(in.read()).isEqualTo(0);
+        in.close();
+        in.close();
+        assertThat(this.channel.opened()).isFalse();
+        this.channel.retain();
+    }
+
+    @Test
+    @DisplayName("引用全部释放后仍然可以读取，只在读取期间临时打开文件")
+    void shouldReadWithTemporaryFileAfterReleased() throws IOException {
+        this.channel.release();
+        assertThat(this.channel.opened()).isFalse();
+        assertThat(this.channel.read(1, 2)).containsExactly(this.content[1], this.content[2]);
+        assertThat(this.channel.opened()).isFalse();
+        this.channel.retain();
+        assertThat(this.channel.opened()).isTrue();
+    }
+
+    @Test
+    @DisplayName("文件中没有足够的数据时，抛出异常")
+    void shouldThrowWhenNoEnoughData() {
+        EOFException exception =
+                catchThrowableOfType(EOFException.class, () -> this.channel.read(this.content.length - 1, 2));
+        assertThat(exception).isNotNull();
+    }
+}
@@ -11,6 +11,7 @@ import modelengine.fitframework.runtime.aggregated.AggregatedFitRuntime;
 import modelengine.fitframework.runtime.direct.DirectFitRuntime;
 import modelengine.fitframework.runtime.discrete.DiscreteFitRuntime;
 import modelengine.fitframework.util.ClassUtils;
+import modelengine.fitframework.util.StringUtils;
 
 import java.net.URL;
 import java.util.UUID;
@@ -38,7 +39,7 @@ public final class FitStarter {
         URL url = ClassUtils.locateOfProtectionDomain(FitStarter.class);
         JarLocation location = JarLocation.parse(url);
         FitRuntime runtime;
-        if (!location.nests().isEmpty()) {
+        if (!location.nests().isEmpty() || isExtracted()) {
             runtime = new AggregatedFitRuntime(entry, args);
         } else if (FitStarter.class.getClassLoader() == ClassLoader.getSystemClassLoader()) {
             runtime = new DirectFitRuntime(entry, args);
@@ -50,6 +51,11 @@ public final class FitStarter {
         return runtime;
     }
 
+    private static boolean isExtracted() {
+        // 聚合启动的 Jar 包被解压启动时，运行时所在的 Jar 包不再是嵌套的 Jar 包，由启动程序通过系统属性指定。
+        return StringUtils.isNotBlank(System.getProperty(AggregatedFitRuntime.APPLICATION_KEY));
+    }
+
     private static String createInstanceId() {
         return UUID.randomUUID().toString();
     }
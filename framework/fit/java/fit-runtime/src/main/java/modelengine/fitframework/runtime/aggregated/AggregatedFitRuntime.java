@@ -13,17 +13,27 @@ import modelengine.fitframework.runtime.shared.SharedUrlClassLoader;
 import modelengine.fitframework.runtime.support.AbstractFitRuntime;
 import modelengine.fitframework.util.ClassUtils;
 import modelengine.fitframework.util.FileUtils;
+import modelengine.fitframework.util.StringUtils;
 
+import java.io.File;
 import java.net.URL;
 
 /**
  * 为 FIT 运行时提供聚合启动场景的实现。
  * <p>聚合启动指的是所有的 Jar 包合并为一个 Jar in Jar 的单独 Jar 包进行启动。</p>
+ * <p>当启动程序将嵌套的 Jar 包解压到目录中启动时，会通过 {@link #APPLICATION_KEY} 指定应用程序的 Jar 包，通过
+ * {@link #EXTRACT_DIRECTORY_KEY} 指定解压的目录，此时插件优先从解压后的 Jar 包中加载。</p>
  *
  * @author 梁济时
  * @since 2023-01-31
  */
 public final class AggregatedFitRuntime extends AbstractFitRuntime {
+    /** 表示应用程序 Jar 包的系统属性的键，与启动程序中定义的键保持一致。 */
+    public static final String APPLICATION_KEY = "fit.launcher.application";
+
+    /** 表示解压嵌套 Jar 包的目录的系统属性的键，与启动程序中定义的键保持一致。 */
+    public static final String EXTRACT_DIRECTORY_KEY = "fit.launcher.extract-directory";
+
     /**
      * 使用入口类和命令行参数来初始化 {@link AggregatedFitRuntime} 类的新实例。
      *
@@ -36,6 +46,10 @@ public final class AggregatedFitRuntime extends AbstractFitRuntime {
 
     @Override
     protected URL locateRuntime() {
+        String application = System.getProperty(APPLICATION_KEY);
+        if (StringUtils.isNotBlank(application)) {
+            return FileUtils.urlOf(new File(application));
+        }
         URL domain = ClassUtils.locateOfProtectionDomain(AggregatedFitRuntime.class);
         JarLocation location = JarLocation.parse(domain);
         return FileUtils.urlOf(location.file());
@@ -17,8 +17,10 @@ import modelengine.fitframework.protocol.jar.Jar;
 import modelengine.fitframework.runtime.FitRuntime;
 import modelengine.fitframework.runtime.FitRuntimeStartupException;
 import modelengine.fitframework.runtime.support.AbstractRootPlugin;
+import modelengine.fitframework.util.FileUtils;
 import modelengine.fitframework.util.StringUtils;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -32,7 +34,8 @@ import java.util.stream.Collectors;
  * @since 2023-01-31
  */
 final class AggregatedRootPlugin extends AbstractRootPlugin {
-    private static final String PLUGIN_ENTRY_PREFIX = "FIT-INF/plugins/";
+    private static final String FIT_ROOT_ENTRY_PREFIX = "FIT-INF/";
+    private static final String PLUGIN_ENTRY_PREFIX = FIT_ROOT_ENTRY_PREFIX + "plugins/";
 
     private final FitRuntime runtime;
     private final Jar jar;
@@ -90,6 +93,11 @@ final class AggregatedRootPlugin extends AbstractRootPlugin {
                 .filter(entry -> StringUtils.endsWithIgnoreCase(entry.name(), Jar.FILE_EXTENSION))
                 .collect(Collectors.toList());
         for (Jar.Entry pluginEntry : pluginEntries) {
+            File extracted = extractedFileOf(pluginEntry);
+            if (extracted != null) {
+                this.loadPlugin(FileUtils.urlOf(extracted));
+                continue;
+            }
             URL pluginUrl;
             try {
                 pluginUrl = pluginEntry.location().asJar().toUrl();
@@ -101,4 +109,14 @@ final class AggregatedRootPlugin extends AbstractRootPlugin {
             this.loadPlugin(pluginUrl);
         }
     }
+
+    static File extractedFileOf(Jar.Entry pluginEntry) {
+        String directory = System.getProperty(AggregatedFitRuntime.EXTRACT_DIRECTORY_KEY);
+        if (StringUtils.isBlank(directory)) {
+            return null;
+        }
+        // 启动程序将 FIT-INF 下的 Jar 包按照相对路径解压到目录中。
+        File file = new File(directory.trim(), pluginEntry.name().substring(FIT_ROOT_ENTRY_PREFIX.length()));
+        return file.isFile() && file.length() == pluginEntry.sizeOfUncompressed() ? file : null;
+    }
 }
@@ -38,16 +38,23 @@ import modelengine.fitframework.conf.runtime.DefaultMatata;
 import modelengine.fitframework.conf.runtime.DefaultWorker;
 import modelengine.fitframework.conf.runtime.MatataConfig;
 import modelengine.fitframework.conf.runtime.WorkerConfig;
+import modelengine.fitframework.ioc.support.ParallelStartup;
 import modelengine.fitframework.log.Logger;
 import modelengine.fitframework.plugin.Plugin;
 import modelengine.fitframework.plugin.PluginCategory;
 import modelengine.fitframework.plugin.PluginComparators;
 import modelengine.fitframework.plugin.RootPlugin;
 import modelengine.fitframework.plugin.support.AbstractPlugin;
+import modelengine.fitframework.thread.DefaultThreadFactory;
 
 import java.net.URL;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -82,6 +89,9 @@ public abstract class AbstractRootPlugin extends AbstractPlugin implements RootP
     private static final int LEVEL_MAX = 7;
     private static final int LEVEL_MIN = 1;
 
+    /** 表示并行启动同一层级的插件的线程数量的配置项，未配置或配置为 {@code 1} 时串行启动。 */
+    private static final String STARTUP_PARALLELISM_KEY = "plugins.startup.parallelism";
+
     private MatataConfig matata;
     private WorkerConfig worker;
 
@@ -169,11 +179,80 @@ public abstract class AbstractRootPlugin extends AbstractPlugin implements RootP
         this.obtainChildrenForStartup(PluginCategory.SYSTEM).forEach(Plugin::start);
         super.onStarted();
         List<Plugin> userPlugins = this.obtainChildrenForStartup(PluginCategory.USER);
+        int parallelism = this.startupParallelism();
         for (int level = LEVEL_MIN; level <= LEVEL_MAX; level++) {
             List<Plugin> levelPlugins = this.obtainPluginsByLevel(userPlugins, level);
             levelPlugins.forEach(Plugin::initialize);
-            levelPlugins.forEach(Plugin::start);
+            this.startPlugins(levelPlugins, level, Math.min(parallelism, levelPlugins.size()));
+        }
+    }
+
+    /**
+     * 启动同一层级的插件。
+     * <p>同一层级的插件之间没有启动顺序的保证，所有插件启动完成之后才会开始启动下一层级的插件。插件的初始化始终按照启动顺序串行
+     * 执行，因为初始化过程会修改插件之间共享的状态。</p>
+     * <p>默认按照启动顺序串行启动。当配置了并行启动时，插件的启动在独立的线程中执行，插件及容器的生命周期通知通过
+     * {@link ParallelStartup} 串行执行；当有插件启动失败时，等待同一层级的其他插件启动完成，然后按照启动顺序抛出第一个启动失败的
+     * 插件的异常。</p>
+     *
+     * @param plugins 表示同一层级的插件的 {@link List}{@code <}{@link Plugin}{@code >}。
+     * @param level 表示插件层级的 {@code int}。
+     * @param parallelism 表示并行启动的插件数量的 {@code int}。
+     */
+    private void startPlugins(List<Plugin> plugins, int level, int parallelism) {
+        if (plugins.isEmpty()) {
+            return;
+        }
+        long startTime = System.nanoTime();
+        if (parallelism <= 1) {
+            plugins.forEach(plugin -> startPlugin(plugin, level));
+        } else {
+            this.startPluginsInParallel(plugins, level, parallelism);
         }
+        log.info("Plugins of level {} started. [count={}, parallelism={}, duration={}ms]",
+                level,
+                plugins.size(),
+                Math.max(parallelism, 1),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+
+    private void startPluginsInParallel(List<Plugin> plugins, int level, int parallelism) {
+        Object monitor = new Object();
+        ExecutorService executor =
+                Executors.newFixedThreadPool(parallelism, new DefaultThreadFactory("plugin-startup", true, null));
+        try {
+            List<CompletableFuture<Void>> futures = plugins.stream()
+                    .map(plugin -> CompletableFuture.runAsync(() -> ParallelStartup.run(monitor,
+                            () -> startPlugin(plugin, level)), executor))
+                    .collect(Collectors.toList());
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).exceptionally(cause -> null).join();
+            for (CompletableFuture<Void> future : futures) {
+                try {
+                    future.join();
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw e;
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void startPlugin(Plugin plugin, int level) {
+        long startTime = System.nanoTime();
+        plugin.start();
+        log.info("Plugin started. [name={}, level={}, duration={}ms]",
+                plugin.metadata().name(),
+                level,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+
+    private int startupParallelism() {
+        Integer configured = this.config().get(STARTUP_PARALLELISM_KEY, Integer.class);
+        return configured == null ? 1 : configured;
     }
 
     private List<Plugin> obtainPluginsByLevel(List<Plugin> plugins, int level) {
@@ -0,0 +1,83 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.runtime.aggregated;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import modelengine.fitframework.protocol.jar.Jar;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 为 {@link AggregatedRootPlugin} 使用解压后的插件提供单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 AggregatedRootPlugin 使用解压后的插件")
+class AggregatedRootPluginTest {
+    private static final String PLUGIN_ENTRY = "FIT-INF/plugins/plugin.jar";
+
+    @TempDir
+    Path directory;
+
+    private Jar.Entry entry;
+
+    @BeforeEach
+    void setup() {
+        this.entry = mock(Jar.Entry.class);
+        when(this.entry.name()).thenReturn(PLUGIN_ENTRY);
+        when(this.entry.sizeOfUncompressed()).thenReturn(6L);
+    }
+
+    @AfterEach
+    void teardown() {
+        System.clearProperty(AggregatedFitRuntime.EXTRACT_DIRECTORY_KEY);
+    }
+
+    @Test
+    @DisplayName("未指定解压目录时，不使用解压后的插件")
+    void shouldReturnNullWithoutExtractDirectory() {
+        assertThat(AggregatedRootPlugin.extractedFileOf(this.entry)).isNull();
+    }
+
+    @Test
+    @DisplayName("解压后的插件大小与嵌套的插件一致时，使用解压后的插件")
+    void shouldReturnExtractedPlugin() throws IOException {
+        File file = this.extract("plugin");
+        System.setProperty(AggregatedFitRuntime.EXTRACT_DIRECTORY_KEY, this.directory.toString());
+        assertThat(AggregatedRootPlugin.extractedFileOf(this.entry)).isEqualTo(file);
+    }
+
+    @Test
+    @DisplayName("解压后的插件不存在或大小不一致时，不使用解压后的插件")
+    void shouldReturnNullWhenExtractedPluginMissingOrIncomplete() throws IOException {
+        System.setProperty(AggregatedFitRuntime.EXTRACT_DIRECTORY_KEY, this.directory.toString());
+        assertThat(AggregatedRootPlugin.extractedFileOf(this.entry)).isNull();
+        this.extract("plug");
+        assertThat(AggregatedRootPlugin.extractedFileOf(this.entry)).isNull();
+    }
+
+    private File extract(String content) throws IOException {
+        Path file = this.directory.resolve("plugins").resolve("plugin.jar");
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file.toFile();
+    }
+}
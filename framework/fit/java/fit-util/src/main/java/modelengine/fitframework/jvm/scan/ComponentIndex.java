@@ -0,0 +1,269 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.jvm.scan;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.jvm.classfile.ClassFile;
+import modelengine.fitframework.jvm.classfile.ConstantPool;
+import modelengine.fitframework.jvm.classfile.MethodInfo;
+import modelengine.fitframework.jvm.classfile.annotation.AnnotationInfo;
+import modelengine.fitframework.jvm.classfile.attribute.RuntimeVisibleAnnotationsAttribute;
+import modelengine.fitframework.jvm.classfile.constant.ClassInfo;
+import modelengine.fitframework.jvm.classfile.constant.Utf8Info;
+import modelengine.fitframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 表示在构建时预先生成的组件索引。
+ * <p>索引中记录了所有在类型或方法上声明了运行时注解的类，以及这些注解的类型。由于构建时无法解析注解的派生关系，索引只根据是否存在
+ * 注解进行筛选，因此是运行时组件的超集。运行时通过索引即可得到待扫描的类，而不需要遍历归档件中的所有条目。</p>
+ * <p>索引以 UTF-8 编码的文本存储，每一行表示一个类，依次为类名、类型上的注解和方法上的注解，以制表符分隔，多个注解以逗号分隔。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+public final class ComponentIndex {
+    /** 表示组件索引在归档件中的资源名称。 */
+    public static final String RESOURCE_NAME = "FIT-INF/components.idx";
+
+    private static final char COLUMN_SEPARATOR = '\t';
+    private static final char ANNOTATION_SEPARATOR = ',';
+    private static final char COMMENT_PREFIX = '#';
+    private static final String MODULE_INFO = "module-info";
+
+    private final Map<String, Entry> entries = new TreeMap<>();
+
+    /**
+     * 向索引中添加一个类。
+     * <p>当类型和方法上都没有运行时注解时，该类不可能是组件，不会被添加到索引中。</p>
+     *
+     * @param entry 表示待添加的类的 {@link Entry}。
+     * @return 如果类被添加到索引中，则返回 {@code true}，否则，返回 {@code false}。
+     * @throws IllegalArgumentException 当 {@code entry} 为 {@code null} 时。
+     */
+    public boolean add(Entry entry) {
+        notNull(entry, "The index entry cannot be null.");
+        if (!entry.isAnnotated() || StringUtils.endsWithIgnoreCase(entry.className(), MODULE_INFO)) {
+            return false;
+        }
+        this.entries.put(entry.className(), entry);
+        return true;
+    }
+
+    /**
+     * 获取索引中的所有类。
+     *
+     * @return 表示索引中所有类的 {@link Collection}{@code <}{@link Entry}{@code >}。
+     */
+    public Collection<Entry> entries() {
+        return Collections.unmodifiableCollection(this.entries.values());
+    }
+
+    /**
+     * 获取索引中位于指定包及其子包中的所有类名。
+     *
+     * @param basePackage 表示指定包的 {@link String}。
+     * @return 表示包中所有类名的 {@link List}{@code <}{@link String}{@code >}。
+     */
+    public List<String> classNames(String basePackage) {
+        String prefix = StringUtils.isBlank(basePackage) ? StringUtils.EMPTY : basePackage + '.';
+        List<String> classNames = new ArrayList<>();
+        for (String className : this.entries.keySet()) {
+            if (className.startsWith(prefix)) {
+                classNames.add(className);
+            }
+        }
+        return classNames;
+    }
+
+    /**
+     * 将索引写入到指定的输出流中。
+     *
+     * @param out 表示待写入的输出流的 {@link OutputStream}。
+     * @throws IOException 当写入过程发生输入输出异常时。
+     */
+    public void write(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        for (Entry entry : this.entries.values()) {
+            writer.write(entry.className());
+            writer.write(COLUMN_SEPARATOR);
+            writer.write(String.join(String.valueOf(ANNOTATION_SEPARATOR), entry.annotations()));
+            writer.write(COLUMN_SEPARATOR);
+            writer.write(String.join(String.valueOf(ANNOTATION_SEPARATOR), entry.memberAnnotations()));
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    /**
+     * 从指定的输入流中读取索引。
+     *
+     * @param in 表示待读取的输入流的 {@link InputStream}。
+     * @return 表示读取到的索引的 {@link ComponentIndex}。
+     * @throws IOException 当读取过程发生输入输出异常时。
+     */
+    public static ComponentIndex read(InputStream in) throws IOException {
+        ComponentIndex index = new ComponentIndex();
+        Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        while ((line = lines.readLine()) != null) {
+            if (StringUtils.isBlank(line) || line.charAt(0) == COMMENT_PREFIX) {
+                continue;
+            }
+            String[] columns = line.split(String.valueOf(COLUMN_SEPARATOR), -1);
+            Set<String> annotations = columns.length > 1 ? split(columns[1]) : Collections.emptySet();
+            Set<String> memberAnnotations = columns.length > 2 ? split(columns[2]) : Collections.emptySet();
+            Entry entry = new Entry(columns[0].trim(), annotations, memberAnnotations);
+            index.entries.put(entry.className(), entry);
+        }
+        return index;
+    }
+
+    private static Set<String> split(String column) {
+        Set<String> values = new TreeSet<>();
+        Arrays.stream(StringUtils.split(column, ANNOTATION_SEPARATOR))
+                .map(String::trim)
+                .filter(StringUtils::isNotBlank)
+                .forEach(values::add);
+        return values;
+    }
+
+    /**
+     * 表示索引中的一个类。
+     *
+     * @author 季聿阶
+     * @since 2026-10-19
+     */
+    public static final class Entry {
+        private final String className;
+        private final Set<String> annotations;
+        private final Set<String> memberAnnotations;
+
+        /**
+         * 使用类名和注解初始化 {@link Entry} 的新实例。
+         *
+         * @param className 表示类名的 {@link String}。
+         * @param annotations 表示类型上的注解类名的 {@link Set}{@code <}{@link String}{@code >}。
+         * @param memberAnnotations 表示方法上的注解类名的 {@link Set}{@code <}{@link String}{@code >}。
+         * @throws IllegalArgumentException 当 {@code className} 为 {@code null} 时。
+         */
+        public Entry(String className, Set<String> annotations, Set<String> memberAnnotations) {
+            this.className = notNull(className, "The class name cannot be null.");
+            this.annotations = Collections.unmodifiableSet(new TreeSet<>(nullToEmpty(annotations)));
+            this.memberAnnotations = Collections.unmodifiableSet(new TreeSet<>(nullToEmpty(memberAnnotations)));
+        }
+
+        /**
+         * 获取类名。
+         *
+         * @return 表示类名的 {@link String}。
+         */
+        public String className() {
+            return this.className;
+        }
+
+        /**
+         * 获取类型上的运行时注解的类名。
+         *
+         * @return 表示注解类名的 {@link Set}{@code <}{@link String}{@code >}。
+         */
+        public Set<String> annotations() {
+            return this.annotations;
+        }
+
+        /**
+         * 获取方法上的运行时注解的类名，例如泛服务和服务实现的注解。
+         *
+         * @return 表示注解类名的 {@link Set}{@code <}{@link String}{@code >}。
+         */
+        public Set<String> memberAnnotations() {
+            return this.memberAnnotations;
+        }
+
+        /**
+         * 判断类型或方法上是否声明了运行时注解。
+         *
+         * @return 如果声明了运行时注解，则返回 {@code true}，否则，返回 {@code false}。
+         */
+        public boolean isAnnotated() {
+            return !this.annotations.isEmpty() || !this.memberAnnotations.isEmpty();
+        }
+
+        /**
+         * 从类文件中解析类名以及类型和方法上的运行时注解，解析过程不会加载类。
+         *
+         * @param classFile 表示待解析的类文件的 {@link ClassFile}。
+         * @return 表示解析得到的类的 {@link Entry}。
+         * @throws IllegalArgumentException 当 {@code classFile} 为 {@code null} 时。
+         * @throws IOException 当解析注解属性的过程发生输入输出异常时。
+         */
+        public static Entry of(ClassFile classFile) throws IOException {
+            notNull(classFile, "The class file cannot be null.");
+            ConstantPool constants = classFile.constants();
+            ClassInfo thisClass = constants.get(classFile.thisClass());
+            String className = constants.<Utf8Info>get(thisClass.nameIndex()).stringValue().replace('/', '.');
+            Set<String> annotations = new TreeSet<>();
+            addAnnotations(annotations, constants,
+                    RuntimeVisibleAnnotationsAttribute.lookup(classFile.attributes()));
+            Set<String> memberAnnotations = new TreeSet<>();
+            for (MethodInfo method : classFile.methods()) {
+                addAnnotations(memberAnnotations, constants,
+                        RuntimeVisibleAnnotationsAttribute.lookup(method.attributes()));
+            }
+            return new Entry(className, annotations, memberAnnotations);
+        }
+
+        private static void addAnnotations(Set<String> annotations, ConstantPool constants,
+                RuntimeVisibleAnnotationsAttribute attribute) {
+            if (attribute == null) {
+                return;
+            }
+            for (AnnotationInfo info : attribute.annotations()) {
+                String descriptor = constants.<Utf8Info>get(info.typeIndex()).stringValue();
+                annotations.add(toClassName(descriptor));
+            }
+        }
+
+        private static String toClassName(String descriptor) {
+            String name = descriptor;
+            if (name.startsWith("L") && name.endsWith(";")) {
+                name = name.substring(1, name.length() - 1);
+            }
+            return name.replace('/', '.');
+        }
+
+        private static Set<String> nullToEmpty(Set<String> values) {
+            return values == null ? Collections.emptySet() : values;
+        }
+
+        @Override
+        public String toString() {
+            return this.className + this.annotations;
+        }
+    }
+}
@@ -6,7 +6,10 @@
 
 package modelengine.fitframework.jvm.scan.support;
 
+import modelengine.fitframework.io.InputStreamSupplier;
 import modelengine.fitframework.jvm.classfile.ClassFile;
+import modelengine.fitframework.jvm.classfile.IllegalClassFormatException;
+import modelengine.fitframework.jvm.scan.ComponentIndex;
 import modelengine.fitframework.jvm.scan.PackageScanner;
 import modelengine.fitframework.protocol.jar.Jar;
 import modelengine.fitframework.protocol.jar.JarEntryLocation;
@@ -17,13 +20,17 @@ import modelengine.fitframework.util.CollectionUtils;
 import modelengine.fitframework.util.StringUtils;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -116,7 +123,13 @@ public class ClassLoaderPackageScanner implements PackageScanner {
                 }
                 this.scanClassesInDirectory(basePackage, directory);
             } else {
-                JarLocation location = JarEntryLocation.parse(resourceUrl).asJar();
+                JarEntryLocation entryLocation = JarEntryLocation.parse(resourceUrl);
+                ComponentIndex index = this.componentIndex(entryLocation.jar());
+                if (index != null) {
+                    this.scanClassesInIndex(basePackage, index);
+                    continue;
+                }
+                JarLocation location = entryLocation.asJar();
                 Jar jar;
                 try {
                     jar = Jar.from(location);
@@ -148,6 +161,30 @@ public class ClassLoaderPackageScanner implements PackageScanner {
         return resourceUrls;
     }
 
+    /**
+     * 判断是否跳过没有声明运行时注解的类。
+     * <p>默认通知扫描到的所有类。只有确定回调只关心声明了注解的类时，才可以通过重写该方法，先从类文件中解析注解，只加载声明了
+     * 注解的类，避免其他类被加载和初始化。</p>
+     *
+     * @return 如果跳过没有声明运行时注解的类，则返回 {@code true}，否则，返回 {@code false}。
+     * @see ComponentIndex.Entry#isAnnotated()
+     */
+    protected boolean skipsUnannotatedClasses() {
+        return false;
+    }
+
+    /**
+     * 获取指定 JAR 中预先生成的组件索引。
+     * <p>默认不使用组件索引，总是遍历 JAR 中的所有类。只有确定回调只关心声明了注解的类时，才可以通过重写该方法使用组件索引。</p>
+     *
+     * @param location 表示 JAR 的位置的 {@link JarLocation}。
+     * @return 表示 JAR 中的组件索引的 {@link ComponentIndex}，当不存在组件索引时，返回 {@code null}。
+     * @see ComponentIndex#RESOURCE_NAME
+     */
+    protected ComponentIndex componentIndex(JarLocation location) {
+        return null;
+    }
+
     private static String toResourceName(String basePackage) {
         return StringUtils.replace(basePackage, ClassUtils.PACKAGE_SEPARATOR, JarEntryLocation.ENTRY_PATH_SEPARATOR);
     }
@@ -160,31 +197,65 @@ public class ClassLoaderPackageScanner implements PackageScanner {
     }
 
     private void scanClassesInDirectory(String basePackage, File directory) {
+        List<ClassResource> resources = new ArrayList<>();
+        collectClassesInDirectory(basePackage, directory, resources);
+        this.notifyClassesScanned(resources);
+    }
+
+    private static void collectClassesInDirectory(String basePackage, File directory, List<ClassResource> resources) {
         File[] files = directory.listFiles();
         if (files == null || files.length < 1) {
             return;
         }
         for (File file : files) {
             if (file.isDirectory()) {
-                this.scanClassesInDirectory(basePackage + ClassUtils.PACKAGE_SEPARATOR + file.getName(), file);
+                collectClassesInDirectory(basePackage + ClassUtils.PACKAGE_SEPARATOR + file.getName(),
+                        file,
+                        resources);
                 continue;
             }
             if (StringUtils.endsWithIgnoreCase(file.getName(), ClassFile.FILE_EXTENSION)) {
-                this.notifyClassScanned(basePackage, file.getName());
+                resources.add(new ClassResource(toClassName(basePackage, file.getName()),
+                        () -> new FileInputStream(file)));
             }
         }
     }
 
     private void scanClassesInJar(String basePackage, Jar jar) {
+        List<ClassResource> resources = new ArrayList<>();
         for (Jar.Entry entry : jar.entries()) {
             if (StringUtils.endsWithIgnoreCase(entry.name(), ClassFile.FILE_EXTENSION)) {
-                this.notifyClassScanned(basePackage, entry.name());
+                resources.add(new ClassResource(toClassName(basePackage, entry.name()), entry::read));
             }
         }
+        this.notifyClassesScanned(resources);
     }
 
-    private void notifyClassScanned(String basePackage, String resourceName) {
-        String className = toClassName(basePackage, resourceName);
+    private void notifyClassesScanned(List<ClassResource> resources) {
+        List<ClassResource> candidates = resources.stream()
+                .filter(resource -> !this.scannedClassNames.contains(resource.className))
+                .collect(Collectors.toList());
+        boolean skipsUnannotatedClasses = this.skipsUnannotatedClasses();
+        if (skipsUnannotatedClasses) {
+            // 解析类文件互不依赖，可以并行进行，之后仍然按照原有顺序加载和通知。
+            candidates.parallelStream().forEach(ClassResource::parse);
+        }
+        for (ClassResource candidate : candidates) {
+            if (skipsUnannotatedClasses && !candidate.annotated) {
+                this.scannedClassNames.add(candidate.className);
+                continue;
+            }
+            this.notifyClassScanned(candidate.className);
+        }
+    }
+
+    private void scanClassesInIndex(String basePackage, ComponentIndex index) {
+        for (String className : index.classNames(basePackage)) {
+            this.notifyClassScanned(className);
+        }
+    }
+
+    private void notifyClassScanned(String className) {
         if (this.scannedClassNames.contains(className)) {
             return;
         }
@@ -197,4 +268,24 @@ public class ClassLoaderPackageScanner implements PackageScanner {
         }
         this.callback.notify(this, clazz);
     }
+
+    private static class ClassResource {
+        private final String className;
+        private final InputStreamSupplier supplier;
+        private volatile boolean annotated;
+
+        private ClassResource(String className, InputStreamSupplier supplier) {
+            this.className = className;
+            this.supplier = supplier;
+        }
+
+        private void parse() {
+            try (InputStream in = this.supplier.get()) {
+                this.annotated = ComponentIndex.Entry.of(new ClassFile(in)).isAnnotated();
+            } catch (IOException | IllegalClassFormatException ignored) {
+                // 无法解析的类文件交给类加载程序处理，与不筛选时的行为保持一致。
+                this.annotated = true;
+            }
+        }
+    }
 }
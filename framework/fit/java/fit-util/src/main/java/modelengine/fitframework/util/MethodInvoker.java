@@ -0,0 +1,149 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.util;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.exception.MethodInvocationException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 为反复调用同一个对象上的同一个方法提供预先解析的调用程序。
+ * <p>与 {@link ReflectionUtils#invoke(Object, Method, Object...)} 相比，访问权限的设置和方法句柄的解析只在创建时进行一次，
+ * 调用时通过绑定了调用对象的 {@link MethodHandle} 直接执行。当方法句柄无法解析时，退化为
+ * {@link ReflectionUtils#invoke(Object, Method, Object...)}。</p>
+ * <p>调用方法时的异常语义与 {@link ReflectionUtils#invoke(Object, Method, Object...)} 保持一致：方法本身抛出的异常，以及参数数量或类型
+ * 不匹配时产生的 {@link IllegalArgumentException}，都会被包装为 {@link MethodInvocationException}。</p>
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+public final class MethodInvoker {
+    private static final Object[] EMPTY_ARGS = new Object[0];
+
+    /** 表示每一种基本类型的参数可以接受的包装类型，与反射调用一样，允许拆箱之后进行拓宽转换。 */
+    private static final Map<Class<?>, Set<Class<?>>> ACCEPTED_WRAPPERS = Map.of(boolean.class,
+            Set.of(Boolean.class),
+            char.class,
+            Set.of(Character.class),
+            byte.class,
+            Set.of(Byte.class),
+            short.class,
+            Set.of(Byte.class, Short.class),
+            int.class,
+            Set.of(Byte.class, Short.class, Character.class, Integer.class),
+            long.class,
+            Set.of(Byte.class, Short.class, Character.class, Integer.class, Long.class),
+            float.class,
+            Set.of(Byte.class, Short.class, Character.class, Integer.class, Long.class, Float.class),
+            double.class,
+            Set.of(Byte.class, Short.class, Character.class, Integer.class, Long.class, Float.class, Double.class));
+
+    private final Object owner;
+    private final Method method;
+    private final Class<?>[] parameterTypes;
+    private final MethodHandle handle;
+
+    private MethodInvoker(Object owner, Method method) {
+        this.method = notNull(method, "The method to invoke cannot be null.");
+        if (owner == null && !Modifier.isStatic(method.getModifiers())) {
+            throw new IllegalArgumentException(StringUtils.format(
+                    "The specified owner is null and the method is an instance method. [method={0}]",
+                    method.getName()));
+        }
+        this.owner = owner;
+        this.parameterTypes = method.getParameterTypes();
+        this.handle = createHandle(owner, method);
+    }
+
+    private static MethodHandle createHandle(Object owner, Method method) {
+        try {
+            method.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflect(method).asFixedArity();
+            if (!Modifier.isStatic(method.getModifiers())) {
+                handle = handle.bindTo(owner);
+            }
+            return handle.asSpreader(Object[].class, method.getParameterCount())
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 获取待调用的方法。
+     *
+     * @return 表示待调用的方法的 {@link Method}。
+     */
+    public Method method() {
+        return this.method;
+    }
+
+    /**
+     * 使用指定的参数调用方法。
+     *
+     * @param args 表示调用方法时所使用的参数的 {@link Object}{@code []}。
+     * @return 表示方法的返回值的 {@link Object}，当方法没有返回值时，返回 {@code null}。
+     * @throws MethodInvocationException 当方法执行过程中发生异常，或参数与方法的声明不匹配时。
+     */
+    public Object invoke(Object... args) {
+        Object[] actualArgs = ObjectUtils.nullIf(args, EMPTY_ARGS);
+        if (this.handle == null) {
+            return ReflectionUtils.invoke(this.owner, this.method, actualArgs);
+        }
+        this.validateArgs(actualArgs);
+        try {
+            return (Object) this.handle.invokeExact(actualArgs);
+        } catch (Throwable cause) {
+            throw new MethodInvocationException(cause);
+        }
+    }
+
+    private void validateArgs(Object[] args) {
+        if (args.length != this.parameterTypes.length) {
+            throw new MethodInvocationException(new IllegalArgumentException(StringUtils.format(
+                    "Wrong number of arguments. [method={0}, expected={1}, actual={2}]",
+                    this.method.getName(),
+                    this.parameterTypes.length,
+                    args.length)));
+        }
+        for (int i = 0; i < args.length; i++) {
+            // 基本类型的参数必须是可以拆箱并拓宽为该类型的包装类型，转换交由方法句柄在调用时完成；引用类型的参数必须与声明的类型兼容。
+            Class<?> parameterType = this.parameterTypes[i];
+            Object arg = args[i];
+            boolean isMatched = parameterType.isPrimitive()
+                    ? arg != null && ACCEPTED_WRAPPERS.get(parameterType).contains(arg.getClass())
+                    : arg == null || parameterType.isInstance(arg);
+            if (!isMatched) {
+                throw new MethodInvocationException(new IllegalArgumentException(StringUtils.format(
+                        "Argument type mismatch. [method={0}, index={1}]",
+                        this.method.getName(),
+                        i)));
+            }
+        }
+    }
+
+    /**
+     * 为指定对象上的指定方法创建调用程序。
+     *
+     * @param owner 表示待调用方法的主体对象的 {@link Object}，当方法为静态方法时，可以为 {@code null}。
+     * @param method 表示待调用的方法的 {@link Method}。
+     * @return 表示创建的调用程序的 {@link MethodInvoker}。
+     * @throws IllegalArgumentException 当 {@code method} 为 {@code null}，或 {@code owner} 为 {@code null} 但
+     * {@code method} 为实例方法时。
+     */
+    public static MethodInvoker of(Object owner, Method method) {
+        return new MethodInvoker(owner, method);
+    }
+}
@@ -0,0 +1,83 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.jvm.scan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fitframework.jvm.classfile.ClassFile;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+/**
+ * 为 {@link ComponentIndex} 提供单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 ComponentIndex")
+class ComponentIndexTest {
+    @Test
+    @DisplayName("从类文件中解析出类名以及类型和方法上的注解")
+    void shouldParseAnnotationsFromClassFile() throws IOException {
+        ComponentIndex.Entry entry = entryOf(ComponentIndexTest.class);
+        assertThat(entry.className()).isEqualTo(ComponentIndexTest.class.getName());
+        assertThat(entry.annotations()).containsExactly(DisplayName.class.getName());
+        assertThat(entry.memberAnnotations()).contains(Test.class.getName(), DisplayName.class.getName());
+    }
+
+    @Test
+    @DisplayName("没有声明注解的类不会被添加到索引中")
+    void shouldNotAddClassWithoutAnnotations() throws IOException {
+        ComponentIndex index = new ComponentIndex();
+        assertThat(index.add(entryOf(Plain.class))).isFalse();
+        assertThat(index.add(entryOf(ComponentIndexTest.class))).isTrue();
+        assertThat(index.entries()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("写入后再读取的索引与原索引一致，且可以按照包筛选类名")
+    void shouldReadWrittenIndex() throws IOException {
+        ComponentIndex index = new ComponentIndex();
+        index.add(new ComponentIndex.Entry("a.b.First", Collections.singleton("a.Component"), null));
+        index.add(new ComponentIndex.Entry("a.bc.Second", null, Collections.singleton("a.Fitable")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        index.write(out);
+        ComponentIndex read = ComponentIndex.read(new ByteArrayInputStream(out.toByteArray()));
+        assertThat(read.entries()).hasSize(2);
+        assertThat(read.classNames("a.b")).containsExactly("a.b.First");
+        assertThat(read.classNames("a")).containsExactly("a.b.First", "a.bc.Second");
+        ComponentIndex.Entry second = read.entries().stream().skip(1).findFirst().orElseThrow();
+        assertThat(second.annotations()).isEmpty();
+        assertThat(second.memberAnnotations()).containsExactly("a.Fitable");
+    }
+
+    @Test
+    @DisplayName("读取索引时忽略空行和注释")
+    void shouldIgnoreBlankLinesAndComments() throws IOException {
+        String content = "# comment\n\na.b.First\ta.Component\t\n";
+        ComponentIndex index =
+                ComponentIndex.read(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+        assertThat(index.classNames("a.b")).containsExactly("a.b.First");
+    }
+
+    private static ComponentIndex.Entry entryOf(Class<?> clazz) throws IOException {
+        String resource = clazz.getName().replace('.', '/') + ClassFile.FILE_EXTENSION;
+        try (InputStream in = clazz.getClassLoader().getResourceAsStream(resource)) {
+            return ComponentIndex.Entry.of(new ClassFile(in));
+        }
+    }
+
+    private static class Plain {}
+}
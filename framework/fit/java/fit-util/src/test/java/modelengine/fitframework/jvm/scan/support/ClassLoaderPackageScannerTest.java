@@ -0,0 +1,57 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.jvm.scan.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fitframework.jvm.scan.PackageScanner;
+import modelengine.fitframework.jvm.scan.support.sample.AnnotatedSample;
+import modelengine.fitframework.jvm.scan.support.sample.PlainSample;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 为 {@link ClassLoaderPackageScanner} 提供单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 ClassLoaderPackageScanner")
+class ClassLoaderPackageScannerTest {
+    private static final String SAMPLE_PACKAGE = AnnotatedSample.class.getPackage().getName();
+
+    @Test
+    @DisplayName("默认通知扫描到的所有类")
+    void shouldNotifyAllClassesByDefault() {
+        List<Class<?>> classes = new ArrayList<>();
+        PackageScanner scanner = new ClassLoaderPackageScanner(this.getClass().getClassLoader(),
+                (packageScanner, clazz) -> classes.add(clazz));
+        scanner.scan(Collections.singletonList(SAMPLE_PACKAGE));
+        assertThat(classes).containsExactlyInAnyOrder(AnnotatedSample.class, PlainSample.class);
+    }
+
+    @Test
+    @DisplayName("跳过没有声明注解的类时，只通知声明了注解的类")
+    void shouldSkipUnannotatedClasses() {
+        List<Class<?>> classes = new ArrayList<>();
+        PackageScanner scanner = new ClassLoaderPackageScanner(this.getClass().getClassLoader(),
+                (packageScanner, clazz) -> classes.add(clazz)) {
+            @Override
+            protected boolean skipsUnannotatedClasses() {
+                return true;
+            }
+        };
+        scanner.scan(Collections.singletonList(SAMPLE_PACKAGE));
+        scanner.scan(Collections.singletonList(SAMPLE_PACKAGE));
+        assertThat(classes).containsExactly(AnnotatedSample.class);
+    }
+}
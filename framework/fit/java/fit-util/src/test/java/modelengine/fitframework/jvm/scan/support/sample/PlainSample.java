@@ -0,0 +1,15 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.jvm.scan.support.sample;
+
+/**
+ * 表示没有声明任何注解的扫描样例。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+public class PlainSample {}
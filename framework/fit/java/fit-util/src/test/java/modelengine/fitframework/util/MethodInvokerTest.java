@@ -0,0 +1,119 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import modelengine.fitframework.exception.MethodInvocationException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+/**
+ * {@link MethodInvoker} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2026-10-19
+ */
+@DisplayName("测试 MethodInvoker")
+public class MethodInvokerTest {
+    @Test
+    @DisplayName("调用实例方法，返回方法的返回值")
+    void shouldReturnResultWhenInvokingInstanceMethod() throws NoSuchMethodException {
+        Method method = Calculator.class.getDeclaredMethod("add", int.class, Integer.class);
+        MethodInvoker invoker = MethodInvoker.of(new Calculator(), method);
+        assertThat(invoker.invoke(1, 2)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("调用静态方法，返回方法的返回值")
+    void shouldReturnResultWhenInvokingStaticMethod() throws NoSuchMethodException {
+        Method method = Calculator.class.getDeclaredMethod("negate", long.class);
+        MethodInvoker invoker = MethodInvoker.of(null, method);
+        assertThat(invoker.invoke(1)).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("调用没有返回值的方法，返回 null")
+    void shouldReturnNullWhenInvokingVoidMethod() throws NoSuchMethodException {
+        Calculator calculator = new Calculator();
+        Method method = Calculator.class.getDeclaredMethod("reset");
+        MethodInvoker invoker = MethodInvoker.of(calculator, method);
+        assertThat(invoker.invoke()).isNull();
+        assertThat(calculator.isReset).isTrue();
+    }
+
+    @Test
+    @DisplayName("方法抛出异常时，抛出包含原始异常的 MethodInvocationException")
+    void shouldThrowOriginalCauseWhenMethodThrows() throws NoSuchMethodException {
+        Method method = Calculator.class.getDeclaredMethod("fail");
+        MethodInvoker invoker = MethodInvoker.of(new Calculator(), method);
+        MethodInvocationException exception =
+                catchThrowableOfType(MethodInvocationException.class, invoker::invoke);
+        assertThat(exception).isNotNull().cause().isInstanceOf(IllegalStateException.class).hasMessage("failed");
+    }
+
+    @Test
+    @DisplayName("参数类型不匹配时，抛出包含 IllegalArgumentException 的 MethodInvocationException")
+    void shouldThrowIllegalArgumentWhenArgumentMismatched() throws NoSuchMethodException {
+        Method method = Calculator.class.getDeclaredMethod("add", int.class, Integer.class);
+        MethodInvoker invoker = MethodInvoker.of(new Calculator(), method);
+        MethodInvocationException exception =
+                catchThrowableOfType(MethodInvocationException.class, () -> invoker.invoke(null, 1));
+        assertThat(exception).isNotNull().cause().isInstanceOf(IllegalArgumentException.class);
+        exception = catchThrowableOfType(MethodInvocationException.class, () -> invoker.invoke(1, "2"));
+        assertThat(exception).isNotNull().cause().isInstanceOf(IllegalArgumentException.class);
+        exception = catchThrowableOfType(MethodInvocationException.class, () -> invoker.invoke(1));
+        assertThat(exception).isNotNull().cause().isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("基本类型的参数无法由实际参数拆箱并拓宽得到时，抛出包含 IllegalArgumentException 的 MethodInvocationException")
+    void shouldThrowIllegalArgumentWhenPrimitiveArgumentMismatched() throws NoSuchMethodException {
+        Method method = Calculator.class.getDeclaredMethod("add", int.class, Integer.class);
+        MethodInvoker invoker = MethodInvoker.of(new Calculator(), method);
+        MethodInvocationException exception =
+                catchThrowableOfType(MethodInvocationException.class, () -> invoker.invoke("1", 2));
+        assertThat(exception).isNotNull().cause().isInstanceOf(IllegalArgumentException.class);
+        exception = catchThrowableOfType(MethodInvocationException.class, () -> invoker.invoke(1L, 2));
+        assertThat(exception).isNotNull().cause().isInstanceOf(IllegalArgumentException.class);
+        assertThat(invoker.invoke((short) 1, 2)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("实例方法的调用对象为 null 时，抛出 IllegalArgumentException")
+    void shouldThrowIllegalArgumentWhenOwnerIsNull() throws NoSuchMethodException {
+        Method method = Calculator.class.getDeclaredMethod("reset");
+        IllegalArgumentException exception =
+                catchThrowableOfType(IllegalArgumentException.class, () -> MethodInvoker.of(null, method));
+        assertThat(exception).isNotNull()
+                .hasMessage("The specified owner is null and the method is an instance method. [method=reset]");
+    }
+
+    private static class Calculator {
+        private boolean isReset;
+
+        private int add(int first, Integer second) {
+            return first + second;
+        }
+
+        private static long negate(long value) {
+            return -value;
+        }
+
+        private void reset() {
+            this.isReset = true;
+        }
+
+        private void fail() {
+            throw new IllegalStateException("failed");
+        }
+    }
+}